@@ -0,0 +1,138 @@
+package graph;
+
+import java.util.*;
+
+/**
+ * Class name: AllPairsShortestPaths
+ * General Description: This class holds the result of an all-pairs shortest path computation in two flat row-major n x n tables: the distance from every vertex to every other vertex, and the next hop, that is, the vertex that follows the origin on the shortest path. Unreachable pairs have distance Integer.MAX_VALUE and next hop -1.
+ */
+public class AllPairsShortestPaths<T> {
+    private final IGraph<T> graph;
+    private final int size;
+    private final int[] distances;
+    private final int[] nextHops;
+
+    /**
+     * Method: AllPairsShortestPaths - Creates the result over the given tables.
+     * @param graph The graph the tables were computed on, used to translate values into ids.
+     * @param size The number of vertices, n.
+     * @param distances The row-major n x n distance table.
+     * @param nextHops The row-major n x n next hop table.
+     */
+    AllPairsShortestPaths(IGraph<T> graph, int size, int[] distances, int[] nextHops) {
+        this.graph = graph;
+        this.size = size;
+        this.distances = distances;
+        this.nextHops = nextHops;
+    }
+
+    /**
+     * Method: compute - Computes the all-pairs shortest paths of a graph with the given strategy on the common ForkJoinPool.
+     * @param graph The graph whose shortest paths are computed.
+     * @param strategy FLOYD_WARSHALL, DIJKSTRA (one Dijkstra per source) or AUTO to pick one from the edge density.
+     * @return AllPairsShortestPaths<T> - The distance and next hop tables.
+     */
+    public static <T> AllPairsShortestPaths<T> compute(GraphCompressedSparseRow<T> graph, AllPairsStrategy strategy) {
+        if (strategy == AllPairsStrategy.AUTO) {
+            strategy = AllPairsStrategy.choose(graph.getVertices().size(), graph.getEdgeCount());
+        }
+
+        if (strategy == AllPairsStrategy.DIJKSTRA) {
+            return JohnsonAllPairs.compute(graph);
+        }
+        return BlockedFloydWarshall.compute(graph);
+    }
+
+    /**
+     * Method: size - Returns the number of vertices of the tables.
+     * @return int - The number of vertices.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Method: getDistance - Returns the length of the shortest path between two vertex ids.
+     * @param source The id of the origin vertex.
+     * @param destination The id of the target vertex.
+     * @return int - The length of the shortest path, or Integer.MAX_VALUE if there is none.
+     */
+    public int getDistance(int source, int destination) {
+        return this.distances[source * this.size + destination];
+    }
+
+    /**
+     * Method: getNextHop - Returns the vertex that follows the origin on the shortest path between two vertex ids.
+     * @param source The id of the origin vertex.
+     * @param destination The id of the target vertex.
+     * @return int - The id of the next vertex, the destination itself for a direct edge, or -1 if there is no path.
+     */
+    public int getNextHop(int source, int destination) {
+        return this.nextHops[source * this.size + destination];
+    }
+
+    /**
+     * Method: getDistance - Returns the length of the shortest path between two vertices.
+     * @param source The origin vertex.
+     * @param destination The target vertex.
+     * @return int - The length of the shortest path, or Integer.MAX_VALUE if there is none.
+     */
+    public int getDistance(T source, T destination) {
+        return getDistance(indexOf(source), indexOf(destination));
+    }
+
+    /**
+     * Method: getPath - Rebuilds the shortest path between two vertices by following the next hop table.
+     * @param source The origin vertex.
+     * @param destination The target vertex.
+     * @return Path<T> - The shortest path, or null if there is none.
+     */
+    public Path<T> getPath(T source, T destination) {
+        int s = indexOf(source);
+        int d = indexOf(destination);
+        if (getDistance(s, d) == Integer.MAX_VALUE) {
+            return null;
+        }
+
+        List<T> vertices = new ArrayList<>();
+        vertices.add(source);
+        for (int v = s; v != d; ) {
+            v = getNextHop(v, d);
+            vertices.add(this.graph.getVertices().get(v).getValue());
+            if (vertices.size() > this.size) {
+                throw new IllegalStateException("Graph has a negative cycle");
+            }
+        }
+
+        return new Path<>(vertices, getDistance(s, d));
+    }
+
+    /**
+     * Method: getDistances - Returns the row-major distance table. The array must not be modified.
+     * @return int[] - The distance table.
+     */
+    public int[] getDistances() {
+        return this.distances;
+    }
+
+    /**
+     * Method: getNextHops - Returns the row-major next hop table. The array must not be modified.
+     * @return int[] - The next hop table.
+     */
+    public int[] getNextHops() {
+        return this.nextHops;
+    }
+
+    /**
+     * Method: indexOf - Returns the id of a vertex.
+     * @param vertex The value of the vertex.
+     * @return int - The id of the vertex.
+     */
+    private int indexOf(T vertex) {
+        int index = this.graph.getIndex(vertex);
+        if (index == -1) {
+            throw new IllegalArgumentException("Vertex does not exist");
+        }
+        return index;
+    }
+}
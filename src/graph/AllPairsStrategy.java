@@ -0,0 +1,27 @@
+package graph;
+
+/**
+ * Enum name: AllPairsStrategy
+ * General Description: The algorithms available to compute all-pairs shortest paths. AUTO picks one of the others from the edge density of the graph.
+ */
+public enum AllPairsStrategy {
+    FLOYD_WARSHALL,
+    DIJKSTRA,
+    AUTO;
+
+    /**
+     * Method: choose - Picks the cheaper algorithm for a graph with the given size. Running Dijkstra from every source costs about n (n + m) log n steps against the n^3 steps of Floyd-Warshall, so Dijkstra is chosen while the edge density m / n^2 is below about 1 / log n.
+     * @param vertices The number of vertices, n.
+     * @param edges The number of stored edges, m.
+     * @return AllPairsStrategy - FLOYD_WARSHALL or DIJKSTRA.
+     */
+    public static AllPairsStrategy choose(int vertices, int edges) {
+        if (vertices < 2) {
+            return FLOYD_WARSHALL;
+        }
+        double log = Math.log(vertices) / Math.log(2);
+        double dijkstra = (double) vertices * (vertices + edges) * log;
+        double floydWarshall = (double) vertices * vertices * vertices;
+        return dijkstra < floydWarshall ? DIJKSTRA : FLOYD_WARSHALL;
+    }
+}
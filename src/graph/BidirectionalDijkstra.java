@@ -0,0 +1,139 @@
+package graph;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Class name: BidirectionalDijkstra
+ * General Description: Point to point shortest path search that runs Dijkstra's algorithm forward from the source and backward from the destination at the same time, always advancing the side whose next vertex is closer. The search stops as soon as the two smallest tentative distances add up to at least the best path found so far, so a query between nearby vertices only explores a small part of the network. The weights must not be negative.
+ */
+public class BidirectionalDijkstra {
+
+    /**
+     * Method: BidirectionalDijkstra - The class only has static methods.
+     */
+    private BidirectionalDijkstra() {
+    }
+
+    /**
+     * Method: search - Finds the shortest path between two vertices of a compressed graph. The backward search runs on the transpose of the graph, so it also works on directed graphs.
+     * @param graph The graph to search.
+     * @param source The id of the origin vertex.
+     * @param destination The id of the target vertex.
+     * @return Path<T> - The shortest path, or null if the destination cannot be reached from the source.
+     */
+    public static <T> Path<T> search(GraphCompressedSparseRow<T> graph, int source, int destination) {
+        int n = graph.getVertices().size();
+        if (source < 0 || source >= n || destination < 0 || destination >= n) {
+            throw new IllegalArgumentException("Vertex does not exist");
+        }
+
+        if (source == destination) {
+            List<T> single = new ArrayList<>(1);
+            single.add(graph.getVertices().get(source).getValue());
+            return new Path<>(single, 0);
+        }
+
+        GraphCompressedSparseRow<T> reverse = graph.transpose();
+        try (TraversalContext forward = graph.acquireContext();
+             TraversalContext backward = graph.acquireContext()) {
+            int[] distanceF = forward.getDistances();
+            int[] distanceB = backward.getDistances();
+            IndexedMinHeap queueF = forward.getHeap();
+            IndexedMinHeap queueB = backward.getHeap();
+
+            distanceF[source] = 0;
+            queueF.insert(source, 0);
+            distanceB[destination] = 0;
+            queueB.insert(destination, 0);
+
+            long best = Long.MAX_VALUE;
+            int meet = -1;
+
+            while (!queueF.isEmpty() && !queueB.isEmpty()) {
+                int topF = queueF.getKey(queueF.peek());
+                int topB = queueB.getKey(queueB.peek());
+                if ((long) topF + topB >= best) {
+                    break;
+                }
+
+                boolean advanceForward = topF <= topB;
+                int settled = advanceForward
+                        ? settle(graph, forward, distanceB)
+                        : settle(reverse, backward, distanceF);
+
+                if (settled != -1) {
+                    long length = (long) distanceF[settled] + distanceB[settled];
+                    if (length < best) {
+                        best = length;
+                        meet = settled;
+                    }
+                }
+            }
+
+            if (meet == -1) {
+                return null;
+            }
+
+            List<? extends Vertex<T>> all = graph.getVertices();
+            LinkedList<T> vertices = new LinkedList<>();
+            for (int v = meet; v != -1; v = forward.getParent(v)) {
+                vertices.addFirst(all.get(v).getValue());
+            }
+            for (int v = backward.getParent(meet); v != -1; v = backward.getParent(v)) {
+                vertices.addLast(all.get(v).getValue());
+            }
+
+            return new Path<>(new ArrayList<>(vertices), (int) best);
+        }
+    }
+
+    /**
+     * Method: settle - Takes the closest vertex of one side of the search and relaxes its edges.
+     * @param graph The graph explored by this side, the original graph for the forward side and the transpose for the backward side.
+     * @param context The context of this side.
+     * @param other The distances found by the other side.
+     * @return int - The vertex reached by both sides with the smallest combined distance during this step, or -1 if no vertex was.
+     */
+    private static int settle(GraphCompressedSparseRow<?> graph, TraversalContext context, int[] other) {
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int[] weights = graph.getWeights();
+        int[] distance = context.getDistances();
+        int[] parent = context.getParents();
+        byte[] state = context.getStates();
+        IndexedMinHeap queue = context.getHeap();
+
+        int u = queue.poll();
+        state[u] = TraversalContext.BLACK;
+
+        int meet = -1;
+        long best = Long.MAX_VALUE;
+        if (other[u] != Integer.MAX_VALUE) {
+            meet = u;
+            best = (long) distance[u] + other[u];
+        }
+
+        for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+            int v = targets[e];
+            int alt = distance[u] + weights[e];
+            if (state[v] != TraversalContext.BLACK && alt < distance[v]) {
+                distance[v] = alt;
+                parent[v] = u;
+                if (queue.contains(v)) {
+                    queue.decreaseKey(v, alt);
+                } else {
+                    state[v] = TraversalContext.GRAY;
+                    queue.insert(v, alt);
+                }
+            }
+            if (other[v] != Integer.MAX_VALUE && (long) distance[v] + other[v] < best) {
+                meet = v;
+                best = (long) distance[v] + other[v];
+            }
+        }
+
+        return meet;
+    }
+}
@@ -0,0 +1,216 @@
+package graph;
+
+import java.util.Arrays;
+
+/**
+ * Class name: BitMatrix
+ * General Description: An immutable copy of the edges of an adjacency matrix graph in which every row is a bitset of longs, 64 vertices per word, without the weights. It answers hop-count queries with a direction-optimizing breadth first search: while the frontier is small, the search goes top-down and ORs the rows of the frontier vertices into the next frontier; once the edges leaving the frontier outnumber a fraction of the edges of the unvisited vertices, it goes bottom-up and every unvisited vertex ANDs its incoming row with the frontier, stopping at the first parent it finds. Both steps work on whole words, so a dense network is scanned at memory speed instead of one cell and one branch at a time.
+ */
+public class BitMatrix {
+    private static final int ALPHA = 14;
+    private static final int BETA = 24;
+
+    private final int n;
+    private final int words;
+    private final long lastMask;
+    private final long[] outgoing;
+    private final long[] incoming;
+    private final int[] outDegrees;
+    private final int[] inDegrees;
+    private final long inEdges;
+
+    /**
+     * Method: BitMatrix - Creates the bit matrix from its rows.
+     * @param n The number of vertices.
+     * @param words The number of longs of every row.
+     * @param outgoing The outgoing row of every vertex: bit v of row u is set if there is an edge from u to v.
+     * @param incoming The incoming row of every vertex: bit u of row v is set if there is an edge from u to v. It is the same array as outgoing in an undirected graph.
+     */
+    private BitMatrix(int n, int words, long[] outgoing, long[] incoming) {
+        this.n = n;
+        this.words = words;
+        this.lastMask = (n & 63) == 0 ? -1L : (1L << (n & 63)) - 1;
+        this.outgoing = outgoing;
+        this.incoming = incoming;
+        this.outDegrees = degrees(outgoing);
+        this.inDegrees = incoming == outgoing ? this.outDegrees : degrees(incoming);
+        long total = 0;
+        for (int degree : this.inDegrees) {
+            total += degree;
+        }
+        this.inEdges = total;
+    }
+
+    /**
+     * Method: fromAdjacencyMatrix - Builds the bit matrix of an adjacency matrix graph, scanning the matrix a single time. Vertex ids are the ids of the graph.
+     * @param graph The adjacency matrix graph.
+     * @return BitMatrix - The bit matrix of the graph.
+     */
+    public static BitMatrix fromAdjacencyMatrix(GraphAdjacencyMatrix<?> graph) {
+        long[] matrix = graph.getPackedMatrix();
+        int capacity = graph.getCapacity();
+        int n = graph.getVertices().size();
+        int words = (n + 63) >>> 6;
+        long[] outgoing = new long[n * words];
+        long[] incoming = graph.isDirected() ? new long[n * words] : outgoing;
+
+        for (int u = 0; u < n; u++) {
+            int row = u * capacity;
+            for (int v = 0; v < n; v++) {
+                if (matrix[row + v] != 0) {
+                    outgoing[u * words + (v >>> 6)] |= 1L << v;
+                    incoming[v * words + (u >>> 6)] |= 1L << u;
+                }
+            }
+        }
+        return new BitMatrix(n, words, outgoing, incoming);
+    }
+
+    /**
+     * Method: degrees - Counts the bits of every row.
+     * @param rows The rows.
+     * @return int[] - The number of bits of every row.
+     */
+    private int[] degrees(long[] rows) {
+        int[] degrees = new int[this.n];
+        for (int u = 0; u < this.n; u++) {
+            int row = u * this.words;
+            for (int k = 0; k < this.words; k++) {
+                degrees[u] += Long.bitCount(rows[row + k]);
+            }
+        }
+        return degrees;
+    }
+
+    /**
+     * Method: breadthFirstSearch - Runs the direction-optimizing breadth first search from a vertex. The context receives the number of edges to every reached vertex, a parent on a shortest path and the BLACK state, the other vertices keep their WHITE state and a distance of Integer.MAX_VALUE.
+     * @param source The id of the vertex where the search starts.
+     * @param context A context reset for the vertices of the graph.
+     */
+    void breadthFirstSearch(int source, TraversalContext context) {
+        int[] distance = context.getDistances();
+        int[] parent = context.getParents();
+        byte[] state = context.getStates();
+        long[] visited = new long[this.words];
+        long[] frontier = new long[this.words];
+        long[] next = new long[this.words];
+
+        visited[source >>> 6] |= 1L << source;
+        frontier[source >>> 6] |= 1L << source;
+        distance[source] = 0;
+        state[source] = TraversalContext.BLACK;
+
+        int frontierSize = 1;
+        long frontierEdges = this.outDegrees[source];
+        long unexploredEdges = this.inEdges - this.inDegrees[source];
+        boolean bottomUp = false;
+        int level = 0;
+
+        while (frontierSize > 0) {
+            if (!bottomUp && frontierEdges > unexploredEdges / ALPHA) {
+                bottomUp = true;
+            } else if (bottomUp && frontierSize < this.n / BETA) {
+                bottomUp = false;
+            }
+            if (bottomUp) {
+                bottomUpStep(frontier, visited, next, parent);
+            } else {
+                topDownStep(frontier, visited, next, parent);
+            }
+
+            level++;
+            frontierSize = 0;
+            frontierEdges = 0;
+            for (int w = 0; w < this.words; w++) {
+                long found = next[w];
+                visited[w] |= found;
+                while (found != 0) {
+                    int v = (w << 6) + Long.numberOfTrailingZeros(found);
+                    found &= found - 1;
+                    distance[v] = level;
+                    state[v] = TraversalContext.BLACK;
+                    frontierSize++;
+                    frontierEdges += this.outDegrees[v];
+                    unexploredEdges -= this.inDegrees[v];
+                }
+            }
+
+            long[] swap = frontier;
+            frontier = next;
+            next = swap;
+            Arrays.fill(next, 0);
+        }
+    }
+
+    /**
+     * Method: topDownStep - Adds to the next frontier every unvisited vertex reached by an edge leaving the frontier, one word of the row of every frontier vertex at a time.
+     * @param frontier The vertices of the current level.
+     * @param visited The vertices of the previous levels and of the current one.
+     * @param next The empty next frontier, filled by the step.
+     * @param parent The parent of every vertex, set for the vertices of the next frontier.
+     */
+    private void topDownStep(long[] frontier, long[] visited, long[] next, int[] parent) {
+        for (int w = 0; w < this.words; w++) {
+            long bits = frontier[w];
+            while (bits != 0) {
+                int u = (w << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                int row = u * this.words;
+                for (int k = 0; k < this.words; k++) {
+                    long found = this.outgoing[row + k] & ~visited[k] & ~next[k];
+                    if (found != 0) {
+                        next[k] |= found;
+                        while (found != 0) {
+                            parent[(k << 6) + Long.numberOfTrailingZeros(found)] = u;
+                            found &= found - 1;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Method: bottomUpStep - Adds to the next frontier every unvisited vertex with an incoming edge from the frontier, stopping at the first word of its incoming row that meets the frontier.
+     * @param frontier The vertices of the current level.
+     * @param visited The vertices of the previous levels and of the current one.
+     * @param next The empty next frontier, filled by the step.
+     * @param parent The parent of every vertex, set for the vertices of the next frontier.
+     */
+    private void bottomUpStep(long[] frontier, long[] visited, long[] next, int[] parent) {
+        for (int w = 0; w < this.words; w++) {
+            long unvisited = ~visited[w] & (w == this.words - 1 ? this.lastMask : -1L);
+            while (unvisited != 0) {
+                int v = (w << 6) + Long.numberOfTrailingZeros(unvisited);
+                unvisited &= unvisited - 1;
+                int row = v * this.words;
+                for (int k = 0; k < this.words; k++) {
+                    long parents = this.incoming[row + k] & frontier[k];
+                    if (parents != 0) {
+                        parent[v] = (k << 6) + Long.numberOfTrailingZeros(parents);
+                        next[w] |= 1L << v;
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Method: size - Returns the number of vertices.
+     * @return int - The number of vertices.
+     */
+    public int size() {
+        return this.n;
+    }
+
+    /**
+     * Method: hasEdge - Checks if there is an edge between two vertices.
+     * @param u The id of the origin vertex.
+     * @param v The id of the target vertex.
+     * @return boolean - true if the edge exists, false otherwise.
+     */
+    public boolean hasEdge(int u, int v) {
+        return (this.outgoing[u * this.words + (v >>> 6)] & (1L << v)) != 0;
+    }
+}
@@ -0,0 +1,156 @@
+package graph;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Class name: BlockedFloydWarshall
+ * General Description: This class computes all-pairs shortest paths with a tiled Floyd-Warshall algorithm over flat int tables. The tables are split into square blocks that fit in cache. For every diagonal block k it first updates block (k, k), then every block of row k and column k in parallel, and finally every other block in parallel, all on a ForkJoinPool. Nothing is allocated after the two tables.
+ */
+public class BlockedFloydWarshall {
+    public static final int DEFAULT_BLOCK_SIZE = 64;
+
+    /**
+     * Method: BlockedFloydWarshall - Not instantiable, the class only has static methods.
+     */
+    private BlockedFloydWarshall() {
+    }
+
+    /**
+     * Method: compute - Computes the all-pairs shortest paths of a graph on the common ForkJoinPool.
+     * @param graph The graph whose shortest paths are computed.
+     * @return AllPairsShortestPaths<T> - The distance and next hop tables.
+     */
+    public static <T> AllPairsShortestPaths<T> compute(GraphCompressedSparseRow<T> graph) {
+        return compute(graph, ForkJoinPool.commonPool(), DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Method: compute - Computes the all-pairs shortest paths of a graph on the given pool. Negative edges are allowed as long as there is no negative cycle.
+     * @param graph The graph whose shortest paths are computed.
+     * @param pool The pool where the blocks are updated.
+     * @param blockSize The side of the square blocks.
+     * @return AllPairsShortestPaths<T> - The distance and next hop tables.
+     */
+    public static <T> AllPairsShortestPaths<T> compute(GraphCompressedSparseRow<T> graph, ForkJoinPool pool, int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block size must be positive");
+        }
+
+        int n = graph.getVertices().size();
+        int[] dist = new int[n * n];
+        int[] next = new int[n * n];
+        Arrays.fill(dist, Integer.MAX_VALUE);
+        Arrays.fill(next, -1);
+
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int[] weights = graph.getWeights();
+        for (int i = 0; i < n; i++) {
+            dist[i * n + i] = 0;
+            next[i * n + i] = i;
+            for (int e = offsets[i]; e < offsets[i + 1]; e++) {
+                int cell = i * n + targets[e];
+                if (weights[e] < dist[cell]) {
+                    dist[cell] = weights[e];
+                    next[cell] = targets[e];
+                }
+            }
+        }
+
+        int blocks = (n + blockSize - 1) / blockSize;
+        List<ForkJoinTask<?>> tasks = new ArrayList<>();
+        for (int kb = 0; kb < blocks; kb++) {
+            final int k = kb;
+            updateBlock(dist, next, n, blockSize, k, k, k);
+
+            tasks.clear();
+            for (int b = 0; b < blocks; b++) {
+                if (b != k) {
+                    final int other = b;
+                    tasks.add(ForkJoinTask.adapt(() -> updateBlock(dist, next, n, blockSize, k, other, k)));
+                    tasks.add(ForkJoinTask.adapt(() -> updateBlock(dist, next, n, blockSize, other, k, k)));
+                }
+            }
+            runAll(pool, tasks);
+
+            tasks.clear();
+            for (int ib = 0; ib < blocks; ib++) {
+                if (ib != k) {
+                    final int row = ib;
+                    tasks.add(ForkJoinTask.adapt(() -> {
+                        for (int jb = 0; jb < blocks; jb++) {
+                            if (jb != k) {
+                                updateBlock(dist, next, n, blockSize, row, jb, k);
+                            }
+                        }
+                    }));
+                }
+            }
+            runAll(pool, tasks);
+        }
+
+        for (int i = 0; i < n; i++) {
+            if (dist[i * n + i] < 0) {
+                throw new IllegalStateException("Graph has a negative cycle");
+            }
+        }
+
+        return new AllPairsShortestPaths<>(graph, n, dist, next);
+    }
+
+    /**
+     * Method: updateBlock - Relaxes every pair of block (ib, jb) through every intermediate vertex of diagonal block kb.
+     * @param dist The row-major distance table.
+     * @param next The row-major next hop table.
+     * @param n The number of vertices.
+     * @param blockSize The side of the square blocks.
+     * @param ib The row of the block to be updated.
+     * @param jb The column of the block to be updated.
+     * @param kb The diagonal block of intermediate vertices.
+     */
+    private static void updateBlock(int[] dist, int[] next, int n, int blockSize, int ib, int jb, int kb) {
+        int iEnd = Math.min(n, (ib + 1) * blockSize);
+        int jStart = jb * blockSize;
+        int jEnd = Math.min(n, jStart + blockSize);
+        int kEnd = Math.min(n, (kb + 1) * blockSize);
+
+        for (int k = kb * blockSize; k < kEnd; k++) {
+            int kRow = k * n;
+            for (int i = ib * blockSize; i < iEnd; i++) {
+                int iRow = i * n;
+                int dik = dist[iRow + k];
+                if (dik == Integer.MAX_VALUE) {
+                    continue;
+                }
+                int nik = next[iRow + k];
+                for (int j = jStart; j < jEnd; j++) {
+                    int dkj = dist[kRow + j];
+                    if (dkj != Integer.MAX_VALUE && dik + dkj < dist[iRow + j]) {
+                        dist[iRow + j] = dik + dkj;
+                        next[iRow + j] = nik;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Method: runAll - Runs a list of tasks on the pool and waits until all of them are done.
+     * @param pool The pool where the tasks run.
+     * @param tasks The tasks to be run.
+     */
+    private static void runAll(ForkJoinPool pool, List<ForkJoinTask<?>> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(tasks);
+            }
+        });
+    }
+}
@@ -0,0 +1,273 @@
+package graph;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Class name: ConnectedComponents
+ * General Description: The connected parts of a compressed graph, found in O(V + E) time over int ids. Small graphs are joined with a sequential union-find. Graphs with at least PARALLEL_THRESHOLD edges are joined on a ForkJoinPool with a lock-free union-find, where every root is linked below the smaller root with a compare-and-set, so the threads never wait for each other and no pass over the edges has to be repeated. Components are numbered from 0 in the order of their smallest vertex id, so both algorithms give the same numbers. The direction of the edges of a directed graph is ignored.
+ */
+public class ConnectedComponents {
+    public static final int PARALLEL_THRESHOLD = 1 << 16;
+    private static final int VERTICES_PER_TASK = 2048;
+
+    private final int[] components;
+    private final int[] sizes;
+
+    /**
+     * Method: ConnectedComponents - Numbers the components from the representative of every vertex.
+     * @param roots The representative of every vertex, indexed by id. It is reused to hold the component of every vertex.
+     */
+    private ConnectedComponents(int[] roots) {
+        int n = roots.length;
+        int[] number = new int[n];
+        int count = 0;
+        for (int v = 0; v < n; v++) {
+            if (roots[v] == v) {
+                number[v] = count++;
+            }
+        }
+        this.sizes = new int[count];
+        for (int v = 0; v < n; v++) {
+            roots[v] = number[roots[v]];
+            this.sizes[roots[v]]++;
+        }
+        this.components = roots;
+    }
+
+    /**
+     * Method: compute - Finds the components sequentially, or in parallel on the common ForkJoinPool once the graph has at least PARALLEL_THRESHOLD edges.
+     * @param graph The graph whose components are found.
+     * @return ConnectedComponents - The components of the graph.
+     */
+    public static ConnectedComponents compute(GraphCompressedSparseRow<?> graph) {
+        if (graph.getEdgeCount() >= PARALLEL_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            return parallel(graph);
+        }
+        return sequential(graph);
+    }
+
+    /**
+     * Method: sequential - Finds the components with a union-find.
+     * @param graph The graph whose components are found.
+     * @return ConnectedComponents - The components of the graph.
+     */
+    public static ConnectedComponents sequential(GraphCompressedSparseRow<?> graph) {
+        int n = graph.getVertices().size();
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        UnionFind sets = new UnionFind(n);
+        for (int u = 0; u < n; u++) {
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                sets.union(u, targets[e]);
+            }
+        }
+        return new ConnectedComponents(smallestRoots(sets, n));
+    }
+
+    /**
+     * Method: parallel - Finds the components with a lock-free union-find on the common ForkJoinPool.
+     * @param graph The graph whose components are found.
+     * @return ConnectedComponents - The components of the graph.
+     */
+    public static ConnectedComponents parallel(GraphCompressedSparseRow<?> graph) {
+        return parallel(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Method: parallel - Finds the components with a lock-free union-find on the given pool.
+     * @param graph The graph whose components are found.
+     * @param pool The pool where the edges are joined.
+     * @return ConnectedComponents - The components of the graph.
+     */
+    public static ConnectedComponents parallel(GraphCompressedSparseRow<?> graph, ForkJoinPool pool) {
+        int n = graph.getVertices().size();
+        AtomicIntegerArray parent = new AtomicIntegerArray(n);
+        for (int v = 0; v < n; v++) {
+            parent.set(v, v);
+        }
+        if (n > 0) {
+            pool.invoke(new JoinEdges(graph.getOffsets(), graph.getTargets(), graph.isDirected(), parent, 0, n));
+        }
+
+        int[] roots = new int[n];
+        for (int v = 0; v < n; v++) {
+            roots[v] = find(parent, v);
+        }
+        return new ConnectedComponents(roots);
+    }
+
+    /**
+     * Method: smallestRoots - Returns the representative of every vertex of a union-find, replaced by the smallest id of its set so that the numbering does not depend on how the sets were joined.
+     * @param sets The union-find.
+     * @param n The number of vertices.
+     * @return int[] - The smallest id of the set of every vertex.
+     */
+    private static int[] smallestRoots(UnionFind sets, int n) {
+        int[] smallest = new int[n];
+        for (int v = 0; v < n; v++) {
+            smallest[v] = -1;
+        }
+        int[] roots = new int[n];
+        for (int v = 0; v < n; v++) {
+            int root = sets.find(v);
+            if (smallest[root] == -1) {
+                smallest[root] = v;
+            }
+            roots[v] = smallest[root];
+        }
+        return roots;
+    }
+
+    /**
+     * Method: find - Returns the root of a vertex in the lock-free union-find, halving the path it walks. A root only ever gets a smaller parent, so the halving can never create a cycle.
+     * @param parent The parent of every vertex.
+     * @param x The vertex.
+     * @return int - The root of the set of x.
+     */
+    private static int find(AtomicIntegerArray parent, int x) {
+        int p = parent.get(x);
+        while (p != x) {
+            int grandparent = parent.get(p);
+            if (grandparent != p) {
+                parent.compareAndSet(x, p, grandparent);
+            }
+            x = p;
+            p = parent.get(x);
+        }
+        return x;
+    }
+
+    /**
+     * Method: union - Joins the sets of two vertices in the lock-free union-find by linking the greater root below the smaller one. A failed compare-and-set means another thread linked the root first, so the roots are searched again.
+     * @param parent The parent of every vertex.
+     * @param x The first vertex.
+     * @param y The second vertex.
+     */
+    private static void union(AtomicIntegerArray parent, int x, int y) {
+        while (true) {
+            x = find(parent, x);
+            y = find(parent, y);
+            if (x == y) {
+                return;
+            }
+            if (x < y) {
+                int swap = x;
+                x = y;
+                y = swap;
+            }
+            if (parent.compareAndSet(x, x, y)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Method: getComponent - Returns the component of a vertex.
+     * @param vertex The id of the vertex.
+     * @return int - The number of its component.
+     */
+    public int getComponent(int vertex) {
+        return this.components[vertex];
+    }
+
+    /**
+     * Method: getComponents - Returns the component of every vertex, indexed by id. The array must not be modified.
+     * @return int[] - The number of the component of every vertex.
+     */
+    public int[] getComponents() {
+        return this.components;
+    }
+
+    /**
+     * Method: getSize - Returns the number of vertices of a component.
+     * @param component The number of the component.
+     * @return int - The size of the component.
+     */
+    public int getSize(int component) {
+        return this.sizes[component];
+    }
+
+    /**
+     * Method: getSizes - Returns the number of vertices of every component, indexed by component. The array must not be modified.
+     * @return int[] - The size of every component.
+     */
+    public int[] getSizes() {
+        return this.sizes;
+    }
+
+    /**
+     * Method: getCount - Returns the number of components.
+     * @return int - The number of components.
+     */
+    public int getCount() {
+        return this.sizes.length;
+    }
+
+    /**
+     * Method: connected - Checks if two vertices are in the same component.
+     * @param u The id of the first vertex.
+     * @param v The id of the second vertex.
+     * @return boolean - true if there is a path between both vertices, false otherwise.
+     */
+    public boolean connected(int u, int v) {
+        return this.components[u] == this.components[v];
+    }
+
+    /**
+     * Method: isConnected - Checks if there is a path between every pair of vertices.
+     * @return boolean - true if the graph has at most one component, false otherwise.
+     */
+    public boolean isConnected() {
+        return this.sizes.length <= 1;
+    }
+
+    /**
+     * Class name: JoinEdges
+     * General Description: A fork/join task that joins the endpoints of every edge leaving a range of vertices, splitting the range in halves until it is small enough.
+     */
+    private static class JoinEdges extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] offsets;
+        private final int[] targets;
+        private final boolean directed;
+        private final AtomicIntegerArray parent;
+        private final int from;
+        private final int to;
+
+        /**
+         * Method: JoinEdges - Creates a task for the vertices from (inclusive) to to (exclusive). An undirected edge is stored in both directions, so only the copy that goes to the greater id is joined.
+         */
+        JoinEdges(int[] offsets, int[] targets, boolean directed, AtomicIntegerArray parent, int from, int to) {
+            this.offsets = offsets;
+            this.targets = targets;
+            this.directed = directed;
+            this.parent = parent;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Method: compute - Processes the range directly, or splits it in two parallel halves.
+         */
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= VERTICES_PER_TASK) {
+                for (int u = this.from; u < this.to; u++) {
+                    for (int e = this.offsets[u]; e < this.offsets[u + 1]; e++) {
+                        int v = this.targets[e];
+                        if (this.directed || u < v) {
+                            union(this.parent, u, v);
+                        }
+                    }
+                }
+            } else {
+                int middle = (this.from + this.to) >>> 1;
+                invokeAll(new JoinEdges(this.offsets, this.targets, this.directed, this.parent, this.from, middle),
+                        new JoinEdges(this.offsets, this.targets, this.directed, this.parent, middle, this.to));
+            }
+        }
+    }
+}
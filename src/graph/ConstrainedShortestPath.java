@@ -0,0 +1,479 @@
+package graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Class name: ConstrainedShortestPath
+ * General Description: Resource-constrained shortest path between two vertices of a graph with two weights: the route that minimizes one weight, the objective, while the total of the other one, the resource, stays within a budget. For example the cheapest route that takes at most so many minutes, or the fastest one that costs at most so much. It is a label-correcting search: a label is a partial route with its objective and resource totals, and a label is dropped when another label at the same vertex is not worse in both totals. Bounds computed once on the transposed graph prune the rest. The smallest resource to the destination drops labels that cannot meet the budget. The smallest objective to the destination and the Lagrangian bound of the multiplier found by the LARAC method drop labels that cannot beat the best feasible route known, which the LARAC method also provides before the search starts. The weights must not be negative.
+ */
+public class ConstrainedShortestPath {
+    public static final int DEFAULT_LABEL_LIMIT = 1 << 20;
+    private static final int MAX_LAGRANGE_ITERATIONS = 32;
+
+    /**
+     * Method: ConstrainedShortestPath - Not instantiable, the class only has static methods.
+     */
+    private ConstrainedShortestPath() {
+    }
+
+    /**
+     * Method: search - Finds the route with the smallest objective total whose resource total is within the budget, with the default label limit.
+     * @param graph The graph to search, with both weights on its edges.
+     * @param source The origin vertex.
+     * @param destination The target vertex.
+     * @param objective The weight to minimize. The other weight is the resource.
+     * @param budget The largest resource total allowed.
+     * @return ParetoPath<T> - The route with both of its totals, or null if no route meets the budget.
+     */
+    public static <T> ParetoPath<T> search(GraphCompressedSparseRow<T> graph, T source, T destination, WeightChannel objective, int budget) {
+        return search(graph, source, destination, objective, budget, DEFAULT_LABEL_LIMIT);
+    }
+
+    /**
+     * Method: search - Finds the route with the smallest objective total whose resource total is within the budget.
+     * @param graph The graph to search, with both weights on its edges.
+     * @param source The origin vertex.
+     * @param destination The target vertex.
+     * @param objective The weight to minimize. The other weight is the resource.
+     * @param budget The largest resource total allowed.
+     * @param labelLimit The largest number of labels kept in memory.
+     * @return ParetoPath<T> - The route with both of its totals, or null if no route meets the budget.
+     * @throws IllegalStateException If the search needs more labels than the limit.
+     */
+    public static <T> ParetoPath<T> search(GraphCompressedSparseRow<T> graph, T source, T destination, WeightChannel objective, int budget, int labelLimit) {
+        int s = graph.getIndex(source);
+        int t = graph.getIndex(destination);
+        if (s == -1 || t == -1) {
+            throw new IllegalArgumentException("Vertex does not exist");
+        }
+        if (labelLimit < 1) {
+            throw new IllegalArgumentException("Label limit must be positive");
+        }
+        int[] primary = graph.getWeights();
+        int[] secondary = graph.getSecondaryWeights();
+        for (int e = 0; e < primary.length; e++) {
+            if (primary[e] < 0 || secondary[e] < 0) {
+                throw new IllegalArgumentException("Weights must not be negative");
+            }
+        }
+
+        Reverse reverse = new Reverse(graph, objective, t);
+        Tree byResource = reverse.tree(0, 1);
+        if (byResource.distance[s] > budget) {
+            return null;
+        }
+        Tree byCost = reverse.tree(1, 0);
+        int[] cheapest = reverse.totals(byCost, s);
+        if (cheapest[1] <= budget) {
+            return toPath(graph, objective, reverse.walk(byCost, s), cheapest);
+        }
+
+        Lagrange lagrange = reverse.larac(s, budget, cheapest, reverse.totals(byResource, s), byResource);
+        Labels labels = new Labels(graph, objective, labelLimit);
+        int found = labels.run(s, t, budget, byResource.distance, byCost.distance, lagrange);
+        if (found == -1) {
+            return toPath(graph, objective, reverse.walk(lagrange.incumbentTree, s), lagrange.incumbent);
+        }
+        return toPath(graph, objective, labels.walk(found), new int[]{labels.cost[found], labels.resource[found]});
+    }
+
+    /**
+     * Method: toPath - Translates a route into a path with its primary and secondary totals.
+     * @param graph The graph that was searched.
+     * @param objective The weight that was minimized.
+     * @param vertices The ids of the vertices of the route.
+     * @param totals The objective and the resource totals of the route.
+     * @return ParetoPath<T> - The path.
+     */
+    private static <T> ParetoPath<T> toPath(GraphCompressedSparseRow<T> graph, WeightChannel objective, List<Integer> vertices, int[] totals) {
+        List<? extends Vertex<T>> all = graph.getVertices();
+        List<T> values = new ArrayList<>(vertices.size());
+        for (int v : vertices) {
+            values.add(all.get(v).getValue());
+        }
+        if (objective == WeightChannel.PRIMARY) {
+            return new ParetoPath<>(values, totals[0], totals[1]);
+        }
+        return new ParetoPath<>(values, totals[1], totals[0]);
+    }
+
+    /**
+     * Class name: Tree
+     * General Description: A shortest path tree towards the destination for a combination of both weights, as the distance of every vertex and the edge of the transposed graph that leads it towards the destination.
+     */
+    private static class Tree {
+        private final long[] distance;
+        private final int[] nextEdge;
+
+        /**
+         * Method: Tree - Creates a tree where no vertex reaches the destination.
+         */
+        Tree(int n) {
+            this.distance = new long[n];
+            this.nextEdge = new int[n];
+            Arrays.fill(this.distance, Long.MAX_VALUE);
+            Arrays.fill(this.nextEdge, -1);
+        }
+    }
+
+    /**
+     * Class name: Lagrange
+     * General Description: The result of the LARAC method: the multiplier numerator / denominator with the tree of its combined weight, which bounds the objective total of any completion within the budget, and the best feasible route found.
+     */
+    private static class Lagrange {
+        private Tree tree;
+        private long numerator;
+        private long denominator = 1;
+        private Tree incumbentTree;
+        private int[] incumbent;
+
+        /**
+         * Method: bound - Returns a lower bound on the objective total of a route that extends a label and stays within the budget. For every completion S, objective(S) >= (combined(S) - numerator * resource(S)) / denominator >= (distance - numerator * (budget - resource)) / denominator.
+         * @param v The vertex of the label.
+         * @param cost The objective total of the label.
+         * @param resource The resource total of the label.
+         * @param budget The largest resource total allowed.
+         * @return long - The lower bound, or Long.MIN_VALUE if there is no multiplier.
+         */
+        long bound(int v, long cost, long resource, int budget) {
+            if (this.tree == null || this.tree.distance[v] == Long.MAX_VALUE) {
+                return Long.MIN_VALUE;
+            }
+            long scaled = this.tree.distance[v] - this.numerator * (budget - resource);
+            return cost + Math.floorDiv(scaled + this.denominator - 1, this.denominator);
+        }
+    }
+
+    /**
+     * Class name: Reverse
+     * General Description: The transposed graph with the objective and the resource weights. The edge e of the transposed graph that belongs to vertex owner[e] comes from sources[e], that is, it is the edge from sources[e] to owner[e] of the graph.
+     */
+    private static class Reverse {
+        private final int[] offsets;
+        private final int[] sources;
+        private final int[] owner;
+        private final int[] cost;
+        private final int[] resource;
+        private final int destination;
+
+        /**
+         * Method: Reverse - Prepares the transposed graph.
+         */
+        Reverse(GraphCompressedSparseRow<?> graph, WeightChannel objective, int destination) {
+            GraphCompressedSparseRow<?> transpose = graph.transpose();
+            this.offsets = transpose.getOffsets();
+            this.sources = transpose.getTargets();
+            this.cost = objective == WeightChannel.PRIMARY ? transpose.getWeights() : transpose.getSecondaryWeights();
+            this.resource = objective == WeightChannel.PRIMARY ? transpose.getSecondaryWeights() : transpose.getWeights();
+            this.destination = destination;
+            this.owner = new int[this.sources.length];
+            for (int v = 0; v < this.offsets.length - 1; v++) {
+                for (int e = this.offsets[v]; e < this.offsets[v + 1]; e++) {
+                    this.owner[e] = v;
+                }
+            }
+        }
+
+        /**
+         * Method: tree - Runs Dijkstra from the destination on the transposed graph with the weights costFactor * objective + resourceFactor * resource.
+         * @param costFactor The factor of the objective weight.
+         * @param resourceFactor The factor of the resource weight.
+         * @return Tree - The distance of every vertex to the destination and its next edge towards it.
+         */
+        Tree tree(long costFactor, long resourceFactor) {
+            Tree tree = new Tree(this.offsets.length - 1);
+            tree.distance[this.destination] = 0;
+            PriorityQueue<long[]> queue = new PriorityQueue<>((a, b) -> Long.compare(a[0], b[0]));
+            queue.add(new long[]{0, this.destination});
+            while (!queue.isEmpty()) {
+                long[] entry = queue.poll();
+                int v = (int) entry[1];
+                if (entry[0] > tree.distance[v]) {
+                    continue;
+                }
+                for (int e = this.offsets[v]; e < this.offsets[v + 1]; e++) {
+                    int u = this.sources[e];
+                    long alt = entry[0] + costFactor * this.cost[e] + resourceFactor * this.resource[e];
+                    if (alt < tree.distance[u]) {
+                        tree.distance[u] = alt;
+                        tree.nextEdge[u] = e;
+                        queue.add(new long[]{alt, u});
+                    }
+                }
+            }
+            return tree;
+        }
+
+        /**
+         * Method: walk - Returns the vertices of the tree path from a vertex to the destination.
+         * @param tree The tree.
+         * @param s The first vertex.
+         * @return List<Integer> - The ids of the vertices of the path.
+         */
+        List<Integer> walk(Tree tree, int s) {
+            List<Integer> vertices = new ArrayList<>();
+            vertices.add(s);
+            for (int v = s; v != this.destination; v = this.owner[tree.nextEdge[v]]) {
+                vertices.add(this.owner[tree.nextEdge[v]]);
+            }
+            return vertices;
+        }
+
+        /**
+         * Method: totals - Adds up both weights along the tree path from a vertex to the destination.
+         * @param tree The tree.
+         * @param s The first vertex.
+         * @return int[] - The objective and the resource totals of the path.
+         */
+        int[] totals(Tree tree, int s) {
+            long c = 0;
+            long r = 0;
+            for (int v = s; v != this.destination; v = this.owner[tree.nextEdge[v]]) {
+                c += this.cost[tree.nextEdge[v]];
+                r += this.resource[tree.nextEdge[v]];
+            }
+            return new int[]{(int) Math.min(c, Integer.MAX_VALUE), (int) Math.min(r, Integer.MAX_VALUE)};
+        }
+
+        /**
+         * Method: larac - Searches the Lagrangian multiplier with the LARAC method. It keeps a route over the budget with a small objective total and a route within the budget with a small resource total. The multiplier is the one at which both routes have the same combined weight, and the shortest route for it replaces one of them, until that route is no shorter than them.
+         * @param s The origin vertex.
+         * @param budget The largest resource total allowed.
+         * @param infeasible The totals of the shortest route by objective, which is over the budget.
+         * @param feasible The totals of the shortest route by resource, which is within the budget.
+         * @param feasibleTree The tree of the feasible route.
+         * @return Lagrange - The last multiplier and the best feasible route found.
+         */
+        Lagrange larac(int s, int budget, int[] infeasible, int[] feasible, Tree feasibleTree) {
+            Lagrange lagrange = new Lagrange();
+            lagrange.incumbent = feasible;
+            lagrange.incumbentTree = feasibleTree;
+            for (int i = 0; i < MAX_LAGRANGE_ITERATIONS; i++) {
+                long numerator = (long) lagrange.incumbent[0] - infeasible[0];
+                long denominator = (long) infeasible[1] - lagrange.incumbent[1];
+                if (numerator <= 0 || denominator <= 0) {
+                    break;
+                }
+                Tree tree = tree(denominator, numerator);
+                lagrange.tree = tree;
+                lagrange.numerator = numerator;
+                lagrange.denominator = denominator;
+
+                int[] route = totals(tree, s);
+                if (denominator * route[0] + numerator * route[1] >= denominator * infeasible[0] + numerator * infeasible[1]) {
+                    break;
+                }
+                if (route[1] <= budget) {
+                    lagrange.incumbent = route;
+                    lagrange.incumbentTree = tree;
+                } else {
+                    infeasible = route;
+                }
+            }
+            return lagrange;
+        }
+    }
+
+    /**
+     * Class name: Labels
+     * General Description: The labels of the search in parallel arrays. The labels of every vertex that are not dominated are linked in a list, and the labels waiting to be extended are kept in a binary min-heap ordered by their lower bound and then by their resource total. A dominated label is only marked dead, since the labels that extend it still point to it.
+     */
+    private static class Labels {
+        private final int[] offsets;
+        private final int[] targets;
+        private final int[] edgeCost;
+        private final int[] edgeResource;
+        private final int limit;
+        private final int[] head;
+        private int[] vertex;
+        private int[] parent;
+        private int[] cost;
+        private int[] resource;
+        private long[] bound;
+        private int[] next;
+        private boolean[] dead;
+        private int[] heap;
+        private int size;
+        private int heapSize;
+
+        /**
+         * Method: Labels - Creates an empty store for a graph.
+         */
+        Labels(GraphCompressedSparseRow<?> graph, WeightChannel objective, int limit) {
+            this.offsets = graph.getOffsets();
+            this.targets = graph.getTargets();
+            this.edgeCost = objective == WeightChannel.PRIMARY ? graph.getWeights() : graph.getSecondaryWeights();
+            this.edgeResource = objective == WeightChannel.PRIMARY ? graph.getSecondaryWeights() : graph.getWeights();
+            this.limit = limit;
+            this.head = new int[this.offsets.length - 1];
+            Arrays.fill(this.head, -1);
+            int capacity = Math.min(limit, 64);
+            this.vertex = new int[capacity];
+            this.parent = new int[capacity];
+            this.cost = new int[capacity];
+            this.resource = new int[capacity];
+            this.bound = new long[capacity];
+            this.next = new int[capacity];
+            this.dead = new boolean[capacity];
+            this.heap = new int[capacity];
+        }
+
+        /**
+         * Method: run - Extends the labels in order of their lower bound. The first label taken at the destination is the best route, because every bound is a lower bound and the bound of a label at the destination is its objective total.
+         * @param s The origin vertex.
+         * @param t The destination.
+         * @param budget The largest resource total allowed.
+         * @param minResource The smallest resource total from every vertex to the destination.
+         * @param minCost The smallest objective total from every vertex to the destination.
+         * @param lagrange The multiplier and the incumbent route.
+         * @return int - The label of the best route, or -1 if no route beats the incumbent.
+         */
+        int run(int s, int t, int budget, long[] minResource, long[] minCost, Lagrange lagrange) {
+            long incumbent = lagrange.incumbent[0];
+            insert(s, -1, 0, 0, 0);
+            while (this.heapSize > 0) {
+                int l = poll();
+                if (this.dead[l]) {
+                    continue;
+                }
+                int u = this.vertex[l];
+                if (u == t) {
+                    return l;
+                }
+                for (int e = this.offsets[u]; e < this.offsets[u + 1]; e++) {
+                    int v = this.targets[e];
+                    long r = (long) this.resource[l] + this.edgeResource[e];
+                    if (minResource[v] == Long.MAX_VALUE || r + minResource[v] > budget) {
+                        continue;
+                    }
+                    long c = (long) this.cost[l] + this.edgeCost[e];
+                    long lower = Math.max(c + minCost[v], lagrange.bound(v, c, r, budget));
+                    if (lower >= incumbent) {
+                        continue;
+                    }
+                    insert(v, l, (int) c, (int) r, lower);
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Method: insert - Stores a new label unless a label of its vertex is not worse in both totals, and marks dead the labels of its vertex that it dominates.
+         * @param v The vertex where the label ends.
+         * @param p The label it extends, or -1 for the source.
+         * @param c The objective total of the label.
+         * @param r The resource total of the label.
+         * @param lower The lower bound of the label.
+         */
+        private void insert(int v, int p, int c, int r, long lower) {
+            int previous = -1;
+            for (int k = this.head[v]; k != -1; k = this.next[k]) {
+                if (this.cost[k] <= c && this.resource[k] <= r) {
+                    return;
+                }
+            }
+            for (int k = this.head[v]; k != -1; k = this.next[k]) {
+                if (c <= this.cost[k] && r <= this.resource[k]) {
+                    this.dead[k] = true;
+                    if (previous == -1) {
+                        this.head[v] = this.next[k];
+                    } else {
+                        this.next[previous] = this.next[k];
+                    }
+                } else {
+                    previous = k;
+                }
+            }
+
+            if (this.size == this.limit) {
+                throw new IllegalStateException("Label limit exceeded");
+            }
+            if (this.size == this.vertex.length) {
+                int capacity = (int) Math.min(this.limit, 2L * this.size);
+                this.vertex = Arrays.copyOf(this.vertex, capacity);
+                this.parent = Arrays.copyOf(this.parent, capacity);
+                this.cost = Arrays.copyOf(this.cost, capacity);
+                this.resource = Arrays.copyOf(this.resource, capacity);
+                this.bound = Arrays.copyOf(this.bound, capacity);
+                this.next = Arrays.copyOf(this.next, capacity);
+                this.dead = Arrays.copyOf(this.dead, capacity);
+                this.heap = Arrays.copyOf(this.heap, capacity);
+            }
+            int l = this.size++;
+            this.vertex[l] = v;
+            this.parent[l] = p;
+            this.cost[l] = c;
+            this.resource[l] = r;
+            this.bound[l] = lower;
+            this.next[l] = this.head[v];
+            this.head[v] = l;
+
+            int i = this.heapSize++;
+            while (i > 0) {
+                int up = (i - 1) >>> 1;
+                if (!less(l, this.heap[up])) {
+                    break;
+                }
+                this.heap[i] = this.heap[up];
+                i = up;
+            }
+            this.heap[i] = l;
+        }
+
+        /**
+         * Method: poll - Removes the label with the smallest bound from the heap.
+         * @return int - The label.
+         */
+        private int poll() {
+            int top = this.heap[0];
+            int last = this.heap[--this.heapSize];
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= this.heapSize) {
+                    break;
+                }
+                if (child + 1 < this.heapSize && less(this.heap[child + 1], this.heap[child])) {
+                    child++;
+                }
+                if (!less(this.heap[child], last)) {
+                    break;
+                }
+                this.heap[i] = this.heap[child];
+                i = child;
+            }
+            if (this.heapSize > 0) {
+                this.heap[i] = last;
+            }
+            return top;
+        }
+
+        /**
+         * Method: less - Compares two labels by their bound and then by their resource total.
+         * @return boolean - true if label a comes before label b.
+         */
+        private boolean less(int a, int b) {
+            if (this.bound[a] != this.bound[b]) {
+                return this.bound[a] < this.bound[b];
+            }
+            return this.resource[a] < this.resource[b];
+        }
+
+        /**
+         * Method: walk - Returns the vertices of the route of a label.
+         * @param l The label.
+         * @return List<Integer> - The ids of the vertices, from the source.
+         */
+        List<Integer> walk(int l) {
+            LinkedList<Integer> vertices = new LinkedList<>();
+            for (int k = l; k != -1; k = this.parent[k]) {
+                vertices.addFirst(this.vertex[k]);
+            }
+            return new ArrayList<>(vertices);
+        }
+    }
+}
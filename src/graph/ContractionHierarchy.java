@@ -0,0 +1,446 @@
+package graph;
+
+import java.util.*;
+
+/**
+ * Class name: ContractionHierarchy
+ * General Description: A preprocessed form of a network that answers point to point shortest path queries by exploring only a handful of vertices. The vertices are contracted one by one, from the least to the most important. Whenever removing a vertex would break a shortest path between two of its neighbors, a shortcut edge that skips the vertex is added. A query then runs a bidirectional Dijkstra search that only follows edges towards more important vertices. Shortcuts are unpacked into the real sequence of vertices at the end. The hierarchy is immutable and can be queried from several threads. It must be rebuilt when the network changes, and the weights must not be negative.
+ */
+public class ContractionHierarchy<T> {
+    public static final int DEFAULT_WITNESS_LIMIT = 500;
+
+    private final GraphCompressedSparseRow<T> graph;
+    private final int[] ranks;
+    private final int[] upOffsets;
+    private final int[] upTargets;
+    private final int[] upWeights;
+    private final int[] downOffsets;
+    private final int[] downTargets;
+    private final int[] downWeights;
+    private final Map<Long, Integer> middles;
+    private final TraversalContextPool pool;
+
+    /**
+     * Method: ContractionHierarchy - Creates an instance of the ContractionHierarchy class from already built search graphs.
+     * @param graph The snapshot of the network the hierarchy was built from.
+     * @param ranks The contraction order of every vertex, by id.
+     * @param up The edges from every vertex to more important vertices, in the direction of the network.
+     * @param down The edges that reach every vertex from more important vertices, stored at the less important end.
+     * @param middles The vertex skipped by every shortcut, keyed by its two ends.
+     */
+    private ContractionHierarchy(GraphCompressedSparseRow<T> graph, int[] ranks, List<List<int[]>> up, List<List<int[]>> down, Map<Long, Integer> middles) {
+        int n = ranks.length;
+        this.graph = graph;
+        this.ranks = ranks;
+        this.middles = middles;
+        this.pool = new TraversalContextPool();
+
+        this.upOffsets = new int[n + 1];
+        this.downOffsets = new int[n + 1];
+        for (int v = 0; v < n; v++) {
+            this.upOffsets[v + 1] = this.upOffsets[v] + up.get(v).size();
+            this.downOffsets[v + 1] = this.downOffsets[v] + down.get(v).size();
+        }
+        this.upTargets = new int[this.upOffsets[n]];
+        this.upWeights = new int[this.upOffsets[n]];
+        this.downTargets = new int[this.downOffsets[n]];
+        this.downWeights = new int[this.downOffsets[n]];
+        for (int v = 0; v < n; v++) {
+            int e = this.upOffsets[v];
+            for (int[] edge : up.get(v)) {
+                this.upTargets[e] = edge[0];
+                this.upWeights[e++] = edge[1];
+            }
+            e = this.downOffsets[v];
+            for (int[] edge : down.get(v)) {
+                this.downTargets[e] = edge[0];
+                this.downWeights[e++] = edge[1];
+            }
+        }
+    }
+
+    /**
+     * Method: build - Builds the contraction hierarchy of a network with the default witness search limit.
+     * @param network The network to preprocess, with the weight that the queries should minimize already loaded.
+     * @return ContractionHierarchy<T> - The hierarchy.
+     */
+    public static <T> ContractionHierarchy<T> build(IGraph<T> network) {
+        return build(network, DEFAULT_WITNESS_LIMIT);
+    }
+
+    /**
+     * Method: build - Builds the contraction hierarchy of a network. The vertices are ordered by edge difference (shortcuts added minus edges removed) plus the number of neighbors already contracted. The order is updated lazily: a vertex is re-evaluated when it reaches the top of the queue.
+     * @param network The network to preprocess, with the weight that the queries should minimize already loaded.
+     * @param witnessLimit The greatest number of vertices a witness search may settle. A search that gives up adds a shortcut, which is always correct but makes the hierarchy larger.
+     * @return ContractionHierarchy<T> - The hierarchy.
+     */
+    public static <T> ContractionHierarchy<T> build(IGraph<T> network, int witnessLimit) {
+        GraphCompressedSparseRow<T> graph = network.snapshot();
+        int n = graph.getVertices().size();
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int[] weights = graph.getWeights();
+
+        List<Map<Integer, Integer>> out = new ArrayList<>(n);
+        List<Map<Integer, Integer>> in = new ArrayList<>(n);
+        for (int v = 0; v < n; v++) {
+            out.add(new HashMap<>());
+            in.add(new HashMap<>());
+        }
+        for (int u = 0; u < n; u++) {
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int v = targets[e];
+                if (weights[e] < 0) {
+                    throw new IllegalArgumentException("Weights must not be negative");
+                }
+                if (u != v) {
+                    out.get(u).merge(v, weights[e], Math::min);
+                    in.get(v).merge(u, weights[e], Math::min);
+                }
+            }
+        }
+
+        Contractor contractor = new Contractor(n, out, in, witnessLimit);
+        int[] contractedNeighbors = new int[n];
+        int[] ranks = new int[n];
+        List<List<int[]>> up = new ArrayList<>(n);
+        List<List<int[]>> down = new ArrayList<>(n);
+        for (int v = 0; v < n; v++) {
+            up.add(new ArrayList<>());
+            down.add(new ArrayList<>());
+        }
+        Map<Long, Integer> middles = new HashMap<>();
+
+        IndexedMinHeap order = new IndexedMinHeap(n);
+        for (int v = 0; v < n; v++) {
+            order.insert(v, contractor.contract(v, false, null) - out.get(v).size() - in.get(v).size());
+        }
+
+        int rank = 0;
+        while (!order.isEmpty()) {
+            int v = order.poll();
+            int priority = contractor.contract(v, false, null) - out.get(v).size() - in.get(v).size() + contractedNeighbors[v];
+            if (!order.isEmpty() && priority > order.getKey(order.peek())) {
+                order.insert(v, priority);
+                continue;
+            }
+
+            ranks[v] = rank++;
+            contractor.contract(v, true, middles);
+            for (Map.Entry<Integer, Integer> edge : out.get(v).entrySet()) {
+                up.get(v).add(new int[]{edge.getKey(), edge.getValue()});
+                in.get(edge.getKey()).remove(v);
+                contractedNeighbors[edge.getKey()]++;
+            }
+            for (Map.Entry<Integer, Integer> edge : in.get(v).entrySet()) {
+                down.get(v).add(new int[]{edge.getKey(), edge.getValue()});
+                out.get(edge.getKey()).remove(v);
+                contractedNeighbors[edge.getKey()]++;
+            }
+            out.get(v).clear();
+            in.get(v).clear();
+        }
+
+        return new ContractionHierarchy<>(graph, ranks, up, down, middles);
+    }
+
+    /**
+     * Method: shortestPath - Finds the shortest path between two vertices with an upward bidirectional search, and unpacks the shortcuts of the result into the real sequence of vertices.
+     * @param source The origin vertex.
+     * @param destination The target vertex.
+     * @return Path<T> - The shortest path, or null if the destination cannot be reached from the source.
+     */
+    public Path<T> shortestPath(T source, T destination) {
+        int s = this.graph.getIndex(source);
+        int t = this.graph.getIndex(destination);
+
+        if (s == -1 || t == -1) {
+            throw new IllegalArgumentException("Vertex does not exist");
+        }
+
+        int n = this.ranks.length;
+        try (TraversalContext forward = this.pool.acquire(n);
+             TraversalContext backward = this.pool.acquire(n)) {
+            int[] distanceF = forward.getDistances();
+            int[] distanceB = backward.getDistances();
+            IndexedMinHeap queueF = forward.getHeap();
+            IndexedMinHeap queueB = backward.getHeap();
+
+            distanceF[s] = 0;
+            queueF.insert(s, 0);
+            distanceB[t] = 0;
+            queueB.insert(t, 0);
+
+            long best = Long.MAX_VALUE;
+            int meet = -1;
+
+            while (!queueF.isEmpty() || !queueB.isEmpty()) {
+                boolean advanceForward = queueB.isEmpty()
+                        || (!queueF.isEmpty() && queueF.getKey(queueF.peek()) <= queueB.getKey(queueB.peek()));
+                TraversalContext context = advanceForward ? forward : backward;
+                IndexedMinHeap queue = context.getHeap();
+                int[] distance = context.getDistances();
+                int[] other = advanceForward ? distanceB : distanceF;
+
+                int u = queue.poll();
+                if (distance[u] >= best) {
+                    // nothing left on this side can improve the best path
+                    queue.clear();
+                    continue;
+                }
+                context.getStates()[u] = TraversalContext.BLACK;
+                if (other[u] != Integer.MAX_VALUE && (long) distance[u] + other[u] < best) {
+                    best = (long) distance[u] + other[u];
+                    meet = u;
+                }
+
+                if (advanceForward) {
+                    relax(u, this.upOffsets, this.upTargets, this.upWeights, context);
+                } else {
+                    relax(u, this.downOffsets, this.downTargets, this.downWeights, context);
+                }
+            }
+
+            if (meet == -1) {
+                return null;
+            }
+
+            LinkedList<Integer> ids = new LinkedList<>();
+            for (int v = meet; v != -1; v = forward.getParent(v)) {
+                ids.addFirst(v);
+            }
+            for (int v = backward.getParent(meet); v != -1; v = backward.getParent(v)) {
+                ids.addLast(v);
+            }
+
+            List<T> vertices = new ArrayList<>();
+            ArrayList<Vertex_CSR<T>> all = this.graph.getVertices();
+            Iterator<Integer> iterator = ids.iterator();
+            int previous = iterator.next();
+            vertices.add(all.get(previous).getValue());
+            while (iterator.hasNext()) {
+                int next = iterator.next();
+                unpack(previous, next, vertices);
+                previous = next;
+            }
+
+            return new Path<>(vertices, (int) best);
+        }
+    }
+
+    /**
+     * Method: relax - Relaxes the upward edges of a settled vertex.
+     * @param u The settled vertex.
+     * @param offsets The offsets of the search graph of this side.
+     * @param targets The targets of the search graph of this side.
+     * @param weights The weights of the search graph of this side.
+     * @param context The context of this side.
+     */
+    private static void relax(int u, int[] offsets, int[] targets, int[] weights, TraversalContext context) {
+        int[] distance = context.getDistances();
+        int[] parent = context.getParents();
+        byte[] state = context.getStates();
+        IndexedMinHeap queue = context.getHeap();
+
+        for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+            int v = targets[e];
+            int alt = distance[u] + weights[e];
+            if (state[v] != TraversalContext.BLACK && alt < distance[v]) {
+                distance[v] = alt;
+                parent[v] = u;
+                if (queue.contains(v)) {
+                    queue.decreaseKey(v, alt);
+                } else {
+                    state[v] = TraversalContext.GRAY;
+                    queue.insert(v, alt);
+                }
+            }
+        }
+    }
+
+    /**
+     * Method: unpack - Replaces an edge of the hierarchy by the real vertices it stands for and appends them, without the first one, to the list.
+     * @param from The first end of the edge.
+     * @param to The second end of the edge.
+     * @param vertices The list the vertices are appended to.
+     */
+    private void unpack(int from, int to, List<T> vertices) {
+        ArrayList<Vertex_CSR<T>> all = this.graph.getVertices();
+        Deque<int[]> stack = new ArrayDeque<>();
+        stack.push(new int[]{from, to});
+        while (!stack.isEmpty()) {
+            int[] edge = stack.pop();
+            Integer middle = this.middles.get(key(edge[0], edge[1]));
+            if (middle == null) {
+                vertices.add(all.get(edge[1]).getValue());
+            } else {
+                stack.push(new int[]{middle, edge[1]});
+                stack.push(new int[]{edge[0], middle});
+            }
+        }
+    }
+
+    /**
+     * Method: key - Packs the two ends of an edge into one long.
+     * @param from The first end of the edge.
+     * @param to The second end of the edge.
+     * @return long - The key of the edge.
+     */
+    private static long key(int from, int to) {
+        return ((long) from << 32) | (to & 0xffffffffL);
+    }
+
+    /**
+     * Method: getRank - Returns the position of a vertex in the contraction order. More important vertices have greater ranks.
+     * @param vertex The value of the vertex.
+     * @return int - The rank of the vertex.
+     */
+    public int getRank(T vertex) {
+        int v = this.graph.getIndex(vertex);
+        if (v == -1) {
+            throw new IllegalArgumentException("Vertex does not exist");
+        }
+        return this.ranks[v];
+    }
+
+    /**
+     * Method: getShortcutCount - Returns the number of shortcut edges added while contracting the network.
+     * @return int - The number of shortcuts.
+     */
+    public int getShortcutCount() {
+        return this.middles.size();
+    }
+
+    /**
+     * Method: getGraph - Returns the snapshot of the network the hierarchy was built from.
+     * @return GraphCompressedSparseRow<T> - The snapshot.
+     */
+    public GraphCompressedSparseRow<T> getGraph() {
+        return this.graph;
+    }
+
+    /**
+     * Class name: Contractor
+     * General Description: Contracts vertices of the remaining network, and runs the local witness searches that decide which shortcuts are needed. Its arrays are reused by every search.
+     */
+    private static class Contractor {
+        private final List<Map<Integer, Integer>> out;
+        private final List<Map<Integer, Integer>> in;
+        private final int witnessLimit;
+        private final int[] distance;
+        private final int[] touched;
+        private final IndexedMinHeap queue;
+        private int touchedCount;
+
+        /**
+         * Method: Contractor - Creates a contractor over the remaining network.
+         * @param n The number of vertices.
+         * @param out The outgoing edges of every remaining vertex.
+         * @param in The incoming edges of every remaining vertex.
+         * @param witnessLimit The greatest number of vertices a witness search may settle.
+         */
+        Contractor(int n, List<Map<Integer, Integer>> out, List<Map<Integer, Integer>> in, int witnessLimit) {
+            this.out = out;
+            this.in = in;
+            this.witnessLimit = witnessLimit;
+            this.distance = new int[n];
+            this.touched = new int[n];
+            this.queue = new IndexedMinHeap(n);
+            Arrays.fill(this.distance, Integer.MAX_VALUE);
+        }
+
+        /**
+         * Method: contract - Finds the shortcuts needed to remove a vertex and, if asked, adds them to the remaining network.
+         * @param v The vertex to contract.
+         * @param apply true to add the shortcuts, false to only count them.
+         * @param middles The map where the skipped vertex of every added shortcut is stored.
+         * @return int - The number of shortcuts needed.
+         */
+        int contract(int v, boolean apply, Map<Long, Integer> middles) {
+            int shortcuts = 0;
+            List<int[]> added = new ArrayList<>();
+            for (Map.Entry<Integer, Integer> incoming : this.in.get(v).entrySet()) {
+                int u = incoming.getKey();
+                int limit = 0;
+                for (int weight : this.out.get(v).values()) {
+                    limit = Math.max(limit, incoming.getValue() + weight);
+                }
+                witnessSearch(u, v, limit);
+
+                for (Map.Entry<Integer, Integer> outgoing : this.out.get(v).entrySet()) {
+                    int x = outgoing.getKey();
+                    int through = incoming.getValue() + outgoing.getValue();
+                    if (x != u && this.distance[x] > through) {
+                        shortcuts++;
+                        if (apply) {
+                            added.add(new int[]{u, x, through});
+                        }
+                    }
+                }
+                clear();
+            }
+
+            for (int[] shortcut : added) {
+                int u = shortcut[0];
+                int x = shortcut[1];
+                Integer current = this.out.get(u).get(x);
+                if (current == null || shortcut[2] < current) {
+                    this.out.get(u).put(x, shortcut[2]);
+                    this.in.get(x).put(u, shortcut[2]);
+                    middles.put(key(u, x), v);
+                }
+            }
+            return shortcuts;
+        }
+
+        /**
+         * Method: witnessSearch - Runs a Dijkstra search from a vertex over the remaining network without passing through the vertex being contracted. It stops at the distance limit or after settling witnessLimit vertices.
+         * @param source The vertex the search starts from.
+         * @param skipped The vertex being contracted.
+         * @param limit The greatest distance worth exploring.
+         */
+        private void witnessSearch(int source, int skipped, int limit) {
+            this.distance[source] = 0;
+            this.touched[this.touchedCount++] = source;
+            this.queue.insert(source, 0);
+            int settled = 0;
+
+            while (!this.queue.isEmpty() && settled < this.witnessLimit) {
+                int u = this.queue.poll();
+                settled++;
+                if (this.distance[u] > limit) {
+                    break;
+                }
+                for (Map.Entry<Integer, Integer> edge : this.out.get(u).entrySet()) {
+                    int x = edge.getKey();
+                    if (x == skipped) {
+                        continue;
+                    }
+                    int alt = this.distance[u] + edge.getValue();
+                    if (alt < this.distance[x]) {
+                        if (this.distance[x] == Integer.MAX_VALUE) {
+                            this.touched[this.touchedCount++] = x;
+                        }
+                        this.distance[x] = alt;
+                        if (this.queue.contains(x)) {
+                            this.queue.decreaseKey(x, alt);
+                        } else {
+                            this.queue.insert(x, alt);
+                        }
+                    }
+                }
+            }
+        }
+
+        /**
+         * Method: clear - Resets the distances touched by the last witness search.
+         */
+        private void clear() {
+            for (int i = 0; i < this.touchedCount; i++) {
+                this.distance[this.touched[i]] = Integer.MAX_VALUE;
+            }
+            this.touchedCount = 0;
+            this.queue.clear();
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package graph;
+
+/**
+ * Class name: DepthFirstSearch
+ * General Description: Iterative depth first search over the int ids of a compressed graph. The recursion is replaced by an explicit stack of vertex ids and the position reached in the edges of every vertex on it, so the depth of the search is only limited by the heap, not by the call stack. The search reports every discovered vertex, every scanned edge and every finished vertex to a Visitor, which is how the algorithms built on it, such as strongly connected components or articulation points, keep their own state.
+ */
+public class DepthFirstSearch {
+
+    /**
+     * Interface name: Visitor
+     * General Description: Receives the events of a depth first search, in the same order as a recursive search would produce them.
+     */
+    public interface Visitor {
+
+        /**
+         * Method: discover - Called when a vertex is reached for the first time.
+         * @param vertex The id of the vertex.
+         * @param parent The id of the vertex it was reached from, or -1 for a root.
+         */
+        void discover(int vertex, int parent);
+
+        /**
+         * Method: edge - Called for every edge leaving a vertex, after the target is discovered if the edge is a tree edge.
+         * @param source The id of the vertex the edge leaves.
+         * @param target The id of the vertex the edge enters.
+         * @param edge The position of the edge in the targets array of the graph.
+         * @param tree true if the edge discovered the target, false if the target was already discovered.
+         */
+        void edge(int source, int target, int edge, boolean tree);
+
+        /**
+         * Method: finish - Called when every edge leaving a vertex has been scanned and every vertex discovered from it is finished.
+         * @param vertex The id of the vertex.
+         * @param parent The id of the vertex it was reached from, or -1 for a root.
+         */
+        void finish(int vertex, int parent);
+    }
+
+    private final GraphCompressedSparseRow<?> graph;
+    private final byte[] states;
+    private final int[] parents;
+    private final int[] stack;
+    private final int[] cursors;
+
+    /**
+     * Method: DepthFirstSearch - Creates a search over a graph, with every vertex undiscovered.
+     * @param graph The graph to be searched.
+     */
+    public DepthFirstSearch(GraphCompressedSparseRow<?> graph) {
+        int n = graph.getVertices().size();
+        this.graph = graph;
+        this.states = new byte[n];
+        this.parents = new int[n];
+        this.stack = new int[n];
+        this.cursors = new int[n];
+    }
+
+    /**
+     * Method: DepthFirstSearch - Creates a search that keeps the states and the parents of the vertices in a query context, and uses its scratch array as the stack, so a query answered with the search leaves its result in the context.
+     * @param graph The graph to be searched.
+     * @param context A context reset for the vertices of the graph.
+     */
+    private DepthFirstSearch(GraphCompressedSparseRow<?> graph, TraversalContext context) {
+        this.graph = graph;
+        this.states = context.getStates();
+        this.parents = context.getParents();
+        this.stack = context.getQueue();
+        this.cursors = new int[graph.getVertices().size()];
+    }
+
+    /**
+     * Method: searchAll - Searches from every undiscovered vertex, in id order, so every vertex is discovered once.
+     * @param visitor The visitor that receives the events.
+     */
+    public void searchAll(Visitor visitor) {
+        for (int v = 0; v < this.states.length; v++) {
+            if (this.states[v] == TraversalContext.WHITE) {
+                search(v, visitor);
+            }
+        }
+    }
+
+    /**
+     * Method: search - Searches from a vertex, discovering every undiscovered vertex reachable from it. Vertices discovered by an earlier search are not visited again.
+     * @param source The id of the vertex where the search starts.
+     * @param visitor The visitor that receives the events.
+     */
+    public void search(int source, Visitor visitor) {
+        if (this.states[source] != TraversalContext.WHITE) {
+            return;
+        }
+
+        int[] offsets = this.graph.getOffsets();
+        int[] targets = this.graph.getTargets();
+        int top = 0;
+
+        this.states[source] = TraversalContext.GRAY;
+        this.parents[source] = -1;
+        this.cursors[source] = offsets[source];
+        this.stack[top++] = source;
+        visitor.discover(source, -1);
+
+        while (top > 0) {
+            int u = this.stack[top - 1];
+            if (this.cursors[u] < offsets[u + 1]) {
+                int e = this.cursors[u]++;
+                int v = targets[e];
+                if (this.states[v] == TraversalContext.WHITE) {
+                    this.states[v] = TraversalContext.GRAY;
+                    this.parents[v] = u;
+                    this.cursors[v] = offsets[v];
+                    this.stack[top++] = v;
+                    visitor.discover(v, u);
+                    visitor.edge(u, v, e, true);
+                } else {
+                    visitor.edge(u, v, e, false);
+                }
+            } else {
+                top--;
+                this.states[u] = TraversalContext.BLACK;
+                visitor.finish(u, this.parents[u]);
+            }
+        }
+    }
+
+    /**
+     * Method: query - Answers a DFS query: searches from a vertex and leaves in the context the state, the parent and the discovery and finishing times of every vertex.
+     * @param graph The graph to be searched.
+     * @param source The id of the vertex where the search starts.
+     * @param context A context reset for the vertices of the graph.
+     */
+    static void query(GraphCompressedSparseRow<?> graph, int source, TraversalContext context) {
+        new DepthFirstSearch(graph, context).search(source, new Timestamps(context));
+    }
+
+    /**
+     * Method: isDiscovered - Checks if a search has reached a vertex.
+     * @param vertex The id of the vertex.
+     * @return boolean - true if the vertex was discovered, false otherwise.
+     */
+    public boolean isDiscovered(int vertex) {
+        return this.states[vertex] != TraversalContext.WHITE;
+    }
+
+    /**
+     * Class name: Timestamps
+     * General Description: A visitor that writes the discovery and finishing times of the vertices into a query context, as the DFS queries of the graphs report them.
+     */
+    private static final class Timestamps implements Visitor {
+        private final TraversalContext context;
+
+        /**
+         * Method: Timestamps - Creates a visitor for a context.
+         * @param context The context that receives the times.
+         */
+        Timestamps(TraversalContext context) {
+            this.context = context;
+        }
+
+        /**
+         * Method: discover - Gives the vertex the next time of the clock as its discovery time.
+         * @param vertex The id of the vertex.
+         * @param parent The id of the vertex it was reached from, or -1 for a root.
+         */
+        @Override
+        public void discover(int vertex, int parent) {
+            this.context.getDiscoveryTimes()[vertex] = this.context.nextTime();
+        }
+
+        /**
+         * Method: edge - Nothing is recorded for an edge.
+         * @param source The id of the vertex the edge leaves.
+         * @param target The id of the vertex the edge enters.
+         * @param edge The position of the edge in the targets array of the graph.
+         * @param tree true if the edge discovered the target, false otherwise.
+         */
+        @Override
+        public void edge(int source, int target, int edge, boolean tree) {
+        }
+
+        /**
+         * Method: finish - Gives the vertex the next time of the clock as its finishing time.
+         * @param vertex The id of the vertex.
+         * @param parent The id of the vertex it was reached from, or -1 for a root.
+         */
+        @Override
+        public void finish(int vertex, int parent) {
+            this.context.getFinishingTimes()[vertex] = this.context.nextTime();
+        }
+    }
+}
@@ -0,0 +1,359 @@
+package graph;
+
+import java.util.*;
+
+/**
+ * Class name: DynamicSpanningForest
+ * General Description: A minimum spanning forest that is kept up to date while edges are inserted, removed or change weight, instead of being computed again from scratch. An inserted edge closes a cycle in the forest; it replaces the heaviest edge of that cycle if it is lighter, which is found by walking the tree path between its endpoints. When a tree edge is removed, the lightest edge that reconnects both halves is searched among the non-tree edges, which are kept sorted by weight. Every update only walks one tree of the forest and, for removals, the non-tree edges up to the replacement, far less than a full Kruskal run. The direction of the edges is ignored and there is at most one edge between two vertices.
+ */
+public class DynamicSpanningForest<T> {
+    private final Map<T, Integer> ids;
+    private final ArrayList<T> values;
+    private final ArrayList<Map<Integer, ForestEdge>> tree;
+    private final Map<Long, ForestEdge> edges;
+    private final TreeSet<ForestEdge> nonTreeEdges;
+    private int[] marks;
+    private int[] parents;
+    private int stamp;
+    private long totalWeight;
+    private int treeEdgeCount;
+
+    /**
+     * Method: DynamicSpanningForest - Creates an empty forest.
+     */
+    public DynamicSpanningForest() {
+        this.ids = new HashMap<>();
+        this.values = new ArrayList<>();
+        this.tree = new ArrayList<>();
+        this.edges = new HashMap<>();
+        this.nonTreeEdges = new TreeSet<>();
+        this.marks = new int[16];
+        this.parents = new int[16];
+    }
+
+    /**
+     * Method: build - Creates the forest of a graph, starting from the forest found by Kruskal's algorithm.
+     * @param graph The graph whose forest is kept.
+     * @return DynamicSpanningForest<T> - The forest of the graph.
+     */
+    public static <T> DynamicSpanningForest<T> build(IGraph<T> graph) {
+        DynamicSpanningForest<T> forest = new DynamicSpanningForest<>();
+        GraphCompressedSparseRow<T> snapshot = graph.snapshot();
+        for (Vertex<T> vertex : snapshot.getVertices()) {
+            forest.addVertex(vertex.getValue());
+        }
+        for (Edge<T> edge : MinimumSpanningForest.kruskal(snapshot)) {
+            forest.link(forest.newEdge(forest.ids.get(edge.getSource()), forest.ids.get(edge.getDestination()), edge.getWeight()));
+        }
+
+        int[] offsets = snapshot.getOffsets();
+        int[] targets = snapshot.getTargets();
+        int[] weights = snapshot.getWeights();
+        for (int u = 0; u < offsets.length - 1; u++) {
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int v = targets[e];
+                if (u != v && !forest.edges.containsKey(key(u, v))) {
+                    forest.nonTreeEdges.add(forest.newEdge(u, v, weights[e]));
+                } else if (u != v && graph.isDirected()) {
+                    ForestEdge existing = forest.edges.get(key(u, v));
+                    if (!existing.inTree && weights[e] < existing.weight) {
+                        forest.nonTreeEdges.remove(existing);
+                        existing.weight = weights[e];
+                        forest.nonTreeEdges.add(existing);
+                    }
+                }
+            }
+        }
+        return forest;
+    }
+
+    /**
+     * Method: addVertex - Adds an isolated vertex to the forest.
+     * @param vertex The value of the vertex to be added.
+     */
+    public void addVertex(T vertex) {
+        if (this.ids.putIfAbsent(vertex, this.values.size()) != null) {
+            throw new IllegalArgumentException("Vertex already exists " + vertex);
+        }
+        this.values.add(vertex);
+        this.tree.add(new HashMap<>());
+        if (this.values.size() > this.marks.length) {
+            this.marks = Arrays.copyOf(this.marks, this.marks.length * 2);
+            this.parents = Arrays.copyOf(this.parents, this.parents.length * 2);
+        }
+    }
+
+    /**
+     * Method: insertEdge - Adds an edge between two vertices, or changes its weight if it already exists. If the edge closes a cycle in the forest, it replaces the heaviest edge of the cycle when it is lighter than it.
+     * @param source The first vertex of the edge.
+     * @param destination The second vertex of the edge.
+     * @param weight The weight of the edge.
+     */
+    public void insertEdge(T source, T destination, int weight) {
+        int u = index(source);
+        int v = index(destination);
+        if (u == v) {
+            return;
+        }
+        if (this.edges.containsKey(key(u, v))) {
+            updateWeight(source, destination, weight);
+            return;
+        }
+        insert(newEdge(u, v, weight));
+    }
+
+    /**
+     * Method: removeEdge - Removes the edge between two vertices. If it was a tree edge, the lightest edge that reconnects both parts of its tree takes its place.
+     * @param source The first vertex of the edge.
+     * @param destination The second vertex of the edge.
+     */
+    public void removeEdge(T source, T destination) {
+        ForestEdge edge = this.edges.remove(key(index(source), index(destination)));
+        if (edge == null) {
+            throw new IllegalArgumentException("Edge does not exist");
+        }
+        if (edge.inTree) {
+            cut(edge);
+            reconnect(edge.u);
+        } else {
+            this.nonTreeEdges.remove(edge);
+        }
+    }
+
+    /**
+     * Method: updateWeight - Changes the weight of the edge between two vertices. A lighter tree edge or a heavier non-tree edge keeps the forest as it is; otherwise the edge is removed and inserted again.
+     * @param source The first vertex of the edge.
+     * @param destination The second vertex of the edge.
+     * @param weight The new weight of the edge.
+     */
+    public void updateWeight(T source, T destination, int weight) {
+        int u = index(source);
+        int v = index(destination);
+        ForestEdge edge = this.edges.get(key(u, v));
+        if (edge == null) {
+            throw new IllegalArgumentException("Edge does not exist");
+        }
+
+        if (edge.inTree && weight <= edge.weight) {
+            this.totalWeight += (long) weight - edge.weight;
+            edge.weight = weight;
+        } else if (!edge.inTree && weight >= edge.weight) {
+            this.nonTreeEdges.remove(edge);
+            edge.weight = weight;
+            this.nonTreeEdges.add(edge);
+        } else {
+            removeEdge(source, destination);
+            insert(newEdge(u, v, weight));
+        }
+    }
+
+    /**
+     * Method: getEdges - Returns the edges of the forest.
+     * @return List<Edge<T>> - The tree edges, each one from the vertex with the smaller id.
+     */
+    public List<Edge<T>> getEdges() {
+        List<Edge<T>> result = new ArrayList<>(this.treeEdgeCount);
+        for (int u = 0; u < this.tree.size(); u++) {
+            for (ForestEdge edge : this.tree.get(u).values()) {
+                if (edge.u == u) {
+                    result.add(new Edge<>(this.values.get(edge.u), this.values.get(edge.v), edge.weight));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Method: contains - Checks if the edge between two vertices is part of the forest.
+     * @param source The first vertex of the edge.
+     * @param destination The second vertex of the edge.
+     * @return boolean - true if the edge is a tree edge, false otherwise.
+     */
+    public boolean contains(T source, T destination) {
+        ForestEdge edge = this.edges.get(key(index(source), index(destination)));
+        return edge != null && edge.inTree;
+    }
+
+    /**
+     * Method: getTotalWeight - Returns the sum of the weights of the tree edges.
+     * @return long - The weight of the forest.
+     */
+    public long getTotalWeight() {
+        return this.totalWeight;
+    }
+
+    /**
+     * Method: getEdgeCount - Returns the number of tree edges.
+     * @return int - The number of edges of the forest.
+     */
+    public int getEdgeCount() {
+        return this.treeEdgeCount;
+    }
+
+    /**
+     * Method: insert - Adds a new edge, replacing the heaviest edge of the cycle it closes if it is lighter.
+     * @param edge The edge to be inserted.
+     */
+    private void insert(ForestEdge edge) {
+        if (!findPath(edge.u, edge.v)) {
+            link(edge);
+            return;
+        }
+
+        ForestEdge heaviest = null;
+        for (int x = edge.v; x != edge.u; x = this.parents[x]) {
+            ForestEdge step = this.tree.get(x).get(this.parents[x]);
+            if (heaviest == null || step.weight > heaviest.weight) {
+                heaviest = step;
+            }
+        }
+
+        if (edge.weight < heaviest.weight) {
+            cut(heaviest);
+            this.nonTreeEdges.add(heaviest);
+            link(edge);
+        } else {
+            this.nonTreeEdges.add(edge);
+        }
+    }
+
+    /**
+     * Method: reconnect - After a tree edge is cut, marks the part of the tree that holds a vertex and makes the lightest non-tree edge that leaves that part a tree edge.
+     * @param vertex A vertex of one of both parts.
+     */
+    private void reconnect(int vertex) {
+        findPath(vertex, -1);
+        int mark = this.stamp;
+        for (ForestEdge edge : this.nonTreeEdges) {
+            if ((this.marks[edge.u] == mark) != (this.marks[edge.v] == mark)) {
+                this.nonTreeEdges.remove(edge);
+                link(edge);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Method: findPath - Walks the tree that holds a vertex from that vertex, marking every vertex reached with a new stamp and storing its parent, until the target is found.
+     * @param from The vertex where the walk starts.
+     * @param to The vertex to be found, or -1 to walk the whole tree.
+     * @return boolean - true if the target is in the same tree, false otherwise.
+     */
+    private boolean findPath(int from, int to) {
+        int mark = ++this.stamp;
+        ArrayDeque<Integer> stack = new ArrayDeque<>();
+        this.marks[from] = mark;
+        this.parents[from] = -1;
+        stack.push(from);
+        while (!stack.isEmpty()) {
+            int x = stack.pop();
+            if (x == to) {
+                return true;
+            }
+            for (int y : this.tree.get(x).keySet()) {
+                if (this.marks[y] != mark) {
+                    this.marks[y] = mark;
+                    this.parents[y] = x;
+                    stack.push(y);
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Method: link - Makes an edge a tree edge.
+     * @param edge The edge.
+     */
+    private void link(ForestEdge edge) {
+        edge.inTree = true;
+        this.tree.get(edge.u).put(edge.v, edge);
+        this.tree.get(edge.v).put(edge.u, edge);
+        this.totalWeight += edge.weight;
+        this.treeEdgeCount++;
+    }
+
+    /**
+     * Method: cut - Removes an edge from the tree, without deleting it.
+     * @param edge The edge.
+     */
+    private void cut(ForestEdge edge) {
+        edge.inTree = false;
+        this.tree.get(edge.u).remove(edge.v);
+        this.tree.get(edge.v).remove(edge.u);
+        this.totalWeight -= edge.weight;
+        this.treeEdgeCount--;
+    }
+
+    /**
+     * Method: newEdge - Creates an edge and registers it by its pair of vertices.
+     * @param u The id of the first vertex.
+     * @param v The id of the second vertex.
+     * @param weight The weight of the edge.
+     * @return ForestEdge - The new edge, not in the tree yet.
+     */
+    private ForestEdge newEdge(int u, int v, int weight) {
+        ForestEdge edge = new ForestEdge(Math.min(u, v), Math.max(u, v), weight);
+        this.edges.put(key(u, v), edge);
+        return edge;
+    }
+
+    /**
+     * Method: index - Returns the id of a vertex.
+     * @param vertex The value of the vertex.
+     * @return int - The id of the vertex.
+     */
+    private int index(T vertex) {
+        Integer id = this.ids.get(vertex);
+        if (id == null) {
+            throw new IllegalArgumentException("Vertex does not exist");
+        }
+        return id;
+    }
+
+    /**
+     * Method: key - Packs the ids of both vertices of an edge into one long, the smaller one first.
+     * @param u The id of one vertex.
+     * @param v The id of the other vertex.
+     * @return long - The key of the edge.
+     */
+    private static long key(int u, int v) {
+        return ((long) Math.min(u, v) << 32) | Math.max(u, v);
+    }
+
+    /**
+     * Class name: ForestEdge
+     * General Description: An edge of the forest by the ids of its vertices, ordered by weight and then by its vertices.
+     */
+    private static class ForestEdge implements Comparable<ForestEdge> {
+        private final int u;
+        private final int v;
+        private int weight;
+        private boolean inTree;
+
+        /**
+         * Method: ForestEdge - Creates an edge.
+         */
+        ForestEdge(int u, int v, int weight) {
+            this.u = u;
+            this.v = v;
+            this.weight = weight;
+        }
+
+        /**
+         * Method: compareTo - Compares two edges by weight and then by their vertices.
+         * @param o The edge to compare with.
+         * @return int - A negative number, zero or a positive number if this edge goes before, with or after the other one.
+         */
+        @Override
+        public int compareTo(ForestEdge o) {
+            if (this.weight != o.weight) {
+                return Integer.compare(this.weight, o.weight);
+            }
+            if (this.u != o.u) {
+                return Integer.compare(this.u, o.u);
+            }
+            return Integer.compare(this.v, o.v);
+        }
+    }
+}
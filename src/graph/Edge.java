@@ -0,0 +1,105 @@
+package graph;
+
+import java.util.Objects;
+
+/**
+ * Class name: Edge
+ * General Description: This class represents a weighted edge of a graph by the values of its two vertices. An edge may carry a secondary weight too; if it is not given it is the same as the weight.
+ */
+public class Edge<T> {
+    private final T source;
+    private final T destination;
+    private final int weight;
+    private final int secondaryWeight;
+
+    /**
+     * Method: Edge - Creates an edge between two vertices with a given weight.
+     * @param source The origin vertex of the edge.
+     * @param destination The target vertex of the edge.
+     * @param weight The weight of the edge.
+     */
+    public Edge(T source, T destination, int weight) {
+        this(source, destination, weight, weight);
+    }
+
+    /**
+     * Method: Edge - Creates an edge between two vertices with two weights.
+     * @param source The origin vertex of the edge.
+     * @param destination The target vertex of the edge.
+     * @param weight The primary weight of the edge.
+     * @param secondaryWeight The secondary weight of the edge.
+     */
+    public Edge(T source, T destination, int weight, int secondaryWeight) {
+        this.source = source;
+        this.destination = destination;
+        this.weight = weight;
+        this.secondaryWeight = secondaryWeight;
+    }
+
+    /**
+     * Method: getSource - Returns the origin vertex of the edge.
+     * @return T - The origin vertex.
+     */
+    public T getSource() {
+        return this.source;
+    }
+
+    /**
+     * Method: getDestination - Returns the target vertex of the edge.
+     * @return T - The target vertex.
+     */
+    public T getDestination() {
+        return this.destination;
+    }
+
+    /**
+     * Method: getWeight - Returns the weight of the edge.
+     * @return int - The weight of the edge.
+     */
+    public int getWeight() {
+        return this.weight;
+    }
+
+    /**
+     * Method: getSecondaryWeight - Returns the secondary weight of the edge.
+     * @return int - The secondary weight of the edge.
+     */
+    public int getSecondaryWeight() {
+        return this.secondaryWeight;
+    }
+
+    /**
+     * Method: equals - Two edges are equal if they have the same vertices, in the same order, and the same weights.
+     * @param o The object to compare with.
+     * @return boolean - true if both edges are equal, false otherwise.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Edge)) {
+            return false;
+        }
+        Edge<?> edge = (Edge<?>) o;
+        return this.weight == edge.weight && this.secondaryWeight == edge.secondaryWeight && Objects.equals(this.source, edge.source) && Objects.equals(this.destination, edge.destination);
+    }
+
+    /**
+     * Method: hashCode - Returns a hash code consistent with equals.
+     * @return int - The hash code of the edge.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.source, this.destination, this.weight, this.secondaryWeight);
+    }
+
+    /**
+     * Method: toString - Returns a string representation of the edge.
+     * @return String - The source, weight and destination of the edge.
+     */
+    @Override
+    public String toString() {
+        return this.source + " --> " + this.weight + " --> " + this.destination;
+    }
+}
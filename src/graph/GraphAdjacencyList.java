@@ -1,15 +1,20 @@
 package graph;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Class name: GraphAdjacencyList
  * General Description: This class represents a weighted graph using adjacency lists. It provides methods for adding vertices and edges, performing BFS and DFS paths, finding the shortest paths, and computing minimum spanning trees, among other operations.
  */
 public class GraphAdjacencyList<T> implements IGraph<T> {
+    private final VertexRegistry<T, Vertex_List<T>> registry;
     private final ArrayList<Vertex_List<T>> vertices;
     private final boolean directed;
-    private int time;
+    private final TraversalContextPool pool;
+    private int version;
+    private GraphCompressedSparseRow<T> snapshot;
+    private int snapshotVersion;
 
     /**
      * Method: GraphAdjacencyList - Creates an instance of the GraphAdjacencyList class with the specified configuration.
@@ -17,8 +22,10 @@ public class GraphAdjacencyList<T> implements IGraph<T> {
      * @param directed The directed parameter indicates whether the network is directed (true) or undirected (false).
      */
     public GraphAdjacencyList(boolean directed) {
-        this.vertices = new ArrayList<>();
+        this.registry = new VertexRegistry<>();
+        this.vertices = this.registry.getVertices();
         this.directed = directed;
+        this.pool = new TraversalContextPool();
     }
 
     /**
@@ -28,11 +35,8 @@ public class GraphAdjacencyList<T> implements IGraph<T> {
      */
     @Override
     public void addVertex(T vertex) {
-        if (getVertex(vertex) != null) {
-            throw new IllegalArgumentException("Vertex already exists " + vertex);
-        }
-
-        this.vertices.add(new Vertex_List<>(vertex));
+        this.registry.add(new Vertex_List<>(vertex));
+        this.version++;
     }
 
     /**
@@ -44,6 +48,19 @@ public class GraphAdjacencyList<T> implements IGraph<T> {
      */
     @Override
     public void addEdge(T source, T destination, int weight) {
+        addEdge(source, destination, weight, weight);
+    }
+
+    /**
+     * Method: addEdge - Adds an edge between two vertices with a primary and a secondary weight.
+     *
+     * @param source          The vertex of origin of the edge.
+     * @param destination     The target vertex of the edge.
+     * @param weight          The primary weight of the edge.
+     * @param secondaryWeight The secondary weight of the edge.
+     */
+    @Override
+    public void addEdge(T source, T destination, int weight, int secondaryWeight) {
         Vertex_List<T> vertexList1 = getVertex(source);
         Vertex_List<T> vertexList2 = getVertex(destination);
 
@@ -55,28 +72,95 @@ public class GraphAdjacencyList<T> implements IGraph<T> {
             throw new IllegalArgumentException("Edge already exists");
         }
 
-        vertexList1.addAdjacent(vertexList2, weight);
+        vertexList1.addAdjacent(vertexList2, weight, secondaryWeight);
         if (!this.directed) {
-            vertexList2.addAdjacent(vertexList1, weight);
+            vertexList2.addAdjacent(vertexList1, weight, secondaryWeight);
+        }
+        this.version++;
+    }
+
+    /**
+     * Method: addVertices - Adds a batch of new vertices to the network. The batch is checked once before any vertex is added, so a repeated or an existing vertex leaves the network unchanged.
+     *
+     * @param vertices The vertices to be added to the network.
+     */
+    @Override
+    public void addVertices(Collection<? extends T> vertices) {
+        List<Vertex_List<T>> batch = new ArrayList<>(vertices.size());
+        for (T vertex : vertices) {
+            batch.add(new Vertex_List<>(vertex));
+        }
+        this.registry.addAll(batch);
+        this.version++;
+    }
+
+    /**
+     * Method: addEdges - Adds a batch of edges, each one with its primary and secondary weight. Every edge is checked before any of them is added, so a missing vertex or a repeated or existing edge leaves the network unchanged.
+     *
+     * @param edges The edges to be added.
+     */
+    @Override
+    public void addEdges(Collection<? extends Edge<T>> edges) {
+        List<Vertex_List<T>> sources = new ArrayList<>(edges.size());
+        List<Vertex_List<T>> destinations = new ArrayList<>(edges.size());
+        Set<Long> seen = new HashSet<>(edges.size() * 2);
+        for (Edge<T> edge : edges) {
+            Vertex_List<T> u = getVertex(edge.getSource());
+            Vertex_List<T> v = getVertex(edge.getDestination());
+            if (u == null || v == null) {
+                throw new IllegalArgumentException("Vertex does not exist " + edge.getSource() + " " + edge.getDestination());
+            }
+            if (u.getAdjacent().containsKey(v) || !seen.add(edgeKey(u.getIndex(), v.getIndex()))) {
+                throw new IllegalArgumentException("Edge already exists");
+            }
+            sources.add(u);
+            destinations.add(v);
+        }
+
+        int i = 0;
+        for (Edge<T> edge : edges) {
+            sources.get(i).addAdjacent(destinations.get(i), edge.getWeight(), edge.getSecondaryWeight());
+            if (!this.directed) {
+                destinations.get(i).addAdjacent(sources.get(i), edge.getWeight(), edge.getSecondaryWeight());
+            }
+            i++;
+        }
+        this.version++;
+    }
+
+    /**
+     * Method: edgeKey - Packs the ids of the vertices of an edge into one long. The ids of an undirected edge are ordered, so both directions have the same key.
+     *
+     * @param u The id of the origin vertex.
+     * @param v The id of the target vertex.
+     * @return long - The key of the edge.
+     */
+    private long edgeKey(int u, int v) {
+        if (!this.directed && u > v) {
+            return ((long) v << 32) | u;
         }
+        return ((long) u << 32) | v;
     }
 
     /**
-     * Method: removeVertex - Removes a vertex and all its associated edges from the graph.
+     * Method: removeVertex - Removes a vertex and all its associated edges from the graph. Only the vertices connected to it are visited, through its adjacent and incoming vertices, and the last vertex takes its id.
      *
      * @param vertex The vertex to be removed from the network.
      */
     @Override
     public void removeVertex(T vertex) {
-        Vertex_List<T> v = getVertex(vertex);
+        Vertex_List<T> v = this.registry.remove(vertex);
         if (v == null) {
             throw new IllegalArgumentException("Vertex does not exist");
         }
 
-        this.vertices.remove(v);
-        for (Vertex_List<T> u : this.vertices) {
+        for (Vertex_List<T> u : new ArrayList<>(v.getIncoming())) {
             u.removeAdjacent(v);
         }
+        for (Vertex_List<T> w : new ArrayList<>(v.getAdjacent().keySet())) {
+            v.removeAdjacent(w);
+        }
+        this.version++;
     }
 
     /**
@@ -101,129 +185,280 @@ public class GraphAdjacencyList<T> implements IGraph<T> {
         if (!this.directed) {
             vertexList2.removeAdjacent(vertexList1);
         }
+        this.version++;
     }
 
     /**
-     * Method: BFS - Performs a BFS (Breadth-First Search) path from a given source vertex.
+     * Method: BFS - Performs a BFS (Breadth-First Search) path from a given source vertex and stores the result in the fields of the vertices.
      * @param source The source vertex from which the BFS path starts.
      */
     @Override
     public void BFS(T source) {
+        try (TraversalContext context = queryBFS(source)) {
+            applyContext(context);
+        }
+    }
+
+    /**
+     * Method: queryBFS - Performs a BFS (Breadth-First Search) path from a given source vertex and stores the result in a pooled TraversalContext, without changing the vertices. The caller must close the returned context.
+     * @param source The source vertex from which the BFS path starts.
+     * @return TraversalContext - The distances (in edges), parents and states of the vertices.
+     */
+    @Override
+    public TraversalContext queryBFS(T source) {
         Vertex_List<T> s = getVertex(source);
         if (s == null) {
             throw new IllegalArgumentException("Vertex does not exist");
         }
 
-        for (Vertex_List<T> u : this.vertices) {
-            if (!u.equals(s)) {
-                u.setColor("white");
-                u.setDistance(Integer.MAX_VALUE);
-                u.setParent(null);
+        TraversalContext context = this.pool.acquire(this.vertices.size());
+        int[] distance = context.getDistances();
+        int[] parent = context.getParents();
+        byte[] state = context.getStates();
+        int[] queue = context.getQueue();
+        int head = 0;
+        int tail = 0;
+
+        state[s.getIndex()] = TraversalContext.GRAY;
+        distance[s.getIndex()] = 0;
+        queue[tail++] = s.getIndex();
+
+        while (head < tail) {
+            int u = queue[head++];
+            for (Vertex_List<T> v : this.vertices.get(u).getAdjacent().keySet()) {
+                int i = v.getIndex();
+                if (state[i] == TraversalContext.WHITE) {
+                    state[i] = TraversalContext.GRAY;
+                    distance[i] = distance[u] + 1;
+                    parent[i] = u;
+                    queue[tail++] = i;
+                }
             }
+            state[u] = TraversalContext.BLACK;
         }
 
-        s.setColor("gray");
-        s.setDistance(0);
-        s.setParent(null);
+        return context;
+    }
 
-        Queue<Vertex_List<T>> queue = new LinkedList<>();
-        queue.offer(s);
+    /**
+     * Method: queryParallelBFS - Performs a level-synchronous BFS from a given source vertex over a snapshot of the network on the common ForkJoinPool. Distances are the same as the ones of queryBFS, but when a vertex has several parents at the same level any of them may be reported. The caller must close the returned context.
+     * @param source The source vertex from which the BFS path starts.
+     * @return TraversalContext - The number of edges to every reachable vertex and a parent on a shortest path.
+     */
+    public TraversalContext queryParallelBFS(T source) {
+        return queryParallelBFS(source, ForkJoinPool.commonPool());
+    }
 
-        while (!queue.isEmpty()) {
-            Vertex_List<T> u = queue.poll();
-            for (Vertex_List<T> v : u.getAdjacent().keySet()) {
-                if (v.getColor().equals("white")) {
-                    v.setColor("gray");
-                    v.setDistance(u.getDistance() + 1);
-                    v.setParent(u);
-                    queue.add(v);
-                }
-            }
-            u.setColor("black");
+    /**
+     * Method: queryParallelBFS - Performs a level-synchronous BFS from a given source vertex over a snapshot of the network on the given pool. The caller must close the returned context.
+     * @param source The source vertex from which the BFS path starts.
+     * @param forkJoinPool The pool where the levels are expanded.
+     * @return TraversalContext - The number of edges to every reachable vertex and a parent on a shortest path.
+     */
+    public TraversalContext queryParallelBFS(T source, ForkJoinPool forkJoinPool) {
+        Vertex_List<T> s = getVertex(source);
+        if (s == null) {
+            throw new IllegalArgumentException("Vertex does not exist");
         }
+
+        GraphCompressedSparseRow<T> graph = snapshot();
+        TraversalContext context = this.pool.acquire(graph.getVertices().size());
+        ParallelBreadthFirstSearch.search(graph, s.getIndex(), context, forkJoinPool);
+        return context;
     }
 
     /**
-     * Method: DFS - performs a DFS (Depth-First Search) path from a given source vertex.
+     * Method: DFS - performs a DFS (Depth-First Search) path from a given source vertex and stores the result in the fields of the vertices.
      * @param source The source vertex from which the DFS path starts.
      */
     @Override
     public void DFS(T source) {
+        try (TraversalContext context = queryDFS(source)) {
+            applyContext(context);
+        }
+    }
+
+    /**
+     * Method: queryDFS - performs a DFS (Depth-First Search) path from a given source vertex with the iterative DepthFirstSearch over the compressed snapshot of the network, whose ids are the ids of this graph, and stores the result in a pooled TraversalContext, without changing the vertices. The caller must close the returned context.
+     * @param source The source vertex from which the DFS path starts.
+     * @return TraversalContext - The discovery times, finishing times, parents and states of the vertices.
+     */
+    @Override
+    public TraversalContext queryDFS(T source) {
         Vertex_List<T> s = getVertex(source);
         if (s == null) {
             throw new IllegalArgumentException("Vertex does not exist");
         }
 
+        TraversalContext context = this.pool.acquire(this.vertices.size());
+        DepthFirstSearch.query(snapshot(), s.getIndex(), context);
+        return context;
+    }
+
+    /**
+     * Method: dijkstra - Find the shortest path from a given source vertex to all other vertices using Dijkstra's algorithm.
+     * @param source The source vertex from which Dijkstra's algorithm starts.
+     * @return 'Map <Vertex<T>, Vertex<T>>' Returns a map containing the preceding vertices on the shortest path from the source vertex to each of the other vertices.
+     */
+    @Override
+    public Map<Vertex<T>, Vertex<T>> dijkstra(T source) {
+        try (TraversalContext context = queryDijkstra(source)) {
+            applyContext(context);
+        }
+
+        Map<Vertex<T>, Vertex<T>> previous = new HashMap<>();
         for (Vertex_List<T> u : this.vertices) {
-            u.setColor("white");
-            u.setParent(null);
+            previous.put(u, u.getParent());
         }
 
-        this.time = 0;
+        return previous;
+    }
 
-        DFSVisit(s);
+    /**
+     * Method: queryDijkstra - Find the shortest path from a given source vertex to all other vertices using Dijkstra's algorithm and store the result in a pooled TraversalContext, without changing the vertices. The caller must close the returned context.
+     * @param source The source vertex from which Dijkstra's algorithm starts.
+     * @return TraversalContext - The shortest distances and the preceding vertices of the vertices.
+     */
+    @Override
+    public TraversalContext queryDijkstra(T source) {
+        return queryDijkstra(source, WeightChannel.PRIMARY);
     }
 
     /**
-     * Method: DFSVisit - This method performs a recursive DFS visit from a given starting vertex. It marks the starting vertex as visited ("gray"), updates its discovery time, and then iterates over adjacent unvisited vertices. For each adjacent unvisited vertex, it sets its parent as the start vertex and makes a recursive call to DFSVisit with that vertex as the start. After visiting all adjacent vertices, it marks the starting vertex as completed ("black") and updates its completion time.
-     * @param start The starting vertex from which the DFS visit is made.
+     * Method: queryDijkstra - Find the shortest path from a given source vertex to all other vertices using Dijkstra's algorithm on the selected weight and store the result in a pooled TraversalContext. The caller must close the returned context.
+     * @param source The source vertex from which Dijkstra's algorithm starts.
+     * @param channel The weight to minimize.
+     * @return TraversalContext - The shortest distances and the preceding vertices of the vertices.
      */
-    private void DFSVisit(Vertex_List<T> start) {
-        this.time++;
-        start.setDiscoveryTime(this.time);
-        start.setColor("gray");
+    @Override
+    public TraversalContext queryDijkstra(T source, WeightChannel channel) {
+        Vertex_List<T> s = getVertex(source);
+
+        if (s == null) {
+            throw new IllegalArgumentException("Vertex does not exist");
+        }
+
+        TraversalContext context = this.pool.acquire(this.vertices.size());
+        int[] distance = context.getDistances();
+        int[] parent = context.getParents();
+        byte[] state = context.getStates();
+        IndexedMinHeap queue = context.getHeap();
 
-        for (Vertex_List<T> u : start.getAdjacent().keySet()) {
-            if (u.getColor().equals("white")) {
-                u.setParent(start);
-                DFSVisit(u);
+        distance[s.getIndex()] = 0;
+        queue.insert(s.getIndex(), 0);
+
+        while (!queue.isEmpty()) {
+            int u = queue.poll();
+            state[u] = TraversalContext.BLACK;
+            for (Map.Entry<Vertex_List<T>, Integer> entry : this.vertices.get(u).getAdjacent(channel).entrySet()) {
+                int v = entry.getKey().getIndex();
+                int alt = distance[u] + entry.getValue();
+                if (state[v] != TraversalContext.BLACK && alt < distance[v]) {
+                    distance[v] = alt;
+                    parent[v] = u;
+                    if (queue.contains(v)) {
+                        queue.decreaseKey(v, alt);
+                    } else {
+                        state[v] = TraversalContext.GRAY;
+                        queue.insert(v, alt);
+                    }
+                }
             }
         }
 
-        start.setColor("black");
-        this.time++;
-        start.setFinishingTime(this.time);
+        return context;
     }
 
     /**
-     * Method: dijkstra - Find the shortest path from a given source vertex to all other vertices using Dijkstra's algorithm.
-     * @param source The source vertex from which Dijkstra's algorithm starts.
-     * @return 'Map <Vertex<T>, Vertex<T>>' Returns a map containing the preceding vertices on the shortest path from the source vertex to each of the other vertices.
+     * Method: queryAStar - Find the shortest path from a source vertex to a destination vertex using the A* search, which explores the vertices in order of their distance plus the heuristic estimate to the destination and stops when the destination is settled. The result is stored in a pooled TraversalContext, without changing the vertices. The caller must close the returned context.
+     * @param source The source vertex from which the search starts.
+     * @param destination The destination vertex where the search stops.
+     * @param heuristic A lower bound on the remaining weight to the destination.
+     * @return TraversalContext - The distances and the preceding vertices found by the search. The vertices that were settled are black.
      */
     @Override
-    public Map<Vertex<T>, Vertex<T>> dijkstra(T source) {
-        Vertex<T> s = getVertex(source);
+    public TraversalContext queryAStar(T source, T destination, Heuristic heuristic) {
+        return queryAStar(source, destination, heuristic, WeightChannel.PRIMARY);
+    }
 
-        if (s == null) {
+    /**
+     * Method: queryAStar - Find the shortest path from a source vertex to a destination vertex on the selected weight using the A* search. The heuristic must be a lower bound for that weight. The caller must close the returned context.
+     * @param source The source vertex from which the search starts.
+     * @param destination The destination vertex where the search stops.
+     * @param heuristic A lower bound on the remaining weight to the destination.
+     * @param channel The weight to minimize.
+     * @return TraversalContext - The distances and the preceding vertices found by the search. The vertices that were settled are black.
+     */
+    @Override
+    public TraversalContext queryAStar(T source, T destination, Heuristic heuristic, WeightChannel channel) {
+        Vertex_List<T> s = getVertex(source);
+        Vertex_List<T> d = getVertex(destination);
+
+        if (s == null || d == null) {
             throw new IllegalArgumentException("Vertex does not exist");
         }
 
-        Map<Vertex<T>, Vertex<T>> previous = new HashMap<>();
-        PriorityQueue<Vertex_List<T>> queue = new PriorityQueue<>(Comparator.comparingInt(Vertex_List::getDistance));
-        s.setDistance(0);
+        TraversalContext context = this.pool.acquire(this.vertices.size());
+        int[] distance = context.getDistances();
+        int[] parent = context.getParents();
+        byte[] state = context.getStates();
+        IndexedMinHeap queue = context.getHeap();
+        int t = d.getIndex();
 
-        for (Vertex_List<T> u : this.vertices) {
-            if (!u.equals(s)) {
-                u.setDistance(Integer.MAX_VALUE);
-            }
-            previous.put(u, null);
-            queue.add(u);
-        }
+        distance[s.getIndex()] = 0;
+        queue.insert(s.getIndex(), heuristic.estimate(s.getIndex(), t));
 
         while (!queue.isEmpty()) {
-            Vertex_List<T> u = queue.poll();
-            for (Vertex_List<T> v : u.getAdjacent().keySet()) {
-                int alt = u.getDistance() + u.getAdjacent().get(v);
-                if (alt < v.getDistance()) {
-                    v.setDistance(alt);
-                    previous.put(v, u);
-                    queue.remove(v);
-                    queue.add(v);
+            int u = queue.poll();
+            state[u] = TraversalContext.BLACK;
+            if (u == t) {
+                break;
+            }
+            for (Map.Entry<Vertex_List<T>, Integer> entry : this.vertices.get(u).getAdjacent(channel).entrySet()) {
+                int v = entry.getKey().getIndex();
+                int alt = distance[u] + entry.getValue();
+                if (alt < distance[v]) {
+                    distance[v] = alt;
+                    parent[v] = u;
+                    int key = alt + heuristic.estimate(v, t);
+                    if (queue.contains(v)) {
+                        queue.decreaseKey(v, key);
+                    } else {
+                        state[v] = TraversalContext.GRAY;
+                        queue.insert(v, key);
+                    }
                 }
             }
         }
 
-        return previous;
+        return context;
+    }
+
+    /**
+     * Method: shortestPath - Finds the shortest path between two vertices with the A* search guided by the given heuristic.
+     * @param source The origin vertex.
+     * @param destination The target vertex.
+     * @param heuristic A lower bound on the remaining weight to the destination.
+     * @return Path<T> - The shortest path, or null if the destination cannot be reached from the source.
+     */
+    @Override
+    public Path<T> shortestPath(T source, T destination, Heuristic heuristic) {
+        return shortestPath(source, destination, heuristic, WeightChannel.PRIMARY);
+    }
+
+    /**
+     * Method: shortestPath - Finds the shortest path between two vertices on the selected weight with the A* search guided by the given heuristic.
+     * @param source The origin vertex.
+     * @param destination The target vertex.
+     * @param heuristic A lower bound on the remaining weight to the destination.
+     * @param channel The weight to minimize.
+     * @return Path<T> - The shortest path, or null if the destination cannot be reached from the source.
+     */
+    @Override
+    public Path<T> shortestPath(T source, T destination, Heuristic heuristic, WeightChannel channel) {
+        try (TraversalContext context = queryAStar(source, destination, heuristic, channel)) {
+            return Path.fromContext(this, context, getIndex(destination));
+        }
     }
 
     /**
@@ -249,8 +484,8 @@ public class GraphAdjacencyList<T> implements IGraph<T> {
         for (int i = 0; i < this.vertices.size(); i++) {
             Vertex_List<T> u = this.vertices.get(i);
             for (Vertex_List<T> v : u.getAdjacent().keySet()) {
-                dist[i][this.vertices.indexOf(v)] = u.getAdjacent().get(v);
-                prev[i][this.vertices.indexOf(v)] = u;
+                dist[i][v.getIndex()] = u.getAdjacent().get(v);
+                prev[i][v.getIndex()] = u;
             }
         }
 
@@ -272,61 +507,219 @@ public class GraphAdjacencyList<T> implements IGraph<T> {
     }
 
     /**
-     * Method: prim - Find the minimum spanning tree using Prim's algorithm.
+     * Method: allPairsShortestPaths - Finds the shortest paths between all pairs of vertices on a snapshot of the network, choosing between the parallel blocked Floyd-Warshall algorithm and one parallel Dijkstra per source from the edge density.
+     * @return AllPairsShortestPaths<T> - The distance and next hop tables, indexed by vertex id.
+     */
+    @Override
+    public AllPairsShortestPaths<T> allPairsShortestPaths() {
+        return allPairsShortestPaths(AllPairsStrategy.AUTO);
+    }
+
+    /**
+     * Method: allPairsShortestPaths - Finds the shortest paths between all pairs of vertices on a snapshot of the network with the given strategy.
+     * @param strategy FLOYD_WARSHALL, DIJKSTRA (one Dijkstra per source) or AUTO to pick one from the edge density.
+     * @return AllPairsShortestPaths<T> - The distance and next hop tables, indexed by vertex id.
+     */
+    @Override
+    public AllPairsShortestPaths<T> allPairsShortestPaths(AllPairsStrategy strategy) {
+        return AllPairsShortestPaths.compute(snapshot(), strategy);
+    }
+
+    /**
+     * Method: prim - Find the minimum spanning tree using Prim's algorithm and store the result in the fields of the vertices.
      * @param source The source vertex from which the Prim algorithm starts.
      */
     @Override
     public void prim(T source) {
+        try (TraversalContext context = queryPrim(source)) {
+            applyContext(context);
+        }
+    }
+
+    /**
+     * Method: queryPrim - Find the minimum spanning tree using Prim's algorithm and store it in a pooled TraversalContext, without changing the vertices. The distance of every vertex is the weight of the edge that connects it to its parent. The caller must close the returned context.
+     * @param source The source vertex from which the Prim algorithm starts.
+     * @return TraversalContext - The parents and tree edge weights of the vertices.
+     */
+    @Override
+    public TraversalContext queryPrim(T source) {
+        return queryPrim(source, WeightChannel.PRIMARY);
+    }
+
+    /**
+     * Method: queryPrim - Find the minimum spanning tree on the selected weight using Prim's algorithm and store it in a pooled TraversalContext. The caller must close the returned context.
+     * @param source The source vertex from which the Prim algorithm starts.
+     * @param channel The weight to minimize.
+     * @return TraversalContext - The parents and tree edge weights of the vertices.
+     */
+    @Override
+    public TraversalContext queryPrim(T source, WeightChannel channel) {
         Vertex_List<T> s = getVertex(source);
 
         if (s == null) {
             throw new IllegalArgumentException("Vertex does not exist");
         }
 
-        for (Vertex_List<T> u : this.vertices) {
-            u.setDistance(Integer.MAX_VALUE);
-            u.setParent(null);
-            u.setColor("white");
-        }
-
-        s.setDistance(0);
-        s.setParent(null);
+        TraversalContext context = this.pool.acquire(this.vertices.size());
+        int[] distance = context.getDistances();
+        int[] parent = context.getParents();
+        byte[] state = context.getStates();
+        IndexedMinHeap queue = context.getHeap();
 
-        PriorityQueue<Vertex_List<T>> queue = new PriorityQueue<>(Comparator.comparingInt(Vertex_List::getDistance));
-        queue.addAll(this.vertices);
+        distance[s.getIndex()] = 0;
+        for (int i = 0; i < this.vertices.size(); i++) {
+            queue.insert(i, distance[i]);
+        }
 
         while (!queue.isEmpty()) {
-            Vertex_List<T> u = queue.poll();
-            for (Vertex_List<T> v : u.getAdjacent().keySet()) {
-                if (queue.contains(v) && u.getAdjacent().get(v) < v.getDistance()) {
-                    v.setParent(u);
-                    v.setDistance(u.getAdjacent().get(v));
-                    queue.remove(v);
-                    queue.add(v);
+            int u = queue.poll();
+            for (Map.Entry<Vertex_List<T>, Integer> entry : this.vertices.get(u).getAdjacent(channel).entrySet()) {
+                int v = entry.getKey().getIndex();
+                if (queue.contains(v) && entry.getValue() < distance[v]) {
+                    parent[v] = u;
+                    distance[v] = entry.getValue();
+                    queue.decreaseKey(v, entry.getValue());
                 }
             }
-            u.setColor("black");
+            state[u] = TraversalContext.BLACK;
+        }
+
+        return context;
+    }
+
+    /**
+     * Method: minimumSpanningForest - Finds the minimum spanning forest of the network, one minimum spanning tree for every connected part, without choosing a root.
+     * @return List<Edge<T>> - The edges of the forest.
+     */
+    @Override
+    public List<Edge<T>> minimumSpanningForest() {
+        return MinimumSpanningForest.compute(snapshot());
+    }
+
+    /**
+     * Method: minimumSpanningForest - Finds the minimum spanning forest of the network on the selected weight.
+     * @param channel The weight to minimize.
+     * @return List<Edge<T>> - The edges of the forest.
+     */
+    @Override
+    public List<Edge<T>> minimumSpanningForest(WeightChannel channel) {
+        return MinimumSpanningForest.compute(snapshot(channel));
+    }
+
+    /**
+     * Method: stronglyConnectedComponents - Finds the strongly connected components of the network, the groups of vertices that can all reach each other.
+     * @return int[] - The component of every vertex, indexed by id, numbered in reverse topological order.
+     */
+    @Override
+    public int[] stronglyConnectedComponents() {
+        return GraphConnectivity.stronglyConnectedComponents(snapshot());
+    }
+
+    /**
+     * Method: articulationPoints - Finds the vertices of an undirected network whose removal disconnects their part of it.
+     * @return List<T> - The articulation points, in id order.
+     */
+    @Override
+    public List<T> articulationPoints() {
+        return GraphConnectivity.articulationPoints(snapshot());
+    }
+
+    /**
+     * Method: bridges - Finds the edges of an undirected network whose removal disconnects their part of it.
+     * @return List<Edge<T>> - The bridges.
+     */
+    @Override
+    public List<Edge<T>> bridges() {
+        return GraphConnectivity.bridges(snapshot());
+    }
+
+    /**
+     * Method: connectedComponents - Finds the connected parts of the network in linear time. The direction of the edges of a directed network is ignored.
+     * @return ConnectedComponents - The component of every vertex, indexed by id, and the size of every component.
+     */
+    @Override
+    public ConnectedComponents connectedComponents() {
+        return ConnectedComponents.compute(snapshot());
+    }
+
+    /**
+     * Method: kShortestPaths - Finds the k shortest loopless paths between two vertices with Yen's algorithm, running the spur searches in parallel.
+     * @param source The origin vertex.
+     * @param destination The target vertex.
+     * @param k The number of paths.
+     * @return List<Path<T>> - At most k distinct paths, by increasing weight.
+     */
+    @Override
+    public List<Path<T>> kShortestPaths(T source, T destination, int k) {
+        return KShortestPaths.search(snapshot(), source, destination, k);
+    }
+
+    /**
+     * Method: kShortestPaths - Finds the k shortest loopless paths between two vertices on the selected weight.
+     * @param source The origin vertex.
+     * @param destination The target vertex.
+     * @param k The number of paths.
+     * @param channel The weight to minimize.
+     * @return List<Path<T>> - At most k distinct paths, by increasing weight.
+     */
+    @Override
+    public List<Path<T>> kShortestPaths(T source, T destination, int k, WeightChannel channel) {
+        return KShortestPaths.search(snapshot(channel), source, destination, k);
+    }
+
+    /**
+     * Method: constrainedShortestPath - Finds the route that minimizes one weight while the total of the other weight stays within a budget, for example the cheapest route within a number of minutes.
+     * @param source The origin vertex.
+     * @param destination The target vertex.
+     * @param objective The weight to minimize. The other weight is limited by the budget.
+     * @param budget The largest total allowed for the other weight.
+     * @return ParetoPath<T> - The route with both of its totals, or null if no route meets the budget.
+     */
+    @Override
+    public ParetoPath<T> constrainedShortestPath(T source, T destination, WeightChannel objective, int budget) {
+        return ConstrainedShortestPath.search(snapshot(), source, destination, objective, budget);
+    }
+
+    /**
+     * Method: applyContext - Copies the result of a query into the fields of the vertices, as the BFS, DFS, dijkstra and prim methods have always reported it.
+     * @param context The context holding the result of the query.
+     */
+    private void applyContext(TraversalContext context) {
+        for (Vertex_List<T> u : this.vertices) {
+            int i = u.getIndex();
+            u.setColor(context.getState(i) == TraversalContext.WHITE ? "white" : context.getState(i) == TraversalContext.GRAY ? "gray" : "black");
+            u.setDistance(context.getDistance(i));
+            u.setDiscoveryTime(context.getDiscoveryTime(i));
+            u.setFinishingTime(context.getFinishingTime(i));
+            u.setParent(context.getParent(i) == -1 ? null : this.vertices.get(context.getParent(i)));
         }
     }
 
     /**
-     * Method: getVertex - This method finds and returns the Vertex_List<T> object corresponding to the specified value. It goes through the list of vertices and compares the value of each vertex with the value provided. If it finds a vertex with the same value, it returns it. If no vertex with the specified value is found, it returns null.
+     * Method: getVertex - This method finds and returns the Vertex_List<T> object corresponding to the specified value, using the hash index of the vertex registry.
      * @param value The value of the vertex to be searched.
      * @return Vertex_List<T> - Returns the Vertex_List<T> object corresponding to the specified value if found. If no vertex with the specified value is found, returns null.
      */
+    @Override
     public Vertex_List<T> getVertex(T value) {
-        for (Vertex_List<T> vertexList : this.vertices) {
-            if (vertexList.getValue().equals(value)) {
-                return vertexList;
-            }
-        }
-        return null;
+        return this.registry.getVertex(value);
+    }
+
+    /**
+     * Method: getIndex - This method returns the id of the vertex with the specified value, which is also its position in the list of vertices.
+     * @param value The value of the vertex to be searched.
+     * @return int - Returns the id of the vertex, or -1 if no vertex with the specified value is found.
+     */
+    @Override
+    public int getIndex(T value) {
+        return this.registry.getIndex(value);
     }
 
     /**
      * Method: isDirected - This method returns a boolean value indicating whether the network is directed or not. It checks the directed attribute of the network and returns its value.
      * @return boolean - Returns true if the network is directed, and false if it is not.
      */
+    @Override
     public boolean isDirected() {
         return this.directed;
     }
@@ -335,20 +728,106 @@ public class GraphAdjacencyList<T> implements IGraph<T> {
      * Method: getVertices - This method returns the list of vertices of the network.
      * @return ArrayList<Vertex_List<T>> - Returns the list of vertices of the network as an ArrayList<Vertex_List<T>> object.
      */
+    @Override
     public ArrayList<Vertex_List<T>> getVertices() {
         return this.vertices;
     }
 
     /**
-     * Method: isConnected - This method checks if the network is connected. It goes through the list of vertices and checks if any vertex has no adjacent. If it finds any vertex with no adjacent, it returns false. If all vertices have at least one adjacent, it returns true.
-     * @return boolean - Returns true if the network is connected, that is, if all vertices have at least one adjacent. It returns false if there are any vertices with no adjacent vertices.
+     * Method: isConnected - This method checks if the network is connected, that is, if there is a path between all pairs of vertices in the network, ignoring the direction of the edges. It runs in linear time over the connected components.
+     * @return boolean - Returns true if the network is connected, otherwise it returns false.
      */
+    @Override
     public boolean isConnected() {
-        for (Vertex_List<T> vertexList : this.vertices) {
-            if (vertexList.getAdjacent().isEmpty()) {
-                return false;
-            }
+        return connectedComponents().isConnected();
+    }
+
+    /**
+     * Method: snapshot - This method returns an immutable compressed copy of the current network. Later changes to this graph are not seen by the copy, which can be queried safely from several threads. The copy is cached and only rebuilt after the network changes.
+     * @return GraphCompressedSparseRow<T> - A frozen copy of the network.
+     */
+    @Override
+    public synchronized GraphCompressedSparseRow<T> snapshot() {
+        if (this.snapshot == null || this.snapshotVersion != this.version) {
+            this.snapshot = GraphCompressedSparseRow.fromAdjacencyList(this);
+            this.snapshotVersion = this.version;
+        }
+        return this.snapshot;
+    }
+
+    /**
+     * Method: snapshot - This method returns an immutable compressed copy of the current network whose primary weight is the selected one.
+     * @param channel The weight the copy exposes as its primary weight.
+     * @return GraphCompressedSparseRow<T> - A frozen copy of the network.
+     */
+    @Override
+    public GraphCompressedSparseRow<T> snapshot(WeightChannel channel) {
+        return snapshot().withChannel(channel);
+    }
+
+    /**
+     * Method: getVersion - This method returns a counter that changes every time a vertex or an edge is added or removed.
+     * @return int - The version of the network.
+     */
+    @Override
+    public int getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Method: getWeight - This method returns the weight of the edge between two vertices.
+     * @param source The origin vertex of the edge.
+     * @param destination The target vertex of the edge.
+     * @return int - The weight of the edge.
+     */
+    @Override
+    public int getWeight(T source, T destination) {
+        return getWeight(source, destination, WeightChannel.PRIMARY);
+    }
+
+    /**
+     * Method: getWeight - This method returns the selected weight of the edge between two vertices.
+     * @param source The origin vertex of the edge.
+     * @param destination The target vertex of the edge.
+     * @param channel The weight to be returned.
+     * @return int - The weight of the edge.
+     */
+    @Override
+    public int getWeight(T source, T destination, WeightChannel channel) {
+        Vertex_List<T> u = getVertex(source);
+        Vertex_List<T> v = getVertex(destination);
+
+        if (u == null || v == null) {
+            throw new IllegalArgumentException("Vertex does not exist " + source + " " + destination);
+        }
+
+        Integer weight = u.getAdjacent(channel).get(v);
+        if (weight == null) {
+            throw new IllegalArgumentException("Edge does not exist");
         }
-        return true;
+        return weight;
+    }
+
+    /**
+     * Method: shortestPath - Finds the shortest path between two vertices with a bidirectional Dijkstra search on a snapshot of the network.
+     * @param source The origin vertex.
+     * @param destination The target vertex.
+     * @return Path<T> - The shortest path, or null if the destination cannot be reached from the source.
+     */
+    @Override
+    public Path<T> shortestPath(T source, T destination) {
+        return snapshot().shortestPath(source, destination);
+    }
+
+    /**
+     * Method: shortestPath - Finds the shortest path between two vertices on the selected weight with a bidirectional Dijkstra search on a snapshot of the network.
+     * @param source The origin vertex.
+     * @param destination The target vertex.
+     * @param channel The weight to minimize.
+     * @return Path<T> - The shortest path, or null if the destination cannot be reached from the source.
+     */
+    @Override
+    public Path<T> shortestPath(T source, T destination, WeightChannel channel) {
+        return snapshot(channel).shortestPath(source, destination);
     }
 }
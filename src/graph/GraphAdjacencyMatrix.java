@@ -4,22 +4,31 @@ import java.util.*;
 
 /**
  * Class name: GraphAdjacencyMatrix
- * General Description: An implementation of the IGraph<T> interface that represents a graph using an adjacency matrix.
+ * General Description: An implementation of the IGraph<T> interface that represents a graph using an adjacency matrix. The matrix is a single row-major long array whose rows are capacity entries long, so the entry of (i, j) is at i * capacity + j and a row is scanned over contiguous memory. The capacity doubles when it runs out, so adding n vertices copies the matrix only O(log n) times.
  */
 public class GraphAdjacencyMatrix<T> implements IGraph<T> {
+    private final VertexRegistry<T, Vertex_Matrix<T>> registry;
     private final ArrayList<Vertex_Matrix<T>> vertices;
-    private int[][] adjacencyMatrix;
+    private long[] adjacencyMatrix;
+    private int capacity;
     private final boolean directed;
-    private int time;
+    private final TraversalContextPool pool;
+    private int version;
+    private GraphCompressedSparseRow<T> snapshot;
+    private int snapshotVersion;
+    private BitMatrix bitMatrix;
+    private int bitMatrixVersion;
 
     /**
      * Method: GraphAdjacencyMatrix - Creates an instance of the GraphAdjacencyMatrix class.
      * @param directed A boolean value indicating whether the graph is directed (true) or undirected (false).
      */
     public GraphAdjacencyMatrix(boolean directed) {
-        this.vertices = new ArrayList<>();
-        this.adjacencyMatrix = new int[0][0];
+        this.registry = new VertexRegistry<>();
+        this.vertices = this.registry.getVertices();
+        this.adjacencyMatrix = new long[0];
         this.directed = directed;
+        this.pool = new TraversalContextPool();
     }
 
     /**
@@ -28,29 +37,47 @@ public class GraphAdjacencyMatrix<T> implements IGraph<T> {
      */
     @Override
     public void addVertex(T vertex) {
-        if (getVertex(vertex) != null) {
-            throw new IllegalArgumentException("Vertex already exists " + vertex);
-        }
-
-        vertices.add(new Vertex_Matrix<>(vertex));
-
-        int[][] newAdjacencyMatrix = new int[vertices.size()][vertices.size()];
+        registry.add(new Vertex_Matrix<>(vertex));
 
-        for (int i = 0; i < adjacencyMatrix.length; i++) {
-            System.arraycopy(adjacencyMatrix[i], 0, newAdjacencyMatrix[i], 0, adjacencyMatrix[i].length);
+        if (vertices.size() > capacity) {
+            grow(Math.max(4, capacity * 2));
         }
+        version++;
+    }
 
+    /**
+     * Method: grow - Moves the matrix to a larger buffer, keeping every entry in the same row and column.
+     * @param newCapacity The number of rows and columns of the new buffer.
+     */
+    private void grow(int newCapacity) {
+        long[] newAdjacencyMatrix = new long[newCapacity * newCapacity];
+        for (int i = 0; i < capacity; i++) {
+            System.arraycopy(adjacencyMatrix, i * capacity, newAdjacencyMatrix, i * newCapacity, capacity);
+        }
         this.adjacencyMatrix = newAdjacencyMatrix;
+        this.capacity = newCapacity;
     }
 
     /**
-     * Method: addEdge - Adds an edge to the network between the source vertex and the destination vertex.
+     * Method: addEdge - Adds an edge to the network between the source vertex and the destination vertex, with the same weight in both channels.
      * @param source The source vertex of the edge.
      * @param destination The destination vertex of the edge.
      * @param weight The weight or cost of the edge.
      */
     @Override
     public void addEdge(T source, T destination, int weight) {
+        addEdge(source, destination, weight, weight);
+    }
+
+    /**
+     * Method: addEdge - Adds an edge with two weights to the network between the source vertex and the destination vertex. Both weights are packed in one long of the matrix.
+     * @param source The source vertex of the edge.
+     * @param destination The destination vertex of the edge.
+     * @param weight The primary weight of the edge.
+     * @param secondaryWeight The secondary weight of the edge.
+     */
+    @Override
+    public void addEdge(T source, T destination, int weight, int secondaryWeight) {
         int sourceIndex = getIndex(source);
         int destinationIndex = getIndex(destination);
 
@@ -58,19 +85,75 @@ public class GraphAdjacencyMatrix<T> implements IGraph<T> {
             throw new IllegalArgumentException("Vertex does not exist " + source + " " + destination);
         }
 
-        if (adjacencyMatrix[sourceIndex][destinationIndex] != 0) {
+        if (adjacencyMatrix[sourceIndex * capacity + destinationIndex] != 0) {
             throw new IllegalArgumentException("Edge already exists");
         }
 
-        adjacencyMatrix[sourceIndex][destinationIndex] = weight;
+        long packed = WeightChannel.pack(weight, secondaryWeight);
+        adjacencyMatrix[sourceIndex * capacity + destinationIndex] = packed;
 
         if (!directed) {
-            adjacencyMatrix[destinationIndex][sourceIndex] = weight;
+            adjacencyMatrix[destinationIndex * capacity + sourceIndex] = packed;
         }
+        version++;
     }
 
     /**
-     * Method: removeVertex - Removes a vertex and all its associated edges from the network.
+     * Method: addVertices - Adds a batch of new vertices to the network. The batch is checked once before any vertex is added and the matrix grows at most once.
+     * @param vertices The vertices to be added to the network.
+     */
+    @Override
+    public void addVertices(Collection<? extends T> vertices) {
+        List<Vertex_Matrix<T>> batch = new ArrayList<>(vertices.size());
+        for (T vertex : vertices) {
+            batch.add(new Vertex_Matrix<>(vertex));
+        }
+        registry.addAll(batch);
+
+        if (this.vertices.size() > capacity) {
+            grow(Math.max(this.vertices.size(), Math.max(4, capacity * 2)));
+        }
+        version++;
+    }
+
+    /**
+     * Method: addEdges - Adds a batch of edges, each one with its primary and secondary weight. Every edge is checked before any of them is added, so a missing vertex or a repeated or existing edge leaves the network unchanged.
+     * @param edges The edges to be added.
+     */
+    @Override
+    public void addEdges(Collection<? extends Edge<T>> edges) {
+        int[] cells = new int[edges.size()];
+        Set<Integer> seen = new HashSet<>(edges.size() * 2);
+        int i = 0;
+        for (Edge<T> edge : edges) {
+            int sourceIndex = getIndex(edge.getSource());
+            int destinationIndex = getIndex(edge.getDestination());
+            if (sourceIndex == -1 || destinationIndex == -1) {
+                throw new IllegalArgumentException("Vertex does not exist " + edge.getSource() + " " + edge.getDestination());
+            }
+            int cell = !directed && sourceIndex > destinationIndex
+                    ? destinationIndex * capacity + sourceIndex
+                    : sourceIndex * capacity + destinationIndex;
+            if (adjacencyMatrix[cell] != 0 || !seen.add(cell)) {
+                throw new IllegalArgumentException("Edge already exists");
+            }
+            cells[i++] = cell;
+        }
+
+        i = 0;
+        for (Edge<T> edge : edges) {
+            long packed = WeightChannel.pack(edge.getWeight(), edge.getSecondaryWeight());
+            int cell = cells[i++];
+            adjacencyMatrix[cell] = packed;
+            if (!directed) {
+                adjacencyMatrix[(cell % capacity) * capacity + cell / capacity] = packed;
+            }
+        }
+        version++;
+    }
+
+    /**
+     * Method: removeVertex - Removes a vertex and all its associated edges from the network in O(n). The last vertex takes the id of the removed one, and its row and column are moved into the freed row and column.
      * @param vertex The vertex to be removed from the network.
      */
     @Override
@@ -81,22 +164,21 @@ public class GraphAdjacencyMatrix<T> implements IGraph<T> {
             throw new IllegalArgumentException("Vertex does not exist");
         }
 
-        vertices.remove(vertexIndex);
-
-        for (int i = 0; i < vertices.size(); i++) {
-            adjacencyMatrix[vertexIndex][i] = 0;
-            adjacencyMatrix[i][vertexIndex] = 0;
-        }
-
-        int[][] newAdjacencyMatrix = new int[vertices.size()][vertices.size()];
+        registry.remove(vertex);
 
-        for (int i = 0; i < vertices.size(); i++) {
-            for (int j = 0; j < vertices.size(); j++) {
-                newAdjacencyMatrix[i][j] = adjacencyMatrix[i][j];
+        // the last vertex took the freed id, so its row and column move into the freed ones
+        int last = vertices.size();
+        if (vertexIndex != last) {
+            System.arraycopy(adjacencyMatrix, last * capacity, adjacencyMatrix, vertexIndex * capacity, last + 1);
+            for (int i = 0; i <= last; i++) {
+                adjacencyMatrix[i * capacity + vertexIndex] = adjacencyMatrix[i * capacity + last];
             }
         }
-
-        this.adjacencyMatrix = newAdjacencyMatrix;
+        Arrays.fill(adjacencyMatrix, last * capacity, last * capacity + last + 1, 0);
+        for (int i = 0; i < last; i++) {
+            adjacencyMatrix[i * capacity + last] = 0;
+        }
+        version++;
     }
 
     /**
@@ -113,149 +195,314 @@ public class GraphAdjacencyMatrix<T> implements IGraph<T> {
             throw new IllegalArgumentException("Vertex does not exist " + vertex1 + " " + vertex2);
         }
 
-        if (adjacencyMatrix[vertex1Index][vertex2Index] == 0) {
+        if (adjacencyMatrix[vertex1Index * capacity + vertex2Index] == 0) {
             throw new IllegalArgumentException("Edge does not exist");
         }
 
-        adjacencyMatrix[vertex1Index][vertex2Index] = 0;
+        adjacencyMatrix[vertex1Index * capacity + vertex2Index] = 0;
 
         if (!directed) {
-            adjacencyMatrix[vertex2Index][vertex1Index] = 0;
+            adjacencyMatrix[vertex2Index * capacity + vertex1Index] = 0;
         }
+        version++;
     }
 
     /**
-     * Method: BFS - Performs a BFS (Breadth-First Search) path in the network starting from the specified starting vertex.
-     * @param source The starting vertex of the BFS path.
+     * Method: BFS - Performs a BFS (Breadth-First Search) path from a given source vertex and stores the result in the fields of the vertices.
+     * @param source The source vertex from which the BFS path starts.
      */
     @Override
     public void BFS(T source) {
-        Vertex_Matrix<T> vertex = getVertex(source);
+        try (TraversalContext context = queryBFS(source)) {
+            applyContext(context);
+        }
+    }
 
-        if (vertex == null) {
+    /**
+     * Method: queryBFS - Performs a BFS (Breadth-First Search) path from a given source vertex and stores the result in a pooled TraversalContext, without changing the vertices. The caller must close the returned context.
+     * @param source The source vertex from which the BFS path starts.
+     * @return TraversalContext - The distances (in edges), parents and states of the vertices.
+     */
+    @Override
+    public TraversalContext queryBFS(T source) {
+        Vertex_Matrix<T> s = getVertex(source);
+        if (s == null) {
             throw new IllegalArgumentException("Vertex does not exist");
         }
 
-        for (Vertex_Matrix<T> v : vertices) {
-            if (!v.equals(vertex)) {
-                v.setColor("White");
-                v.setDistance(Integer.MAX_VALUE);
-                v.setParent(null);
+        TraversalContext context = pool.acquire(vertices.size());
+        int[] distance = context.getDistances();
+        int[] parent = context.getParents();
+        byte[] state = context.getStates();
+        int[] queue = context.getQueue();
+        int head = 0;
+        int tail = 0;
+
+        state[s.getIndex()] = TraversalContext.GRAY;
+        distance[s.getIndex()] = 0;
+        queue[tail++] = s.getIndex();
+
+        while (head < tail) {
+            int u = queue[head++];
+            int row = u * capacity;
+            for (int i = 0; i < vertices.size(); i++) {
+                if (adjacencyMatrix[row + i] != 0 && state[i] == TraversalContext.WHITE) {
+                    state[i] = TraversalContext.GRAY;
+                    distance[i] = distance[u] + 1;
+                    parent[i] = u;
+                    queue[tail++] = i;
+                }
             }
+            state[u] = TraversalContext.BLACK;
+        }
+
+        return context;
+    }
+
+    /**
+     * Method: queryHopBFS - Counts the edges from a source vertex to every other vertex with the direction-optimizing breadth first search over the rows of the network as bitsets. Distances are the same as the ones of queryBFS, but when a vertex has several parents at the same level any of them may be reported. The caller must close the returned context.
+     * @param source The source vertex from which the search starts.
+     * @return TraversalContext - The number of edges to every reachable vertex and a parent on a shortest path.
+     */
+    public TraversalContext queryHopBFS(T source) {
+        Vertex_Matrix<T> s = getVertex(source);
+        if (s == null) {
+            throw new IllegalArgumentException("Vertex does not exist");
         }
 
-        vertex.setColor("Gray");
-        vertex.setDistance(0);
-        vertex.setParent(null);
+        BitMatrix bits = bitMatrix();
+        TraversalContext context = pool.acquire(bits.size());
+        bits.breadthFirstSearch(s.getIndex(), context);
+        return context;
+    }
+
+    /**
+     * Method: getHops - Counts the connections needed to go from a source vertex to a destination vertex.
+     * @param source The origin vertex.
+     * @param destination The target vertex.
+     * @return int - The smallest number of edges from the source to the destination, or -1 if the destination cannot be reached.
+     */
+    public int getHops(T source, T destination) {
+        Vertex_Matrix<T> d = getVertex(destination);
+        if (d == null) {
+            throw new IllegalArgumentException("Vertex does not exist");
+        }
 
-        Queue<Vertex_Matrix<T>> queue = new LinkedList<>();
-        queue.offer(vertex);
+        try (TraversalContext context = queryHopBFS(source)) {
+            return context.isVisited(d.getIndex()) ? context.getDistance(d.getIndex()) : -1;
+        }
+    }
 
-        while (!queue.isEmpty()) {
-            Vertex_Matrix<T> u = queue.poll();
-            for (int i = 0; i < vertices.size(); i++) {
-                if (adjacencyMatrix[vertices.indexOf(u)][i] != 0) {
-                    Vertex_Matrix<T> v = vertices.get(i);
-                    if (v.getColor().equals("White")) {
-                        v.setColor("Gray");
-                        v.setDistance(u.getDistance() + 1);
-                        v.setParent(u);
-                        queue.offer(v);
-                    }
-                }
-            }
-            u.setColor("Black");
+    /**
+     * Method: bitMatrix - Returns the rows of the current network as bitsets. The bit matrix is cached and only rebuilt after the network changes.
+     * @return BitMatrix - A frozen bitset copy of the edges of the network.
+     */
+    public synchronized BitMatrix bitMatrix() {
+        if (this.bitMatrix == null || this.bitMatrixVersion != this.version) {
+            this.bitMatrix = BitMatrix.fromAdjacencyMatrix(this);
+            this.bitMatrixVersion = this.version;
         }
+        return this.bitMatrix;
     }
 
     /**
-     * Method: DFS - Performs a DFS (Depth-First Search) path in the network, starting from the origin vertex.
-     * @param source The value of the origin vertex.
+     * Method: DFS - performs a DFS (Depth-First Search) path from a given source vertex and stores the result in the fields of the vertices.
+     * @param source The source vertex from which the DFS path starts.
      */
     @Override
     public void DFS(T source) {
+        try (TraversalContext context = queryDFS(source)) {
+            applyContext(context);
+        }
+    }
+
+    /**
+     * Method: queryDFS - performs a DFS (Depth-First Search) path from a given source vertex with the iterative DepthFirstSearch over the compressed snapshot of the network, whose ids are the ids of this graph, and stores the result in a pooled TraversalContext, without changing the vertices. The caller must close the returned context.
+     * @param source The source vertex from which the DFS path starts.
+     * @return TraversalContext - The discovery times, finishing times, parents and states of the vertices.
+     */
+    @Override
+    public TraversalContext queryDFS(T source) {
         Vertex_Matrix<T> s = getVertex(source);
         if (s == null) {
             throw new IllegalArgumentException("Vertex does not exist");
         }
 
-        for (Vertex_Matrix<T> u : this.vertices) {
-            u.setColor("white");
-            u.setParent(null);
+        TraversalContext context = pool.acquire(vertices.size());
+        DepthFirstSearch.query(snapshot(), s.getIndex(), context);
+        return context;
+    }
+
+    /**
+     * Method: dijkstra - Find the shortest path from a given source vertex to all other vertices using Dijkstra's algorithm.
+     * @param source The source vertex from which Dijkstra's algorithm starts.
+     * @return 'Map <Vertex<T>, Vertex<T>>' Returns a map containing the preceding vertices on the shortest path from the source vertex to each of the other vertices.
+     */
+    @Override
+    public Map<Vertex<T>, Vertex<T>> dijkstra(T source) {
+        try (TraversalContext context = queryDijkstra(source)) {
+            applyContext(context);
         }
 
-        this.time = 0;
+        Map<Vertex<T>, Vertex<T>> previous = new HashMap<>();
+        for (Vertex_Matrix<T> u : vertices) {
+            previous.put(u, u.getParent());
+        }
 
-        DFSVisit(s);
+        return previous;
     }
 
     /**
-     * Method: DFSVisit - Performs a DFS (Depth-First Search) path by visiting the starting vertex and exploring all its adjacent vertices recursively. all its adjacent vertices recursively.
-     * @param start The starting vertex to perform the DFS path.
+     * Method: queryDijkstra - Find the shortest path from a given source vertex to all other vertices using Dijkstra's algorithm and store the result in a pooled TraversalContext, without changing the vertices. The caller must close the returned context.
+     * @param source The source vertex from which Dijkstra's algorithm starts.
+     * @return TraversalContext - The shortest distances and the preceding vertices of the vertices.
      */
-    private void DFSVisit(Vertex_Matrix<T> start) {
-        this.time++;
-        start.setDiscoveryTime(this.time);
-        start.setColor("gray");
+    @Override
+    public TraversalContext queryDijkstra(T source) {
+        return queryDijkstra(source, WeightChannel.PRIMARY);
+    }
 
-        for (int i = 0; i < vertices.size(); i++) {
-            if (adjacencyMatrix[vertices.indexOf(start)][i] != 0) {
-                Vertex_Matrix<T> v = vertices.get(i);
-                if (v.getColor().equals("white")) {
-                    v.setParent(start);
-                    DFSVisit(v);
+    /**
+     * Method: queryDijkstra - Find the shortest path from a given source vertex to all other vertices using Dijkstra's algorithm on the selected weight and store the result in a pooled TraversalContext. The caller must close the returned context.
+     * @param source The source vertex from which Dijkstra's algorithm starts.
+     * @param channel The weight to minimize.
+     * @return TraversalContext - The shortest distances and the preceding vertices of the vertices.
+     */
+    @Override
+    public TraversalContext queryDijkstra(T source, WeightChannel channel) {
+        Vertex_Matrix<T> s = getVertex(source);
+
+        if (s == null) {
+            throw new IllegalArgumentException("Vertex does not exist");
+        }
+
+        TraversalContext context = pool.acquire(vertices.size());
+        int[] distance = context.getDistances();
+        int[] parent = context.getParents();
+        byte[] state = context.getStates();
+        IndexedMinHeap queue = context.getHeap();
+
+        distance[s.getIndex()] = 0;
+        queue.insert(s.getIndex(), 0);
+
+        while (!queue.isEmpty()) {
+            int u = queue.poll();
+            state[u] = TraversalContext.BLACK;
+            int row = u * capacity;
+            for (int v = 0; v < vertices.size(); v++) {
+                if (adjacencyMatrix[row + v] == 0 || state[v] == TraversalContext.BLACK) {
+                    continue;
+                }
+                int alt = distance[u] + channel.unpack(adjacencyMatrix[row + v]);
+                if (alt < distance[v]) {
+                    distance[v] = alt;
+                    parent[v] = u;
+                    if (queue.contains(v)) {
+                        queue.decreaseKey(v, alt);
+                    } else {
+                        state[v] = TraversalContext.GRAY;
+                        queue.insert(v, alt);
+                    }
                 }
             }
         }
 
-        start.setColor("black");
-        this.time++;
-        start.setFinishingTime(this.time);
+        return context;
     }
 
     /**
-     * Method: dijkstra - Calculates the minimum distances from the source vertex to all other vertices using Dijkstra's algorithm. Returns a map containing each vertex and its parent vertex on the shortest path.
-     * @param source The source vertex from which the algorithm starts.
-     * @return Map<Vertex<T>, Vertex<T>> - A map containing each vertex and its respective parent on the shortest path.
+     * Method: queryAStar - Find the shortest path from a source vertex to a destination vertex using the A* search, which explores the vertices in order of their distance plus the heuristic estimate to the destination and stops when the destination is settled. The result is stored in a pooled TraversalContext, without changing the vertices. The caller must close the returned context.
+     * @param source The source vertex from which the search starts.
+     * @param destination The destination vertex where the search stops.
+     * @param heuristic A lower bound on the remaining weight to the destination.
+     * @return TraversalContext - The distances and the preceding vertices found by the search. The vertices that were settled are black.
      */
     @Override
-    public Map<Vertex<T>, Vertex<T>> dijkstra(T source) {
+    public TraversalContext queryAStar(T source, T destination, Heuristic heuristic) {
+        return queryAStar(source, destination, heuristic, WeightChannel.PRIMARY);
+    }
+
+    /**
+     * Method: queryAStar - Find the shortest path from a source vertex to a destination vertex on the selected weight using the A* search. The heuristic must be a lower bound for that weight. The caller must close the returned context.
+     * @param source The source vertex from which the search starts.
+     * @param destination The destination vertex where the search stops.
+     * @param heuristic A lower bound on the remaining weight to the destination.
+     * @param channel The weight to minimize.
+     * @return TraversalContext - The distances and the preceding vertices found by the search. The vertices that were settled are black.
+     */
+    @Override
+    public TraversalContext queryAStar(T source, T destination, Heuristic heuristic, WeightChannel channel) {
         Vertex_Matrix<T> s = getVertex(source);
-        if (s == null) {
-            throw new IllegalArgumentException("Vertex does not exist");
-        }
+        Vertex_Matrix<T> d = getVertex(destination);
 
-        for (Vertex_Matrix<T> u : this.vertices) {
-            u.setDistance(Integer.MAX_VALUE);
-            u.setParent(null);
+        if (s == null || d == null) {
+            throw new IllegalArgumentException("Vertex does not exist");
         }
 
-        s.setDistance(0);
+        TraversalContext context = pool.acquire(vertices.size());
+        int[] distance = context.getDistances();
+        int[] parent = context.getParents();
+        byte[] state = context.getStates();
+        IndexedMinHeap queue = context.getHeap();
+        int t = d.getIndex();
 
-        PriorityQueue<Vertex_Matrix<T>> queue = new PriorityQueue<>(Comparator.comparingInt(Vertex_Matrix::getDistance));
-        queue.offer(s);
+        distance[s.getIndex()] = 0;
+        queue.insert(s.getIndex(), heuristic.estimate(s.getIndex(), t));
 
         while (!queue.isEmpty()) {
-            Vertex_Matrix<T> u = queue.poll();
-            for (int i = 0; i < vertices.size(); i++) {
-                if (adjacencyMatrix[vertices.indexOf(u)][i] != 0) {
-                    Vertex_Matrix<T> v = vertices.get(i);
-                    if (v.getDistance() > u.getDistance() + adjacencyMatrix[vertices.indexOf(u)][i]) {
-                        v.setDistance(u.getDistance() + adjacencyMatrix[vertices.indexOf(u)][i]);
-                        v.setParent(u);
-                        queue.remove(v);
-                        queue.offer(v);
+            int u = queue.poll();
+            state[u] = TraversalContext.BLACK;
+            if (u == t) {
+                break;
+            }
+            int row = u * capacity;
+            for (int v = 0; v < vertices.size(); v++) {
+                if (adjacencyMatrix[row + v] == 0) {
+                    continue;
+                }
+                int alt = distance[u] + channel.unpack(adjacencyMatrix[row + v]);
+                if (alt < distance[v]) {
+                    distance[v] = alt;
+                    parent[v] = u;
+                    int key = alt + heuristic.estimate(v, t);
+                    if (queue.contains(v)) {
+                        queue.decreaseKey(v, key);
+                    } else {
+                        state[v] = TraversalContext.GRAY;
+                        queue.insert(v, key);
                     }
                 }
             }
         }
 
-        Map<Vertex<T>, Vertex<T>> map = new HashMap<>();
-        for (Vertex_Matrix<T> v : vertices) {
-            map.put(v, v.getParent());
-        }
+        return context;
+    }
 
-        return map;
+    /**
+     * Method: shortestPath - Finds the shortest path between two vertices with the A* search guided by the given heuristic.
+     * @param source The origin vertex.
+     * @param destination The target vertex.
+     * @param heuristic A lower bound on the remaining weight to the destination.
+     * @return Path<T> - The shortest path, or null if the destination cannot be reached from the source.
+     */
+    @Override
+    public Path<T> shortestPath(T source, T destination, Heuristic heuristic) {
+        return shortestPath(source, destination, heuristic, WeightChannel.PRIMARY);
+    }
+
+    /**
+     * Method: shortestPath - Finds the shortest path between two vertices on the selected weight with the A* search guided by the given heuristic.
+     * @param source The origin vertex.
+     * @param destination The target vertex.
+     * @param heuristic A lower bound on the remaining weight to the destination.
+     * @param channel The weight to minimize.
+     * @return Path<T> - The shortest path, or null if the destination cannot be reached from the source.
+     */
+    @Override
+    public Path<T> shortestPath(T source, T destination, Heuristic heuristic, WeightChannel channel) {
+        try (TraversalContext context = queryAStar(source, destination, heuristic, channel)) {
+            return Path.fromContext(this, context, getIndex(destination));
+        }
     }
 
     /**
@@ -269,8 +516,8 @@ public class GraphAdjacencyMatrix<T> implements IGraph<T> {
         Vertex_Matrix<T>[][] prev = new Vertex_Matrix[n][n];
 
         for (int i = 0; i < n; i++) {
-            dist[i] = adjacencyMatrix[i].clone();
             for (int j = 0; j < n; j++) {
+                dist[i][j] = WeightChannel.PRIMARY.unpack(adjacencyMatrix[i * capacity + j]);
                 if (dist[i][j] != 0) {
                     prev[i][j] = vertices.get(i);
                 }
@@ -278,108 +525,243 @@ public class GraphAdjacencyMatrix<T> implements IGraph<T> {
         }
 
         for (int k = 0; k < n; k++) {
-            int[][] dk = new int[n][n];
-            Vertex_Matrix<T>[][] pk = new Vertex_Matrix[n][n];
-
             for (int i = 0; i < n; i++) {
-                dk[i] = dist[i].clone();
-                pk[i] = prev[i].clone();
-            }
-
-            for (int i = 0; i < n; i++) {
-                if (i == k || dk[i][k] == 0) {
+                if (i == k || dist[i][k] == 0) {
                     continue;
                 }
                 for (int j = 0; j < n; j++) {
-                    if (j == k || dk[k][j] == 0) {
+                    if (j == k || dist[k][j] == 0) {
                         continue;
                     }
-                    if (dk[i][j] == 0 || dk[i][j] > dk[i][k] + dk[k][j]) {
-                        dk[i][j] = dk[i][k] + dk[k][j];
-                        pk[i][j] = pk[k][j];
+                    if (dist[i][j] == 0 || dist[i][j] > dist[i][k] + dist[k][j]) {
+                        dist[i][j] = dist[i][k] + dist[k][j];
+                        prev[i][j] = prev[k][j];
                     }
                 }
             }
-
-            dist = dk;
-            prev = pk;
         }
 
         return prev;
     }
 
     /**
-     * Method: prim - This method implements Prim's algorithm to find a minimum spanning tree in an undirected weighted graph.
-     * @param source The value of the source vertex from which the Prim algorithm will start.
+     * Method: allPairsShortestPaths - Finds the shortest paths between all pairs of vertices on a snapshot of the network, choosing between the parallel blocked Floyd-Warshall algorithm and one parallel Dijkstra per source from the edge density.
+     * @return AllPairsShortestPaths<T> - The distance and next hop tables, indexed by vertex id.
+     */
+    @Override
+    public AllPairsShortestPaths<T> allPairsShortestPaths() {
+        return allPairsShortestPaths(AllPairsStrategy.AUTO);
+    }
+
+    /**
+     * Method: allPairsShortestPaths - Finds the shortest paths between all pairs of vertices on a snapshot of the network with the given strategy.
+     * @param strategy FLOYD_WARSHALL, DIJKSTRA (one Dijkstra per source) or AUTO to pick one from the edge density.
+     * @return AllPairsShortestPaths<T> - The distance and next hop tables, indexed by vertex id.
+     */
+    @Override
+    public AllPairsShortestPaths<T> allPairsShortestPaths(AllPairsStrategy strategy) {
+        return AllPairsShortestPaths.compute(snapshot(), strategy);
+    }
+
+    /**
+     * Method: prim - Find the minimum spanning tree using Prim's algorithm and store the result in the fields of the vertices.
+     * @param source The source vertex from which the Prim algorithm starts.
      */
     @Override
     public void prim(T source) {
+        try (TraversalContext context = queryPrim(source)) {
+            applyContext(context);
+        }
+    }
+
+    /**
+     * Method: queryPrim - Find the minimum spanning tree using Prim's algorithm and store it in a pooled TraversalContext, without changing the vertices. The distance of every vertex is the weight of the edge that connects it to its parent. The caller must close the returned context.
+     * @param source The source vertex from which the Prim algorithm starts.
+     * @return TraversalContext - The parents and tree edge weights of the vertices.
+     */
+    @Override
+    public TraversalContext queryPrim(T source) {
+        return queryPrim(source, WeightChannel.PRIMARY);
+    }
+
+    /**
+     * Method: queryPrim - Find the minimum spanning tree on the selected weight using Prim's algorithm and store it in a pooled TraversalContext. The caller must close the returned context.
+     * @param source The source vertex from which the Prim algorithm starts.
+     * @param channel The weight to minimize.
+     * @return TraversalContext - The parents and tree edge weights of the vertices.
+     */
+    @Override
+    public TraversalContext queryPrim(T source, WeightChannel channel) {
         Vertex_Matrix<T> s = getVertex(source);
+
         if (s == null) {
             throw new IllegalArgumentException("Vertex does not exist");
         }
 
-        for (Vertex_Matrix<T> u : this.vertices) {
-            u.setDistance(Integer.MAX_VALUE);
-            u.setParent(null);
-            u.setColor("white");
-        }
-
-        s.setDistance(0);
-        s.setParent(null);
+        TraversalContext context = pool.acquire(vertices.size());
+        int[] distance = context.getDistances();
+        int[] parent = context.getParents();
+        byte[] state = context.getStates();
+        IndexedMinHeap queue = context.getHeap();
 
-        PriorityQueue<Vertex_Matrix<T>> queue = new PriorityQueue<>(Comparator.comparingInt(Vertex_Matrix::getDistance));
-        queue.addAll(this.vertices);
+        distance[s.getIndex()] = 0;
+        for (int i = 0; i < vertices.size(); i++) {
+            queue.insert(i, distance[i]);
+        }
 
         while (!queue.isEmpty()) {
-            Vertex_Matrix<T> u = queue.poll();
-            for (int i = 0; i < vertices.size(); i++) {
-                if (adjacencyMatrix[vertices.indexOf(u)][i] != 0) {
-                    Vertex_Matrix<T> v = vertices.get(i);
-                    if (queue.contains(v) && adjacencyMatrix[vertices.indexOf(u)][i] < v.getDistance()) {
-                        v.setDistance(adjacencyMatrix[vertices.indexOf(u)][i]);
-                        v.setParent(u);
-                        queue.remove(v);
-                        queue.offer(v);
-                    }
+            int u = queue.poll();
+            int row = u * capacity;
+            for (int v = 0; v < vertices.size(); v++) {
+                if (adjacencyMatrix[row + v] == 0 || !queue.contains(v)) {
+                    continue;
+                }
+                int weight = channel.unpack(adjacencyMatrix[row + v]);
+                if (weight < distance[v]) {
+                    parent[v] = u;
+                    distance[v] = weight;
+                    queue.decreaseKey(v, weight);
                 }
             }
-            u.setColor("black");
+            state[u] = TraversalContext.BLACK;
         }
+
+        return context;
+    }
+
+    /**
+     * Method: minimumSpanningForest - Finds the minimum spanning forest of the network, one minimum spanning tree for every connected part, without choosing a root.
+     * @return List<Edge<T>> - The edges of the forest.
+     */
+    @Override
+    public List<Edge<T>> minimumSpanningForest() {
+        return MinimumSpanningForest.compute(snapshot());
+    }
+
+    /**
+     * Method: minimumSpanningForest - Finds the minimum spanning forest of the network on the selected weight.
+     * @param channel The weight to minimize.
+     * @return List<Edge<T>> - The edges of the forest.
+     */
+    @Override
+    public List<Edge<T>> minimumSpanningForest(WeightChannel channel) {
+        return MinimumSpanningForest.compute(snapshot(channel));
     }
 
     /**
-     * Method: getIndex - This method searches for the index of a vertex in the list of vertices of the network.
+     * Method: stronglyConnectedComponents - Finds the strongly connected components of the network, the groups of vertices that can all reach each other.
+     * @return int[] - The component of every vertex, indexed by id, numbered in reverse topological order.
+     */
+    @Override
+    public int[] stronglyConnectedComponents() {
+        return GraphConnectivity.stronglyConnectedComponents(snapshot());
+    }
+
+    /**
+     * Method: articulationPoints - Finds the vertices of an undirected network whose removal disconnects their part of it.
+     * @return List<T> - The articulation points, in id order.
+     */
+    @Override
+    public List<T> articulationPoints() {
+        return GraphConnectivity.articulationPoints(snapshot());
+    }
+
+    /**
+     * Method: bridges - Finds the edges of an undirected network whose removal disconnects their part of it.
+     * @return List<Edge<T>> - The bridges.
+     */
+    @Override
+    public List<Edge<T>> bridges() {
+        return GraphConnectivity.bridges(snapshot());
+    }
+
+    /**
+     * Method: connectedComponents - Finds the connected parts of the network in linear time. The direction of the edges of a directed network is ignored.
+     * @return ConnectedComponents - The component of every vertex, indexed by id, and the size of every component.
+     */
+    @Override
+    public ConnectedComponents connectedComponents() {
+        return ConnectedComponents.compute(snapshot());
+    }
+
+    /**
+     * Method: kShortestPaths - Finds the k shortest loopless paths between two vertices with Yen's algorithm, running the spur searches in parallel.
+     * @param source The origin vertex.
+     * @param destination The target vertex.
+     * @param k The number of paths.
+     * @return List<Path<T>> - At most k distinct paths, by increasing weight.
+     */
+    @Override
+    public List<Path<T>> kShortestPaths(T source, T destination, int k) {
+        return KShortestPaths.search(snapshot(), source, destination, k);
+    }
+
+    /**
+     * Method: kShortestPaths - Finds the k shortest loopless paths between two vertices on the selected weight.
+     * @param source The origin vertex.
+     * @param destination The target vertex.
+     * @param k The number of paths.
+     * @param channel The weight to minimize.
+     * @return List<Path<T>> - At most k distinct paths, by increasing weight.
+     */
+    @Override
+    public List<Path<T>> kShortestPaths(T source, T destination, int k, WeightChannel channel) {
+        return KShortestPaths.search(snapshot(channel), source, destination, k);
+    }
+
+    /**
+     * Method: constrainedShortestPath - Finds the route that minimizes one weight while the total of the other weight stays within a budget, for example the cheapest route within a number of minutes.
+     * @param source The origin vertex.
+     * @param destination The target vertex.
+     * @param objective The weight to minimize. The other weight is limited by the budget.
+     * @param budget The largest total allowed for the other weight.
+     * @return ParetoPath<T> - The route with both of its totals, or null if no route meets the budget.
+     */
+    @Override
+    public ParetoPath<T> constrainedShortestPath(T source, T destination, WeightChannel objective, int budget) {
+        return ConstrainedShortestPath.search(snapshot(), source, destination, objective, budget);
+    }
+
+    /**
+     * Method: applyContext - Copies the result of a query into the fields of the vertices, as the BFS, DFS, dijkstra and prim methods have always reported it.
+     * @param context The context holding the result of the query.
+     */
+    private void applyContext(TraversalContext context) {
+        for (Vertex_Matrix<T> u : vertices) {
+            int i = u.getIndex();
+            u.setColor(context.getState(i) == TraversalContext.WHITE ? "white" : context.getState(i) == TraversalContext.GRAY ? "gray" : "black");
+            u.setDistance(context.getDistance(i));
+            u.setDiscoveryTime(context.getDiscoveryTime(i));
+            u.setFinishingTime(context.getFinishingTime(i));
+            u.setParent(context.getParent(i) == -1 ? null : vertices.get(context.getParent(i)));
+        }
+    }
+
+    /**
+     * Method: getIndex - This method returns the index of a vertex in the list of vertices of the network, using the hash index of the vertex registry.
      * @param vertex The value of the vertex to search for.
      * @return int - The index of the vertex in the vertex list, or -1 if the vertex is not in the list.
      */
-    private int getIndex(T vertex) {
-        for (int i = 0; i < vertices.size(); i++) {
-            if (vertices.get(i).getValue().equals(vertex)) {
-                return i;
-            }
-        }
-        return -1;
+    @Override
+    public int getIndex(T vertex) {
+        return registry.getIndex(vertex);
     }
 
     /**
-     * Method: getVertex - Returns the index of a vertex in the vertex list.
-     * @param vertex The vertex for which the index is sought.
-     * @return Vertex_Matrix<T> - The index of the vertex in the vertex list, or -1 if the vertex is not found in the list.
+     * Method: getVertex - Returns the vertex with the given value, using the hash index of the vertex registry.
+     * @param vertex The value of the vertex to search for.
+     * @return Vertex_Matrix<T> - The vertex with the given value, or null if the vertex is not found in the list.
      */
+    @Override
     public Vertex_Matrix<T> getVertex(T vertex) {
-        for (Vertex_Matrix<T> v : vertices) {
-            if (v.getValue().equals(vertex)) {
-                return v;
-            }
-        }
-        return null;
+        return registry.getVertex(vertex);
     }
 
     /**
      * Method: isDirected - This method returns a boolean value indicating whether the network is directed or undirected.
      * @return boolean - true if the network is directed, false if it is not.
      */
+    @Override
     public boolean isDirected() {
         return this.directed;
     }
@@ -388,33 +770,145 @@ public class GraphAdjacencyMatrix<T> implements IGraph<T> {
      * Method: getVertices - This method returns a list of all vertices present in the network.
      * @return ArrayList<Vertex_Matrix<T>> - List of network vertices.
      */
+    @Override
     public ArrayList<Vertex_Matrix<T>> getVertices() {
         return this.vertices;
     }
 
     /**
-     * Method: isConnected - This method checks if the network is connected, that is, if there is a path between all pairs of vertices in the network.
+     * Method: isConnected - This method checks if the network is connected, that is, if there is a path between all pairs of vertices in the network, ignoring the direction of the edges. It runs in linear time over the connected components.
      * @return boolean - Returns true if the network is connected, otherwise it returns false.
      */
+    @Override
     public boolean isConnected() {
-        for (Vertex_Matrix<T> v : vertices) {
-            for (int i = 0; i < vertices.size(); i++) {
-                if (adjacencyMatrix[vertices.indexOf(v)][i] != 0) {
-                    break;
-                }
-                if (i == vertices.size() - 1) {
-                    return false;
-                }
+        return connectedComponents().isConnected();
+    }
+
+    /**
+     * Method: getAdjacencyMatrix - This method returns the adjacency matrix of the network with the primary weights. The adjacency matrix represents the connections between the vertices of the network, where each entry in the matrix indicates the existence of an edge between two vertices.
+     * @return int[][] - A copy of the adjacency matrix of the network.
+     */
+    public int[][] getAdjacencyMatrix() {
+        return getAdjacencyMatrix(WeightChannel.PRIMARY);
+    }
+
+    /**
+     * Method: getAdjacencyMatrix - This method returns the adjacency matrix of the network with the selected weights.
+     * @param channel The weight to be copied.
+     * @return int[][] - A copy of the adjacency matrix of the network.
+     */
+    public int[][] getAdjacencyMatrix(WeightChannel channel) {
+        int n = vertices.size();
+        int[][] matrix = new int[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                matrix[i][j] = channel.unpack(adjacencyMatrix[i * capacity + j]);
             }
         }
-        return true;
+        return matrix;
     }
 
     /**
-     * Method: getAdjacencyMatrix - This method returns the adjacency matrix of the network. The adjacency matrix represents the connections between the vertices of the network, where each entry in the matrix indicates the existence of an edge between two vertices.
-     * @return int[][] - The adjacency matrix of the network.
+     * Method: getPackedMatrix - Returns the row-major matrix with both weights of every edge packed in one long, as built by WeightChannel.pack. The entry of (i, j) is at i * getCapacity() + j and an entry of 0 means there is no edge. The array must not be modified.
+     * @return long[] - The packed adjacency matrix.
      */
-    public int[][] getAdjacencyMatrix() {
+    long[] getPackedMatrix() {
         return this.adjacencyMatrix;
     }
+
+    /**
+     * Method: getCapacity - Returns the length of a row of the packed matrix, which is at least the number of vertices.
+     * @return int - The capacity of the matrix.
+     */
+    int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Method: snapshot - This method returns an immutable compressed copy of the current network. Later changes to this graph are not seen by the copy, which can be queried safely from several threads. The copy is cached and only rebuilt after the network changes.
+     * @return GraphCompressedSparseRow<T> - A frozen copy of the network.
+     */
+    @Override
+    public synchronized GraphCompressedSparseRow<T> snapshot() {
+        if (this.snapshot == null || this.snapshotVersion != this.version) {
+            this.snapshot = GraphCompressedSparseRow.fromAdjacencyMatrix(this);
+            this.snapshotVersion = this.version;
+        }
+        return this.snapshot;
+    }
+
+    /**
+     * Method: snapshot - This method returns an immutable compressed copy of the current network whose primary weight is the selected one.
+     * @param channel The weight the copy exposes as its primary weight.
+     * @return GraphCompressedSparseRow<T> - A frozen copy of the network.
+     */
+    @Override
+    public GraphCompressedSparseRow<T> snapshot(WeightChannel channel) {
+        return snapshot().withChannel(channel);
+    }
+
+    /**
+     * Method: getVersion - This method returns a counter that changes every time a vertex or an edge is added or removed.
+     * @return int - The version of the network.
+     */
+    @Override
+    public int getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Method: getWeight - This method returns the weight of the edge between two vertices.
+     * @param source The origin vertex of the edge.
+     * @param destination The target vertex of the edge.
+     * @return int - The weight of the edge.
+     */
+    @Override
+    public int getWeight(T source, T destination) {
+        return getWeight(source, destination, WeightChannel.PRIMARY);
+    }
+
+    /**
+     * Method: getWeight - This method returns the selected weight of the edge between two vertices.
+     * @param source The origin vertex of the edge.
+     * @param destination The target vertex of the edge.
+     * @param channel The weight to be returned.
+     * @return int - The weight of the edge.
+     */
+    @Override
+    public int getWeight(T source, T destination, WeightChannel channel) {
+        int sourceIndex = getIndex(source);
+        int destinationIndex = getIndex(destination);
+
+        if (sourceIndex == -1 || destinationIndex == -1) {
+            throw new IllegalArgumentException("Vertex does not exist " + source + " " + destination);
+        }
+
+        if (adjacencyMatrix[sourceIndex * capacity + destinationIndex] == 0) {
+            throw new IllegalArgumentException("Edge does not exist");
+        }
+        return channel.unpack(adjacencyMatrix[sourceIndex * capacity + destinationIndex]);
+    }
+
+    /**
+     * Method: shortestPath - Finds the shortest path between two vertices with a bidirectional Dijkstra search on a snapshot of the network.
+     * @param source The origin vertex.
+     * @param destination The target vertex.
+     * @return Path<T> - The shortest path, or null if the destination cannot be reached from the source.
+     */
+    @Override
+    public Path<T> shortestPath(T source, T destination) {
+        return snapshot().shortestPath(source, destination);
+    }
+
+    /**
+     * Method: shortestPath - Finds the shortest path between two vertices on the selected weight with a bidirectional Dijkstra search on a snapshot of the network.
+     * @param source The origin vertex.
+     * @param destination The target vertex.
+     * @param channel The weight to minimize.
+     * @return Path<T> - The shortest path, or null if the destination cannot be reached from the source.
+     */
+    @Override
+    public Path<T> shortestPath(T source, T destination, WeightChannel channel) {
+        return snapshot(channel).shortestPath(source, destination);
+    }
 }
@@ -0,0 +1,1053 @@
+package graph;
+
+import java.util.*;
+
+/**
+ * Class name: GraphCompressedSparseRow
+ * General Description: An immutable implementation of the IGraph<T> interface that stores the network in compressed sparse row form. Vertices are identified by dense int ids and the edges leaving vertex i are stored in targets[offsets[i]] .. targets[offsets[i + 1] - 1], with their weights in the parallel weights array. It is meant to be built once from a loaded network and then read many times. The query methods can be called from any number of threads; the BFS, DFS, dijkstra and prim methods keep their old behaviour of writing the result into the vertices, so they run one at a time and their result must not be read while another thread runs one of them on the same snapshot.
+ */
+public class GraphCompressedSparseRow<T> implements IGraph<T> {
+    private final VertexRegistry<T, Vertex_CSR<T>> registry;
+    private final ArrayList<Vertex_CSR<T>> vertices;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] weights;
+    private final int[] secondaryWeights;
+    private final boolean directed;
+    private final TraversalContextPool pool;
+    private volatile GraphCompressedSparseRow<T> transpose;
+    private volatile GraphCompressedSparseRow<T> swapped;
+
+    /**
+     * Method: GraphCompressedSparseRow - Creates an instance of the GraphCompressedSparseRow class from already compressed arrays.
+     * @param values The values of the vertices, in id order.
+     * @param offsets The offsets array, of length values.size() + 1.
+     * @param targets The destination id of every stored edge.
+     * @param weights The primary weight of every stored edge.
+     * @param secondaryWeights The secondary weight of every stored edge.
+     * @param directed A boolean value indicating whether the graph is directed (true) or undirected (false).
+     */
+    private GraphCompressedSparseRow(List<T> values, int[] offsets, int[] targets, int[] weights, int[] secondaryWeights, boolean directed) {
+        this.registry = new VertexRegistry<>();
+        this.vertices = this.registry.getVertices();
+        for (T value : values) {
+            this.registry.add(new Vertex_CSR<>(value));
+        }
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        this.secondaryWeights = secondaryWeights;
+        this.directed = directed;
+        this.pool = new TraversalContextPool();
+    }
+
+    /**
+     * Method: fromAdjacencyList - Builds a compressed sparse row graph with the same vertices, edges and weights as the given adjacency list graph. Vertex ids follow the order of the list of vertices.
+     * @param graph The adjacency list graph to be compressed.
+     * @return GraphCompressedSparseRow<T> - The compressed copy of the graph.
+     */
+    public static <T> GraphCompressedSparseRow<T> fromAdjacencyList(GraphAdjacencyList<T> graph) {
+        ArrayList<Vertex_List<T>> source = graph.getVertices();
+        int n = source.size();
+        List<T> values = new ArrayList<>(n);
+        int[] offsets = new int[n + 1];
+
+        for (int i = 0; i < n; i++) {
+            Vertex_List<T> u = source.get(i);
+            values.add(u.getValue());
+            offsets[i + 1] = offsets[i] + u.getAdjacent().size();
+        }
+
+        int[] targets = new int[offsets[n]];
+        int[] weights = new int[offsets[n]];
+        int[] secondaryWeights = new int[offsets[n]];
+        for (int i = 0; i < n; i++) {
+            int e = offsets[i];
+            Map<Vertex_List<T>, Integer> secondary = source.get(i).getAdjacent(WeightChannel.SECONDARY);
+            for (Map.Entry<Vertex_List<T>, Integer> entry : source.get(i).getAdjacent().entrySet()) {
+                targets[e] = entry.getKey().getIndex();
+                weights[e] = entry.getValue();
+                secondaryWeights[e] = secondary.get(entry.getKey());
+                e++;
+            }
+        }
+
+        return new GraphCompressedSparseRow<>(values, offsets, targets, weights, secondaryWeights, graph.isDirected());
+    }
+
+    /**
+     * Method: fromAdjacencyMatrix - Builds a compressed sparse row graph with the same vertices, edges and weights as the given adjacency matrix graph, scanning the matrix a single time. Vertex ids follow the order of the list of vertices.
+     * @param graph The adjacency matrix graph to be compressed.
+     * @return GraphCompressedSparseRow<T> - The compressed copy of the graph.
+     */
+    public static <T> GraphCompressedSparseRow<T> fromAdjacencyMatrix(GraphAdjacencyMatrix<T> graph) {
+        ArrayList<Vertex_Matrix<T>> source = graph.getVertices();
+        long[] matrix = graph.getPackedMatrix();
+        int capacity = graph.getCapacity();
+        int n = source.size();
+        List<T> values = new ArrayList<>(n);
+        int[] offsets = new int[n + 1];
+        int[] targets = new int[Math.max(n, 1)];
+        int[] weights = new int[targets.length];
+        int[] secondaryWeights = new int[targets.length];
+        int m = 0;
+
+        for (int i = 0; i < n; i++) {
+            values.add(source.get(i).getValue());
+            int row = i * capacity;
+            for (int j = 0; j < n; j++) {
+                long packed = matrix[row + j];
+                if (packed != 0) {
+                    if (m == targets.length) {
+                        targets = Arrays.copyOf(targets, m * 2);
+                        weights = Arrays.copyOf(weights, m * 2);
+                        secondaryWeights = Arrays.copyOf(secondaryWeights, m * 2);
+                    }
+                    targets[m] = j;
+                    weights[m] = WeightChannel.PRIMARY.unpack(packed);
+                    secondaryWeights[m] = WeightChannel.SECONDARY.unpack(packed);
+                    m++;
+                }
+            }
+            offsets[i + 1] = m;
+        }
+
+        return new GraphCompressedSparseRow<>(values, offsets, Arrays.copyOf(targets, m), Arrays.copyOf(weights, m), Arrays.copyOf(secondaryWeights, m), graph.isDirected());
+    }
+
+    /**
+     * Method: fromEdges - Builds a compressed sparse row graph from a list of vertices and parallel arrays of edges, for example as they are read from a connections file. In an undirected graph every edge is stored in both directions.
+     * @param values The values of the vertices, in id order.
+     * @param sources The source id of every edge.
+     * @param destinations The destination id of every edge.
+     * @param edgeWeights The weight of every edge.
+     * @param edgeCount The number of edges stored in the arrays.
+     * @param directed A boolean value indicating whether the graph is directed (true) or undirected (false).
+     * @return GraphCompressedSparseRow<T> - The compressed graph.
+     */
+    public static <T> GraphCompressedSparseRow<T> fromEdges(List<T> values, int[] sources, int[] destinations, int[] edgeWeights, int edgeCount, boolean directed) {
+        return fromEdges(values, sources, destinations, edgeWeights, edgeWeights, edgeCount, directed);
+    }
+
+    /**
+     * Method: fromEdges - Builds a compressed sparse row graph whose edges carry two weights, from a list of vertices and parallel arrays of edges. In an undirected graph every edge is stored in both directions.
+     * @param values The values of the vertices, in id order.
+     * @param sources The source id of every edge.
+     * @param destinations The destination id of every edge.
+     * @param edgeWeights The primary weight of every edge.
+     * @param secondaryEdgeWeights The secondary weight of every edge.
+     * @param edgeCount The number of edges stored in the arrays.
+     * @param directed A boolean value indicating whether the graph is directed (true) or undirected (false).
+     * @return GraphCompressedSparseRow<T> - The compressed graph.
+     */
+    public static <T> GraphCompressedSparseRow<T> fromEdges(List<T> values, int[] sources, int[] destinations, int[] edgeWeights, int[] secondaryEdgeWeights, int edgeCount, boolean directed) {
+        int n = values.size();
+        int[] offsets = new int[n + 1];
+
+        for (int e = 0; e < edgeCount; e++) {
+            if (sources[e] < 0 || sources[e] >= n || destinations[e] < 0 || destinations[e] >= n) {
+                throw new IllegalArgumentException("Vertex does not exist " + sources[e] + " " + destinations[e]);
+            }
+            offsets[sources[e] + 1]++;
+            if (!directed && sources[e] != destinations[e]) {
+                offsets[destinations[e] + 1]++;
+            }
+        }
+
+        for (int i = 0; i < n; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+
+        int[] next = Arrays.copyOf(offsets, n);
+        int[] targets = new int[offsets[n]];
+        int[] weights = new int[offsets[n]];
+        int[] secondaryWeights = new int[offsets[n]];
+        for (int e = 0; e < edgeCount; e++) {
+            int slot = next[sources[e]]++;
+            targets[slot] = destinations[e];
+            weights[slot] = edgeWeights[e];
+            secondaryWeights[slot] = secondaryEdgeWeights[e];
+            if (!directed && sources[e] != destinations[e]) {
+                slot = next[destinations[e]]++;
+                targets[slot] = sources[e];
+                weights[slot] = edgeWeights[e];
+                secondaryWeights[slot] = secondaryEdgeWeights[e];
+            }
+        }
+
+        return new GraphCompressedSparseRow<>(values, offsets, targets, weights, secondaryWeights, directed);
+    }
+
+    /**
+     * Method: addVertex - Not supported, the compressed graph is immutable.
+     * @param vertex The vertex to be added to the network.
+     */
+    @Override
+    public void addVertex(T vertex) {
+        throw new UnsupportedOperationException("Graph is immutable");
+    }
+
+    /**
+     * Method: addEdge - Not supported, the compressed graph is immutable.
+     * @param source The source vertex of the edge.
+     * @param destination The destination vertex of the edge.
+     * @param weight The weight of the edge.
+     */
+    @Override
+    public void addEdge(T source, T destination, int weight) {
+        throw new UnsupportedOperationException("Graph is immutable");
+    }
+
+    /**
+     * Method: addEdge - Not supported, the compressed graph is immutable.
+     * @param source The source vertex of the edge.
+     * @param destination The destination vertex of the edge.
+     * @param weight The primary weight of the edge.
+     * @param secondaryWeight The secondary weight of the edge.
+     */
+    @Override
+    public void addEdge(T source, T destination, int weight, int secondaryWeight) {
+        throw new UnsupportedOperationException("Graph is immutable");
+    }
+
+    /**
+     * Method: addVertices - The compressed graph is immutable.
+     * @param vertices The vertices that would be added.
+     */
+    @Override
+    public void addVertices(Collection<? extends T> vertices) {
+        throw new UnsupportedOperationException("Graph is immutable");
+    }
+
+    /**
+     * Method: addEdges - The compressed graph is immutable.
+     * @param edges The edges that would be added.
+     */
+    @Override
+    public void addEdges(Collection<? extends Edge<T>> edges) {
+        throw new UnsupportedOperationException("Graph is immutable");
+    }
+
+    /**
+     * Method: removeVertex - Not supported, the compressed graph is immutable.
+     * @param vertex The vertex to be removed from the network.
+     */
+    @Override
+    public void removeVertex(T vertex) {
+        throw new UnsupportedOperationException("Graph is immutable");
+    }
+
+    /**
+     * Method: removeEdge - Not supported, the compressed graph is immutable.
+     * @param vertex1 The source vertex of the edge.
+     * @param vertex2 The target vertex of the edge.
+     */
+    @Override
+    public void removeEdge(T vertex1, T vertex2) {
+        throw new UnsupportedOperationException("Graph is immutable");
+    }
+
+    /**
+     * Method: BFS - Performs a BFS (Breadth-First Search) path from a given source vertex over the compressed arrays and stores the result in the fields of the vertices.
+     * @param source The source vertex from which the BFS path starts.
+     */
+    @Override
+    public synchronized void BFS(T source) {
+        try (TraversalContext context = queryBFS(source)) {
+            applyContext(context);
+        }
+    }
+
+    /**
+     * Method: queryBFS - Performs a BFS (Breadth-First Search) path from a given source vertex and stores the result in a pooled TraversalContext, without changing the vertices. The caller must close the returned context.
+     * @param source The source vertex from which the BFS path starts.
+     * @return TraversalContext - The distances (in edges), parents and states of the vertices.
+     */
+    @Override
+    public TraversalContext queryBFS(T source) {
+        Vertex_CSR<T> s = getVertex(source);
+        if (s == null) {
+            throw new IllegalArgumentException("Vertex does not exist");
+        }
+
+        TraversalContext context = this.pool.acquire(this.vertices.size());
+        int[] distance = context.getDistances();
+        int[] parent = context.getParents();
+        byte[] state = context.getStates();
+        int[] queue = context.getQueue();
+        int head = 0;
+        int tail = 0;
+
+        state[s.getIndex()] = TraversalContext.GRAY;
+        distance[s.getIndex()] = 0;
+        queue[tail++] = s.getIndex();
+
+        while (head < tail) {
+            int u = queue[head++];
+            for (int e = this.offsets[u]; e < this.offsets[u + 1]; e++) {
+                int i = this.targets[e];
+                if (state[i] == TraversalContext.WHITE) {
+                    state[i] = TraversalContext.GRAY;
+                    distance[i] = distance[u] + 1;
+                    parent[i] = u;
+                    queue[tail++] = i;
+                }
+            }
+            state[u] = TraversalContext.BLACK;
+        }
+
+        return context;
+    }
+
+    /**
+     * Method: DFS - performs a DFS (Depth-First Search) path from a given source vertex and stores the result in the fields of the vertices.
+     * @param source The source vertex from which the DFS path starts.
+     */
+    @Override
+    public synchronized void DFS(T source) {
+        try (TraversalContext context = queryDFS(source)) {
+            applyContext(context);
+        }
+    }
+
+    /**
+     * Method: queryDFS - performs a DFS (Depth-First Search) path from a given source vertex with the iterative DepthFirstSearch and stores the result in a pooled TraversalContext, without changing the vertices. The caller must close the returned context.
+     * @param source The source vertex from which the DFS path starts.
+     * @return TraversalContext - The discovery times, finishing times, parents and states of the vertices.
+     */
+    @Override
+    public TraversalContext queryDFS(T source) {
+        Vertex_CSR<T> s = getVertex(source);
+        if (s == null) {
+            throw new IllegalArgumentException("Vertex does not exist");
+        }
+
+        TraversalContext context = this.pool.acquire(this.vertices.size());
+        DepthFirstSearch.query(this, s.getIndex(), context);
+        return context;
+    }
+
+    /**
+     * Method: dijkstra - Find the shortest path from a given source vertex to all other vertices using Dijkstra's algorithm.
+     * @param source The source vertex from which Dijkstra's algorithm starts.
+     * @return 'Map <Vertex<T>, Vertex<T>>' Returns a map containing the preceding vertices on the shortest path from the source vertex to each of the other vertices.
+     */
+    @Override
+    public synchronized Map<Vertex<T>, Vertex<T>> dijkstra(T source) {
+        try (TraversalContext context = queryDijkstra(source)) {
+            applyContext(context);
+        }
+
+        Map<Vertex<T>, Vertex<T>> previous = new HashMap<>();
+        for (Vertex_CSR<T> u : this.vertices) {
+            previous.put(u, u.getParent());
+        }
+
+        return previous;
+    }
+
+    /**
+     * Method: queryDijkstra - Find the shortest path from a given source vertex to all other vertices using Dijkstra's algorithm and store the result in a pooled TraversalContext, without changing the vertices. The caller must close the returned context.
+     * @param source The source vertex from which Dijkstra's algorithm starts.
+     * @return TraversalContext - The shortest distances and the preceding vertices of the vertices.
+     */
+    @Override
+    public TraversalContext queryDijkstra(T source) {
+        Vertex_CSR<T> s = getVertex(source);
+
+        if (s == null) {
+            throw new IllegalArgumentException("Vertex does not exist");
+        }
+
+        TraversalContext context = this.pool.acquire(this.vertices.size());
+        int[] distance = context.getDistances();
+        int[] parent = context.getParents();
+        byte[] state = context.getStates();
+        IndexedMinHeap queue = context.getHeap();
+
+        distance[s.getIndex()] = 0;
+        queue.insert(s.getIndex(), 0);
+
+        while (!queue.isEmpty()) {
+            int u = queue.poll();
+            state[u] = TraversalContext.BLACK;
+            for (int e = this.offsets[u]; e < this.offsets[u + 1]; e++) {
+                int v = this.targets[e];
+                int alt = distance[u] + this.weights[e];
+                if (state[v] != TraversalContext.BLACK && alt < distance[v]) {
+                    distance[v] = alt;
+                    parent[v] = u;
+                    if (queue.contains(v)) {
+                        queue.decreaseKey(v, alt);
+                    } else {
+                        state[v] = TraversalContext.GRAY;
+                        queue.insert(v, alt);
+                    }
+                }
+            }
+        }
+
+        return context;
+    }
+
+    /**
+     * Method: queryAStar - Find the shortest path from a source vertex to a destination vertex using the A* search, which explores the vertices in order of their distance plus the heuristic estimate to the destination and stops when the destination is settled. The result is stored in a pooled TraversalContext, without changing the vertices. The caller must close the returned context.
+     * @param source The source vertex from which the search starts.
+     * @param destination The destination vertex where the search stops.
+     * @param heuristic A lower bound on the remaining weight to the destination.
+     * @return TraversalContext - The distances and the preceding vertices found by the search. The vertices that were settled are black.
+     */
+    @Override
+    public TraversalContext queryAStar(T source, T destination, Heuristic heuristic) {
+        Vertex_CSR<T> s = getVertex(source);
+        Vertex_CSR<T> d = getVertex(destination);
+
+        if (s == null || d == null) {
+            throw new IllegalArgumentException("Vertex does not exist");
+        }
+
+        TraversalContext context = this.pool.acquire(this.vertices.size());
+        int[] distance = context.getDistances();
+        int[] parent = context.getParents();
+        byte[] state = context.getStates();
+        IndexedMinHeap queue = context.getHeap();
+        int t = d.getIndex();
+
+        distance[s.getIndex()] = 0;
+        queue.insert(s.getIndex(), heuristic.estimate(s.getIndex(), t));
+
+        while (!queue.isEmpty()) {
+            int u = queue.poll();
+            state[u] = TraversalContext.BLACK;
+            if (u == t) {
+                break;
+            }
+            for (int e = this.offsets[u]; e < this.offsets[u + 1]; e++) {
+                int v = this.targets[e];
+                int alt = distance[u] + this.weights[e];
+                if (alt < distance[v]) {
+                    distance[v] = alt;
+                    parent[v] = u;
+                    int key = alt + heuristic.estimate(v, t);
+                    if (queue.contains(v)) {
+                        queue.decreaseKey(v, key);
+                    } else {
+                        state[v] = TraversalContext.GRAY;
+                        queue.insert(v, key);
+                    }
+                }
+            }
+        }
+
+        return context;
+    }
+
+    /**
+     * Method: shortestPath - Finds the shortest path between two vertices with the A* search guided by the given heuristic.
+     * @param source The origin vertex.
+     * @param destination The target vertex.
+     * @param heuristic A lower bound on the remaining weight to the destination.
+     * @return Path<T> - The shortest path, or null if the destination cannot be reached from the source.
+     */
+    @Override
+    public Path<T> shortestPath(T source, T destination, Heuristic heuristic) {
+        try (TraversalContext context = queryAStar(source, destination, heuristic)) {
+            return Path.fromContext(this, context, getIndex(destination));
+        }
+    }
+
+    /**
+     * Method: floydWarshall - Find the shortest paths between all pairs of vertices using the Floyd-Warshall algorithm.
+     * @return Vertex_CSR<T>[][] - Returns a two-dimensional array representing the preceding vertices on the shortest paths between all pairs of vertices.
+     */
+    @Override
+    public Vertex_CSR<T>[][] floydWarshall() {
+        int n = this.vertices.size();
+        int[][] dist = new int[n][n];
+        @SuppressWarnings("unchecked")
+        Vertex_CSR<T>[][] prev = (Vertex_CSR<T>[][]) new Vertex_CSR<?>[n][n];
+
+        for (int i = 0; i < n; i++) {
+            Arrays.fill(dist[i], Integer.MAX_VALUE);
+            dist[i][i] = 0;
+        }
+
+        for (int i = 0; i < n; i++) {
+            for (int e = this.offsets[i]; e < this.offsets[i + 1]; e++) {
+                dist[i][this.targets[e]] = this.weights[e];
+                prev[i][this.targets[e]] = this.vertices.get(i);
+            }
+        }
+
+        for (int k = 0; k < n; k++) {
+            for (int i = 0; i < n; i++) {
+                if (dist[i][k] == Integer.MAX_VALUE) {
+                    continue;
+                }
+                for (int j = 0; j < n; j++) {
+                    if (dist[k][j] == Integer.MAX_VALUE) {
+                        continue;
+                    }
+                    if (dist[i][j] > dist[i][k] + dist[k][j]) {
+                        dist[i][j] = dist[i][k] + dist[k][j];
+                        prev[i][j] = prev[k][j];
+                    }
+                }
+            }
+        }
+
+        return prev;
+    }
+
+    /**
+     * Method: allPairsShortestPaths - Finds the shortest paths between all pairs of vertices, choosing between the parallel blocked Floyd-Warshall algorithm and one parallel Dijkstra per source from the edge density.
+     * @return AllPairsShortestPaths<T> - The distance and next hop tables, indexed by vertex id.
+     */
+    @Override
+    public AllPairsShortestPaths<T> allPairsShortestPaths() {
+        return allPairsShortestPaths(AllPairsStrategy.AUTO);
+    }
+
+    /**
+     * Method: allPairsShortestPaths - Finds the shortest paths between all pairs of vertices with the given strategy.
+     * @param strategy FLOYD_WARSHALL, DIJKSTRA (one Dijkstra per source) or AUTO to pick one from the edge density.
+     * @return AllPairsShortestPaths<T> - The distance and next hop tables, indexed by vertex id.
+     */
+    @Override
+    public AllPairsShortestPaths<T> allPairsShortestPaths(AllPairsStrategy strategy) {
+        return AllPairsShortestPaths.compute(snapshot(), strategy);
+    }
+
+    /**
+     * Method: prim - Find the minimum spanning tree using Prim's algorithm and store the result in the fields of the vertices.
+     * @param source The source vertex from which the Prim algorithm starts.
+     */
+    @Override
+    public synchronized void prim(T source) {
+        try (TraversalContext context = queryPrim(source)) {
+            applyContext(context);
+        }
+    }
+
+    /**
+     * Method: queryPrim - Find the minimum spanning tree using Prim's algorithm and store it in a pooled TraversalContext, without changing the vertices. The distance of every vertex is the weight of the edge that connects it to its parent. The caller must close the returned context.
+     * @param source The source vertex from which the Prim algorithm starts.
+     * @return TraversalContext - The parents and tree edge weights of the vertices.
+     */
+    @Override
+    public TraversalContext queryPrim(T source) {
+        Vertex_CSR<T> s = getVertex(source);
+
+        if (s == null) {
+            throw new IllegalArgumentException("Vertex does not exist");
+        }
+
+        TraversalContext context = this.pool.acquire(this.vertices.size());
+        int[] distance = context.getDistances();
+        int[] parent = context.getParents();
+        byte[] state = context.getStates();
+        IndexedMinHeap queue = context.getHeap();
+
+        distance[s.getIndex()] = 0;
+        for (int i = 0; i < this.vertices.size(); i++) {
+            queue.insert(i, distance[i]);
+        }
+
+        while (!queue.isEmpty()) {
+            int u = queue.poll();
+            for (int e = this.offsets[u]; e < this.offsets[u + 1]; e++) {
+                int v = this.targets[e];
+                if (queue.contains(v) && this.weights[e] < distance[v]) {
+                    parent[v] = u;
+                    distance[v] = this.weights[e];
+                    queue.decreaseKey(v, this.weights[e]);
+                }
+            }
+            state[u] = TraversalContext.BLACK;
+        }
+
+        return context;
+    }
+
+    /**
+     * Method: queryPrimComponent - Finds the minimum spanning tree of the component of the source with Prim's algorithm and stores it in a pooled TraversalContext, without changing the vertices. Only the vertices reached from the source enter the heap, so the search stops at the boundary of the component; the other vertices keep their WHITE state and a parent of -1. The caller must close the returned context.
+     * @param source The source vertex from which the Prim algorithm starts.
+     * @return TraversalContext - The parents and tree edge weights of the vertices of the component.
+     */
+    public TraversalContext queryPrimComponent(T source) {
+        Vertex_CSR<T> s = getVertex(source);
+
+        if (s == null) {
+            throw new IllegalArgumentException("Vertex does not exist");
+        }
+
+        TraversalContext context = this.pool.acquire(this.vertices.size());
+        int[] distance = context.getDistances();
+        int[] parent = context.getParents();
+        byte[] state = context.getStates();
+        IndexedMinHeap queue = context.getHeap();
+
+        distance[s.getIndex()] = 0;
+        state[s.getIndex()] = TraversalContext.GRAY;
+        queue.insert(s.getIndex(), 0);
+
+        while (!queue.isEmpty()) {
+            int u = queue.poll();
+            state[u] = TraversalContext.BLACK;
+            for (int e = this.offsets[u]; e < this.offsets[u + 1]; e++) {
+                int v = this.targets[e];
+                if (state[v] != TraversalContext.BLACK && this.weights[e] < distance[v]) {
+                    parent[v] = u;
+                    distance[v] = this.weights[e];
+                    if (state[v] == TraversalContext.GRAY) {
+                        queue.decreaseKey(v, this.weights[e]);
+                    } else {
+                        state[v] = TraversalContext.GRAY;
+                        queue.insert(v, this.weights[e]);
+                    }
+                }
+            }
+        }
+
+        return context;
+    }
+
+    /**
+     * Method: applyContext - Copies the result of a query into the fields of the vertices, as the BFS, DFS, dijkstra and prim methods have always reported it. Must be called holding the lock of the graph.
+     * @param context The context holding the result of the query.
+     */
+    private void applyContext(TraversalContext context) {
+        for (Vertex_CSR<T> u : this.vertices) {
+            int i = u.getIndex();
+            u.setColor(context.getState(i) == TraversalContext.WHITE ? "white" : context.getState(i) == TraversalContext.GRAY ? "gray" : "black");
+            u.setDistance(context.getDistance(i));
+            u.setDiscoveryTime(context.getDiscoveryTime(i));
+            u.setFinishingTime(context.getFinishingTime(i));
+            u.setParent(context.getParent(i) == -1 ? null : this.vertices.get(context.getParent(i)));
+        }
+    }
+
+    /**
+     * Method: getIndex - Returns the id of a vertex in the compressed graph.
+     * @param vertex The value of the vertex to search for.
+     * @return int - The id of the vertex, or -1 if the vertex is not in the graph.
+     */
+    @Override
+    public int getIndex(T vertex) {
+        return this.registry.getIndex(vertex);
+    }
+
+    /**
+     * Method: getVertex - Returns the Vertex_CSR<T> object corresponding to the specified value.
+     * @param vertex The value of the vertex to search for.
+     * @return Vertex_CSR<T> - The vertex with the given value, or null if it is not in the graph.
+     */
+    @Override
+    public Vertex_CSR<T> getVertex(T vertex) {
+        return this.registry.getVertex(vertex);
+    }
+
+    /**
+     * Method: isDirected - This method returns a boolean value indicating whether the network is directed or undirected.
+     * @return boolean - true if the network is directed, false if it is not.
+     */
+    @Override
+    public boolean isDirected() {
+        return this.directed;
+    }
+
+    /**
+     * Method: getVertices - This method returns the list of vertices of the network, in id order. The list must not be modified.
+     * @return ArrayList<Vertex_CSR<T>> - List of network vertices.
+     */
+    @Override
+    public ArrayList<Vertex_CSR<T>> getVertices() {
+        return this.vertices;
+    }
+
+    /**
+     * Method: isConnected - This method checks if the network is connected, that is, if there is a path between all pairs of vertices in the network, ignoring the direction of the edges. It runs in linear time over the connected components.
+     * @return boolean - Returns true if the network is connected, otherwise it returns false.
+     */
+    @Override
+    public boolean isConnected() {
+        return connectedComponents().isConnected();
+    }
+
+    /**
+     * Method: getEdgeCount - Returns the number of stored edges. In an undirected graph every edge is counted in both directions, except self loops.
+     * @return int - The number of stored edges.
+     */
+    public int getEdgeCount() {
+        return this.targets.length;
+    }
+
+    /**
+     * Method: getOffsets - Returns the offsets array. The edges of vertex i are stored between offsets[i] (inclusive) and offsets[i + 1] (exclusive). The array must not be modified.
+     * @return int[] - The offsets array.
+     */
+    public int[] getOffsets() {
+        return this.offsets;
+    }
+
+    /**
+     * Method: getTargets - Returns the destination id of every stored edge. The array must not be modified.
+     * @return int[] - The targets array.
+     */
+    public int[] getTargets() {
+        return this.targets;
+    }
+
+    /**
+     * Method: getWeights - Returns the weight of every stored edge, parallel to the targets array. The array must not be modified.
+     * @return int[] - The weights array.
+     */
+    public int[] getWeights() {
+        return this.weights;
+    }
+
+    /**
+     * Method: transpose - Returns the graph with every edge reversed, with the same vertex ids. It is built the first time it is needed and then reused. An undirected graph is its own transpose.
+     * @return GraphCompressedSparseRow<T> - The reversed graph.
+     */
+    public GraphCompressedSparseRow<T> transpose() {
+        if (!this.directed) {
+            return this;
+        }
+
+        GraphCompressedSparseRow<T> result = this.transpose;
+        if (result == null) {
+            synchronized (this) {
+                result = this.transpose;
+                if (result == null) {
+                    int n = this.vertices.size();
+                    int[] reverseOffsets = new int[n + 1];
+                    for (int e = 0; e < this.targets.length; e++) {
+                        reverseOffsets[this.targets[e] + 1]++;
+                    }
+                    for (int i = 0; i < n; i++) {
+                        reverseOffsets[i + 1] += reverseOffsets[i];
+                    }
+
+                    int[] next = Arrays.copyOf(reverseOffsets, n);
+                    int[] reverseTargets = new int[this.targets.length];
+                    int[] reverseWeights = new int[this.targets.length];
+                    int[] reverseSecondaryWeights = new int[this.targets.length];
+                    for (int u = 0; u < n; u++) {
+                        for (int e = this.offsets[u]; e < this.offsets[u + 1]; e++) {
+                            int slot = next[this.targets[e]]++;
+                            reverseTargets[slot] = u;
+                            reverseWeights[slot] = this.weights[e];
+                            reverseSecondaryWeights[slot] = this.secondaryWeights[e];
+                        }
+                    }
+
+                    List<T> values = new ArrayList<>(n);
+                    for (Vertex_CSR<T> v : this.vertices) {
+                        values.add(v.getValue());
+                    }
+                    result = new GraphCompressedSparseRow<>(values, reverseOffsets, reverseTargets, reverseWeights, reverseSecondaryWeights, true);
+                    this.transpose = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Method: acquireContext - Takes a pooled context sized for this graph. The caller must close it.
+     * @return TraversalContext - A context ready for a new query.
+     */
+    TraversalContext acquireContext() {
+        return this.pool.acquire(this.vertices.size());
+    }
+
+    /**
+     * Method: containsEdge - This method checks if there is an edge between two vertices.
+     * @param source The origin vertex of the edge.
+     * @param destination The target vertex of the edge.
+     * @return boolean - true if both vertices exist and the edge joins them, false otherwise.
+     */
+    public boolean containsEdge(T source, T destination) {
+        int u = getIndex(source);
+        int v = getIndex(destination);
+        if (u == -1 || v == -1) {
+            return false;
+        }
+        for (int e = this.offsets[u]; e < this.offsets[u + 1]; e++) {
+            if (this.targets[e] == v) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Method: getWeight - This method returns the weight of the edge between two vertices.
+     * @param source The origin vertex of the edge.
+     * @param destination The target vertex of the edge.
+     * @return int - The weight of the edge.
+     */
+    @Override
+    public int getWeight(T source, T destination) {
+        int u = getIndex(source);
+        int v = getIndex(destination);
+
+        if (u == -1 || v == -1) {
+            throw new IllegalArgumentException("Vertex does not exist " + source + " " + destination);
+        }
+
+        for (int e = this.offsets[u]; e < this.offsets[u + 1]; e++) {
+            if (this.targets[e] == v) {
+                return this.weights[e];
+            }
+        }
+        throw new IllegalArgumentException("Edge does not exist");
+    }
+
+    /**
+     * Method: shortestPath - Finds the shortest path between two vertices with a bidirectional Dijkstra search, which stops as soon as the forward and the backward searches prove that no shorter path exists.
+     * @param source The origin vertex.
+     * @param destination The target vertex.
+     * @return Path<T> - The shortest path, or null if the destination cannot be reached from the source.
+     */
+    @Override
+    public Path<T> shortestPath(T source, T destination) {
+        int s = getIndex(source);
+        int t = getIndex(destination);
+
+        if (s == -1 || t == -1) {
+            throw new IllegalArgumentException("Vertex does not exist");
+        }
+
+        return BidirectionalDijkstra.search(this, s, t);
+    }
+
+    /**
+     * Method: getVersion - The compressed graph never changes, so its version is always 0.
+     * @return int - The version of the network.
+     */
+    @Override
+    public int getVersion() {
+        return 0;
+    }
+
+    /**
+     * Method: withChannel - Returns a view of this graph whose primary weight is the selected one. The view shares the offsets, targets and weight arrays with this graph. It is built the first time it is needed and then reused, so switching between weights costs nothing.
+     * @param channel The weight the view exposes as its primary weight.
+     * @return GraphCompressedSparseRow<T> - This graph for PRIMARY, or the view with both weights swapped for SECONDARY.
+     */
+    public GraphCompressedSparseRow<T> withChannel(WeightChannel channel) {
+        if (channel == WeightChannel.PRIMARY) {
+            return this;
+        }
+
+        GraphCompressedSparseRow<T> result = this.swapped;
+        if (result == null) {
+            synchronized (this) {
+                result = this.swapped;
+                if (result == null) {
+                    List<T> values = new ArrayList<>(this.vertices.size());
+                    for (Vertex_CSR<T> v : this.vertices) {
+                        values.add(v.getValue());
+                    }
+                    result = new GraphCompressedSparseRow<>(values, this.offsets, this.targets, this.secondaryWeights, this.weights, this.directed);
+                    this.swapped = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Method: queryDijkstra - Runs Dijkstra's algorithm on the selected weight. The caller must close the returned context.
+     * @param source The source vertex from which Dijkstra's algorithm starts.
+     * @param channel The weight to minimize.
+     * @return TraversalContext - The shortest distances and the preceding vertices of the vertices.
+     */
+    @Override
+    public TraversalContext queryDijkstra(T source, WeightChannel channel) {
+        return withChannel(channel).queryDijkstra(source);
+    }
+
+    /**
+     * Method: queryPrim - Runs Prim's algorithm on the selected weight. The caller must close the returned context.
+     * @param source The source vertex from which the Prim algorithm starts.
+     * @param channel The weight to minimize.
+     * @return TraversalContext - The parents and tree edge weights of the vertices.
+     */
+    @Override
+    public TraversalContext queryPrim(T source, WeightChannel channel) {
+        return withChannel(channel).queryPrim(source);
+    }
+
+    /**
+     * Method: minimumSpanningForest - Finds the minimum spanning forest of the network, one minimum spanning tree for every connected part, without choosing a root.
+     * @return List<Edge<T>> - The edges of the forest.
+     */
+    @Override
+    public List<Edge<T>> minimumSpanningForest() {
+        return MinimumSpanningForest.compute(this);
+    }
+
+    /**
+     * Method: minimumSpanningForest - Finds the minimum spanning forest of the network on the selected weight.
+     * @param channel The weight to minimize.
+     * @return List<Edge<T>> - The edges of the forest.
+     */
+    @Override
+    public List<Edge<T>> minimumSpanningForest(WeightChannel channel) {
+        return MinimumSpanningForest.compute(withChannel(channel));
+    }
+
+    /**
+     * Method: stronglyConnectedComponents - Finds the strongly connected components of the network, the groups of vertices that can all reach each other.
+     * @return int[] - The component of every vertex, indexed by id, numbered in reverse topological order.
+     */
+    @Override
+    public int[] stronglyConnectedComponents() {
+        return GraphConnectivity.stronglyConnectedComponents(this);
+    }
+
+    /**
+     * Method: articulationPoints - Finds the vertices of an undirected network whose removal disconnects their part of it.
+     * @return List<T> - The articulation points, in id order.
+     */
+    @Override
+    public List<T> articulationPoints() {
+        return GraphConnectivity.articulationPoints(this);
+    }
+
+    /**
+     * Method: bridges - Finds the edges of an undirected network whose removal disconnects their part of it.
+     * @return List<Edge<T>> - The bridges.
+     */
+    @Override
+    public List<Edge<T>> bridges() {
+        return GraphConnectivity.bridges(this);
+    }
+
+    /**
+     * Method: connectedComponents - Finds the connected parts of the network in linear time. The direction of the edges of a directed network is ignored.
+     * @return ConnectedComponents - The component of every vertex, indexed by id, and the size of every component.
+     */
+    @Override
+    public ConnectedComponents connectedComponents() {
+        return ConnectedComponents.compute(this);
+    }
+
+    /**
+     * Method: kShortestPaths - Finds the k shortest loopless paths between two vertices with Yen's algorithm, running the spur searches in parallel.
+     * @param source The origin vertex.
+     * @param destination The target vertex.
+     * @param k The number of paths.
+     * @return List<Path<T>> - At most k distinct paths, by increasing weight.
+     */
+    @Override
+    public List<Path<T>> kShortestPaths(T source, T destination, int k) {
+        return KShortestPaths.search(this, source, destination, k);
+    }
+
+    /**
+     * Method: kShortestPaths - Finds the k shortest loopless paths between two vertices on the selected weight.
+     * @param source The origin vertex.
+     * @param destination The target vertex.
+     * @param k The number of paths.
+     * @param channel The weight to minimize.
+     * @return List<Path<T>> - At most k distinct paths, by increasing weight.
+     */
+    @Override
+    public List<Path<T>> kShortestPaths(T source, T destination, int k, WeightChannel channel) {
+        return KShortestPaths.search(withChannel(channel), source, destination, k);
+    }
+
+    /**
+     * Method: constrainedShortestPath - Finds the route that minimizes one weight while the total of the other weight stays within a budget, for example the cheapest route within a number of minutes.
+     * @param source The origin vertex.
+     * @param destination The target vertex.
+     * @param objective The weight to minimize. The other weight is limited by the budget.
+     * @param budget The largest total allowed for the other weight.
+     * @return ParetoPath<T> - The route with both of its totals, or null if no route meets the budget.
+     */
+    @Override
+    public ParetoPath<T> constrainedShortestPath(T source, T destination, WeightChannel objective, int budget) {
+        return ConstrainedShortestPath.search(this, source, destination, objective, budget);
+    }
+
+    /**
+     * Method: queryAStar - Runs the A* search on the selected weight. The caller must close the returned context.
+     * @param source The source vertex from which the search starts.
+     * @param destination The destination vertex where the search stops.
+     * @param heuristic A lower bound on the remaining weight to the destination.
+     * @param channel The weight to minimize.
+     * @return TraversalContext - The distances and the preceding vertices found by the search.
+     */
+    @Override
+    public TraversalContext queryAStar(T source, T destination, Heuristic heuristic, WeightChannel channel) {
+        return withChannel(channel).queryAStar(source, destination, heuristic);
+    }
+
+    /**
+     * Method: shortestPath - Finds the shortest path between two vertices on the selected weight with a bidirectional Dijkstra search.
+     * @param source The origin vertex.
+     * @param destination The target vertex.
+     * @param channel The weight to minimize.
+     * @return Path<T> - The shortest path, or null if the destination cannot be reached from the source.
+     */
+    @Override
+    public Path<T> shortestPath(T source, T destination, WeightChannel channel) {
+        return withChannel(channel).shortestPath(source, destination);
+    }
+
+    /**
+     * Method: shortestPath - Finds the shortest path between two vertices on the selected weight with the A* search guided by the given heuristic.
+     * @param source The origin vertex.
+     * @param destination The target vertex.
+     * @param heuristic A lower bound on the remaining weight to the destination.
+     * @param channel The weight to minimize.
+     * @return Path<T> - The shortest path, or null if the destination cannot be reached from the source.
+     */
+    @Override
+    public Path<T> shortestPath(T source, T destination, Heuristic heuristic, WeightChannel channel) {
+        return withChannel(channel).shortestPath(source, destination, heuristic);
+    }
+
+    /**
+     * Method: getWeight - This method returns the selected weight of the edge between two vertices.
+     * @param source The origin vertex of the edge.
+     * @param destination The target vertex of the edge.
+     * @param channel The weight to be returned.
+     * @return int - The weight of the edge.
+     */
+    @Override
+    public int getWeight(T source, T destination, WeightChannel channel) {
+        return withChannel(channel).getWeight(source, destination);
+    }
+
+    /**
+     * Method: getSecondaryWeights - Returns the secondary weight of every stored edge, parallel to the targets array. The array must not be modified.
+     * @return int[] - The secondary weights array.
+     */
+    public int[] getSecondaryWeights() {
+        return this.secondaryWeights;
+    }
+
+    /**
+     * Method: snapshot - The compressed graph is already immutable, so its snapshot on a weight is its view on that weight.
+     * @param channel The weight the snapshot exposes as its primary weight.
+     * @return GraphCompressedSparseRow<T> - The view of this graph on the selected weight.
+     */
+    @Override
+    public GraphCompressedSparseRow<T> snapshot(WeightChannel channel) {
+        return withChannel(channel);
+    }
+
+    /**
+     * Method: snapshot - The compressed graph is already immutable, so it is its own snapshot.
+     * @return GraphCompressedSparseRow<T> - This graph.
+     */
+    @Override
+    public GraphCompressedSparseRow<T> snapshot() {
+        return this;
+    }
+}
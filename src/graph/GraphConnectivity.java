@@ -0,0 +1,197 @@
+package graph;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Class name: GraphConnectivity
+ * General Description: Connectivity algorithms built on the iterative DepthFirstSearch, so they run on networks with hundreds of thousands of vertices without overflowing the call stack. Tarjan's algorithm finds the strongly connected components of a directed graph. For an undirected graph, the low-link values of the same search find the articulation points, the vertices whose removal disconnects their part of the network, and the bridges, the edges whose removal does. Every algorithm runs in O(V + E) time over primitive arrays indexed by vertex id.
+ */
+public class GraphConnectivity {
+
+    /**
+     * Method: GraphConnectivity - Not instantiable, the class only has static methods.
+     */
+    private GraphConnectivity() {
+    }
+
+    /**
+     * Method: stronglyConnectedComponents - Finds the strongly connected components of a graph with Tarjan's algorithm. In an undirected graph they are its connected parts.
+     * @param graph The graph whose components are found.
+     * @return int[] - The component of every vertex, indexed by id. Components are numbered from 0 in reverse topological order: no edge goes from a component to a component with a greater number.
+     */
+    public static int[] stronglyConnectedComponents(GraphCompressedSparseRow<?> graph) {
+        Tarjan tarjan = new Tarjan(graph.getVertices().size());
+        new DepthFirstSearch(graph).searchAll(tarjan);
+        return tarjan.components;
+    }
+
+    /**
+     * Method: articulationPoints - Finds the vertices of an undirected graph whose removal increases the number of connected parts.
+     * @param graph The undirected graph to be searched.
+     * @return List<T> - The articulation points, in id order.
+     */
+    public static <T> List<T> articulationPoints(GraphCompressedSparseRow<T> graph) {
+        LowLink lowLink = lowLink(graph);
+        List<T> points = new ArrayList<>();
+        for (int v = 0; v < lowLink.articulation.length; v++) {
+            if (lowLink.articulation[v]) {
+                points.add(graph.getVertices().get(v).getValue());
+            }
+        }
+        return points;
+    }
+
+    /**
+     * Method: bridges - Finds the edges of an undirected graph whose removal increases the number of connected parts.
+     * @param graph The undirected graph to be searched.
+     * @return List<Edge<T>> - The bridges, each one from the vertex nearer to the root of its search tree.
+     */
+    public static <T> List<Edge<T>> bridges(GraphCompressedSparseRow<T> graph) {
+        LowLink lowLink = lowLink(graph);
+        List<? extends Vertex<T>> vertices = graph.getVertices();
+        int[] weights = graph.getWeights();
+        int[] secondaryWeights = graph.getSecondaryWeights();
+        List<Edge<T>> bridges = new ArrayList<>();
+        for (int v = 0; v < lowLink.bridge.length; v++) {
+            if (lowLink.bridge[v]) {
+                int e = lowLink.treeEdge[v];
+                bridges.add(new Edge<>(vertices.get(lowLink.parent[v]).getValue(), vertices.get(v).getValue(), weights[e], secondaryWeights[e]));
+            }
+        }
+        return bridges;
+    }
+
+    /**
+     * Method: lowLink - Runs the low-link search of an undirected graph.
+     * @param graph The undirected graph to be searched.
+     * @return LowLink - The articulation points and bridges found by the search.
+     */
+    private static LowLink lowLink(GraphCompressedSparseRow<?> graph) {
+        if (graph.isDirected()) {
+            throw new UnsupportedOperationException("Graph is directed");
+        }
+        LowLink lowLink = new LowLink(graph.getVertices().size());
+        new DepthFirstSearch(graph).searchAll(lowLink);
+        return lowLink;
+    }
+
+    /**
+     * Class name: Tarjan
+     * General Description: The visitor of Tarjan's algorithm. Every vertex gets an index when it is discovered and a low-link value, the smallest index reachable from its subtree through at most one edge to a vertex still on the component stack. A vertex whose low-link equals its index is the root of a component, which is popped from the stack when the vertex finishes.
+     */
+    private static class Tarjan implements DepthFirstSearch.Visitor {
+        private final int[] index;
+        private final int[] low;
+        private final boolean[] onStack;
+        private final int[] stack;
+        private final int[] components;
+        private int top;
+        private int counter;
+        private int count;
+
+        /**
+         * Method: Tarjan - Creates the visitor for a graph with n vertices.
+         */
+        Tarjan(int n) {
+            this.index = new int[n];
+            this.low = new int[n];
+            this.onStack = new boolean[n];
+            this.stack = new int[n];
+            this.components = new int[n];
+        }
+
+        @Override
+        public void discover(int vertex, int parent) {
+            this.index[vertex] = this.counter;
+            this.low[vertex] = this.counter;
+            this.counter++;
+            this.stack[this.top++] = vertex;
+            this.onStack[vertex] = true;
+        }
+
+        @Override
+        public void edge(int source, int target, int edge, boolean tree) {
+            if (!tree && this.onStack[target]) {
+                this.low[source] = Math.min(this.low[source], this.index[target]);
+            }
+        }
+
+        @Override
+        public void finish(int vertex, int parent) {
+            if (this.low[vertex] == this.index[vertex]) {
+                int w;
+                do {
+                    w = this.stack[--this.top];
+                    this.onStack[w] = false;
+                    this.components[w] = this.count;
+                } while (w != vertex);
+                this.count++;
+            }
+            if (parent != -1) {
+                this.low[parent] = Math.min(this.low[parent], this.low[vertex]);
+            }
+        }
+    }
+
+    /**
+     * Class name: LowLink
+     * General Description: The visitor that finds articulation points and bridges. The low value of a vertex is the smallest discovery order reachable from its subtree through at most one back edge. A child whose low value is not smaller than the order of its parent cannot reach above the parent, so the parent is an articulation point, and if it is greater the tree edge between them is a bridge. A root is an articulation point when it has more than one child. Only one edge joins two vertices, so the edge back to the parent is skipped by its target.
+     */
+    private static class LowLink implements DepthFirstSearch.Visitor {
+        private final int[] order;
+        private final int[] low;
+        private final int[] parent;
+        private final int[] children;
+        private final int[] treeEdge;
+        private final boolean[] articulation;
+        private final boolean[] bridge;
+        private int counter;
+
+        /**
+         * Method: LowLink - Creates the visitor for a graph with n vertices.
+         */
+        LowLink(int n) {
+            this.order = new int[n];
+            this.low = new int[n];
+            this.parent = new int[n];
+            this.children = new int[n];
+            this.treeEdge = new int[n];
+            this.articulation = new boolean[n];
+            this.bridge = new boolean[n];
+        }
+
+        @Override
+        public void discover(int vertex, int parent) {
+            this.order[vertex] = this.counter;
+            this.low[vertex] = this.counter;
+            this.counter++;
+            this.parent[vertex] = parent;
+        }
+
+        @Override
+        public void edge(int source, int target, int edge, boolean tree) {
+            if (tree) {
+                this.children[source]++;
+                this.treeEdge[target] = edge;
+            } else if (target != this.parent[source]) {
+                this.low[source] = Math.min(this.low[source], this.order[target]);
+            }
+        }
+
+        @Override
+        public void finish(int vertex, int parent) {
+            if (parent == -1) {
+                this.articulation[vertex] = this.children[vertex] > 1;
+                return;
+            }
+            this.low[parent] = Math.min(this.low[parent], this.low[vertex]);
+            if (this.low[vertex] > this.order[parent]) {
+                this.bridge[vertex] = true;
+            }
+            if (this.parent[parent] != -1 && this.low[vertex] >= this.order[parent]) {
+                this.articulation[parent] = true;
+            }
+        }
+    }
+}
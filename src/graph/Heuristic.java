@@ -0,0 +1,16 @@
+package graph;
+
+/**
+ * Class name: Heuristic
+ * General Description: A lower bound on the weight of the shortest path between two vertices, used by the A* search to explore the vertices that lead towards the destination first. Vertices are identified by their ids in the graph. The estimate must never be greater than the real shortest path weight, otherwise A* may return a longer path.
+ */
+public interface Heuristic {
+
+    /**
+     * Method: estimate - Returns a lower bound on the weight of the shortest path between two vertices.
+     * @param vertex The id of the vertex the estimate starts from.
+     * @param destination The id of the destination vertex.
+     * @return int - A value that is not greater than the weight of the shortest path from the vertex to the destination.
+     */
+    int estimate(int vertex, int destination);
+}
@@ -1,5 +1,7 @@
 package graph;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 public interface IGraph<T> {
@@ -8,6 +10,12 @@ public interface IGraph<T> {
 
     void addEdge(T source, T destination, int weight);
 
+    void addEdge(T source, T destination, int weight, int secondaryWeight);
+
+    void addVertices(Collection<? extends T> vertices);
+
+    void addEdges(Collection<? extends Edge<T>> edges);
+
     void removeVertex(T vertex);
 
     void removeEdge(T vertex1, T vertex2);
@@ -21,4 +29,70 @@ public interface IGraph<T> {
     Vertex<T>[][] floydWarshall();
 
     void prim(T source);
+
+    AllPairsShortestPaths<T> allPairsShortestPaths();
+
+    AllPairsShortestPaths<T> allPairsShortestPaths(AllPairsStrategy strategy);
+
+    TraversalContext queryBFS(T source);
+
+    TraversalContext queryDFS(T source);
+
+    TraversalContext queryDijkstra(T source);
+
+    TraversalContext queryDijkstra(T source, WeightChannel channel);
+
+    TraversalContext queryPrim(T source);
+
+    TraversalContext queryPrim(T source, WeightChannel channel);
+
+    List<Edge<T>> minimumSpanningForest();
+
+    List<Edge<T>> minimumSpanningForest(WeightChannel channel);
+
+    int[] stronglyConnectedComponents();
+
+    List<T> articulationPoints();
+
+    List<Edge<T>> bridges();
+
+    ConnectedComponents connectedComponents();
+
+    boolean isConnected();
+
+    List<Path<T>> kShortestPaths(T source, T destination, int k);
+
+    List<Path<T>> kShortestPaths(T source, T destination, int k, WeightChannel channel);
+
+    ParetoPath<T> constrainedShortestPath(T source, T destination, WeightChannel objective, int budget);
+
+    TraversalContext queryAStar(T source, T destination, Heuristic heuristic);
+
+    TraversalContext queryAStar(T source, T destination, Heuristic heuristic, WeightChannel channel);
+
+    int getIndex(T vertex);
+
+    Vertex<T> getVertex(T vertex);
+
+    List<? extends Vertex<T>> getVertices();
+
+    boolean isDirected();
+
+    GraphCompressedSparseRow<T> snapshot();
+
+    GraphCompressedSparseRow<T> snapshot(WeightChannel channel);
+
+    int getVersion();
+
+    int getWeight(T source, T destination);
+
+    int getWeight(T source, T destination, WeightChannel channel);
+
+    Path<T> shortestPath(T source, T destination);
+
+    Path<T> shortestPath(T source, T destination, WeightChannel channel);
+
+    Path<T> shortestPath(T source, T destination, Heuristic heuristic);
+
+    Path<T> shortestPath(T source, T destination, Heuristic heuristic, WeightChannel channel);
 }
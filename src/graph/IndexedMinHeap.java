@@ -0,0 +1,192 @@
+package graph;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Class name: IndexedMinHeap
+ * General Description: A binary min-heap of int vertex ids ordered by int keys. It remembers the position of every id inside the heap, so membership is answered in constant time and the key of an id already in the heap can be decreased in O(log n), which is what Dijkstra's and Prim's algorithms need.
+ */
+public class IndexedMinHeap {
+    private int[] heap;
+    private int[] positions;
+    private int[] keys;
+    private int size;
+
+    /**
+     * Method: IndexedMinHeap - Creates an empty heap able to hold the ids 0 .. capacity - 1.
+     * @param capacity The number of ids the heap can hold.
+     */
+    public IndexedMinHeap(int capacity) {
+        this.heap = new int[capacity];
+        this.positions = new int[capacity];
+        this.keys = new int[capacity];
+        Arrays.fill(this.positions, -1);
+    }
+
+    /**
+     * Method: ensureCapacity - Grows the heap so that it can hold the ids 0 .. capacity - 1.
+     * @param capacity The number of ids the heap must be able to hold.
+     */
+    public void ensureCapacity(int capacity) {
+        if (capacity > this.positions.length) {
+            int old = this.positions.length;
+            this.heap = Arrays.copyOf(this.heap, capacity);
+            this.positions = Arrays.copyOf(this.positions, capacity);
+            this.keys = Arrays.copyOf(this.keys, capacity);
+            Arrays.fill(this.positions, old, capacity, -1);
+        }
+    }
+
+    /**
+     * Method: insert - Adds an id to the heap with the given key.
+     * @param id The id to be added.
+     * @param key The key of the id.
+     */
+    public void insert(int id, int key) {
+        if (this.positions[id] != -1) {
+            throw new IllegalArgumentException("Id already in heap " + id);
+        }
+        this.heap[this.size] = id;
+        this.positions[id] = this.size;
+        this.keys[id] = key;
+        siftUp(this.size++);
+    }
+
+    /**
+     * Method: decreaseKey - Lowers the key of an id that is already in the heap.
+     * @param id The id whose key is decreased.
+     * @param key The new key, which must not be greater than the current one.
+     */
+    public void decreaseKey(int id, int key) {
+        if (this.positions[id] == -1) {
+            throw new IllegalArgumentException("Id not in heap " + id);
+        }
+        if (key > this.keys[id]) {
+            throw new IllegalArgumentException("Key is greater than the current key " + id);
+        }
+        this.keys[id] = key;
+        siftUp(this.positions[id]);
+    }
+
+    /**
+     * Method: poll - Removes and returns the id with the smallest key.
+     * @return int - The id with the smallest key.
+     */
+    public int poll() {
+        if (this.size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        int min = this.heap[0];
+        this.positions[min] = -1;
+        this.size--;
+        if (this.size > 0) {
+            this.heap[0] = this.heap[this.size];
+            this.positions[this.heap[0]] = 0;
+            siftDown(0);
+        }
+        return min;
+    }
+
+    /**
+     * Method: peek - Returns the id with the smallest key without removing it.
+     * @return int - The id with the smallest key.
+     */
+    public int peek() {
+        if (this.size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        return this.heap[0];
+    }
+
+    /**
+     * Method: contains - Checks in constant time if an id is in the heap.
+     * @param id The id to search for.
+     * @return boolean - true if the id is in the heap, false otherwise.
+     */
+    public boolean contains(int id) {
+        return id < this.positions.length && this.positions[id] != -1;
+    }
+
+    /**
+     * Method: getKey - Returns the key of an id that is in the heap.
+     * @param id The id whose key is returned.
+     * @return int - The key of the id.
+     */
+    public int getKey(int id) {
+        return this.keys[id];
+    }
+
+    /**
+     * Method: isEmpty - Checks if the heap has no ids.
+     * @return boolean - true if the heap is empty, false otherwise.
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Method: size - Returns the number of ids in the heap.
+     * @return int - The number of ids in the heap.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Method: clear - Removes every id from the heap, in time proportional to the number of ids it holds, so the heap can be reused.
+     */
+    public void clear() {
+        for (int i = 0; i < this.size; i++) {
+            this.positions[this.heap[i]] = -1;
+        }
+        this.size = 0;
+    }
+
+    /**
+     * Method: siftUp - Moves the id at the given heap position up until its parent has a smaller or equal key.
+     * @param position The heap position of the id to be moved.
+     */
+    private void siftUp(int position) {
+        int id = this.heap[position];
+        int key = this.keys[id];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            int parentId = this.heap[parent];
+            if (this.keys[parentId] <= key) {
+                break;
+            }
+            this.heap[position] = parentId;
+            this.positions[parentId] = position;
+            position = parent;
+        }
+        this.heap[position] = id;
+        this.positions[id] = position;
+    }
+
+    /**
+     * Method: siftDown - Moves the id at the given heap position down until its children have greater or equal keys.
+     * @param position The heap position of the id to be moved.
+     */
+    private void siftDown(int position) {
+        int id = this.heap[position];
+        int key = this.keys[id];
+        int half = this.size >>> 1;
+        while (position < half) {
+            int child = 2 * position + 1;
+            int right = child + 1;
+            if (right < this.size && this.keys[this.heap[right]] < this.keys[this.heap[child]]) {
+                child = right;
+            }
+            int childId = this.heap[child];
+            if (key <= this.keys[childId]) {
+                break;
+            }
+            this.heap[position] = childId;
+            this.positions[childId] = position;
+            position = child;
+        }
+        this.heap[position] = id;
+        this.positions[id] = position;
+    }
+}
@@ -0,0 +1,189 @@
+package graph;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Class name: JohnsonAllPairs
+ * General Description: This class computes all-pairs shortest paths on sparse graphs by running one Dijkstra per source in parallel over the compressed arrays, writing every result into a row of a shared flat distance and next hop table. If the graph has negative edges, it first computes Bellman-Ford potentials and reweights the edges as in Johnson's algorithm, so that Dijkstra stays correct.
+ */
+public class JohnsonAllPairs {
+    private static final int SOURCES_PER_TASK = 16;
+
+    /**
+     * Method: JohnsonAllPairs - Not instantiable, the class only has static methods.
+     */
+    private JohnsonAllPairs() {
+    }
+
+    /**
+     * Method: compute - Computes the all-pairs shortest paths of a graph on the common ForkJoinPool.
+     * @param graph The graph whose shortest paths are computed.
+     * @return AllPairsShortestPaths<T> - The distance and next hop tables.
+     */
+    public static <T> AllPairsShortestPaths<T> compute(GraphCompressedSparseRow<T> graph) {
+        return compute(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Method: compute - Computes the all-pairs shortest paths of a graph on the given pool.
+     * @param graph The graph whose shortest paths are computed.
+     * @param pool The pool where the sources are processed.
+     * @return AllPairsShortestPaths<T> - The distance and next hop tables.
+     */
+    public static <T> AllPairsShortestPaths<T> compute(GraphCompressedSparseRow<T> graph, ForkJoinPool pool) {
+        int n = graph.getVertices().size();
+        int[] dist = new int[n * n];
+        int[] next = new int[n * n];
+        int[] potentials = potentials(graph);
+        TraversalContextPool contexts = new TraversalContextPool();
+
+        if (n > 0) {
+            pool.invoke(new SourceRange(graph, potentials, contexts, dist, next, 0, n));
+        }
+
+        return new AllPairsShortestPaths<>(graph, n, dist, next);
+    }
+
+    /**
+     * Method: potentials - Computes Bellman-Ford potentials from a virtual source joined to every vertex by a zero edge. With them, w(u, v) + h(u) - h(v) is never negative.
+     * @param graph The graph whose potentials are computed.
+     * @return int[] - The potential of every vertex, or null if the graph has no negative edges.
+     */
+    private static <T> int[] potentials(GraphCompressedSparseRow<T> graph) {
+        int[] weights = graph.getWeights();
+        boolean negative = false;
+        for (int weight : weights) {
+            if (weight < 0) {
+                negative = true;
+                break;
+            }
+        }
+        if (!negative) {
+            return null;
+        }
+
+        int n = graph.getVertices().size();
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int[] h = new int[n];
+        for (int round = 0; round <= n; round++) {
+            boolean changed = false;
+            for (int u = 0; u < n; u++) {
+                for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                    if (h[u] + weights[e] < h[targets[e]]) {
+                        h[targets[e]] = h[u] + weights[e];
+                        changed = true;
+                    }
+                }
+            }
+            if (!changed) {
+                return h;
+            }
+        }
+
+        throw new IllegalStateException("Graph has a negative cycle");
+    }
+
+    /**
+     * Method: dijkstra - Runs Dijkstra from one source over the reweighted edges and writes the real distances and the next hops into the row of the source.
+     * @param graph The graph whose shortest paths are computed.
+     * @param potentials The Bellman-Ford potentials, or null if no reweighting is needed.
+     * @param context An empty context for the query.
+     * @param s The id of the source.
+     * @param dist The shared row-major distance table.
+     * @param next The shared row-major next hop table.
+     */
+    private static <T> void dijkstra(GraphCompressedSparseRow<T> graph, int[] potentials, TraversalContext context, int s, int[] dist, int[] next) {
+        int n = graph.getVertices().size();
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int[] weights = graph.getWeights();
+        int[] distance = context.getDistances();
+        int[] hop = context.getParents();
+        byte[] state = context.getStates();
+        IndexedMinHeap queue = context.getHeap();
+
+        distance[s] = 0;
+        hop[s] = s;
+        queue.insert(s, 0);
+
+        while (!queue.isEmpty()) {
+            int u = queue.poll();
+            state[u] = TraversalContext.BLACK;
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int v = targets[e];
+                int weight = potentials == null ? weights[e] : weights[e] + potentials[u] - potentials[v];
+                int alt = distance[u] + weight;
+                if (state[v] != TraversalContext.BLACK && alt < distance[v]) {
+                    distance[v] = alt;
+                    hop[v] = u == s ? v : hop[u];
+                    if (queue.contains(v)) {
+                        queue.decreaseKey(v, alt);
+                    } else {
+                        queue.insert(v, alt);
+                    }
+                }
+            }
+        }
+
+        int row = s * n;
+        for (int v = 0; v < n; v++) {
+            if (distance[v] == Integer.MAX_VALUE) {
+                dist[row + v] = Integer.MAX_VALUE;
+                next[row + v] = -1;
+            } else {
+                dist[row + v] = potentials == null ? distance[v] : distance[v] - potentials[s] + potentials[v];
+                next[row + v] = hop[v];
+            }
+        }
+    }
+
+    /**
+     * Class name: SourceRange
+     * General Description: A fork/join task that runs Dijkstra from every source of a range, splitting the range in halves until it is small enough.
+     */
+    private static class SourceRange extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final GraphCompressedSparseRow<?> graph;
+        private final int[] potentials;
+        private final TraversalContextPool contexts;
+        private final int[] dist;
+        private final int[] next;
+        private final int from;
+        private final int to;
+
+        /**
+         * Method: SourceRange - Creates a task for the sources from (inclusive) to to (exclusive).
+         */
+        SourceRange(GraphCompressedSparseRow<?> graph, int[] potentials, TraversalContextPool contexts, int[] dist, int[] next, int from, int to) {
+            this.graph = graph;
+            this.potentials = potentials;
+            this.contexts = contexts;
+            this.dist = dist;
+            this.next = next;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Method: compute - Processes the range directly, or splits it in two parallel halves.
+         */
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= SOURCES_PER_TASK) {
+                for (int s = this.from; s < this.to; s++) {
+                    try (TraversalContext context = this.contexts.acquire(this.graph.getVertices().size())) {
+                        dijkstra(this.graph, this.potentials, context, s, this.dist, this.next);
+                    }
+                }
+            } else {
+                int middle = (this.from + this.to) >>> 1;
+                invokeAll(new SourceRange(this.graph, this.potentials, this.contexts, this.dist, this.next, this.from, middle),
+                        new SourceRange(this.graph, this.potentials, this.contexts, this.dist, this.next, middle, this.to));
+            }
+        }
+    }
+}
@@ -0,0 +1,440 @@
+package graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Class name: KShortestPaths
+ * General Description: Yen's algorithm for the k shortest loopless paths between two vertices of a compressed graph. Every accepted path is the parent of one spur search per vertex but the last: the search leaves the path at that vertex, may not use the vertices before it nor the next edge of any accepted path that shares the same prefix, and is joined to the prefix to form a candidate. The spur searches of a path are independent and run in parallel on a ForkJoinPool. They reuse a single shortest path tree towards the destination, computed once with Dijkstra on the transposed graph. Its distances are a consistent lower bound for every spur search, so each one is an A* search that goes straight to the destination. When the tree path of the spur vertex avoids the blocked vertices and edges, it is the spur path and no search is needed. The weights must not be negative.
+ */
+public class KShortestPaths {
+    private static final int SPURS_PER_TASK = 4;
+
+    /**
+     * Method: KShortestPaths - Not instantiable, the class only has static methods.
+     */
+    private KShortestPaths() {
+    }
+
+    /**
+     * Method: search - Finds the k shortest loopless paths between two vertices on the common ForkJoinPool.
+     * @param graph The graph to search.
+     * @param source The origin vertex.
+     * @param destination The target vertex.
+     * @param k The number of paths.
+     * @return List<Path<T>> - At most k distinct paths, by increasing weight, or an empty list if the destination cannot be reached.
+     */
+    public static <T> List<Path<T>> search(GraphCompressedSparseRow<T> graph, T source, T destination, int k) {
+        return search(graph, source, destination, k, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Method: search - Finds the k shortest loopless paths between two vertices on the given pool.
+     * @param graph The graph to search.
+     * @param source The origin vertex.
+     * @param destination The target vertex.
+     * @param k The number of paths.
+     * @param pool The pool where the spur searches run.
+     * @return List<Path<T>> - At most k distinct paths, by increasing weight, or an empty list if the destination cannot be reached.
+     */
+    public static <T> List<Path<T>> search(GraphCompressedSparseRow<T> graph, T source, T destination, int k, ForkJoinPool pool) {
+        int s = graph.getIndex(source);
+        int t = graph.getIndex(destination);
+        if (s == -1 || t == -1) {
+            throw new IllegalArgumentException("Vertex does not exist");
+        }
+        if (k < 1) {
+            throw new IllegalArgumentException("k must be positive");
+        }
+        for (int weight : graph.getWeights()) {
+            if (weight < 0) {
+                throw new IllegalArgumentException("Weights must not be negative");
+            }
+        }
+
+        int n = graph.getVertices().size();
+        int[] toTarget = new int[n];
+        int[] nextHop = new int[n];
+        try (TraversalContext tree = graph.transpose().queryDijkstra(destination)) {
+            for (int v = 0; v < n; v++) {
+                toTarget[v] = tree.getDistance(v);
+                nextHop[v] = tree.getParent(v);
+            }
+        }
+
+        List<Path<T>> paths = new ArrayList<>();
+        if (toTarget[s] == Integer.MAX_VALUE) {
+            return paths;
+        }
+
+        Spurs spurs = new Spurs(graph, toTarget, nextHop, t);
+        List<Route> accepted = new ArrayList<>();
+        PriorityQueue<Route> candidates = new PriorityQueue<>();
+        Set<Route> seen = new HashSet<>();
+        Route first = spurs.treeRoute(s, 0);
+        seen.add(first);
+        candidates.add(first);
+
+        while (accepted.size() < k && !candidates.isEmpty()) {
+            Route route = candidates.poll();
+            accepted.add(route);
+            if (accepted.size() == k) {
+                break;
+            }
+
+            int count = route.vertices.length - 1;
+            Route[] found = new Route[count];
+            SpurTask task = new SpurTask(spurs, route, accepted, found, 0, count);
+            if (count <= SPURS_PER_TASK) {
+                task.compute();
+            } else {
+                pool.invoke(task);
+            }
+            for (Route candidate : found) {
+                if (candidate != null && seen.add(candidate)) {
+                    candidates.add(candidate);
+                }
+            }
+        }
+
+        List<? extends Vertex<T>> all = graph.getVertices();
+        for (Route route : accepted) {
+            List<T> values = new ArrayList<>(route.vertices.length);
+            for (int v : route.vertices) {
+                values.add(all.get(v).getValue());
+            }
+            paths.add(new Path<>(values, route.weight));
+        }
+        return paths;
+    }
+
+    /**
+     * Class name: Route
+     * General Description: A path as an array of vertex ids and the weight from the source to every vertex of it. Routes are ordered by weight and then by their vertices, and two routes are equal if they visit the same vertices.
+     */
+    private static class Route implements Comparable<Route> {
+        private final int[] vertices;
+        private final int[] prefix;
+        private final int weight;
+
+        /**
+         * Method: Route - Creates a route.
+         * @param vertices The ids of the vertices, from the source to the destination.
+         * @param prefix The weight from the source to every vertex.
+         */
+        Route(int[] vertices, int[] prefix) {
+            this.vertices = vertices;
+            this.prefix = prefix;
+            this.weight = prefix[prefix.length - 1];
+        }
+
+        /**
+         * Method: startsWith - Checks if the route begins with the first vertices of another route.
+         * @param other The other route.
+         * @param length The number of vertices to compare.
+         * @return boolean - true if both routes share their first length vertices, false otherwise.
+         */
+        boolean startsWith(Route other, int length) {
+            if (this.vertices.length < length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (this.vertices[i] != other.vertices[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int compareTo(Route other) {
+            if (this.weight != other.weight) {
+                return Integer.compare(this.weight, other.weight);
+            }
+            int length = Math.min(this.vertices.length, other.vertices.length);
+            for (int i = 0; i < length; i++) {
+                if (this.vertices[i] != other.vertices[i]) {
+                    return Integer.compare(this.vertices[i], other.vertices[i]);
+                }
+            }
+            return Integer.compare(this.vertices.length, other.vertices.length);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Route && Arrays.equals(this.vertices, ((Route) o).vertices);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(this.vertices);
+        }
+    }
+
+    /**
+     * Class name: Spurs
+     * General Description: The data shared by every spur search of a query: the graph and the shortest path tree towards the destination. It is read only, so any number of threads can use it.
+     */
+    private static class Spurs {
+        private final int[] offsets;
+        private final int[] targets;
+        private final int[] weights;
+        private final int[] toTarget;
+        private final int[] nextHop;
+        private final int destination;
+
+        /**
+         * Method: Spurs - Creates the shared data of a query.
+         */
+        Spurs(GraphCompressedSparseRow<?> graph, int[] toTarget, int[] nextHop, int destination) {
+            this.offsets = graph.getOffsets();
+            this.targets = graph.getTargets();
+            this.weights = graph.getWeights();
+            this.toTarget = toTarget;
+            this.nextHop = nextHop;
+            this.destination = destination;
+        }
+
+        /**
+         * Method: edgeWeight - Returns the weight of the edge between two vertices.
+         * @param u The origin vertex.
+         * @param v The target vertex.
+         * @return int - The weight of the edge.
+         */
+        int edgeWeight(int u, int v) {
+            for (int e = this.offsets[u]; e < this.offsets[u + 1]; e++) {
+                if (this.targets[e] == v) {
+                    return this.weights[e];
+                }
+            }
+            throw new IllegalArgumentException("Edge does not exist");
+        }
+
+        /**
+         * Method: treeRoute - Builds the route from a vertex to the destination along the shortest path tree.
+         * @param v The first vertex.
+         * @param weight The weight already spent before v.
+         * @return Route - The route along the tree.
+         */
+        Route treeRoute(int v, int weight) {
+            int length = 1;
+            for (int w = v; w != this.destination; w = this.nextHop[w]) {
+                length++;
+            }
+            int[] vertices = new int[length];
+            int[] prefix = new int[length];
+            vertices[0] = v;
+            prefix[0] = weight;
+            for (int i = 1; i < length; i++) {
+                vertices[i] = this.nextHop[vertices[i - 1]];
+                prefix[i] = prefix[i - 1] + edgeWeight(vertices[i - 1], vertices[i]);
+            }
+            return new Route(vertices, prefix);
+        }
+    }
+
+    /**
+     * Class name: SpurSearch
+     * General Description: The scratch arrays of the spur searches of one thread. Stamps mark the entries written by the current search, so the arrays are never cleared between searches.
+     */
+    private static class SpurSearch {
+        private final Spurs spurs;
+        private final int[] blocked;
+        private final int[] reached;
+        private final int[] distance;
+        private final int[] parent;
+        private final IndexedMinHeap heap;
+        private int stamp;
+
+        /**
+         * Method: SpurSearch - Allocates the scratch arrays for the vertices of the graph.
+         */
+        SpurSearch(Spurs spurs) {
+            int n = spurs.toTarget.length;
+            this.spurs = spurs;
+            this.blocked = new int[n];
+            this.reached = new int[n];
+            this.distance = new int[n];
+            this.parent = new int[n];
+            this.heap = new IndexedMinHeap(n);
+        }
+
+        /**
+         * Method: spur - Finds the shortest route that follows a route up to one of its vertices and then leaves it.
+         * @param route The route that is followed.
+         * @param j The position of the spur vertex in the route.
+         * @param accepted The routes accepted so far, whose edges after a shared prefix are blocked.
+         * @return Route - The shortest such route, or null if there is none.
+         */
+        Route spur(Route route, int j, List<Route> accepted) {
+            this.stamp++;
+            int spur = route.vertices[j];
+            for (int i = 0; i < j; i++) {
+                this.blocked[route.vertices[i]] = this.stamp;
+            }
+            List<Integer> blockedEdges = new ArrayList<>();
+            for (Route other : accepted) {
+                if (other.vertices.length > j + 1 && other.startsWith(route, j + 1)) {
+                    blockedEdges.add(other.vertices[j + 1]);
+                }
+            }
+
+            int[] suffix = treeSuffix(spur, blockedEdges);
+            if (suffix == null) {
+                suffix = aStar(spur, blockedEdges);
+            }
+            if (suffix == null) {
+                return null;
+            }
+
+            int[] vertices = new int[j + suffix.length];
+            int[] prefix = new int[vertices.length];
+            System.arraycopy(route.vertices, 0, vertices, 0, j);
+            System.arraycopy(route.prefix, 0, prefix, 0, j + 1);
+            System.arraycopy(suffix, 0, vertices, j, suffix.length);
+            for (int i = j + 1; i < vertices.length; i++) {
+                prefix[i] = prefix[i - 1] + this.spurs.edgeWeight(vertices[i - 1], vertices[i]);
+            }
+            return new Route(vertices, prefix);
+        }
+
+        /**
+         * Method: treeSuffix - Returns the tree path from the spur vertex to the destination if it uses neither a blocked vertex nor a blocked edge. Being a shortest path of the whole graph, it is then the spur path.
+         * @param spur The spur vertex.
+         * @param blockedEdges The targets of the blocked edges leaving the spur vertex.
+         * @return int[] - The vertices of the tree path, or null if it is blocked.
+         */
+        private int[] treeSuffix(int spur, List<Integer> blockedEdges) {
+            if (this.spurs.toTarget[spur] == Integer.MAX_VALUE) {
+                return null;
+            }
+            if (blockedEdges.contains(this.spurs.nextHop[spur])) {
+                return null;
+            }
+            int length = 1;
+            for (int w = spur; w != this.spurs.destination; w = this.spurs.nextHop[w]) {
+                if (this.blocked[this.spurs.nextHop[w]] == this.stamp) {
+                    return null;
+                }
+                length++;
+            }
+            int[] suffix = new int[length];
+            suffix[0] = spur;
+            for (int i = 1; i < length; i++) {
+                suffix[i] = this.spurs.nextHop[suffix[i - 1]];
+            }
+            return suffix;
+        }
+
+        /**
+         * Method: aStar - Finds the shortest path from the spur vertex to the destination that avoids the blocked vertices and edges, with the distances of the tree as the heuristic.
+         * @param spur The spur vertex.
+         * @param blockedEdges The targets of the blocked edges leaving the spur vertex.
+         * @return int[] - The vertices of the path, or null if the destination cannot be reached.
+         */
+        private int[] aStar(int spur, List<Integer> blockedEdges) {
+            int[] offsets = this.spurs.offsets;
+            int[] targets = this.spurs.targets;
+            int[] weights = this.spurs.weights;
+            int[] toTarget = this.spurs.toTarget;
+            this.heap.clear();
+
+            this.reached[spur] = this.stamp;
+            this.distance[spur] = 0;
+            this.parent[spur] = -1;
+            this.heap.insert(spur, toTarget[spur]);
+            boolean found = false;
+
+            while (!this.heap.isEmpty()) {
+                int u = this.heap.poll();
+                if (u == this.spurs.destination) {
+                    found = true;
+                    break;
+                }
+                this.blocked[u] = this.stamp;
+                for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                    int v = targets[e];
+                    if (this.blocked[v] == this.stamp || toTarget[v] == Integer.MAX_VALUE || (u == spur && blockedEdges.contains(v))) {
+                        continue;
+                    }
+                    int alt = this.distance[u] + weights[e];
+                    if (this.reached[v] != this.stamp) {
+                        this.reached[v] = this.stamp;
+                        this.distance[v] = alt;
+                        this.parent[v] = u;
+                        this.heap.insert(v, alt + toTarget[v]);
+                    } else if (alt < this.distance[v]) {
+                        this.distance[v] = alt;
+                        this.parent[v] = u;
+                        this.heap.decreaseKey(v, alt + toTarget[v]);
+                    }
+                }
+            }
+            if (!found) {
+                return null;
+            }
+
+            int length = 1;
+            for (int v = this.spurs.destination; v != spur; v = this.parent[v]) {
+                length++;
+            }
+            int[] suffix = new int[length];
+            int v = this.spurs.destination;
+            for (int i = length - 1; i >= 0; i--) {
+                suffix[i] = v;
+                v = this.parent[v];
+            }
+            return suffix;
+        }
+    }
+
+    /**
+     * Class name: SpurTask
+     * General Description: A fork/join task that runs the spur searches of a range of vertices of a route, splitting the range in halves until it is small enough. Every leaf has its own scratch arrays.
+     */
+    private static class SpurTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Spurs spurs;
+        private final Route route;
+        private final List<Route> accepted;
+        private final Route[] found;
+        private final int from;
+        private final int to;
+
+        /**
+         * Method: SpurTask - Creates a task for the spur positions from (inclusive) to to (exclusive).
+         */
+        SpurTask(Spurs spurs, Route route, List<Route> accepted, Route[] found, int from, int to) {
+            this.spurs = spurs;
+            this.route = route;
+            this.accepted = accepted;
+            this.found = found;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Method: compute - Runs the spur searches of the range directly, or splits it in two parallel halves.
+         */
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= SPURS_PER_TASK) {
+                SpurSearch search = new SpurSearch(this.spurs);
+                for (int j = this.from; j < this.to; j++) {
+                    this.found[j] = search.spur(this.route, j, this.accepted);
+                }
+            } else {
+                int middle = (this.from + this.to) >>> 1;
+                invokeAll(new SpurTask(this.spurs, this.route, this.accepted, this.found, this.from, middle),
+                        new SpurTask(this.spurs, this.route, this.accepted, this.found, middle, this.to));
+            }
+        }
+    }
+}
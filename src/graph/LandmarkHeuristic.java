@@ -0,0 +1,154 @@
+package graph;
+
+import java.util.Arrays;
+
+/**
+ * Class name: LandmarkHeuristic
+ * General Description: A* heuristic built from the distances between every vertex and a few landmark vertices (the ALT technique: A*, landmarks and the triangle inequality). For a landmark L, d(v, t) >= d(L, t) - d(L, v) and d(v, t) >= d(v, L) - d(t, L), so the largest of these differences is a lower bound that needs no coordinates and works for any weight. The distances are stored landmark by landmark in flat int arrays. The heuristic belongs to the ids of the graph it was built from and must be built again after the network changes. The weights must not be negative.
+ */
+public class LandmarkHeuristic implements Heuristic {
+    private final int[] landmarks;
+    private final int[] fromLandmark;
+    private final int[] toLandmark;
+    private final int size;
+
+    /**
+     * Method: LandmarkHeuristic - Creates an instance of the LandmarkHeuristic class from already computed distances.
+     * @param landmarks The ids of the landmarks.
+     * @param fromLandmark The distance from landmark i to vertex v at i * size + v.
+     * @param toLandmark The distance from vertex v to landmark i at i * size + v.
+     * @param size The number of vertices of the graph.
+     */
+    private LandmarkHeuristic(int[] landmarks, int[] fromLandmark, int[] toLandmark, int size) {
+        this.landmarks = landmarks;
+        this.fromLandmark = fromLandmark;
+        this.toLandmark = toLandmark;
+        this.size = size;
+    }
+
+    /**
+     * Method: build - Chooses the landmarks of a graph and computes their distance tables with Dijkstra's algorithm, forward on the graph and backward on its transpose.
+     * @param network The graph, with the weight that the searches should minimize already loaded.
+     * @param count The number of landmarks. It is reduced to the number of vertices if greater.
+     * @param selection How the landmarks are chosen.
+     * @return LandmarkHeuristic - The heuristic.
+     */
+    public static <T> LandmarkHeuristic build(IGraph<T> network, int count, LandmarkSelection selection) {
+        if (count < 1) {
+            throw new IllegalArgumentException("There must be at least one landmark");
+        }
+
+        GraphCompressedSparseRow<T> graph = network.snapshot();
+        GraphCompressedSparseRow<T> reverse = graph.transpose();
+        int n = graph.getVertices().size();
+        int k = Math.min(count, n);
+        if (k == 0) {
+            return new LandmarkHeuristic(new int[0], new int[0], new int[0], 0);
+        }
+        int[] landmarks = new int[k];
+        int[] fromLandmark = new int[k * n];
+        int[] toLandmark = graph.isDirected() ? new int[k * n] : fromLandmark;
+
+        if (selection == LandmarkSelection.DEGREE) {
+            Integer[] order = new Integer[n];
+            int[] offsets = graph.getOffsets();
+            int[] reverseOffsets = reverse.getOffsets();
+            for (int v = 0; v < n; v++) {
+                order[v] = v;
+            }
+            Arrays.sort(order, (u, v) -> Integer.compare(
+                    offsets[v + 1] - offsets[v] + reverseOffsets[v + 1] - reverseOffsets[v],
+                    offsets[u + 1] - offsets[u] + reverseOffsets[u + 1] - reverseOffsets[u]));
+            for (int i = 0; i < k; i++) {
+                landmarks[i] = order[i];
+            }
+        }
+
+        // farthest-point selection: start from the vertex farthest from vertex 0, then keep adding the vertex farthest from every landmark so far
+        long[] closest = new long[n];
+        Arrays.fill(closest, Long.MAX_VALUE);
+        int next = 0;
+        if (selection == LandmarkSelection.FARTHEST) {
+            try (TraversalContext context = graph.queryDijkstra(graph.getVertices().get(0).getValue())) {
+                next = farthest(context.getDistances(), closest, n);
+            }
+        }
+
+        for (int i = 0; i < k; i++) {
+            if (selection == LandmarkSelection.FARTHEST) {
+                landmarks[i] = next;
+            }
+            T value = graph.getVertices().get(landmarks[i]).getValue();
+            try (TraversalContext context = graph.queryDijkstra(value)) {
+                System.arraycopy(context.getDistances(), 0, fromLandmark, i * n, n);
+            }
+            if (graph.isDirected()) {
+                try (TraversalContext context = reverse.queryDijkstra(value)) {
+                    System.arraycopy(context.getDistances(), 0, toLandmark, i * n, n);
+                }
+            }
+
+            if (selection == LandmarkSelection.FARTHEST) {
+                for (int v = 0; v < n; v++) {
+                    closest[v] = Math.min(closest[v], fromLandmark[i * n + v]);
+                }
+                closest[landmarks[i]] = -1;
+                next = farthest(null, closest, n);
+            }
+        }
+
+        return new LandmarkHeuristic(landmarks, fromLandmark, toLandmark, n);
+    }
+
+    /**
+     * Method: farthest - Returns the vertex with the greatest distance. Unreached vertices count as the farthest, so every part of a disconnected network gets a landmark.
+     * @param distance The distances of a single search, or null to use the closest landmark distances.
+     * @param closest The distance from every vertex to its closest landmark.
+     * @param n The number of vertices.
+     * @return int - The farthest vertex.
+     */
+    private static int farthest(int[] distance, long[] closest, int n) {
+        int best = 0;
+        long bestDistance = -1;
+        for (int v = 0; v < n; v++) {
+            long d = distance == null ? closest[v] : distance[v];
+            if (d > bestDistance) {
+                best = v;
+                bestDistance = d;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Method: estimate - Returns the largest triangle inequality lower bound given by the landmarks. Landmarks that cannot reach a vertex, or cannot be reached from it, give no bound.
+     * @param vertex The id of the vertex the estimate starts from.
+     * @param destination The id of the destination vertex.
+     * @return int - A lower bound on the weight of the shortest path from the vertex to the destination.
+     */
+    @Override
+    public int estimate(int vertex, int destination) {
+        int bound = 0;
+        for (int i = 0, base = 0; i < this.landmarks.length; i++, base += this.size) {
+            int fromV = this.fromLandmark[base + vertex];
+            int fromT = this.fromLandmark[base + destination];
+            if (fromV != Integer.MAX_VALUE && fromT != Integer.MAX_VALUE) {
+                bound = Math.max(bound, fromT - fromV);
+            }
+            int toV = this.toLandmark[base + vertex];
+            int toT = this.toLandmark[base + destination];
+            if (toV != Integer.MAX_VALUE && toT != Integer.MAX_VALUE) {
+                bound = Math.max(bound, toV - toT);
+            }
+        }
+        return bound;
+    }
+
+    /**
+     * Method: getLandmarks - Returns the ids of the landmarks.
+     * @return int[] - A copy of the landmark ids.
+     */
+    public int[] getLandmarks() {
+        return this.landmarks.clone();
+    }
+}
@@ -0,0 +1,10 @@
+package graph;
+
+/**
+ * Enum name: LandmarkSelection
+ * General Description: The ways of choosing the landmark vertices of a LandmarkHeuristic. FARTHEST repeatedly picks the vertex farthest from the landmarks chosen so far, which spreads the landmarks over the edges of the network. DEGREE picks the vertices with the most connections, the hub airports.
+ */
+public enum LandmarkSelection {
+    FARTHEST,
+    DEGREE
+}
@@ -0,0 +1,231 @@
+package graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Class name: MinimumSpanningForest
+ * General Description: This class computes the minimum spanning forest of a compressed graph: one minimum spanning tree for every connected part of the network, without choosing a root. Kruskal's algorithm sorts a primitive array of edge keys and joins the components with a union-find. Boruvka's algorithm works in rounds: every component picks its cheapest outgoing edge in parallel on a ForkJoinPool, then the picked edges contract the components, so there are at most log2(n) rounds. Edges with the same weight are ordered by their position in the graph, which makes the forest unique, so both algorithms return the same edges. The direction of the edges of a directed graph is ignored.
+ */
+public class MinimumSpanningForest {
+    public static final int PARALLEL_THRESHOLD = 1 << 16;
+    private static final int EDGES_PER_TASK = 4096;
+
+    /**
+     * Method: MinimumSpanningForest - Not instantiable, the class only has static methods.
+     */
+    private MinimumSpanningForest() {
+    }
+
+    /**
+     * Method: compute - Computes the minimum spanning forest with Kruskal's algorithm, or with the parallel Boruvka algorithm on the common ForkJoinPool once the graph has at least PARALLEL_THRESHOLD edges.
+     * @param graph The graph whose forest is computed.
+     * @return List<Edge<T>> - The edges of the forest.
+     */
+    public static <T> List<Edge<T>> compute(GraphCompressedSparseRow<T> graph) {
+        if (graph.getEdgeCount() >= PARALLEL_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            return boruvka(graph);
+        }
+        return kruskal(graph);
+    }
+
+    /**
+     * Method: kruskal - Computes the minimum spanning forest with Kruskal's algorithm.
+     * @param graph The graph whose forest is computed.
+     * @return List<Edge<T>> - The edges of the forest, by increasing weight.
+     */
+    public static <T> List<Edge<T>> kruskal(GraphCompressedSparseRow<T> graph) {
+        EdgeArrays edges = new EdgeArrays(graph);
+        long[] keys = new long[edges.count];
+        for (int i = 0; i < edges.count; i++) {
+            keys[i] = edges.key(i);
+        }
+        Arrays.sort(keys);
+
+        int n = graph.getVertices().size();
+        UnionFind components = new UnionFind(n);
+        List<Edge<T>> forest = new ArrayList<>(Math.max(n - 1, 0));
+        for (int k = 0; k < keys.length && components.getCount() > 1; k++) {
+            int i = (int) keys[k];
+            if (components.union(edges.sources[i], edges.targets[i])) {
+                forest.add(edges.toEdge(graph, i));
+            }
+        }
+        return forest;
+    }
+
+    /**
+     * Method: boruvka - Computes the minimum spanning forest with Boruvka's algorithm on the common ForkJoinPool.
+     * @param graph The graph whose forest is computed.
+     * @return List<Edge<T>> - The edges of the forest.
+     */
+    public static <T> List<Edge<T>> boruvka(GraphCompressedSparseRow<T> graph) {
+        return boruvka(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Method: boruvka - Computes the minimum spanning forest with Boruvka's algorithm on the given pool.
+     * @param graph The graph whose forest is computed.
+     * @param pool The pool where the cheapest edges are searched.
+     * @return List<Edge<T>> - The edges of the forest.
+     */
+    public static <T> List<Edge<T>> boruvka(GraphCompressedSparseRow<T> graph, ForkJoinPool pool) {
+        EdgeArrays edges = new EdgeArrays(graph);
+        int n = graph.getVertices().size();
+        UnionFind components = new UnionFind(n);
+        int[] component = new int[n];
+        for (int v = 0; v < n; v++) {
+            component[v] = v;
+        }
+
+        List<Edge<T>> forest = new ArrayList<>(Math.max(n - 1, 0));
+        AtomicLongArray cheapest = new AtomicLongArray(n);
+        boolean merged = true;
+        while (merged && components.getCount() > 1) {
+            for (int c = 0; c < n; c++) {
+                cheapest.set(c, Long.MAX_VALUE);
+            }
+            if (edges.count > 0) {
+                pool.invoke(new CheapestEdges(edges, component, cheapest, 0, edges.count));
+            }
+
+            merged = false;
+            for (int c = 0; c < n; c++) {
+                long key = cheapest.get(c);
+                if (key != Long.MAX_VALUE) {
+                    int i = (int) key;
+                    if (components.union(edges.sources[i], edges.targets[i])) {
+                        forest.add(edges.toEdge(graph, i));
+                        merged = true;
+                    }
+                }
+            }
+
+            for (int v = 0; v < n; v++) {
+                component[v] = components.find(v);
+            }
+        }
+        return forest;
+    }
+
+    /**
+     * Class name: EdgeArrays
+     * General Description: The edges of a graph in parallel primitive arrays, each undirected edge only once.
+     */
+    private static class EdgeArrays {
+        private final int[] sources;
+        private final int[] targets;
+        private final int[] weights;
+        private final int count;
+
+        /**
+         * Method: EdgeArrays - Collects the edges of a graph. An undirected edge is stored in both directions in the graph and kept once here.
+         * @param graph The graph whose edges are collected.
+         */
+        private EdgeArrays(GraphCompressedSparseRow<?> graph) {
+            int[] offsets = graph.getOffsets();
+            int[] graphTargets = graph.getTargets();
+            int[] graphWeights = graph.getWeights();
+            this.sources = new int[graphTargets.length];
+            this.targets = new int[graphTargets.length];
+            this.weights = new int[graphTargets.length];
+
+            int k = 0;
+            for (int u = 0; u < offsets.length - 1; u++) {
+                for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                    int v = graphTargets[e];
+                    if (u != v && (graph.isDirected() || u < v)) {
+                        this.sources[k] = u;
+                        this.targets[k] = v;
+                        this.weights[k] = graphWeights[e];
+                        k++;
+                    }
+                }
+            }
+            this.count = k;
+        }
+
+        /**
+         * Method: key - Packs the weight of an edge in the high half of a long and its position in the low half, so that sorting the keys orders the edges by weight and then by position.
+         * @param i The position of the edge.
+         * @return long - The key of the edge.
+         */
+        private long key(int i) {
+            return ((long) this.weights[i] << 32) | i;
+        }
+
+        /**
+         * Method: toEdge - Translates an edge into the values of its vertices.
+         * @param graph The graph the edges were collected from.
+         * @param i The position of the edge.
+         * @return Edge<T> - The edge.
+         */
+        private <T> Edge<T> toEdge(GraphCompressedSparseRow<T> graph, int i) {
+            List<Vertex_CSR<T>> all = graph.getVertices();
+            return new Edge<>(all.get(this.sources[i]).getValue(), all.get(this.targets[i]).getValue(), this.weights[i]);
+        }
+    }
+
+    /**
+     * Class name: CheapestEdges
+     * General Description: A fork/join task that offers every edge of a range that joins two different components as the cheapest edge of both components, splitting the range in halves until it is small enough.
+     */
+    private static class CheapestEdges extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final EdgeArrays edges;
+        private final int[] component;
+        private final AtomicLongArray cheapest;
+        private final int from;
+        private final int to;
+
+        /**
+         * Method: CheapestEdges - Creates a task for the edges from (inclusive) to to (exclusive).
+         */
+        CheapestEdges(EdgeArrays edges, int[] component, AtomicLongArray cheapest, int from, int to) {
+            this.edges = edges;
+            this.component = component;
+            this.cheapest = cheapest;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Method: compute - Processes the range directly, or splits it in two parallel halves.
+         */
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= EDGES_PER_TASK) {
+                for (int i = this.from; i < this.to; i++) {
+                    int cu = this.component[this.edges.sources[i]];
+                    int cv = this.component[this.edges.targets[i]];
+                    if (cu != cv) {
+                        long key = this.edges.key(i);
+                        offer(cu, key);
+                        offer(cv, key);
+                    }
+                }
+            } else {
+                int middle = (this.from + this.to) >>> 1;
+                invokeAll(new CheapestEdges(this.edges, this.component, this.cheapest, this.from, middle),
+                        new CheapestEdges(this.edges, this.component, this.cheapest, middle, this.to));
+            }
+        }
+
+        /**
+         * Method: offer - Keeps the key as the cheapest edge of a component if it is smaller than the current one.
+         * @param c The component.
+         * @param key The key of the edge.
+         */
+        private void offer(int c, long key) {
+            long current = this.cheapest.get(c);
+            while (key < current && !this.cheapest.compareAndSet(c, current, key)) {
+                current = this.cheapest.get(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package graph;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Class name: ParallelBreadthFirstSearch
+ * General Description: Level-synchronous breadth first search over a compressed graph on a ForkJoinPool. Every level splits the frontier in ranges that are expanded in parallel. A vertex is claimed by setting its bit in a shared visited bitset with a compare-and-set, so exactly one thread wins it and writes its distance and parent, and the winners append their vertices to the next frontier in blocks reserved with a single atomic add. Frontiers smaller than VERTICES_PER_TASK are expanded on the calling thread without forking.
+ */
+public class ParallelBreadthFirstSearch {
+    private static final int VERTICES_PER_TASK = 512;
+
+    /**
+     * Method: ParallelBreadthFirstSearch - Not instantiable, the class only has static methods.
+     */
+    private ParallelBreadthFirstSearch() {
+    }
+
+    /**
+     * Method: search - Runs the breadth first search from a vertex. The context receives the number of edges to every reached vertex, a parent on a shortest path and the BLACK state, the other vertices keep their WHITE state and a distance of Integer.MAX_VALUE.
+     * @param graph The graph to be searched.
+     * @param source The id of the vertex where the search starts.
+     * @param context A context reset for the vertices of the graph.
+     * @param pool The pool where the levels are expanded.
+     */
+    static void search(GraphCompressedSparseRow<?> graph, int source, TraversalContext context, ForkJoinPool pool) {
+        int n = graph.getVertices().size();
+        int[] distance = context.getDistances();
+        int[] parent = context.getParents();
+        byte[] state = context.getStates();
+        AtomicLongArray visited = new AtomicLongArray((n + 63) >>> 6);
+        int[] frontier = context.getQueue();
+        int[] next = new int[n];
+        AtomicInteger tail = new AtomicInteger();
+
+        claim(visited, source);
+        distance[source] = 0;
+        frontier[0] = source;
+        int size = 1;
+        int level = 0;
+
+        while (size > 0) {
+            level++;
+            tail.set(0);
+            Level task = new Level(graph.getOffsets(), graph.getTargets(), visited, distance, parent, frontier, next, tail, level, 0, size);
+            if (size <= VERTICES_PER_TASK) {
+                task.compute();
+            } else {
+                pool.invoke(task);
+            }
+
+            size = tail.get();
+            int[] swap = frontier;
+            frontier = next;
+            next = swap;
+        }
+
+        for (int v = 0; v < n; v++) {
+            if (distance[v] != Integer.MAX_VALUE) {
+                state[v] = TraversalContext.BLACK;
+            }
+        }
+    }
+
+    /**
+     * Method: claim - Sets the bit of a vertex in the visited bitset if no other thread set it first.
+     * @param visited The visited bitset.
+     * @param v The id of the vertex.
+     * @return boolean - true if this call set the bit, false if it was already set.
+     */
+    private static boolean claim(AtomicLongArray visited, int v) {
+        int w = v >>> 6;
+        long bit = 1L << v;
+        long current = visited.get(w);
+        while ((current & bit) == 0) {
+            if (visited.compareAndSet(w, current, current | bit)) {
+                return true;
+            }
+            current = visited.get(w);
+        }
+        return false;
+    }
+
+    /**
+     * Class name: Level
+     * General Description: A fork/join task that expands a range of the frontier of one level, splitting the range in halves until it is small enough.
+     */
+    private static class Level extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] offsets;
+        private final int[] targets;
+        private final AtomicLongArray visited;
+        private final int[] distance;
+        private final int[] parent;
+        private final int[] frontier;
+        private final int[] next;
+        private final AtomicInteger tail;
+        private final int level;
+        private final int from;
+        private final int to;
+
+        /**
+         * Method: Level - Creates a task for the frontier positions from (inclusive) to to (exclusive).
+         */
+        Level(int[] offsets, int[] targets, AtomicLongArray visited, int[] distance, int[] parent, int[] frontier, int[] next, AtomicInteger tail, int level, int from, int to) {
+            this.offsets = offsets;
+            this.targets = targets;
+            this.visited = visited;
+            this.distance = distance;
+            this.parent = parent;
+            this.frontier = frontier;
+            this.next = next;
+            this.tail = tail;
+            this.level = level;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Method: compute - Expands the range directly, or splits it in two parallel halves. The vertices claimed by the range are gathered in a local buffer and copied to the next frontier at once.
+         */
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= VERTICES_PER_TASK) {
+                int[] claimed = new int[16];
+                int count = 0;
+                for (int i = this.from; i < this.to; i++) {
+                    int u = this.frontier[i];
+                    for (int e = this.offsets[u]; e < this.offsets[u + 1]; e++) {
+                        int v = this.targets[e];
+                        if (claim(this.visited, v)) {
+                            this.distance[v] = this.level;
+                            this.parent[v] = u;
+                            if (count == claimed.length) {
+                                claimed = Arrays.copyOf(claimed, count * 2);
+                            }
+                            claimed[count++] = v;
+                        }
+                    }
+                }
+                if (count > 0) {
+                    System.arraycopy(claimed, 0, this.next, this.tail.getAndAdd(count), count);
+                }
+            } else {
+                int middle = (this.from + this.to) >>> 1;
+                invokeAll(new Level(this.offsets, this.targets, this.visited, this.distance, this.parent, this.frontier, this.next, this.tail, this.level, this.from, middle),
+                        new Level(this.offsets, this.targets, this.visited, this.distance, this.parent, this.frontier, this.next, this.tail, this.level, middle, this.to));
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package graph;
+
+import java.util.List;
+
+/**
+ * Class name: ParetoPath
+ * General Description: A path of a graph with two totals, one for each weight of its edges. The weight of the path is its primary total and the secondary total is kept beside it, so a set of these paths can describe every trade-off between both weights.
+ */
+public class ParetoPath<T> extends Path<T> {
+    private final int secondaryWeight;
+
+    /**
+     * Method: ParetoPath - Creates a path with the given vertices and totals.
+     * @param vertices The values of the vertices of the path, from the source to the destination.
+     * @param weight The total primary weight of the path.
+     * @param secondaryWeight The total secondary weight of the path.
+     */
+    public ParetoPath(List<T> vertices, int weight, int secondaryWeight) {
+        super(vertices, weight);
+        this.secondaryWeight = secondaryWeight;
+    }
+
+    /**
+     * Method: getWeight - Returns the total of the selected weight of the path.
+     * @param channel The weight to be added up.
+     * @return int - The sum of the selected weight of the edges of the path.
+     */
+    public int getWeight(WeightChannel channel) {
+        return channel.select(getWeight(), this.secondaryWeight);
+    }
+
+    /**
+     * Method: getSecondaryWeight - Returns the total secondary weight of the path.
+     * @return int - The sum of the secondary weights of the edges of the path.
+     */
+    public int getSecondaryWeight() {
+        return this.secondaryWeight;
+    }
+
+    /**
+     * Method: dominates - Tells whether this path is at least as good as another one in both weights and better in one of them.
+     * @param other The path to compare with.
+     * @return boolean - true if this path dominates the other one, false otherwise.
+     */
+    public boolean dominates(ParetoPath<?> other) {
+        return getWeight() <= other.getWeight() && this.secondaryWeight <= other.secondaryWeight
+                && (getWeight() < other.getWeight() || this.secondaryWeight < other.secondaryWeight);
+    }
+
+    /**
+     * Method: toString - Returns the vertices of the path joined by arrows, followed by both of its weights.
+     * @return String - A string representation of the path.
+     */
+    @Override
+    public String toString() {
+        String path = super.toString();
+        return path.substring(0, path.lastIndexOf(" (")) + " (" + getWeight() + ", " + this.secondaryWeight + ")";
+    }
+}
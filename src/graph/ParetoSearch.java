@@ -0,0 +1,235 @@
+package graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Class name: ParetoSearch
+ * General Description: Bi-objective label setting search that finds, in a single pass, every route between two vertices that is not beaten in both weights by another route: the one with the smallest primary weight, the one with the smallest secondary weight and every trade-off in between. A label is a partial route that ends at a vertex. Labels are settled in lexicographic order of their (primary, secondary) totals, so a new label is dominated exactly when its secondary total is not smaller than the smallest secondary total already settled at its vertex or at the destination. That check costs O(1) per label. The labels live in flat primitive arrays whose size is bounded by a limit, and the slots of dominated labels are reused. The weights must not be negative.
+ */
+public class ParetoSearch {
+    public static final int DEFAULT_LABEL_LIMIT = 1 << 20;
+
+    /**
+     * Method: ParetoSearch - The class only has static methods.
+     */
+    private ParetoSearch() {
+    }
+
+    /**
+     * Method: search - Finds the Pareto front of the routes between two vertices with the default label limit.
+     * @param graph The graph to search, with both weights on its edges.
+     * @param source The origin vertex.
+     * @param destination The target vertex.
+     * @return List<ParetoPath<T>> - The non-dominated routes, by increasing primary weight and decreasing secondary weight, or an empty list if the destination cannot be reached.
+     */
+    public static <T> List<ParetoPath<T>> search(GraphCompressedSparseRow<T> graph, T source, T destination) {
+        return search(graph, source, destination, DEFAULT_LABEL_LIMIT);
+    }
+
+    /**
+     * Method: search - Finds the Pareto front of the routes between two vertices. Routes with the same totals are only reported once.
+     * @param graph The graph to search, with both weights on its edges.
+     * @param source The origin vertex.
+     * @param destination The target vertex.
+     * @param labelLimit The largest number of labels kept in memory at the same time.
+     * @return List<ParetoPath<T>> - The non-dominated routes, by increasing primary weight and decreasing secondary weight, or an empty list if the destination cannot be reached.
+     * @throws IllegalStateException If the search needs more labels than the limit.
+     */
+    public static <T> List<ParetoPath<T>> search(GraphCompressedSparseRow<T> graph, T source, T destination, int labelLimit) {
+        int s = graph.getIndex(source);
+        int t = graph.getIndex(destination);
+        if (s == -1 || t == -1) {
+            throw new IllegalArgumentException("Vertex does not exist");
+        }
+        if (labelLimit < 1) {
+            throw new IllegalArgumentException("Label limit must be positive");
+        }
+
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int[] primary = graph.getWeights();
+        int[] secondary = graph.getSecondaryWeights();
+        for (int e = 0; e < primary.length; e++) {
+            if (primary[e] < 0 || secondary[e] < 0) {
+                throw new IllegalArgumentException("Weights must not be negative");
+            }
+        }
+
+        int[] best = new int[offsets.length - 1];
+        Arrays.fill(best, Integer.MAX_VALUE);
+
+        Labels labels = new Labels(labelLimit);
+        List<Integer> front = new ArrayList<>();
+        labels.push(s, -1, 0, 0);
+
+        while (!labels.isEmpty()) {
+            int l = labels.poll();
+            int u = labels.vertex[l];
+            int b = labels.second[l];
+            if (b >= best[u] || b >= best[t]) {
+                labels.release(l);
+                continue;
+            }
+
+            best[u] = b;
+            if (u == t) {
+                front.add(l);
+                continue;
+            }
+
+            int a = labels.first[l];
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int v = targets[e];
+                long nextA = (long) a + primary[e];
+                long nextB = (long) b + secondary[e];
+                if (nextA > Integer.MAX_VALUE || nextB >= best[v] || nextB >= best[t]) {
+                    continue;
+                }
+                labels.push(v, l, (int) nextA, (int) nextB);
+            }
+        }
+
+        List<? extends Vertex<T>> all = graph.getVertices();
+        List<ParetoPath<T>> paths = new ArrayList<>(front.size());
+        for (int l : front) {
+            LinkedList<T> vertices = new LinkedList<>();
+            for (int k = l; k != -1; k = labels.parent[k]) {
+                vertices.addFirst(all.get(labels.vertex[k]).getValue());
+            }
+            paths.add(new ParetoPath<>(new ArrayList<>(vertices), labels.first[l], labels.second[l]));
+        }
+        return paths;
+    }
+
+    /**
+     * Class name: Labels
+     * General Description: The labels of a search stored in parallel arrays, together with a binary min-heap of the labels that are not settled yet, ordered by their primary total and then by their secondary total. Released slots are kept in a free list and reused.
+     */
+    private static class Labels {
+        private final int limit;
+        private int[] vertex;
+        private int[] parent;
+        private int[] first;
+        private int[] second;
+        private int[] heap;
+        private int[] free;
+        private int size;
+        private int heapSize;
+        private int freeSize;
+
+        /**
+         * Method: Labels - Creates an empty store.
+         * @param limit The largest number of labels the store can hold.
+         */
+        private Labels(int limit) {
+            this.limit = limit;
+            int capacity = Math.min(limit, 64);
+            this.vertex = new int[capacity];
+            this.parent = new int[capacity];
+            this.first = new int[capacity];
+            this.second = new int[capacity];
+            this.heap = new int[capacity];
+            this.free = new int[capacity];
+        }
+
+        /**
+         * Method: push - Stores a new label and adds it to the heap.
+         * @param v The vertex where the label ends.
+         * @param p The label it extends, or -1 for the source.
+         * @param a The primary total of the label.
+         * @param b The secondary total of the label.
+         */
+        private void push(int v, int p, int a, int b) {
+            int l;
+            if (this.freeSize > 0) {
+                l = this.free[--this.freeSize];
+            } else {
+                if (this.size == this.limit) {
+                    throw new IllegalStateException("Label limit exceeded");
+                }
+                if (this.size == this.vertex.length) {
+                    int capacity = (int) Math.min(this.limit, 2L * this.size);
+                    this.vertex = Arrays.copyOf(this.vertex, capacity);
+                    this.parent = Arrays.copyOf(this.parent, capacity);
+                    this.first = Arrays.copyOf(this.first, capacity);
+                    this.second = Arrays.copyOf(this.second, capacity);
+                    this.heap = Arrays.copyOf(this.heap, capacity);
+                    this.free = Arrays.copyOf(this.free, capacity);
+                }
+                l = this.size++;
+            }
+            this.vertex[l] = v;
+            this.parent[l] = p;
+            this.first[l] = a;
+            this.second[l] = b;
+
+            int i = this.heapSize++;
+            while (i > 0) {
+                int up = (i - 1) >>> 1;
+                if (!less(l, this.heap[up])) {
+                    break;
+                }
+                this.heap[i] = this.heap[up];
+                i = up;
+            }
+            this.heap[i] = l;
+        }
+
+        /**
+         * Method: poll - Removes the smallest label from the heap.
+         * @return int - The slot of the label.
+         */
+        private int poll() {
+            int top = this.heap[0];
+            int last = this.heap[--this.heapSize];
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= this.heapSize) {
+                    break;
+                }
+                if (child + 1 < this.heapSize && less(this.heap[child + 1], this.heap[child])) {
+                    child++;
+                }
+                if (!less(this.heap[child], last)) {
+                    break;
+                }
+                this.heap[i] = this.heap[child];
+                i = child;
+            }
+            if (this.heapSize > 0) {
+                this.heap[i] = last;
+            }
+            return top;
+        }
+
+        /**
+         * Method: release - Frees the slot of a dominated label so it can be reused.
+         * @param l The slot of the label.
+         */
+        private void release(int l) {
+            this.free[this.freeSize++] = l;
+        }
+
+        /**
+         * Method: isEmpty - Checks if the heap is empty.
+         * @return boolean - true if there are no labels left to settle, false otherwise.
+         */
+        private boolean isEmpty() {
+            return this.heapSize == 0;
+        }
+
+        /**
+         * Method: less - Compares two labels in lexicographic order of their totals.
+         * @param x The slot of the first label.
+         * @param y The slot of the second label.
+         * @return boolean - true if the first label goes before the second one, false otherwise.
+         */
+        private boolean less(int x, int y) {
+            return this.first[x] < this.first[y] || (this.first[x] == this.first[y] && this.second[x] < this.second[y]);
+        }
+    }
+}
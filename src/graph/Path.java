@@ -0,0 +1,125 @@
+package graph;
+
+import java.util.*;
+
+/**
+ * Class name: Path
+ * General Description: This class represents a path of a graph as the sequence of the values of its vertices, from the source to the destination, together with its total weight.
+ */
+public class Path<T> {
+    private final List<T> vertices;
+    private final int weight;
+
+    /**
+     * Method: Path - Creates a path with the given vertices and total weight.
+     * @param vertices The values of the vertices of the path, from the source to the destination.
+     * @param weight The total weight of the path.
+     */
+    public Path(List<T> vertices, int weight) {
+        this.vertices = Collections.unmodifiableList(vertices);
+        this.weight = weight;
+    }
+
+    /**
+     * Method: fromContext - Builds the path to a destination by following the parents stored in a query context from the destination back to the source of the query.
+     * @param graph The graph the query ran on, used to translate ids into values.
+     * @param context The context holding the parents and distances of the query.
+     * @param destination The id of the destination vertex.
+     * @return Path<T> - The path from the source of the query to the destination, or null if the destination was not reached.
+     */
+    public static <T> Path<T> fromContext(IGraph<T> graph, TraversalContext context, int destination) {
+        if (context.getDistance(destination) == Integer.MAX_VALUE) {
+            return null;
+        }
+
+        List<? extends Vertex<T>> all = graph.getVertices();
+        LinkedList<T> vertices = new LinkedList<>();
+        for (int v = destination; v != -1; v = context.getParent(v)) {
+            vertices.addFirst(all.get(v).getValue());
+        }
+
+        return new Path<>(new ArrayList<>(vertices), context.getDistance(destination));
+    }
+
+    /**
+     * Method: getVertices - Returns the values of the vertices of the path, from the source to the destination.
+     * @return List<T> - An unmodifiable list of the vertices of the path.
+     */
+    public List<T> getVertices() {
+        return this.vertices;
+    }
+
+    /**
+     * Method: getSource - Returns the first vertex of the path.
+     * @return T - The source of the path.
+     */
+    public T getSource() {
+        return this.vertices.get(0);
+    }
+
+    /**
+     * Method: getDestination - Returns the last vertex of the path.
+     * @return T - The destination of the path.
+     */
+    public T getDestination() {
+        return this.vertices.get(this.vertices.size() - 1);
+    }
+
+    /**
+     * Method: getWeight - Returns the total weight of the path.
+     * @return int - The sum of the weights of the edges of the path.
+     */
+    public int getWeight() {
+        return this.weight;
+    }
+
+    /**
+     * Method: getEdgeCount - Returns the number of edges of the path.
+     * @return int - The number of edges of the path.
+     */
+    public int getEdgeCount() {
+        return this.vertices.size() - 1;
+    }
+
+    /**
+     * Method: equals - Two paths are equal if they visit the same vertices in the same order and have the same weight.
+     * @param o The object to compare with.
+     * @return boolean - true if both paths are equal, false otherwise.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Path)) {
+            return false;
+        }
+        Path<?> path = (Path<?>) o;
+        return this.weight == path.weight && this.vertices.equals(path.vertices);
+    }
+
+    /**
+     * Method: hashCode - Returns a hash code consistent with equals.
+     * @return int - The hash code of the path.
+     */
+    @Override
+    public int hashCode() {
+        return 31 * this.vertices.hashCode() + this.weight;
+    }
+
+    /**
+     * Method: toString - Returns the vertices of the path joined by arrows, followed by its weight.
+     * @return String - A string representation of the path.
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (T vertex : this.vertices) {
+            if (sb.length() > 0) {
+                sb.append(" --> ");
+            }
+            sb.append(vertex);
+        }
+        return sb.append(" (").append(this.weight).append(")").toString();
+    }
+}
@@ -0,0 +1,178 @@
+package graph;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Class name: RouteEngine
+ * General Description: This class answers shortest path, minimum spanning tree and reachability queries concurrently. It works on a frozen snapshot of a network, so the queries never lock and never see a half-applied change, and every query runs on its own pooled TraversalContext in a thread of a configurable executor.
+ */
+public class RouteEngine<T> implements AutoCloseable {
+    private final GraphCompressedSparseRow<T> graph;
+    private final ExecutorService executor;
+    private final boolean ownsExecutor;
+
+    /**
+     * Method: RouteEngine - Creates an engine over a snapshot of the given network with its own fixed pool of daemon threads.
+     * @param graph The network to be queried. Later changes to it are not seen by the engine.
+     * @param threads The number of threads used to answer queries.
+     */
+    public RouteEngine(IGraph<T> graph, int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Number of threads must be positive");
+        }
+        this.graph = graph.snapshot();
+        AtomicInteger count = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "route-engine-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.ownsExecutor = true;
+    }
+
+    /**
+     * Method: RouteEngine - Creates an engine over a snapshot of the given network that answers queries in the given executor, for example a virtual thread per task executor. The executor is not shut down when the engine is closed.
+     * @param graph The network to be queried. Later changes to it are not seen by the engine.
+     * @param executor The executor where the queries run.
+     */
+    public RouteEngine(IGraph<T> graph, ExecutorService executor) {
+        this.graph = graph.snapshot();
+        this.executor = executor;
+        this.ownsExecutor = false;
+    }
+
+    /**
+     * Method: shortestPath - Finds the shortest path between two vertices with Dijkstra's algorithm.
+     * @param source The origin vertex.
+     * @param destination The target vertex.
+     * @return CompletableFuture<Path<T>> - A future completed with the shortest path, or with null if the destination cannot be reached.
+     */
+    public CompletableFuture<Path<T>> shortestPath(T source, T destination) {
+        return CompletableFuture.supplyAsync(() -> {
+            int d = indexOf(destination);
+            try (TraversalContext context = this.graph.queryDijkstra(source)) {
+                return Path.fromContext(this.graph, context, d);
+            }
+        }, this.executor);
+    }
+
+    /**
+     * Method: shortestPaths - Finds the shortest path for every pair of a batch of queries. The queries run in parallel.
+     * @param sources The origin vertex of every query.
+     * @param destinations The target vertex of every query, parallel to sources.
+     * @return CompletableFuture<List<Path<T>>> - A future completed with the shortest path of every query, or null for the queries whose destination cannot be reached.
+     */
+    public CompletableFuture<List<Path<T>>> shortestPaths(List<T> sources, List<T> destinations) {
+        if (sources.size() != destinations.size()) {
+            throw new IllegalArgumentException("Sources and destinations must have the same size");
+        }
+
+        List<CompletableFuture<Path<T>>> futures = new ArrayList<>(sources.size());
+        for (int i = 0; i < sources.size(); i++) {
+            futures.add(shortestPath(sources.get(i), destinations.get(i)));
+        }
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+            List<Path<T>> paths = new ArrayList<>(futures.size());
+            for (CompletableFuture<Path<T>> future : futures) {
+                paths.add(future.join());
+            }
+            return paths;
+        });
+    }
+
+    /**
+     * Method: minimumSpanningTree - Finds the minimum spanning tree of the component of the root with Prim's algorithm, which stops at the boundary of the component.
+     * @param root The vertex from which the Prim algorithm starts.
+     * @return CompletableFuture<List<Edge<T>>> - A future completed with the edges of the tree, each one from the parent to the child.
+     */
+    public CompletableFuture<List<Edge<T>>> minimumSpanningTree(T root) {
+        return CompletableFuture.supplyAsync(() -> {
+            List<Edge<T>> edges = new ArrayList<>();
+            try (TraversalContext context = this.graph.queryPrimComponent(root)) {
+                for (int v = 0; v < context.size(); v++) {
+                    if (context.getParent(v) != -1) {
+                        edges.add(new Edge<>(valueOf(context.getParent(v)), valueOf(v), context.getDistance(v)));
+                    }
+                }
+            }
+            return edges;
+        }, this.executor);
+    }
+
+    /**
+     * Method: isReachable - Checks with a BFS if there is a path between two vertices.
+     * @param source The origin vertex.
+     * @param destination The target vertex.
+     * @return CompletableFuture<Boolean> - A future completed with true if the destination can be reached from the source.
+     */
+    public CompletableFuture<Boolean> isReachable(T source, T destination) {
+        return CompletableFuture.supplyAsync(() -> {
+            int d = indexOf(destination);
+            try (TraversalContext context = this.graph.queryBFS(source)) {
+                return context.isVisited(d);
+            }
+        }, this.executor);
+    }
+
+    /**
+     * Method: reachableFrom - Finds with a BFS every vertex that can be reached from a source, including the source.
+     * @param source The origin vertex.
+     * @return CompletableFuture<List<T>> - A future completed with the reachable vertices, in id order.
+     */
+    public CompletableFuture<List<T>> reachableFrom(T source) {
+        return CompletableFuture.supplyAsync(() -> {
+            List<T> reachable = new ArrayList<>();
+            try (TraversalContext context = this.graph.queryBFS(source)) {
+                for (int v = 0; v < context.size(); v++) {
+                    if (context.isVisited(v)) {
+                        reachable.add(valueOf(v));
+                    }
+                }
+            }
+            return reachable;
+        }, this.executor);
+    }
+
+    /**
+     * Method: getGraph - Returns the snapshot the engine answers queries on.
+     * @return GraphCompressedSparseRow<T> - The frozen network.
+     */
+    public GraphCompressedSparseRow<T> getGraph() {
+        return this.graph;
+    }
+
+    /**
+     * Method: close - Shuts down the threads of the engine if the engine created them. Queries already submitted are still answered.
+     */
+    @Override
+    public void close() {
+        if (this.ownsExecutor) {
+            this.executor.shutdown();
+        }
+    }
+
+    /**
+     * Method: indexOf - Returns the id of a vertex of the snapshot.
+     * @param vertex The value of the vertex.
+     * @return int - The id of the vertex.
+     */
+    private int indexOf(T vertex) {
+        int index = this.graph.getIndex(vertex);
+        if (index == -1) {
+            throw new IllegalArgumentException("Vertex does not exist");
+        }
+        return index;
+    }
+
+    /**
+     * Method: valueOf - Returns the value of the vertex of the snapshot with the given id.
+     * @param id The id of the vertex.
+     * @return T - The value of the vertex.
+     */
+    private T valueOf(int id) {
+        return this.graph.getVertices().get(id).getValue();
+    }
+}
@@ -0,0 +1,104 @@
+package graph;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Class name: ShortestPathTree
+ * General Description: The result of a single source Dijkstra search, kept in primitive parent and distance arrays indexed by vertex id. Once built it answers the path to any destination in time proportional to the length of the path. It is immutable and can be shared between threads.
+ */
+public class ShortestPathTree<T> {
+    private final GraphCompressedSparseRow<T> graph;
+    private final int source;
+    private final int[] distances;
+    private final int[] parents;
+
+    /**
+     * Method: ShortestPathTree - Creates an instance of the ShortestPathTree class.
+     * @param graph The snapshot the search ran on, used to translate ids into values.
+     * @param source The id of the source vertex.
+     * @param distances The distance of every vertex, or Integer.MAX_VALUE if it is unreachable.
+     * @param parents The parent of every vertex in the tree, or -1 for the source and the unreachable vertices.
+     */
+    public ShortestPathTree(GraphCompressedSparseRow<T> graph, int source, int[] distances, int[] parents) {
+        this.graph = graph;
+        this.source = source;
+        this.distances = distances;
+        this.parents = parents;
+    }
+
+    /**
+     * Method: compute - Runs Dijkstra's algorithm from a source vertex of a snapshot and keeps its result.
+     * @param graph The snapshot to search.
+     * @param source The source vertex.
+     * @return ShortestPathTree<T> - The shortest path tree of the source.
+     */
+    public static <T> ShortestPathTree<T> compute(GraphCompressedSparseRow<T> graph, T source) {
+        int n = graph.getVertices().size();
+        try (TraversalContext context = graph.queryDijkstra(source)) {
+            int[] distances = new int[n];
+            int[] parents = new int[n];
+            System.arraycopy(context.getDistances(), 0, distances, 0, n);
+            System.arraycopy(context.getParents(), 0, parents, 0, n);
+            return new ShortestPathTree<>(graph, graph.getIndex(source), distances, parents);
+        }
+    }
+
+    /**
+     * Method: getPath - Returns the shortest path from the source of the tree to a destination.
+     * @param destination The destination vertex.
+     * @return Path<T> - The shortest path, or null if the destination cannot be reached from the source.
+     */
+    public Path<T> getPath(T destination) {
+        int t = index(destination);
+        if (this.distances[t] == Integer.MAX_VALUE) {
+            return null;
+        }
+
+        ArrayList<Vertex_CSR<T>> all = this.graph.getVertices();
+        LinkedList<T> vertices = new LinkedList<>();
+        for (int v = t; v != -1; v = this.parents[v]) {
+            vertices.addFirst(all.get(v).getValue());
+        }
+        return new Path<>(new ArrayList<>(vertices), this.distances[t]);
+    }
+
+    /**
+     * Method: getDistance - Returns the weight of the shortest path from the source of the tree to a vertex.
+     * @param vertex The destination vertex.
+     * @return int - The distance, or Integer.MAX_VALUE if the vertex cannot be reached.
+     */
+    public int getDistance(T vertex) {
+        return this.distances[index(vertex)];
+    }
+
+    /**
+     * Method: getSource - Returns the source vertex of the tree.
+     * @return T - The source of the tree.
+     */
+    public T getSource() {
+        return this.graph.getVertices().get(this.source).getValue();
+    }
+
+    /**
+     * Method: size - Returns the number of vertices of the tree.
+     * @return int - The number of vertices.
+     */
+    public int size() {
+        return this.distances.length;
+    }
+
+    /**
+     * Method: index - Returns the id of a vertex of the tree.
+     * @param vertex The value of the vertex.
+     * @return int - The id of the vertex.
+     */
+    private int index(T vertex) {
+        int v = this.graph.getIndex(vertex);
+        if (v == -1) {
+            throw new IllegalArgumentException("Vertex does not exist");
+        }
+        return v;
+    }
+}
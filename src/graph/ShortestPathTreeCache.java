@@ -0,0 +1,250 @@
+package graph;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Class name: ShortestPathTreeCache
+ * General Description: A least recently used cache of shortest path trees of one graph, keyed by the version of the graph, the source vertex and the weight channel. The cache is bounded by an estimate of the memory its trees use. Every access compares the version of the graph with the version the entries were computed for, so adding or removing a vertex or an edge drops every entry. The cache is thread-safe; trees are computed outside the lock.
+ */
+public class ShortestPathTreeCache<T> {
+    public static final long DEFAULT_MAX_BYTES = 16L * 1024 * 1024;
+    private static final long ENTRY_OVERHEAD = 128;
+
+    private final IGraph<T> graph;
+    private final long maxBytes;
+    private final LinkedHashMap<Key<T>, ShortestPathTree<T>> trees;
+    private final Set<Key<T>> requested;
+    private long bytes;
+    private int version;
+    private long hits;
+    private long misses;
+
+    /**
+     * Method: ShortestPathTreeCache - Creates an empty cache for a graph with the default memory bound.
+     * @param graph The graph whose trees are cached.
+     */
+    public ShortestPathTreeCache(IGraph<T> graph) {
+        this(graph, DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * Method: ShortestPathTreeCache - Creates an empty cache for a graph.
+     * @param graph The graph whose trees are cached.
+     * @param maxBytes The greatest estimated number of bytes the cached trees may use.
+     */
+    public ShortestPathTreeCache(IGraph<T> graph, long maxBytes) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive");
+        }
+        this.graph = graph;
+        this.maxBytes = maxBytes;
+        this.trees = new LinkedHashMap<>(16, 0.75f, true);
+        this.requested = new HashSet<>();
+        this.version = graph.getVersion();
+    }
+
+    /**
+     * Method: getTree - Returns the shortest path tree of a source vertex, computing it with Dijkstra's algorithm if it is not cached.
+     * @param source The source vertex.
+     * @param channel The weight to minimize.
+     * @return ShortestPathTree<T> - The shortest path tree of the source.
+     */
+    public ShortestPathTree<T> getTree(T source, WeightChannel channel) {
+        int current;
+        synchronized (this) {
+            current = validate();
+            ShortestPathTree<T> tree = this.trees.get(new Key<>(current, source, channel));
+            if (tree != null) {
+                this.hits++;
+                return tree;
+            }
+            this.misses++;
+        }
+
+        return computeTree(current, source, channel);
+    }
+
+    /**
+     * Method: findTree - Returns the cached shortest path tree of a source vertex. On the first miss of a source since the graph changed nothing is computed and null is returned, so a single route can be answered with a point-to-point search; a source that misses again is worth a full tree, which is computed and cached.
+     * @param source The source vertex.
+     * @param channel The weight to minimize.
+     * @return ShortestPathTree<T> - The shortest path tree of the source, or null on its first miss.
+     */
+    public ShortestPathTree<T> findTree(T source, WeightChannel channel) {
+        int current;
+        synchronized (this) {
+            current = validate();
+            Key<T> key = new Key<>(current, source, channel);
+            ShortestPathTree<T> tree = this.trees.get(key);
+            if (tree != null) {
+                this.hits++;
+                return tree;
+            }
+            this.misses++;
+            if (this.requested.add(key)) {
+                return null;
+            }
+        }
+        return computeTree(current, source, channel);
+    }
+
+    /**
+     * Method: computeTree - Computes the shortest path tree of a source vertex outside the lock and caches it if the graph did not change meanwhile.
+     * @param current The version of the graph the tree is computed for.
+     * @param source The source vertex.
+     * @param channel The weight to minimize.
+     * @return ShortestPathTree<T> - The shortest path tree of the source.
+     */
+    private ShortestPathTree<T> computeTree(int current, T source, WeightChannel channel) {
+        ShortestPathTree<T> tree = ShortestPathTree.compute(this.graph.snapshot(channel), source);
+
+        synchronized (this) {
+            if (validate() == current) {
+                long size = sizeOf(tree);
+                if (size <= this.maxBytes && this.trees.put(new Key<>(current, source, channel), tree) == null) {
+                    this.bytes += size;
+                    evict();
+                }
+            }
+        }
+        return tree;
+    }
+
+    /**
+     * Method: shortestPath - Returns the shortest path between two vertices from the cached tree of the source, in time proportional to the length of the path once the tree is cached.
+     * @param source The origin vertex.
+     * @param destination The target vertex.
+     * @param channel The weight to minimize.
+     * @return Path<T> - The shortest path, or null if the destination cannot be reached from the source.
+     */
+    public Path<T> shortestPath(T source, T destination, WeightChannel channel) {
+        return getTree(source, channel).getPath(destination);
+    }
+
+    /**
+     * Method: clear - Removes every tree from the cache and forgets which sources missed.
+     */
+    public synchronized void clear() {
+        this.trees.clear();
+        this.requested.clear();
+        this.bytes = 0;
+    }
+
+    /**
+     * Method: size - Returns the number of cached trees.
+     * @return int - The number of cached trees.
+     */
+    public synchronized int size() {
+        validate();
+        return this.trees.size();
+    }
+
+    /**
+     * Method: getBytes - Returns the estimated number of bytes used by the cached trees.
+     * @return long - The estimated memory use.
+     */
+    public synchronized long getBytes() {
+        return this.bytes;
+    }
+
+    /**
+     * Method: getHits - Returns the number of requests answered from the cache.
+     * @return long - The number of hits.
+     */
+    public synchronized long getHits() {
+        return this.hits;
+    }
+
+    /**
+     * Method: getMisses - Returns the number of requests that did not find their tree in the cache.
+     * @return long - The number of misses.
+     */
+    public synchronized long getMisses() {
+        return this.misses;
+    }
+
+    /**
+     * Method: validate - Drops every entry if the graph changed since they were computed. Must be called holding the lock.
+     * @return int - The current version of the graph.
+     */
+    private int validate() {
+        int current = this.graph.getVersion();
+        if (current != this.version) {
+            clear();
+            this.version = current;
+        }
+        return current;
+    }
+
+    /**
+     * Method: evict - Removes the least recently used trees until the cache fits in its memory bound. Must be called holding the lock.
+     */
+    private void evict() {
+        Iterator<ShortestPathTree<T>> iterator = this.trees.values().iterator();
+        while (this.bytes > this.maxBytes && iterator.hasNext()) {
+            this.bytes -= sizeOf(iterator.next());
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Method: sizeOf - Estimates the memory used by a tree: two int arrays plus a fixed overhead.
+     * @param tree The tree to measure.
+     * @return long - The estimated number of bytes.
+     */
+    private static long sizeOf(ShortestPathTree<?> tree) {
+        return 8L * tree.size() + ENTRY_OVERHEAD;
+    }
+
+    /**
+     * Class name: Key
+     * General Description: The key of a cached tree: the graph version, the source vertex and the weight channel.
+     */
+    private static final class Key<T> {
+        private final int version;
+        private final T source;
+        private final WeightChannel channel;
+
+        /**
+         * Method: Key - Creates a key.
+         * @param version The version of the graph.
+         * @param source The source vertex.
+         * @param channel The weight channel.
+         */
+        Key(int version, T source, WeightChannel channel) {
+            this.version = version;
+            this.source = source;
+            this.channel = channel;
+        }
+
+        /**
+         * Method: equals - Two keys are equal if they have the same version, source and weight channel.
+         * @param o The object to compare with.
+         * @return boolean - true if both keys are equal, false otherwise.
+         */
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key<?> key = (Key<?>) o;
+            return this.version == key.version && this.channel == key.channel && Objects.equals(this.source, key.source);
+        }
+
+        /**
+         * Method: hashCode - Returns a hash code consistent with equals.
+         * @return int - The hash code of the key.
+         */
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.version, this.source, this.channel);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package graph;
+
+import java.util.Arrays;
+
+/**
+ * Class name: TraversalContext
+ * General Description: This class holds the state of one graph query (BFS, DFS, Dijkstra or Prim) in primitive arrays indexed by vertex id, instead of in the fields of the shared vertices. Contexts are taken from a TraversalContextPool and must be closed when the caller has read the results, so that their arrays can be reused by the next query.
+ */
+public class TraversalContext implements AutoCloseable {
+    public static final byte WHITE = 0;
+    public static final byte GRAY = 1;
+    public static final byte BLACK = 2;
+
+    private final TraversalContextPool pool;
+    private final IndexedMinHeap heap;
+    private int[] distances;
+    private int[] parents;
+    private int[] discoveryTimes;
+    private int[] finishingTimes;
+    private int[] queue;
+    private byte[] states;
+    private int size;
+    private int time;
+    private boolean open;
+
+    /**
+     * Method: TraversalContext - Creates a context that belongs to the given pool.
+     * @param pool The pool the context is returned to when it is closed.
+     * @param capacity The number of vertices the context can hold before growing.
+     */
+    TraversalContext(TraversalContextPool pool, int capacity) {
+        this.pool = pool;
+        this.heap = new IndexedMinHeap(capacity);
+        this.distances = new int[capacity];
+        this.parents = new int[capacity];
+        this.discoveryTimes = new int[capacity];
+        this.finishingTimes = new int[capacity];
+        this.queue = new int[capacity];
+        this.states = new byte[capacity];
+    }
+
+    /**
+     * Method: reset - Prepares the context for a new query over a graph with the given number of vertices. Every distance is set to Integer.MAX_VALUE, every parent to -1 and every state to WHITE.
+     * @param size The number of vertices of the graph.
+     */
+    void reset(int size) {
+        if (size > this.states.length) {
+            int capacity = Math.max(size, this.states.length * 2);
+            this.distances = new int[capacity];
+            this.parents = new int[capacity];
+            this.discoveryTimes = new int[capacity];
+            this.finishingTimes = new int[capacity];
+            this.queue = new int[capacity];
+                this.states = new byte[capacity];
+            this.heap.ensureCapacity(capacity);
+        }
+
+        Arrays.fill(this.distances, 0, size, Integer.MAX_VALUE);
+        Arrays.fill(this.parents, 0, size, -1);
+        Arrays.fill(this.discoveryTimes, 0, size, 0);
+        Arrays.fill(this.finishingTimes, 0, size, 0);
+        Arrays.fill(this.states, 0, size, WHITE);
+        this.heap.clear();
+        this.size = size;
+        this.time = 0;
+        this.open = true;
+    }
+
+    /**
+     * Method: nextTime - Advances the DFS clock of the query.
+     * @return int - The new value of the clock.
+     */
+    int nextTime() {
+        return ++this.time;
+    }
+
+    /**
+     * Method: getDistances - Returns the distance array of the query.
+     * @return int[] - The distance of every vertex, indexed by id.
+     */
+    int[] getDistances() {
+        return this.distances;
+    }
+
+    /**
+     * Method: getParents - Returns the parent array of the query.
+     * @return int[] - The parent id of every vertex, or -1, indexed by id.
+     */
+    int[] getParents() {
+        return this.parents;
+    }
+
+    /**
+     * Method: getDiscoveryTimes - Returns the DFS discovery time array of the query.
+     * @return int[] - The discovery time of every vertex, indexed by id.
+     */
+    int[] getDiscoveryTimes() {
+        return this.discoveryTimes;
+    }
+
+    /**
+     * Method: getFinishingTimes - Returns the DFS finishing time array of the query.
+     * @return int[] - The finishing time of every vertex, indexed by id.
+     */
+    int[] getFinishingTimes() {
+        return this.finishingTimes;
+    }
+
+    /**
+     * Method: getStates - Returns the state (WHITE, GRAY or BLACK) array of the query.
+     * @return byte[] - The state of every vertex, indexed by id.
+     */
+    byte[] getStates() {
+        return this.states;
+    }
+
+    /**
+     * Method: getQueue - Returns a scratch array with room for one entry per vertex, used as BFS queue.
+     * @return int[] - The scratch array.
+     */
+    int[] getQueue() {
+        return this.queue;
+    }
+
+    /**
+     * Method: getHeap - Returns the empty indexed heap of the query, used by Dijkstra and Prim.
+     * @return IndexedMinHeap - The heap of the query.
+     */
+    IndexedMinHeap getHeap() {
+        return this.heap;
+    }
+
+    /**
+     * Method: size - Returns the number of vertices of the graph the query ran on.
+     * @return int - The number of vertices.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Method: getDistance - Returns the distance of a vertex found by the query: the number of edges for BFS, the path weight for Dijkstra and the weight of the tree edge for Prim.
+     * @param id The id of the vertex.
+     * @return int - The distance, or Integer.MAX_VALUE if the vertex was not reached.
+     */
+    public int getDistance(int id) {
+        return this.distances[id];
+    }
+
+    /**
+     * Method: getParent - Returns the parent of a vertex in the tree built by the query.
+     * @param id The id of the vertex.
+     * @return int - The id of the parent, or -1 if the vertex has no parent.
+     */
+    public int getParent(int id) {
+        return this.parents[id];
+    }
+
+    /**
+     * Method: getDiscoveryTime - Returns the DFS discovery time of a vertex.
+     * @param id The id of the vertex.
+     * @return int - The discovery time, or 0 if the vertex was not discovered.
+     */
+    public int getDiscoveryTime(int id) {
+        return this.discoveryTimes[id];
+    }
+
+    /**
+     * Method: getFinishingTime - Returns the DFS finishing time of a vertex.
+     * @param id The id of the vertex.
+     * @return int - The finishing time, or 0 if the vertex was not finished.
+     */
+    public int getFinishingTime(int id) {
+        return this.finishingTimes[id];
+    }
+
+    /**
+     * Method: getState - Returns the state of a vertex at the end of the query.
+     * @param id The id of the vertex.
+     * @return byte - WHITE if the vertex was never reached, BLACK if it was fully processed.
+     */
+    public byte getState(int id) {
+        return this.states[id];
+    }
+
+    /**
+     * Method: isVisited - Checks if the query reached a vertex.
+     * @param id The id of the vertex.
+     * @return boolean - true if the vertex was reached, false otherwise.
+     */
+    public boolean isVisited(int id) {
+        return this.states[id] != WHITE;
+    }
+
+    /**
+     * Method: close - Returns the context to its pool. The context must not be used after it is closed.
+     */
+    @Override
+    public void close() {
+        if (this.open) {
+            this.open = false;
+            this.pool.release(this);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package graph;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Class name: TraversalContextPool
+ * General Description: A thread-safe pool of TraversalContext objects. Each query takes its own context, so several queries can run on the same graph at the same time, and closed contexts are handed to later queries so their arrays are not allocated again.
+ */
+public class TraversalContextPool {
+    private final Queue<TraversalContext> free;
+
+    /**
+     * Method: TraversalContextPool - Creates an empty pool.
+     */
+    public TraversalContextPool() {
+        this.free = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * Method: acquire - Takes a free context from the pool, or creates one if there is none, and resets it for a graph with the given number of vertices.
+     * @param size The number of vertices of the graph.
+     * @return TraversalContext - A context ready for a new query.
+     */
+    public TraversalContext acquire(int size) {
+        TraversalContext context = this.free.poll();
+        if (context == null) {
+            context = new TraversalContext(this, size);
+        }
+        context.reset(size);
+        return context;
+    }
+
+    /**
+     * Method: release - Puts a closed context back in the pool.
+     * @param context The context to be reused.
+     */
+    void release(TraversalContext context) {
+        this.free.offer(context);
+    }
+}
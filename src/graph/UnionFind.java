@@ -0,0 +1,88 @@
+package graph;
+
+/**
+ * Class name: UnionFind
+ * General Description: Disjoint sets of the int ids 0 .. n - 1 kept in two primitive arrays. Union by size keeps the trees shallow and find halves the path it walks, so a sequence of operations runs in almost linear time. It is not thread safe.
+ */
+public class UnionFind {
+    private final int[] parent;
+    private final int[] size;
+    private int count;
+
+    /**
+     * Method: UnionFind - Creates n sets, each one holding a single id.
+     * @param n The number of ids.
+     */
+    public UnionFind(int n) {
+        this.parent = new int[n];
+        this.size = new int[n];
+        for (int i = 0; i < n; i++) {
+            this.parent[i] = i;
+            this.size[i] = 1;
+        }
+        this.count = n;
+    }
+
+    /**
+     * Method: find - Returns the representative of the set of an id.
+     * @param x The id.
+     * @return int - The id that represents the set of x.
+     */
+    public int find(int x) {
+        while (this.parent[x] != x) {
+            this.parent[x] = this.parent[this.parent[x]];
+            x = this.parent[x];
+        }
+        return x;
+    }
+
+    /**
+     * Method: union - Joins the sets of two ids.
+     * @param x The first id.
+     * @param y The second id.
+     * @return boolean - true if both ids were in different sets, false if they already were in the same set.
+     */
+    public boolean union(int x, int y) {
+        int rootX = find(x);
+        int rootY = find(y);
+        if (rootX == rootY) {
+            return false;
+        }
+        if (this.size[rootX] < this.size[rootY]) {
+            int swap = rootX;
+            rootX = rootY;
+            rootY = swap;
+        }
+        this.parent[rootY] = rootX;
+        this.size[rootX] += this.size[rootY];
+        this.count--;
+        return true;
+    }
+
+    /**
+     * Method: connected - Checks if two ids are in the same set.
+     * @param x The first id.
+     * @param y The second id.
+     * @return boolean - true if both ids are in the same set, false otherwise.
+     */
+    public boolean connected(int x, int y) {
+        return find(x) == find(y);
+    }
+
+    /**
+     * Method: getSize - Returns the number of ids in the set of an id.
+     * @param x The id.
+     * @return int - The size of the set of x.
+     */
+    public int getSize(int x) {
+        return this.size[find(x)];
+    }
+
+    /**
+     * Method: getCount - Returns the number of disjoint sets.
+     * @return int - The number of sets.
+     */
+    public int getCount() {
+        return this.count;
+    }
+}
@@ -10,6 +10,7 @@ public class Vertex<T> {
     private int distance;
     private int discoveryTime;
     private int finishingTime;
+    private int index;
 
     /**
      * Method: Vertex - This constructor creates a Vertex<T> object with the specified value.
@@ -91,6 +92,22 @@ public class Vertex<T> {
         this.finishingTime = finishingTime;
     }
 
+    /**
+     * Method: getIndex - This method returns the id of the vertex in the registry of its graph.
+     * @return int - Returns an integer representing the id of the vertex.
+     */
+    public int getIndex() {
+        return this.index;
+    }
+
+    /**
+     * Method: setIndex - This method sets the id of the vertex. It is only called by the registry of the graph that owns the vertex.
+     * @param index The id to be set for the vertex.
+     */
+    void setIndex(int index) {
+        this.index = index;
+    }
+
     /**
      * Method: toString - This method returns a string representation of the vertex.
      * @return String - Returns a string representing the value of the vertex.
@@ -0,0 +1,123 @@
+package graph;
+
+import java.util.*;
+
+/**
+ * Class name: VertexRegistry
+ * General Description: This class keeps the vertices of a graph indexed by dense int ids. It holds a hash index from vertex value to id and the reverse list from id to vertex, and keeps both in sync when vertices are added or removed, so that lookups by value or by id take constant time.
+ */
+public class VertexRegistry<T, V extends Vertex<T>> {
+    private final Map<T, Integer> ids;
+    private final ArrayList<V> vertices;
+
+    /**
+     * Method: VertexRegistry - Creates an empty registry.
+     */
+    public VertexRegistry() {
+        this.ids = new HashMap<>();
+        this.vertices = new ArrayList<>();
+    }
+
+    /**
+     * Method: add - Registers a vertex with the next free id and stores that id in the vertex.
+     * @param vertex The vertex to be registered.
+     * @return int - The id given to the vertex.
+     */
+    public int add(V vertex) {
+        int id = this.vertices.size();
+        if (this.ids.putIfAbsent(vertex.getValue(), id) != null) {
+            throw new IllegalArgumentException("Vertex already exists " + vertex.getValue());
+        }
+        vertex.setIndex(id);
+        this.vertices.add(vertex);
+        return id;
+    }
+
+    /**
+     * Method: addAll - Registers a batch of vertices with consecutive ids. The whole batch is checked before any vertex is registered, so a batch with a repeated or an existing value leaves the registry unchanged.
+     * @param batch The vertices to be registered.
+     */
+    public void addAll(List<V> batch) {
+        Set<T> seen = new HashSet<>(batch.size() * 2);
+        for (V vertex : batch) {
+            if (this.ids.containsKey(vertex.getValue()) || !seen.add(vertex.getValue())) {
+                throw new IllegalArgumentException("Vertex already exists " + vertex.getValue());
+            }
+        }
+
+        this.vertices.ensureCapacity(this.vertices.size() + batch.size());
+        for (V vertex : batch) {
+            int id = this.vertices.size();
+            this.ids.put(vertex.getValue(), id);
+            vertex.setIndex(id);
+            this.vertices.add(vertex);
+        }
+    }
+
+    /**
+     * Method: remove - Removes the vertex with the given value in constant time. The last vertex is moved into the freed id, so the ids stay dense; only the id of that vertex changes.
+     * @param value The value of the vertex to be removed.
+     * @return V - The removed vertex, or null if no vertex has the given value.
+     */
+    public V remove(T value) {
+        Integer id = this.ids.remove(value);
+        if (id == null) {
+            return null;
+        }
+
+        int last = this.vertices.size() - 1;
+        V vertex = this.vertices.get(id);
+        V moved = this.vertices.remove(last);
+        if (id != last) {
+            moved.setIndex(id);
+            this.vertices.set(id, moved);
+            this.ids.put(moved.getValue(), id);
+        }
+        return vertex;
+    }
+
+    /**
+     * Method: getIndex - Returns the id of the vertex with the given value.
+     * @param value The value of the vertex to search for.
+     * @return int - The id of the vertex, or -1 if no vertex has the given value.
+     */
+    public int getIndex(T value) {
+        Integer id = this.ids.get(value);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Method: get - Returns the vertex with the given id.
+     * @param id The id of the vertex.
+     * @return V - The vertex with the given id.
+     */
+    public V get(int id) {
+        return this.vertices.get(id);
+    }
+
+    /**
+     * Method: getVertex - Returns the vertex with the given value.
+     * @param value The value of the vertex to search for.
+     * @return V - The vertex with the given value, or null if no vertex has the given value.
+     */
+    public V getVertex(T value) {
+        Integer id = this.ids.get(value);
+        return id == null ? null : this.vertices.get(id);
+    }
+
+    /**
+     * Method: size - Returns the number of registered vertices.
+     * @return int - The number of registered vertices.
+     */
+    public int size() {
+        return this.vertices.size();
+    }
+
+    /**
+     * Method: getVertices - Returns the registered vertices in id order. The list must not be modified directly.
+     * @return ArrayList<V> - The list of registered vertices.
+     */
+    public ArrayList<V> getVertices() {
+        return this.vertices;
+    }
+}
@@ -0,0 +1,35 @@
+package graph;
+
+/**
+ * Class name: Vertex_CSR
+ * General Description: This class extends the base class Vertex<T> and represents a vertex in a compressed sparse row graph. Its adjacency is not stored in the vertex itself but in the flat arrays of the graph. It has an additional parent field that is used in certain graph search and traversal algorithms.
+ */
+public class Vertex_CSR<T> extends Vertex<T> {
+
+    private Vertex_CSR<T> parent;
+
+    /**
+     * Method: Vertex_CSR - This constructor creates a Vertex_CSR<T> object with the specified value. It calls the constructor of the base class Vertex<T> to initialize the vertex value.
+     * @param value The value of the vertex.
+     */
+    public Vertex_CSR(T value) {
+        super(value);
+    }
+
+    /**
+     * Method: getParent - This method returns the parent of the vertex in the context of certain graph search and traversal algorithms.
+     * @return Vertex_CSR<T> - Returns the Vertex_CSR<T> object representing the parent of the vertex.
+     */
+    public Vertex_CSR<T> getParent() {
+        return this.parent;
+    }
+
+    /**
+     * Method: setParent - This method establishes the parent vertex of the current vertex in the context of certain graph search and traversal algorithms.
+     * @param parent The parent vertex to be established.
+     */
+    public void setParent(Vertex_CSR<T> parent) {
+        this.parent = parent;
+    }
+
+}
@@ -9,6 +9,8 @@ import java.util.*;
 public class Vertex_List<T> extends Vertex<T> {
     private Vertex_List<T> parent;
     private final Map<Vertex_List<T>, Integer> adjacent;
+    private final Map<Vertex_List<T>, Integer> secondaryAdjacent;
+    private final Set<Vertex_List<T>> incoming;
 
     /**
      * Method: Vertex_List - This constructor creates a Vertex_List<T> object with the specified value. It calls the constructor of the base class Vertex<T> to initialize the vertex value. It also initializes the adjacent field as a new HashMap.
@@ -17,6 +19,8 @@ public class Vertex_List<T> extends Vertex<T> {
     public Vertex_List(T value) {
         super(value);
         this.adjacent = new HashMap<>();
+        this.secondaryAdjacent = new HashMap<>();
+        this.incoming = new HashSet<>();
     }
 
     /**
@@ -41,15 +45,37 @@ public class Vertex_List<T> extends Vertex<T> {
      * @param weight The weight of the edge between the current vertex and the adjacent vertex.
      */
     public void addAdjacent(Vertex_List<T> vertexList, int weight) {
+        addAdjacent(vertexList, weight, weight);
+    }
+
+    /**
+     * Method: addAdjacent - This method adds a vertex adjacent to the current vertex with a primary and a secondary weight, and records the current vertex in the incoming vertices of the adjacent one.
+     * @param vertexList The adjacent vertex to be added.
+     * @param weight The primary weight of the edge.
+     * @param secondaryWeight The secondary weight of the edge.
+     */
+    public void addAdjacent(Vertex_List<T> vertexList, int weight, int secondaryWeight) {
         this.adjacent.put(vertexList, weight);
+        this.secondaryAdjacent.put(vertexList, secondaryWeight);
+        vertexList.incoming.add(this);
     }
 
     /**
-     * Method: removeAdjacent - This method removes an adjacent vertex from the current vertex in the adjacency list.
+     * Method: removeAdjacent - This method removes an adjacent vertex from the current vertex in the adjacency list, together with the reverse entry in its incoming vertices.
      * @param vertexList The adjacent vertex to be removed.
      */
     public void removeAdjacent(Vertex_List<T> vertexList) {
         this.adjacent.remove(vertexList);
+        this.secondaryAdjacent.remove(vertexList);
+        vertexList.incoming.remove(this);
+    }
+
+    /**
+     * Method: getIncoming - This method returns the vertices that have an edge to the current vertex.
+     * @return Set<Vertex_List<T>> - The vertices whose adjacency list holds the current vertex. The set must not be modified directly.
+     */
+    public Set<Vertex_List<T>> getIncoming() {
+        return this.incoming;
     }
 
     /**
@@ -60,4 +86,13 @@ public class Vertex_List<T> extends Vertex<T> {
         return this.adjacent;
     }
 
+    /**
+     * Method: getAdjacent - This method returns the adjacent vertices of the current vertex, along with the selected edge weights.
+     * @param channel The weight to be returned.
+     * @return Map<Vertex_List<T>, Integer> - The adjacent vertices and the selected weights of the edges connecting them to the current vertex.
+     */
+    public Map<Vertex_List<T>, Integer> getAdjacent(WeightChannel channel) {
+        return channel == WeightChannel.PRIMARY ? this.adjacent : this.secondaryAdjacent;
+    }
+
 }
@@ -0,0 +1,48 @@
+package graph;
+
+/**
+ * Enum name: WeightChannel
+ * General Description: Every edge carries two weights, for example the flight time and the ticket price. The channel selects which of them an algorithm minimizes. Edges added with a single weight hold it in both channels. In the adjacency matrix both weights are packed in one long, with the primary weight in the high half.
+ */
+public enum WeightChannel {
+    PRIMARY,
+    SECONDARY;
+
+    /**
+     * Method: fromOption - Translates the weight option of the menu into a channel: 0 is the primary weight and any other value the secondary one.
+     * @param weightOption The weight option.
+     * @return WeightChannel - The selected channel.
+     */
+    public static WeightChannel fromOption(int weightOption) {
+        return weightOption == 0 ? PRIMARY : SECONDARY;
+    }
+
+    /**
+     * Method: select - Returns the weight of this channel.
+     * @param primary The primary weight of the edge.
+     * @param secondary The secondary weight of the edge.
+     * @return int - The selected weight.
+     */
+    public int select(int primary, int secondary) {
+        return this == PRIMARY ? primary : secondary;
+    }
+
+    /**
+     * Method: unpack - Returns the weight of this channel from a packed pair.
+     * @param packed Both weights of an edge, as returned by pack.
+     * @return int - The selected weight.
+     */
+    public int unpack(long packed) {
+        return this == PRIMARY ? (int) (packed >> 32) : (int) packed;
+    }
+
+    /**
+     * Method: pack - Packs both weights of an edge in one long.
+     * @param primary The primary weight.
+     * @param secondary The secondary weight.
+     * @return long - The packed weights. It is 0 only when both weights are 0.
+     */
+    public static long pack(int primary, int secondary) {
+        return ((long) primary << 32) | (secondary & 0xffffffffL);
+    }
+}
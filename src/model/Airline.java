@@ -12,6 +12,15 @@ import java.util.*;
 public class Airline {
     private final GraphAdjacencyList<String> citiesGraphAL;
     private final GraphAdjacencyMatrix<String> citiesGraphAM;
+    private GraphCompressedSparseRow<String> citiesGraphCSR;
+    private final Map<String, double[]> coordinates;
+    private final ShortestPathTreeCache<String> routeCacheAL;
+    private final ShortestPathTreeCache<String> routeCacheAM;
+    private final boolean[] loaded;
+    private final List<DynamicSpanningForest<String>> backbones;
+    private final int[] backboneVersions;
+    private final List<GreatCircleHeuristic> heuristics;
+    private final int[] heuristicVersions;
 
     /**
      * Method: Airline - Constructor of the Airline class. Initializes city charts with adjacency lists and adjacency matrices.
@@ -21,11 +30,19 @@ public class Airline {
     public Airline() {
         this.citiesGraphAL = new GraphAdjacencyList<>(false);
         this.citiesGraphAM = new GraphAdjacencyMatrix<>(false);
+        this.coordinates = new HashMap<>();
+        this.routeCacheAL = new ShortestPathTreeCache<>(this.citiesGraphAL);
+        this.routeCacheAM = new ShortestPathTreeCache<>(this.citiesGraphAM);
+        this.loaded = new boolean[2];
+        this.backbones = new ArrayList<>(Arrays.asList(null, null, null, null));
+        this.backboneVersions = new int[4];
+        this.heuristics = new ArrayList<>(Arrays.asList(null, null, null, null));
+        this.heuristicVersions = new int[4];
     }
 
     /**
      * Method: loadCitties
-     * Loads the cities from a file and adds them to the corresponding chart according to the selected option.
+     * Loads the cities from a file and adds them in a single batch to the corresponding chart according to the selected option. A line may hold only the name of the city or the name followed by its latitude and longitude, as in "Miami - 25.7617 - -80.1918".
      * @param graphOption - An integer representing the selected chart option.
      * @return : Void
      */
@@ -33,55 +50,124 @@ public class Airline {
         try {
             BufferedReader br = new BufferedReader(new FileReader("resources\\cities.txt"));
             String line;
+            List<String> cities = new ArrayList<>();
             while ((line = br.readLine()) != null) {
-                if (graphOption == 1) {
-                    this.citiesGraphAL.addVertex(line);
-                } else {
-                    this.citiesGraphAM.addVertex(line);
-                }
+                cities.add(readCity(line));
             }
             br.close();
+            if (graphOption == 1) {
+                this.citiesGraphAL.addVertices(cities);
+            } else {
+                this.citiesGraphAM.addVertices(cities);
+            }
         } catch (IOException e) {
             e.printStackTrace();
         }
     }
 
+    /**
+     * Method: readCity
+     * Reads a line of the cities file, stores the coordinates of the city if the line has them and returns the name of the city.
+     * @param line - A line of the cities file.
+     * @return A String with the name of the city.
+     */
+    private String readCity(String line) {
+        String[] split = line.split(" - ");
+        if (split.length >= 3) {
+            this.coordinates.put(split[0], new double[]{Double.parseDouble(split[1]), Double.parseDouble(split[2])});
+        }
+        return split[0];
+    }
+
     /**
      * Method: loadConnections
-     * Loads the connections between cities from a file and adds them to the corresponding graph according to the selected options.
+     * Loads the connections between cities from a file and adds them to the corresponding graph. Every connection keeps both its minutes and its price, so the weight option only matters to the methods that read the graph.
      * @param weightOption - An integer representing the selected weight option.
      * @param graphOption - An integer representing the selected chart option.
      * @return : void
      */
     public void loadConnections(int weightOption, int graphOption) {
+        loadConnections(graphOption);
+    }
+
+    /**
+     * Method: loadConnections
+     * Loads the connections between cities from a file and adds them in a single batch, with the minutes as the primary weight and the price as the secondary weight, to the corresponding graph. The file is parsed a single time for every graph, so the routes added, changed or removed afterwards are kept.
+     * @param graphOption - An integer representing the selected chart option.
+     * @return : void
+     */
+    public void loadConnections(int graphOption) {
+        int slot = graphOption == 1 ? 0 : 1;
+        IGraph<String> graph = graphOption == 1 ? this.citiesGraphAL : this.citiesGraphAM;
+        if (this.loaded[slot]) {
+            return;
+        }
         try {
             BufferedReader br = new BufferedReader(new FileReader("resources\\connections.txt"));
             String line;
-            boolean isConnected = graphOption == 1 ? this.citiesGraphAL.isConnected() : this.citiesGraphAM.isConnected();
+            List<Edge<String>> connections = new ArrayList<>();
             while ((line = br.readLine()) != null) {
                 String[] split = line.split(" - ");
                 String city1 = split[0];
                 String city2 = split[1];
-                String weight;
-                if (weightOption == 0) {
-                    weight = split[2];
-                } else {
-                    weight = split[3].substring(1);
-                }
-                if (isConnected) {
-                    if (graphOption == 1) {
-                        this.citiesGraphAL.removeEdge(city1, city2);
-                    } else {
-                        this.citiesGraphAM.removeEdge(city1, city2);
-                    }
+                int minutes = Integer.parseInt(split[2]);
+                int price = Integer.parseInt(split[3].substring(1));
+                connections.add(new Edge<>(city1, city2, minutes, price));
+            }
+            br.close();
+            graph.addEdges(connections);
+            this.loaded[slot] = true;
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Method: loadCompressedGraph
+     * Reads the cities and the connections files a single time and builds an immutable compressed sparse row graph that holds both weights, exposing the selected one as its primary weight.
+     * @param weightOption - An integer representing the selected weight option.
+     * @return : void
+     */
+    public void loadCompressedGraph(int weightOption) {
+        try {
+            List<String> cities = new ArrayList<>();
+            Map<String, Integer> ids = new HashMap<>();
+            BufferedReader br = new BufferedReader(new FileReader("resources\\cities.txt"));
+            String line;
+            while ((line = br.readLine()) != null) {
+                String city = readCity(line);
+                ids.put(city, cities.size());
+                cities.add(city);
+            }
+            br.close();
+
+            int[] sources = new int[cities.size()];
+            int[] destinations = new int[cities.size()];
+            int[] minutes = new int[cities.size()];
+            int[] prices = new int[cities.size()];
+            int edges = 0;
+            br = new BufferedReader(new FileReader("resources\\connections.txt"));
+            while ((line = br.readLine()) != null) {
+                String[] split = line.split(" - ");
+                if (!ids.containsKey(split[0]) || !ids.containsKey(split[1])) {
+                    throw new IllegalArgumentException("Vertex does not exist " + split[0] + " " + split[1]);
                 }
-                if (graphOption == 1) {
-                    this.citiesGraphAL.addEdge(city1, city2, Integer.parseInt(weight));
-                } else {
-                    this.citiesGraphAM.addEdge(city1, city2, Integer.parseInt(weight));
+                if (edges == sources.length) {
+                    sources = Arrays.copyOf(sources, edges * 2 + 1);
+                    destinations = Arrays.copyOf(destinations, edges * 2 + 1);
+                    minutes = Arrays.copyOf(minutes, edges * 2 + 1);
+                    prices = Arrays.copyOf(prices, edges * 2 + 1);
                 }
+                sources[edges] = ids.get(split[0]);
+                destinations[edges] = ids.get(split[1]);
+                minutes[edges] = Integer.parseInt(split[2]);
+                prices[edges] = Integer.parseInt(split[3].substring(1));
+                edges++;
             }
             br.close();
+
+            this.citiesGraphCSR = GraphCompressedSparseRow.fromEdges(cities, sources, destinations, minutes, prices, edges, false)
+                    .withChannel(WeightChannel.fromOption(weightOption));
         } catch (IOException e) {
             e.printStackTrace();
         }
@@ -118,7 +204,7 @@ public class Airline {
         if (graphOption == 1) {
             ArrayList<Vertex_List<String>> vertices = this.citiesGraphAL.getVertices();
             for (Vertex_List<String> vertex : vertices) {
-                Map<Vertex_List<String>, Integer> adjacent = vertex.getAdjacent();
+                Map<Vertex_List<String>, Integer> adjacent = vertex.getAdjacent(WeightChannel.fromOption(weightOption));
                 for (Map.Entry<Vertex_List<String>, Integer> entry : adjacent.entrySet()) {
                     if (weightOption == 0) {
                         System.out.println(vertex.getValue() + " --> " + entry.getValue() + " minutes --> " + entry.getKey().getValue());
@@ -128,7 +214,7 @@ public class Airline {
                 }
             }
         } else {
-            int[][] connections = this.citiesGraphAM.getAdjacencyMatrix();
+            int[][] connections = this.citiesGraphAM.getAdjacencyMatrix(WeightChannel.fromOption(weightOption));
             ArrayList<Vertex_Matrix<String>> vertices = this.citiesGraphAM.getVertices();
             for (int i = 0; i < connections.length; i++) {
                 for (int j = 0; j < connections.length; j++) {
@@ -146,36 +232,122 @@ public class Airline {
 
     /**
      * Method: optimize
-     * Optimizes the selected graph using the Prim algorithm and displays the minimum spanning tree from the city "New York City".
+     * Displays the minimum spanning forest of the selected graph, which covers every city without starting from a fixed one. The forest is kept up to date by addRoute and removeRoute, so it is only computed from scratch when the network changes in another way.
+     * @param weightOption - An integer representing the selected weight option.
+     * @param graphOption - An integer representing the selected chart option.
+     * @return List<Edge<String>> - The connections of the minimum spanning forest.
+     */
+    public List<Edge<String>> optimize(int weightOption, int graphOption) {
+        System.out.println("\nMinimum spanning tree: \n");
+        List<Edge<String>> forest = getBackbone(weightOption, graphOption).getEdges();
+        for (Edge<String> edge : forest) {
+            if (weightOption == 0) {
+                System.out.println(edge.getSource() + " --> " + edge.getWeight() + " minutes --> " + edge.getDestination());
+            } else {
+                System.out.println(edge.getSource() + " --> $" + edge.getWeight() + " --> " + edge.getDestination());
+            }
+        }
+        return forest;
+    }
+
+    /**
+     * Method: getBackbone - Returns the minimum spanning forest of the selected graph on the selected weight. It is built the first time it is needed and again only if the graph changed without going through addRoute or removeRoute.
      * @param weightOption - An integer representing the selected weight option.
      * @param graphOption - An integer representing the selected chart option.
+     * @return DynamicSpanningForest<String> - The forest of the selected graph.
+     */
+    public DynamicSpanningForest<String> getBackbone(int weightOption, int graphOption) {
+        IGraph<String> graph = graphOption == 1 ? this.citiesGraphAL : this.citiesGraphAM;
+        WeightChannel channel = WeightChannel.fromOption(weightOption);
+        int slot = (graphOption == 1 ? 0 : 2) + channel.ordinal();
+        if (this.backbones.get(slot) == null || this.backboneVersions[slot] != graph.getVersion()) {
+            this.backbones.set(slot, DynamicSpanningForest.build(graph.snapshot(channel)));
+            this.backboneVersions[slot] = graph.getVersion();
+        }
+        return this.backbones.get(slot);
+    }
+
+    /**
+     * Method: addRoute - Adds a new connection between two cities and updates the minimum spanning forests of the graph that are already built.
+     * @param city1 A string representing the first city.
+     * @param city2 A string representing the second city.
+     * @param minutes The duration of the flight in minutes.
+     * @param price The price of the flight.
+     * @param graphOption - An integer representing the selected chart option.
      * @return : void
      */
-    public void optimize(int weightOption, int graphOption) {
-        System.out.println("\nMinimum spanning tree from New York City: \n");
-        if (graphOption == 1) {
-            this.citiesGraphAL.prim("New York City");
-            for (Vertex_List<String> vertex : citiesGraphAL.getVertices()) {
-                if (weightOption == 0) {
-                    System.out.println(vertex.getParent() + " --> " + vertex.getDistance() + " minutes --> " + vertex.getValue());
-                } else {
-                    System.out.println(vertex.getParent() + " --> $" + vertex.getDistance() + " --> " + vertex.getValue());
-                }
+    public void addRoute(String city1, String city2, int minutes, int price, int graphOption) {
+        IGraph<String> graph = graphOption == 1 ? this.citiesGraphAL : this.citiesGraphAM;
+        int version = graph.getVersion();
+        graph.addEdge(city1, city2, minutes, price);
+        for (WeightChannel channel : WeightChannel.values()) {
+            DynamicSpanningForest<String> backbone = currentBackbone(graph, graphOption, channel, version);
+            if (backbone != null) {
+                backbone.insertEdge(city1, city2, channel.select(minutes, price));
             }
-        } else {
-            this.citiesGraphAM.prim("New York City");
-            for (Vertex_Matrix<String> vertex : citiesGraphAM.getVertices()) {
-                if (weightOption == 0) {
-                    System.out.println(vertex.getParent() + " --> " + vertex.getDistance() + " minutes --> " + vertex.getValue());
-                } else {
-                    System.out.println(vertex.getParent() + " --> $" + vertex.getDistance() + " --> " + vertex.getValue());
-                }
+        }
+    }
+
+    /**
+     * Method: changeRoute - Changes the minutes and the price of the connection between two cities and updates the minimum spanning forests of the graph that are already built.
+     * @param city1 A string representing the first city.
+     * @param city2 A string representing the second city.
+     * @param minutes The new duration of the flight in minutes.
+     * @param price The new price of the flight.
+     * @param graphOption - An integer representing the selected chart option.
+     * @return : void
+     */
+    public void changeRoute(String city1, String city2, int minutes, int price, int graphOption) {
+        IGraph<String> graph = graphOption == 1 ? this.citiesGraphAL : this.citiesGraphAM;
+        int version = graph.getVersion();
+        graph.removeEdge(city1, city2);
+        graph.addEdge(city1, city2, minutes, price);
+        for (WeightChannel channel : WeightChannel.values()) {
+            DynamicSpanningForest<String> backbone = currentBackbone(graph, graphOption, channel, version);
+            if (backbone != null) {
+                backbone.updateWeight(city1, city2, channel.select(minutes, price));
             }
         }
     }
 
     /**
-     * Method: getShortestPath - Finds and displays the shortest route from an origin city to a destination city using Dijkstra's algorithm.
+     * Method: removeRoute - Removes the connection between two cities and updates the minimum spanning forests of the graph that are already built.
+     * @param city1 A string representing the first city.
+     * @param city2 A string representing the second city.
+     * @param graphOption - An integer representing the selected chart option.
+     * @return : void
+     */
+    public void removeRoute(String city1, String city2, int graphOption) {
+        IGraph<String> graph = graphOption == 1 ? this.citiesGraphAL : this.citiesGraphAM;
+        int version = graph.getVersion();
+        graph.removeEdge(city1, city2);
+        for (WeightChannel channel : WeightChannel.values()) {
+            DynamicSpanningForest<String> backbone = currentBackbone(graph, graphOption, channel, version);
+            if (backbone != null) {
+                backbone.removeEdge(city1, city2);
+            }
+        }
+    }
+
+    /**
+     * Method: currentBackbone - Returns a forest that was up to date before a change of the graph, and marks it as up to date with the changed graph.
+     * @param graph The changed graph.
+     * @param graphOption - An integer representing the selected chart option.
+     * @param channel The weight of the forest.
+     * @param version The version of the graph before the change.
+     * @return DynamicSpanningForest<String> - The forest, or null if it was not built or was out of date.
+     */
+    private DynamicSpanningForest<String> currentBackbone(IGraph<String> graph, int graphOption, WeightChannel channel, int version) {
+        int slot = (graphOption == 1 ? 0 : 2) + channel.ordinal();
+        if (this.backbones.get(slot) == null || this.backboneVersions[slot] != version) {
+            return null;
+        }
+        this.backboneVersions[slot] = graph.getVersion();
+        return this.backbones.get(slot);
+    }
+
+    /**
+     * Method: getShortestPath - Finds and displays the shortest route from an origin city to a destination city. A route from an origin asked for the first time is found with the A* search with a great-circle heuristic when every city has coordinates, and with a bidirectional Dijkstra search otherwise. Once an origin is asked again its shortest path tree is cached, so later routes from it only follow the tree until the network changes.
      * @param source A chain representing the city of origin.
      * @param destination A string representing the destination city.
      * @param weightOption An integer representing the selected weight option.
@@ -185,41 +357,236 @@ public class Airline {
     public void getShortestPath(String source, String destination, int weightOption, int graphOption) {
         System.out.println("\nShortest path from " + source + " to " + destination + ": \n");
         loadConnections(weightOption, graphOption);
-        if (graphOption == 1) {
-            Map<Vertex<String>, Vertex<String>> dijkstra = citiesGraphAL.dijkstra(source);
+        IGraph<String> graph = graphOption == 1 ? this.citiesGraphAL : this.citiesGraphAM;
+        ShortestPathTreeCache<String> cache = graphOption == 1 ? this.routeCacheAL : this.routeCacheAM;
+        WeightChannel channel = WeightChannel.fromOption(weightOption);
+        ShortestPathTree<String> tree = cache.findTree(source, channel);
+        Path<String> path;
+        if (tree != null) {
+            path = tree.getPath(destination);
+        } else {
+            GraphCompressedSparseRow<String> snapshot = graph.snapshot(channel);
+            GreatCircleHeuristic heuristic = getHeuristic(weightOption, graphOption);
+            path = heuristic.hasAllCoordinates()
+                    ? snapshot.shortestPath(source, destination, heuristic)
+                    : snapshot.shortestPath(source, destination);
+        }
+        if (path == null) {
+            System.out.println("There is no route from " + source + " to " + destination);
+            return;
+        }
+
+        List<String> cities = path.getVertices();
+        int[] distance = new int[cities.size()];
+        for (int i = 1; i < cities.size(); i++) {
+            distance[i] = distance[i - 1] + graph.getWeight(cities.get(i - 1), cities.get(i), channel);
+        }
+        for (int i = cities.size() - 1; i > 0; i--) {
             if (weightOption == 0) {
-                System.out.println(dijkstra.get(citiesGraphAL.getVertex(destination)) + " --> " + citiesGraphAL.getVertex(destination).getDistance() + " minutes --> " + citiesGraphAL.getVertex(destination).getValue());
-                Vertex<String> prev = dijkstra.get(citiesGraphAL.getVertex(destination));
-                while (prev != null && dijkstra.get(prev) != null) {
-                    System.out.println(dijkstra.get(prev) + " --> " + prev.getDistance() + " minutes --> " + prev.getValue());
-                    prev = dijkstra.get(prev);
-                }
+                System.out.println(cities.get(i - 1) + " --> " + distance[i] + " minutes --> " + cities.get(i));
             } else {
-                System.out.println(dijkstra.get(citiesGraphAL.getVertex(destination)) + " --> $" + citiesGraphAL.getVertex(destination).getDistance() + " --> " + citiesGraphAL.getVertex(destination).getValue());
-                Vertex<String> prev = dijkstra.get(citiesGraphAL.getVertex(destination));
-                while (prev != null && dijkstra.get(prev) != null) {
-                    System.out.println(dijkstra.get(prev) + " --> $" + prev.getDistance() + " --> " + prev.getValue());
-                    prev = dijkstra.get(prev);
-                }
+                System.out.println(cities.get(i - 1) + " --> $" + distance[i] + " --> " + cities.get(i));
             }
-        } else {
-            this.citiesGraphAM.dijkstra(source);
+        }
+    }
+
+    /**
+     * Method: getAlternativeRoutes - Finds and displays the best routes from an origin city to a destination city, from the shortest one to the k-th one, each route visiting every city at most once.
+     * @param source A string representing the city of origin.
+     * @param destination A string representing the destination city.
+     * @param k The number of routes.
+     * @param weightOption An integer representing the selected weight option.
+     * @param graphOption An integer representing the selected chart option.
+     * @return List<Path<String>> - At most k routes by increasing minutes or price, or an empty list if there is no route.
+     */
+    public List<Path<String>> getAlternativeRoutes(String source, String destination, int k, int weightOption, int graphOption) {
+        System.out.println("\nAlternative routes from " + source + " to " + destination + ": \n");
+        loadConnections(graphOption);
+        IGraph<String> graph = graphOption == 1 ? this.citiesGraphAL : this.citiesGraphAM;
+        List<Path<String>> routes = graph.kShortestPaths(source, destination, k, WeightChannel.fromOption(weightOption));
+        if (routes.isEmpty()) {
+            System.out.println("There is no route from " + source + " to " + destination);
+        }
+
+        for (Path<String> route : routes) {
             if (weightOption == 0) {
-                System.out.println(citiesGraphAM.getVertex(destination).getParent() + " --> " + citiesGraphAM.getVertex(destination).getDistance() + " minutes --> " + citiesGraphAM.getVertex(destination).getValue());
-                Vertex_Matrix<String> prev = citiesGraphAM.getVertex(destination).getParent();
-                while (prev != null && prev.getParent() != null) {
-                    System.out.println(prev.getParent() + " --> " + prev.getDistance() + " minutes --> " + prev.getValue());
-                    prev = prev.getParent();
-                }
+                System.out.println(route.getWeight() + " minutes: " + String.join(" --> ", route.getVertices()));
             } else {
-                System.out.println(citiesGraphAM.getVertex(destination).getParent() + " --> $" + citiesGraphAM.getVertex(destination).getDistance() + " --> " + citiesGraphAM.getVertex(destination).getValue());
-                Vertex_Matrix<String> prev = citiesGraphAM.getVertex(destination).getParent();
-                while (prev != null && prev.getParent() != null) {
-                    System.out.println(prev.getParent() + " --> $" + prev.getDistance() + " --> " + prev.getValue());
-                    prev = prev.getParent();
-                }
+                System.out.println("$" + route.getWeight() + ": " + String.join(" --> ", route.getVertices()));
             }
         }
+        return routes;
+    }
+
+    /**
+     * Method: getRouteWithinBudget - Finds and displays the cheapest route from an origin city to a destination city that takes at most a number of minutes, or the fastest route that costs at most a price.
+     * @param source A string representing the city of origin.
+     * @param destination A string representing the destination city.
+     * @param weightOption An integer representing the weight to minimize: 0 for the minutes within a price budget, 1 for the price within a time budget.
+     * @param budget The largest price, if the minutes are minimized, or the largest number of minutes, if the price is minimized.
+     * @param graphOption An integer representing the selected chart option.
+     * @return ParetoPath<String> - The route with its minutes and price, or null if no route meets the budget.
+     */
+    public ParetoPath<String> getRouteWithinBudget(String source, String destination, int weightOption, int budget, int graphOption) {
+        if (weightOption == 0) {
+            System.out.println("\nFastest route from " + source + " to " + destination + " for at most $" + budget + ": \n");
+        } else {
+            System.out.println("\nCheapest route from " + source + " to " + destination + " in at most " + budget + " minutes: \n");
+        }
+        loadConnections(graphOption);
+        IGraph<String> graph = graphOption == 1 ? this.citiesGraphAL : this.citiesGraphAM;
+        ParetoPath<String> route = graph.constrainedShortestPath(source, destination, WeightChannel.fromOption(weightOption), budget);
+        if (route == null) {
+            System.out.println("There is no route from " + source + " to " + destination + " within the budget");
+            return null;
+        }
+
+        System.out.println(route.getWeight() + " minutes, $" + route.getSecondaryWeight() + ": " + String.join(" --> ", route.getVertices()));
+        return route;
+    }
+
+    /**
+     * Method: getTradeOffRoutes - Finds and displays, in a single search, every route from an origin city to a destination city that is not both slower and more expensive than another route: from the fastest to the cheapest one.
+     * @param source A string representing the city of origin.
+     * @param destination A string representing the destination city.
+     * @param graphOption An integer representing the selected chart option.
+     * @return List<ParetoPath<String>> - The routes by increasing minutes and decreasing price, or an empty list if there is no route.
+     */
+    public List<ParetoPath<String>> getTradeOffRoutes(String source, String destination, int graphOption) {
+        System.out.println("\nRoutes from " + source + " to " + destination + " by time and cost: \n");
+        loadConnections(graphOption);
+        IGraph<String> graph = graphOption == 1 ? this.citiesGraphAL : this.citiesGraphAM;
+        List<ParetoPath<String>> routes = ParetoSearch.search(graph.snapshot(), source, destination);
+        if (routes.isEmpty()) {
+            System.out.println("There is no route from " + source + " to " + destination);
+        }
+
+        for (ParetoPath<String> route : routes) {
+            System.out.println(route.getWeight() + " minutes, $" + route.getSecondaryWeight() + ": " + String.join(" --> ", route.getVertices()));
+        }
+        return routes;
+    }
+
+    /**
+     * Method: getCriticalAirports - Finds and displays the cities whose closure would split the network, leaving some cities without any route between them.
+     * @param graphOption An integer representing the selected chart option.
+     * @return List<String> - The critical cities.
+     */
+    public List<String> getCriticalAirports(int graphOption) {
+        System.out.println("\nCritical airports: \n");
+        loadConnections(graphOption);
+        IGraph<String> graph = graphOption == 1 ? this.citiesGraphAL : this.citiesGraphAM;
+        List<String> airports = graph.articulationPoints();
+        for (String airport : airports) {
+            System.out.println(airport);
+        }
+        return airports;
+    }
+
+    /**
+     * Method: getCriticalRoutes - Finds and displays the connections whose cancellation would split the network, leaving some cities without any route between them.
+     * @param graphOption An integer representing the selected chart option.
+     * @return List<Edge<String>> - The critical connections.
+     */
+    public List<Edge<String>> getCriticalRoutes(int graphOption) {
+        System.out.println("\nCritical routes: \n");
+        loadConnections(graphOption);
+        IGraph<String> graph = graphOption == 1 ? this.citiesGraphAL : this.citiesGraphAM;
+        List<Edge<String>> routes = graph.bridges();
+        for (Edge<String> route : routes) {
+            System.out.println(route.getSource() + " - " + route.getDestination() + " - " + route.getWeight() + " minutes - $" + route.getSecondaryWeight());
+        }
+        return routes;
+    }
+
+    /**
+     * Method: getRouteCache - Returns the cache of shortest path trees of the selected graph.
+     * @param graphOption An integer representing the selected chart option.
+     * @return A ShortestPathTreeCache<String> object for the selected graph.
+     */
+    public ShortestPathTreeCache<String> getRouteCache(int graphOption) {
+        return graphOption == 1 ? this.routeCacheAL : this.routeCacheAM;
+    }
+
+    /**
+     * Method: getHeuristic - Returns the great-circle A* heuristic of the selected graph on the selected weight. It is built the first time it is needed and again only when the graph changes, so a route query does not scan every connection before its search starts.
+     * @param weightOption An integer representing the selected weight option.
+     * @param graphOption An integer representing the selected chart option.
+     * @return GreatCircleHeuristic - The heuristic for the ids of the graph.
+     */
+    public GreatCircleHeuristic getHeuristic(int weightOption, int graphOption) {
+        IGraph<String> graph = graphOption == 1 ? this.citiesGraphAL : this.citiesGraphAM;
+        WeightChannel channel = WeightChannel.fromOption(weightOption);
+        int slot = (graphOption == 1 ? 0 : 2) + channel.ordinal();
+        if (this.heuristics.get(slot) == null || this.heuristicVersions[slot] != graph.getVersion()) {
+            this.heuristics.set(slot, createHeuristic(graph.snapshot(channel)));
+            this.heuristicVersions[slot] = graph.getVersion();
+        }
+        return this.heuristics.get(slot);
+    }
+
+    /**
+     * Method: createHeuristic - Creates the great-circle A* heuristic for the given graph from the coordinates of the cities, with the smallest weight per kilometer of its connections.
+     * @param graph The graph the heuristic is used on, with the connections already loaded. Pass graph.snapshot(channel) to build it for a weight other than the primary one.
+     * @return A GreatCircleHeuristic object for the ids of the graph.
+     */
+    public GreatCircleHeuristic createHeuristic(IGraph<String> graph) {
+        List<? extends Vertex<String>> vertices = graph.getVertices();
+        double[] latitudes = new double[vertices.size()];
+        double[] longitudes = new double[vertices.size()];
+        for (int i = 0; i < vertices.size(); i++) {
+            double[] coordinate = this.coordinates.get(vertices.get(i).getValue());
+            latitudes[i] = coordinate == null ? Double.NaN : coordinate[0];
+            longitudes[i] = coordinate == null ? Double.NaN : coordinate[1];
+        }
+        return GreatCircleHeuristic.fromGraph(graph, latitudes, longitudes);
+    }
+
+    /**
+     * Method: createLandmarkHeuristic - Loads the connections and builds, for the selected weight, an A* heuristic from the distances to a few landmark cities. Unlike the great-circle heuristic it needs no coordinates and gives tight bounds for prices too. It must be built again after the network changes.
+     * @param weightOption An integer representing the selected weight option.
+     * @param graphOption An integer representing the selected chart option.
+     * @param landmarks The number of landmark cities.
+     * @return A LandmarkHeuristic object for the ids of the selected graph.
+     */
+    public LandmarkHeuristic createLandmarkHeuristic(int weightOption, int graphOption, int landmarks) {
+        loadConnections(graphOption);
+        IGraph<String> graph = graphOption == 1 ? this.citiesGraphAL : this.citiesGraphAM;
+        return LandmarkHeuristic.build(graph.snapshot(WeightChannel.fromOption(weightOption)), landmarks, LandmarkSelection.FARTHEST);
+    }
+
+    /**
+     * Method: getCoordinates - Returns the latitude and longitude of a city.
+     * @param city The name of the city.
+     * @return A double[] with the latitude and the longitude in degrees, or null if the city has no coordinates.
+     */
+    public double[] getCoordinates(String city) {
+        return this.coordinates.get(city);
+    }
+
+    /**
+     * Method: createContractionHierarchy - Loads the connections and preprocesses the selected graph, on the selected weight, into a contraction hierarchy, which answers route queries between any two cities while exploring only a few of them. The hierarchy must be created again after the network changes.
+     * @param weightOption An integer representing the selected weight option.
+     * @param graphOption An integer representing the selected chart option.
+     * @return A ContractionHierarchy<String> object over the current network.
+     */
+    public ContractionHierarchy<String> createContractionHierarchy(int weightOption, int graphOption) {
+        loadConnections(graphOption);
+        IGraph<String> graph = graphOption == 1 ? this.citiesGraphAL : this.citiesGraphAM;
+        return ContractionHierarchy.build(graph.snapshot(WeightChannel.fromOption(weightOption)));
+    }
+
+    /**
+     * Method: createRouteEngine - Loads the connections and creates a route engine over a frozen snapshot of the selected graph on the selected weight, which answers many route queries at the same time.
+     * @param weightOption An integer representing the selected weight option.
+     * @param graphOption An integer representing the selected chart option.
+     * @param threads The number of threads used by the engine.
+     * @return A RouteEngine<String> object over the current network. It must be closed when it is no longer needed.
+     */
+    public RouteEngine<String> createRouteEngine(int weightOption, int graphOption, int threads) {
+        loadConnections(graphOption);
+        IGraph<String> graph = graphOption == 1 ? this.citiesGraphAL : this.citiesGraphAM;
+        return new RouteEngine<>(graph.snapshot(WeightChannel.fromOption(weightOption)), threads);
     }
 
     /**
@@ -237,4 +604,12 @@ public class Airline {
     public GraphAdjacencyMatrix<String> getCitiesGraphAM() {
         return citiesGraphAM;
     }
+
+    /**
+     * Method: getCitiesGraphCSR - Returns the immutable compressed cities graph built by loadCompressedGraph.
+     * @return A GraphCompressedSparseRow<String> object representing the city graph in compressed sparse row form, or null if it has not been loaded.
+     */
+    public GraphCompressedSparseRow<String> getCitiesGraphCSR() {
+        return citiesGraphCSR;
+    }
 }
@@ -0,0 +1,148 @@
+package model;
+
+import graph.GraphCompressedSparseRow;
+import graph.Heuristic;
+import graph.IGraph;
+
+/**
+ * Class name: GreatCircleHeuristic
+ * General Description: A* heuristic for the airline network. The estimate is the great-circle distance between two cities multiplied by a weight per kilometer: the inverse of the fastest cruise speed when the weight is the flight time, or the cheapest price per kilometer when the weight is the cost. Cities without coordinates are estimated as 0, which is always a valid lower bound.
+ */
+public class GreatCircleHeuristic implements Heuristic {
+    public static final double EARTH_RADIUS_KM = 6371.0;
+
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final double weightPerKm;
+
+    /**
+     * Method: GreatCircleHeuristic - Creates an instance of the GreatCircleHeuristic class.
+     * @param latitudes The latitude in degrees of every vertex, by id, or NaN if it is unknown.
+     * @param longitudes The longitude in degrees of every vertex, by id, or NaN if it is unknown.
+     * @param weightPerKm The smallest weight a flight can have per kilometer.
+     */
+    public GreatCircleHeuristic(double[] latitudes, double[] longitudes, double weightPerKm) {
+        if (latitudes.length != longitudes.length) {
+            throw new IllegalArgumentException("Latitudes and longitudes have different lengths");
+        }
+        if (weightPerKm < 0 || Double.isNaN(weightPerKm)) {
+            throw new IllegalArgumentException("Weight per kilometer must not be negative");
+        }
+        this.latitudes = new double[latitudes.length];
+        this.longitudes = new double[longitudes.length];
+        for (int i = 0; i < latitudes.length; i++) {
+            this.latitudes[i] = Math.toRadians(latitudes[i]);
+            this.longitudes[i] = Math.toRadians(longitudes[i]);
+        }
+        this.weightPerKm = weightPerKm;
+    }
+
+    /**
+     * Method: forCruiseSpeed - Creates a heuristic for flight times in minutes from the fastest cruise speed of the fleet.
+     * @param latitudes The latitude in degrees of every vertex, by id.
+     * @param longitudes The longitude in degrees of every vertex, by id.
+     * @param kmPerMinute The fastest cruise speed, in kilometers per minute.
+     * @return GreatCircleHeuristic - The heuristic.
+     */
+    public static GreatCircleHeuristic forCruiseSpeed(double[] latitudes, double[] longitudes, double kmPerMinute) {
+        if (kmPerMinute <= 0) {
+            throw new IllegalArgumentException("Cruise speed must be positive");
+        }
+        return new GreatCircleHeuristic(latitudes, longitudes, 1 / kmPerMinute);
+    }
+
+    /**
+     * Method: forCostPerKm - Creates a heuristic for ticket prices from the cheapest price per kilometer.
+     * @param latitudes The latitude in degrees of every vertex, by id.
+     * @param longitudes The longitude in degrees of every vertex, by id.
+     * @param costPerKm The cheapest price per kilometer.
+     * @return GreatCircleHeuristic - The heuristic.
+     */
+    public static GreatCircleHeuristic forCostPerKm(double[] latitudes, double[] longitudes, double costPerKm) {
+        return new GreatCircleHeuristic(latitudes, longitudes, costPerKm);
+    }
+
+    /**
+     * Method: fromGraph - Creates a heuristic whose weight per kilometer is the smallest weight per kilometer of any edge of the graph. For flight times that is the inverse of the fastest speed and for prices it is the cheapest price per kilometer, so the estimate never exceeds the real weight of a route. If a city has no coordinates, the edges through it cannot be measured and may be far cheaper than any measured one, so the weight per kilometer is 0 and every estimate is 0.
+     * @param graph The graph with the weights of the edges.
+     * @param latitudes The latitude in degrees of every vertex, by id, or NaN if it is unknown.
+     * @param longitudes The longitude in degrees of every vertex, by id, or NaN if it is unknown.
+     * @return GreatCircleHeuristic - The heuristic.
+     */
+    public static GreatCircleHeuristic fromGraph(IGraph<?> graph, double[] latitudes, double[] longitudes) {
+        GreatCircleHeuristic heuristic = new GreatCircleHeuristic(latitudes, longitudes, 0);
+        if (!heuristic.hasAllCoordinates()) {
+            return heuristic;
+        }
+        GraphCompressedSparseRow<?> snapshot = graph.snapshot();
+        int[] offsets = snapshot.getOffsets();
+        int[] targets = snapshot.getTargets();
+        int[] weights = snapshot.getWeights();
+
+        double weightPerKm = Double.POSITIVE_INFINITY;
+        for (int u = 0; u < offsets.length - 1; u++) {
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                double km = heuristic.distance(u, targets[e]);
+                if (km > 0) {
+                    weightPerKm = Math.min(weightPerKm, weights[e] / km);
+                }
+            }
+        }
+
+        if (Double.isInfinite(weightPerKm) || weightPerKm < 0) {
+            weightPerKm = 0;
+        }
+        return new GreatCircleHeuristic(latitudes, longitudes, weightPerKm);
+    }
+
+    /**
+     * Method: hasAllCoordinates - Checks if every vertex has a latitude and a longitude.
+     * @return boolean - true if no coordinate is unknown, false otherwise.
+     */
+    public boolean hasAllCoordinates() {
+        for (int i = 0; i < this.latitudes.length; i++) {
+            if (Double.isNaN(this.latitudes[i]) || Double.isNaN(this.longitudes[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Method: distance - Returns the great-circle distance between two vertices with the haversine formula.
+     * @param u The id of the first vertex.
+     * @param v The id of the second vertex.
+     * @return double - The distance in kilometers, or NaN if a coordinate is unknown.
+     */
+    public double distance(int u, int v) {
+        double dLat = this.latitudes[v] - this.latitudes[u];
+        double dLon = this.longitudes[v] - this.longitudes[u];
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(this.latitudes[u]) * Math.cos(this.latitudes[v]) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    /**
+     * Method: estimate - Returns the great-circle distance between two vertices times the weight per kilometer, rounded down.
+     * @param vertex The id of the vertex the estimate starts from.
+     * @param destination The id of the destination vertex.
+     * @return int - A lower bound on the weight of the route, or 0 if a coordinate is unknown.
+     */
+    @Override
+    public int estimate(int vertex, int destination) {
+        double km = distance(vertex, destination);
+        if (Double.isNaN(km)) {
+            return 0;
+        }
+        // rounding errors must never push the estimate above the real weight
+        return (int) Math.floor(km * this.weightPerKm * (1 - 1e-9));
+    }
+
+    /**
+     * Method: getWeightPerKm - Returns the weight per kilometer used by the estimate.
+     * @return double - The weight per kilometer.
+     */
+    public double getWeightPerKm() {
+        return this.weightPerKm;
+    }
+}
@@ -68,6 +68,12 @@ public class Main {
             System.out.println("5. Show shortest path by cost");
             System.out.println("6. Show minimum spanning tree by time");
             System.out.println("7. Show minimum spanning tree by cost");
+            System.out.println("8. Show routes trading time for cost");
+            System.out.println("9. Show critical airports and routes");
+            System.out.println("10. Show alternative routes by time");
+            System.out.println("11. Show alternative routes by cost");
+            System.out.println("12. Show fastest route within a price budget");
+            System.out.println("13. Show cheapest route within a time budget");
             System.out.println("0. Exit");
             System.out.println("--------------------------------------");
 
@@ -98,6 +104,25 @@ public class Main {
                     airline.loadConnections(1, graphOption);
                     airline.optimize(1, graphOption);
                     break;
+                case "8":
+                    searchTradeOffRoutes(graphOption);
+                    break;
+                case "9":
+                    airline.getCriticalAirports(graphOption);
+                    airline.getCriticalRoutes(graphOption);
+                    break;
+                case "10":
+                    searchAlternativeRoutes(0, graphOption);
+                    break;
+                case "11":
+                    searchAlternativeRoutes(1, graphOption);
+                    break;
+                case "12":
+                    searchRouteWithinBudget(0, graphOption);
+                    break;
+                case "13":
+                    searchRouteWithinBudget(1, graphOption);
+                    break;
                 case "0":
                     exit = true;
                     break;
@@ -126,4 +151,60 @@ public class Main {
             airline.getShortestPath(source, destination, 1, graphOption);
         }
     }
+
+    /**
+     * Method: searchTradeOffRoutes
+     * This method prompts the user to select an origin city and a destination city to search for every route between the fastest and the cheapest one.
+     * @param : graphOption (int) - An integer representing the graph option selected.
+     * @return type: void
+     */
+    public static void searchTradeOffRoutes(int graphOption) {
+        System.out.println("\nSelect a source city:");
+        String source = sc.nextLine();
+        System.out.println("\nSelect a destination city:");
+        String destination = sc.nextLine();
+        airline.getTradeOffRoutes(source, destination, graphOption);
+    }
+
+    /**
+     * Method: searchAlternativeRoutes
+     * This method prompts the user to select an origin city, a destination city and a number of routes to search for the best alternative routes.
+     * @param : weightOption (int) - An integer representing the weight option selected.
+     * @param : graphOption (int) - An integer representing the graph option selected.
+     * @return type: void
+     */
+    public static void searchAlternativeRoutes(int weightOption, int graphOption) {
+        System.out.println("\nSelect a source city:");
+        String source = sc.nextLine();
+        System.out.println("\nSelect a destination city:");
+        String destination = sc.nextLine();
+        System.out.println("\nSelect the number of routes:");
+        try {
+            int k = Integer.parseInt(sc.nextLine().trim());
+            airline.getAlternativeRoutes(source, destination, k, weightOption, graphOption);
+        } catch (NumberFormatException e) {
+            System.out.println("Invalid input");
+        }
+    }
+
+    /**
+     * Method: searchRouteWithinBudget
+     * This method prompts the user to select an origin city, a destination city and a budget to search for the best route within the budget.
+     * @param : weightOption (int) - An integer representing the weight to minimize: 0 for the time within a price budget, 1 for the cost within a time budget.
+     * @param : graphOption (int) - An integer representing the graph option selected.
+     * @return type: void
+     */
+    public static void searchRouteWithinBudget(int weightOption, int graphOption) {
+        System.out.println("\nSelect a source city:");
+        String source = sc.nextLine();
+        System.out.println("\nSelect a destination city:");
+        String destination = sc.nextLine();
+        System.out.println(weightOption == 0 ? "\nSelect the largest price:" : "\nSelect the largest number of minutes:");
+        try {
+            int budget = Integer.parseInt(sc.nextLine().trim());
+            airline.getRouteWithinBudget(source, destination, weightOption, budget, graphOption);
+        } catch (NumberFormatException e) {
+            System.out.println("Invalid input");
+        }
+    }
 }
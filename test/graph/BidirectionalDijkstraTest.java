@@ -0,0 +1,113 @@
+package graph;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BidirectionalDijkstraTest {
+    private GraphAdjacencyList<String> graph;
+
+    private void assertMatchesDijkstra() {
+        GraphCompressedSparseRow<String> snapshot = this.graph.snapshot();
+        int n = snapshot.getVertices().size();
+        for (int s = 0; s < n; s++) {
+            try (TraversalContext context = snapshot.queryDijkstra("City " + s)) {
+                for (int t = 0; t < n; t++) {
+                    Path<String> path = BidirectionalDijkstra.search(snapshot, s, t);
+                    if (context.getDistance(t) == Integer.MAX_VALUE) {
+                        assertNull(path);
+                    } else {
+                        assertEquals(context.getDistance(t), path.getWeight());
+                        assertEquals("City " + s, path.getSource());
+                        assertEquals("City " + t, path.getDestination());
+                        int weight = 0;
+                        List<String> vertices = path.getVertices();
+                        for (int i = 1; i < vertices.size(); i++) {
+                            weight += snapshot.getWeight(vertices.get(i - 1), vertices.get(i));
+                        }
+                        assertEquals(path.getWeight(), weight);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testUndirectedMatchesDijkstra() {
+        // Arrange
+        this.graph = RandomGraphs.randomGraph(false, 40, 80, 3, 0, 100);
+
+        // Assert
+        assertMatchesDijkstra();
+    }
+
+    @Test
+    void testDirectedMatchesDijkstra() {
+        // Arrange
+        this.graph = RandomGraphs.randomGraph(true, 40, 120, 8, 0, 100);
+
+        // Assert
+        assertMatchesDijkstra();
+    }
+
+    @Test
+    void testShortestPath() {
+        // Arrange
+        this.graph = new GraphAdjacencyList<>(true);
+        this.graph.addVertex("New York City");
+        this.graph.addVertex("Los Angeles");
+        this.graph.addVertex("Chicago");
+        this.graph.addEdge("New York City", "Los Angeles", 2);
+        this.graph.addEdge("Los Angeles", "Chicago", 2);
+        this.graph.addEdge("New York City", "Chicago", 5);
+
+        // Act
+        Path<String> path = this.graph.shortestPath("New York City", "Chicago");
+
+        // Assert
+        assertEquals(Arrays.asList("New York City", "Los Angeles", "Chicago"), path.getVertices());
+        assertEquals(4, path.getWeight());
+        assertNull(this.graph.shortestPath("Chicago", "New York City"));
+    }
+
+    @Test
+    void testShortestPathToItself() {
+        // Arrange
+        this.graph = RandomGraphs.randomGraph(false, 5, 5, 1, 0, 100);
+
+        // Act
+        Path<String> path = this.graph.shortestPath("City 2", "City 2");
+
+        // Assert
+        assertEquals(Collections.singletonList("City 2"), path.getVertices());
+        assertEquals(0, path.getWeight());
+    }
+
+    @Test
+    void testShortestPathWithAVertexDoesNotExist() {
+        // Arrange
+        this.graph = RandomGraphs.randomGraph(false, 5, 5, 1, 0, 100);
+
+        // Assert
+        assertThrows(IllegalArgumentException.class, () -> this.graph.shortestPath("City 1", "Houston"));
+    }
+
+    @Test
+    void testSnapshotIsRebuiltAfterAChange() {
+        // Arrange
+        this.graph = RandomGraphs.randomGraph(false, 5, 5, 1, 0, 100);
+        GraphCompressedSparseRow<String> first = this.graph.snapshot();
+
+        // Act
+        GraphCompressedSparseRow<String> second = this.graph.snapshot();
+        this.graph.addVertex("Houston");
+        GraphCompressedSparseRow<String> third = this.graph.snapshot();
+
+        // Assert
+        assertSame(first, second);
+        assertNotSame(second, third);
+        assertEquals(6, third.getVertices().size());
+    }
+}
@@ -0,0 +1,87 @@
+package graph;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BitMatrixTest {
+
+    @Test
+    void testHopBFSMatchesBFS() {
+        // Arrange
+        Random random = new Random(17);
+        double[] densities = {0.01, 0.05, 0.3, 0.9};
+
+        for (boolean directed : new boolean[]{false, true}) {
+            for (double density : densities) {
+                GraphAdjacencyMatrix<Integer> graph = RandomGraphs.randomAdjacencyMatrix(random, 150, density, directed);
+                BitMatrix bits = graph.bitMatrix();
+
+                for (int source = 0; source < 150; source += 37) {
+                    // Act
+                    try (TraversalContext expected = graph.queryBFS(source);
+                         TraversalContext actual = graph.queryHopBFS(source)) {
+
+                        // Assert
+                        for (int v = 0; v < 150; v++) {
+                            assertEquals(expected.isVisited(v), actual.isVisited(v));
+                            assertEquals(expected.getDistance(v), actual.getDistance(v));
+                            int parent = actual.getParent(v);
+                            if (v == source || !actual.isVisited(v)) {
+                                assertEquals(-1, parent);
+                            } else {
+                                assertTrue(bits.hasEdge(parent, v));
+                                assertEquals(actual.getDistance(v) - 1, actual.getDistance(parent));
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testGetHops() {
+        // Arrange
+        GraphAdjacencyMatrix<String> graph = new GraphAdjacencyMatrix<>(false);
+        graph.addVertex("New York City");
+        graph.addVertex("Los Angeles");
+        graph.addVertex("Chicago");
+        graph.addVertex("Miami");
+        graph.addEdge("New York City", "Los Angeles", 320);
+        graph.addEdge("Los Angeles", "Chicago", 240);
+
+        // Act
+        int hops = graph.getHops("New York City", "Chicago");
+        int unreachable = graph.getHops("New York City", "Miami");
+        graph.addEdge("New York City", "Chicago", 120);
+        int shorter = graph.getHops("New York City", "Chicago");
+
+        // Assert
+        assertEquals(2, hops);
+        assertEquals(-1, unreachable);
+        assertEquals(1, shorter);
+        assertEquals(0, graph.getHops("Miami", "Miami"));
+    }
+
+    @Test
+    void testRowsAreCopiedAsBits() {
+        // Arrange
+        GraphAdjacencyMatrix<Integer> graph = RandomGraphs.randomAdjacencyMatrix(new Random(23), 130, 0.2, true);
+
+        // Act
+        BitMatrix bits = graph.bitMatrix();
+
+        // Assert
+        int[][] matrix = graph.getAdjacencyMatrix();
+        assertEquals(130, bits.size());
+        for (int u = 0; u < 130; u++) {
+            for (int v = 0; v < 130; v++) {
+                assertEquals(matrix[u][v] != 0, bits.hasEdge(u, v));
+            }
+        }
+        assertSame(bits, graph.bitMatrix());
+    }
+}
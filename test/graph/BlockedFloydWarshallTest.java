@@ -0,0 +1,101 @@
+package graph;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BlockedFloydWarshallTest {
+    private GraphAdjacencyList<String> graph;
+
+    @BeforeEach
+    void setUp() {
+        this.graph = new GraphAdjacencyList<>(true);
+    }
+
+    @Test
+    void testDistancesMatchDijkstra() {
+        // Arrange
+        this.graph = RandomGraphs.randomGraph(true, 40, 160, 7);
+        GraphCompressedSparseRow<String> snapshot = this.graph.snapshot();
+
+        // Act
+        AllPairsShortestPaths<String> paths = BlockedFloydWarshall.compute(snapshot, new ForkJoinPool(3), 7);
+
+        // Assert
+        for (int s = 0; s < 40; s++) {
+            try (TraversalContext context = snapshot.queryDijkstra("City " + s)) {
+                for (int d = 0; d < 40; d++) {
+                    assertEquals(context.getDistance(d), paths.getDistance(s, d));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testGetPath() {
+        // Arrange
+        this.graph.addVertex("New York City");
+        this.graph.addVertex("Los Angeles");
+        this.graph.addVertex("Chicago");
+        this.graph.addVertex("Denver");
+        this.graph.addVertex("Miami");
+        this.graph.addEdge("New York City", "Los Angeles", 2);
+        this.graph.addEdge("New York City", "Chicago", 4);
+        this.graph.addEdge("Los Angeles", "Denver", 7);
+        this.graph.addEdge("Chicago", "Denver", 3);
+        this.graph.addEdge("Denver", "Miami", 1);
+        this.graph.addEdge("New York City", "Miami", 20);
+
+        // Act
+        AllPairsShortestPaths<String> paths = this.graph.allPairsShortestPaths();
+
+        // Assert
+        assertEquals(8, paths.getDistance("New York City", "Miami"));
+        assertEquals(2, paths.getNextHop(0, 4));
+        assertEquals(Arrays.asList("New York City", "Chicago", "Denver", "Miami"), paths.getPath("New York City", "Miami").getVertices());
+        assertNull(paths.getPath("Miami", "New York City"));
+        assertEquals(Integer.MAX_VALUE, paths.getDistance("Miami", "New York City"));
+    }
+
+    @Test
+    void testNegativeEdges() {
+        // Arrange
+        this.graph.addVertex("New York City");
+        this.graph.addVertex("Los Angeles");
+        this.graph.addVertex("Chicago");
+        this.graph.addEdge("New York City", "Los Angeles", 5);
+        this.graph.addEdge("Los Angeles", "Chicago", -3);
+        this.graph.addEdge("New York City", "Chicago", 4);
+
+        // Act
+        AllPairsShortestPaths<String> paths = BlockedFloydWarshall.compute(this.graph.snapshot(), ForkJoinPool.commonPool(), 2);
+
+        // Assert
+        assertEquals(2, paths.getDistance("New York City", "Chicago"));
+    }
+
+    @Test
+    void testNegativeCycle() {
+        // Arrange
+        this.graph.addVertex("New York City");
+        this.graph.addVertex("Los Angeles");
+        this.graph.addEdge("New York City", "Los Angeles", 1);
+        this.graph.addEdge("Los Angeles", "New York City", -2);
+
+        // Assert
+        assertThrows(IllegalStateException.class, () -> this.graph.allPairsShortestPaths());
+    }
+
+    @Test
+    void testEmptyGraph() {
+        // Act
+        AllPairsShortestPaths<String> paths = this.graph.allPairsShortestPaths();
+
+        // Assert
+        assertEquals(0, paths.size());
+    }
+}
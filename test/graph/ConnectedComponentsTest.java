@@ -0,0 +1,91 @@
+package graph;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConnectedComponentsTest {
+
+    @Test
+    void testTwoDisjointClustersAreNotConnected() {
+        // Arrange
+        List<Integer> values = new ArrayList<>();
+        for (int v = 0; v < 6; v++) {
+            values.add(v);
+        }
+        GraphCompressedSparseRow<Integer> graph = GraphCompressedSparseRow.fromEdges(values, new int[]{0, 1, 2, 3, 4, 5}, new int[]{1, 2, 0, 4, 5, 3}, new int[]{1, 1, 1, 1, 1, 1}, 6, false);
+
+        // Act
+        ConnectedComponents components = ConnectedComponents.compute(graph);
+
+        // Assert
+        assertFalse(components.isConnected());
+        assertFalse(graph.isConnected());
+        assertEquals(2, components.getCount());
+        assertArrayEquals(new int[]{0, 0, 0, 1, 1, 1}, components.getComponents());
+        assertArrayEquals(new int[]{3, 3}, components.getSizes());
+        assertTrue(components.connected(3, 5));
+        assertFalse(components.connected(2, 3));
+    }
+
+    @Test
+    void testDirectionIsIgnored() {
+        // Arrange
+        List<Integer> values = new ArrayList<>();
+        for (int v = 0; v < 3; v++) {
+            values.add(v);
+        }
+        GraphCompressedSparseRow<Integer> graph = GraphCompressedSparseRow.fromEdges(values, new int[]{2, 2}, new int[]{0, 1}, new int[]{1, 1}, 2, true);
+
+        // Act
+        ConnectedComponents sequential = ConnectedComponents.sequential(graph);
+        ConnectedComponents parallel = ConnectedComponents.parallel(graph);
+
+        // Assert
+        assertTrue(sequential.isConnected());
+        assertTrue(parallel.isConnected());
+        assertEquals(3, sequential.getSize(0));
+    }
+
+    @Test
+    void testParallelMatchesSequential() {
+        // Arrange
+        Random random = new Random(5);
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            for (boolean directed : new boolean[]{false, true}) {
+                GraphCompressedSparseRow<Integer> graph = RandomGraphs.randomMultigraph(random, 200000, 90000, directed);
+
+                // Act
+                ConnectedComponents sequential = ConnectedComponents.sequential(graph);
+                ConnectedComponents parallel = ConnectedComponents.parallel(graph, pool);
+
+                // Assert
+                assertArrayEquals(sequential.getComponents(), parallel.getComponents());
+                assertArrayEquals(sequential.getSizes(), parallel.getSizes());
+                assertTrue(sequential.getCount() > 1);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testEmptyGraphIsConnected() {
+        // Arrange
+        GraphCompressedSparseRow<Integer> graph = GraphCompressedSparseRow.fromEdges(new ArrayList<Integer>(), new int[0], new int[0], new int[0], 0, false);
+
+        // Act
+        ConnectedComponents components = ConnectedComponents.compute(graph);
+
+        // Assert
+        assertEquals(0, components.getCount());
+        assertTrue(components.isConnected());
+    }
+}
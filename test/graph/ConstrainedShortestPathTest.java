@@ -0,0 +1,99 @@
+package graph;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConstrainedShortestPathTest {
+
+    private static int bruteForce(List<int[]> totals, WeightChannel objective, int budget) {
+        int best = Integer.MAX_VALUE;
+        for (int[] total : totals) {
+            int cost = objective == WeightChannel.PRIMARY ? total[0] : total[1];
+            int resource = objective == WeightChannel.PRIMARY ? total[1] : total[0];
+            if (resource <= budget) {
+                best = Math.min(best, cost);
+            }
+        }
+        return best;
+    }
+
+    @Test
+    void testMatchesBruteForce() {
+        // Arrange
+        Random random = new Random(41);
+
+        for (int round = 0; round < 40; round++) {
+            GraphCompressedSparseRow<Integer> graph = RandomGraphs.randomTradeOffGraph(random, 9, 22, round % 2 == 1);
+            List<int[]> totals = RandomGraphs.simplePaths(graph, 0, 8);
+
+            for (WeightChannel objective : WeightChannel.values()) {
+                for (int budget = 0; budget <= 2000; budget += 50) {
+                    // Act
+                    ParetoPath<Integer> path = ConstrainedShortestPath.search(graph, 0, 8, objective, budget);
+
+                    // Assert
+                    int expected = bruteForce(totals, objective, budget);
+                    if (expected == Integer.MAX_VALUE) {
+                        assertNull(path);
+                        continue;
+                    }
+                    assertNotNull(path);
+                    assertEquals(expected, path.getWeight(objective));
+                    WeightChannel resource = objective == WeightChannel.PRIMARY ? WeightChannel.SECONDARY : WeightChannel.PRIMARY;
+                    assertTrue(path.getWeight(resource) <= budget);
+                    int minutes = 0;
+                    int price = 0;
+                    for (int j = 1; j < path.getVertices().size(); j++) {
+                        minutes += graph.getWeight(path.getVertices().get(j - 1), path.getVertices().get(j), WeightChannel.PRIMARY);
+                        price += graph.getWeight(path.getVertices().get(j - 1), path.getVertices().get(j), WeightChannel.SECONDARY);
+                    }
+                    assertEquals(minutes, path.getWeight());
+                    assertEquals(price, path.getSecondaryWeight());
+                }
+            }
+        }
+    }
+
+    @Test
+    void testTradesTimeForCost() {
+        // Arrange
+        List<String> cities = new ArrayList<>();
+        cities.add("New York City");
+        cities.add("Chicago");
+        cities.add("Denver");
+        cities.add("Los Angeles");
+        GraphCompressedSparseRow<String> graph = GraphCompressedSparseRow.fromEdges(cities, new int[]{0, 0, 1, 2}, new int[]{3, 1, 3, 3}, new int[]{320, 120, 240, 150}, new int[]{400, 90, 150, 300}, 4, false);
+
+        // Act
+        ParetoPath<String> cheapest = ConstrainedShortestPath.search(graph, "New York City", "Los Angeles", WeightChannel.SECONDARY, 400);
+        ParetoPath<String> withinTime = ConstrainedShortestPath.search(graph, "New York City", "Los Angeles", WeightChannel.SECONDARY, 330);
+        ParetoPath<String> none = ConstrainedShortestPath.search(graph, "New York City", "Los Angeles", WeightChannel.SECONDARY, 300);
+        ParetoPath<String> fastest = ConstrainedShortestPath.search(graph, "New York City", "Los Angeles", WeightChannel.PRIMARY, 250);
+
+        // Assert
+        assertEquals(240, cheapest.getSecondaryWeight());
+        assertEquals(360, cheapest.getWeight());
+        assertEquals(400, withinTime.getSecondaryWeight());
+        assertNull(none);
+        assertEquals(360, fastest.getWeight());
+        assertThrows(IllegalArgumentException.class, () -> ConstrainedShortestPath.search(graph, "New York City", "Miami", WeightChannel.PRIMARY, 100));
+    }
+
+    @Test
+    void testLabelLimit() {
+        // Arrange
+        GraphCompressedSparseRow<Integer> graph = RandomGraphs.randomTradeOffGraph(new Random(43), 30, 120, false);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> {
+            for (int budget = 0; budget <= 5000; budget += 10) {
+                ConstrainedShortestPath.search(graph, 0, 29, WeightChannel.SECONDARY, budget, 1);
+            }
+        });
+    }
+}
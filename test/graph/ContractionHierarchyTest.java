@@ -0,0 +1,114 @@
+package graph;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContractionHierarchyTest {
+    private GraphAdjacencyList<String> graph;
+
+    private void assertMatchesDijkstra(ContractionHierarchy<String> hierarchy) {
+        int n = this.graph.getVertices().size();
+        for (int s = 0; s < n; s++) {
+            try (TraversalContext context = this.graph.queryDijkstra("City " + s)) {
+                for (int t = 0; t < n; t++) {
+                    Path<String> path = hierarchy.shortestPath("City " + s, "City " + t);
+                    if (context.getDistance(t) == Integer.MAX_VALUE) {
+                        assertNull(path);
+                    } else {
+                        assertEquals(context.getDistance(t), path.getWeight());
+                        assertEquals("City " + s, path.getSource());
+                        assertEquals("City " + t, path.getDestination());
+                        int weight = 0;
+                        List<String> vertices = path.getVertices();
+                        for (int i = 1; i < vertices.size(); i++) {
+                            weight += this.graph.getWeight(vertices.get(i - 1), vertices.get(i));
+                        }
+                        assertEquals(path.getWeight(), weight);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testUndirectedMatchesDijkstra() {
+        // Arrange
+        this.graph = RandomGraphs.randomGraph(false, 60, 150, 4);
+
+        // Act
+        ContractionHierarchy<String> hierarchy = ContractionHierarchy.build(this.graph);
+
+        // Assert
+        assertMatchesDijkstra(hierarchy);
+    }
+
+    @Test
+    void testDirectedMatchesDijkstra() {
+        // Arrange
+        this.graph = RandomGraphs.randomGraph(true, 60, 240, 9);
+
+        // Act
+        ContractionHierarchy<String> hierarchy = ContractionHierarchy.build(this.graph);
+
+        // Assert
+        assertMatchesDijkstra(hierarchy);
+    }
+
+    @Test
+    void testSmallWitnessLimitIsStillCorrect() {
+        // Arrange
+        this.graph = RandomGraphs.randomGraph(false, 40, 100, 2);
+
+        // Act
+        ContractionHierarchy<String> hierarchy = ContractionHierarchy.build(this.graph, 1);
+
+        // Assert
+        assertMatchesDijkstra(hierarchy);
+    }
+
+    @Test
+    void testShortcutsAreUnpacked() {
+        // Arrange
+        this.graph = new GraphAdjacencyList<>(false);
+        for (String city : new String[]{"New York City", "Los Angeles", "Chicago", "Denver", "Miami"}) {
+            this.graph.addVertex(city);
+        }
+        this.graph.addEdge("New York City", "Chicago", 1);
+        this.graph.addEdge("Chicago", "Denver", 1);
+        this.graph.addEdge("Denver", "Los Angeles", 1);
+        this.graph.addEdge("Los Angeles", "Miami", 1);
+
+        // Act
+        ContractionHierarchy<String> hierarchy = ContractionHierarchy.build(this.graph);
+        Path<String> path = hierarchy.shortestPath("New York City", "Miami");
+
+        // Assert
+        assertEquals(Arrays.asList("New York City", "Chicago", "Denver", "Los Angeles", "Miami"), path.getVertices());
+        assertEquals(4, path.getWeight());
+    }
+
+    @Test
+    void testNegativeWeight() {
+        // Arrange
+        this.graph = new GraphAdjacencyList<>(true);
+        this.graph.addVertex("New York City");
+        this.graph.addVertex("Chicago");
+        this.graph.addEdge("New York City", "Chicago", -1);
+
+        // Assert
+        assertThrows(IllegalArgumentException.class, () -> ContractionHierarchy.build(this.graph));
+    }
+
+    @Test
+    void testShortestPathWithAVertexDoesNotExist() {
+        // Arrange
+        this.graph = RandomGraphs.randomGraph(false, 5, 5, 1);
+        ContractionHierarchy<String> hierarchy = ContractionHierarchy.build(this.graph);
+
+        // Assert
+        assertThrows(IllegalArgumentException.class, () -> hierarchy.shortestPath("City 1", "Houston"));
+    }
+}
@@ -0,0 +1,152 @@
+package graph;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DynamicSpanningForestTest {
+    private GraphAdjacencyList<String> graph;
+    private DynamicSpanningForest<String> forest;
+
+    @BeforeEach
+    void setUp() {
+        this.graph = new GraphAdjacencyList<>(false);
+        this.graph.addVertex("New York City");
+        this.graph.addVertex("Los Angeles");
+        this.graph.addVertex("Chicago");
+        this.graph.addVertex("Denver");
+        this.graph.addEdge("New York City", "Los Angeles", 4);
+        this.graph.addEdge("New York City", "Chicago", 2);
+        this.graph.addEdge("Los Angeles", "Denver", 1);
+        this.graph.addEdge("Chicago", "Denver", 5);
+        this.forest = DynamicSpanningForest.build(this.graph);
+    }
+
+    private long kruskalWeight() {
+        long total = 0;
+        for (Edge<String> edge : MinimumSpanningForest.kruskal(this.graph.snapshot())) {
+            total += edge.getWeight();
+        }
+        return total;
+    }
+
+    @Test
+    void testBuild() {
+        // Assert
+        assertEquals(7, this.forest.getTotalWeight());
+        assertEquals(3, this.forest.getEdgeCount());
+        assertFalse(this.forest.contains("Chicago", "Denver"));
+    }
+
+    @Test
+    void testInsertEdgeReplacesTheHeaviestEdgeOfTheCycle() {
+        // Act
+        this.forest.insertEdge("Chicago", "Los Angeles", 3);
+
+        // Assert
+        assertEquals(6, this.forest.getTotalWeight());
+        assertTrue(this.forest.contains("Chicago", "Los Angeles"));
+        assertFalse(this.forest.contains("New York City", "Los Angeles"));
+    }
+
+    @Test
+    void testInsertHeavierEdgeKeepsTheForest() {
+        // Act
+        this.forest.insertEdge("Chicago", "Los Angeles", 9);
+
+        // Assert
+        assertEquals(7, this.forest.getTotalWeight());
+        assertFalse(this.forest.contains("Chicago", "Los Angeles"));
+    }
+
+    @Test
+    void testRemoveTreeEdgeFindsAReplacement() {
+        // Act
+        this.forest.removeEdge("New York City", "Los Angeles");
+
+        // Assert
+        assertEquals(8, this.forest.getTotalWeight());
+        assertTrue(this.forest.contains("Chicago", "Denver"));
+    }
+
+    @Test
+    void testRemoveBridgeSplitsTheTree() {
+        // Arrange
+        this.forest.addVertex("Miami");
+        this.forest.insertEdge("Miami", "Denver", 6);
+
+        // Act
+        this.forest.removeEdge("Denver", "Miami");
+
+        // Assert
+        assertEquals(3, this.forest.getEdgeCount());
+        assertEquals(7, this.forest.getTotalWeight());
+    }
+
+    @Test
+    void testUpdateWeight() {
+        // Act
+        this.forest.updateWeight("Los Angeles", "Denver", 10);
+
+        // Assert
+        assertEquals(11, this.forest.getTotalWeight());
+        assertTrue(this.forest.contains("Chicago", "Denver"));
+        assertFalse(this.forest.contains("Los Angeles", "Denver"));
+    }
+
+    @Test
+    void testRemoveEdgeDoesNotExist() {
+        // Assert
+        assertThrows(IllegalArgumentException.class, () -> this.forest.removeEdge("New York City", "Denver"));
+        assertThrows(IllegalArgumentException.class, () -> this.forest.insertEdge("New York City", "Houston", 1));
+    }
+
+    @Test
+    void testRandomUpdatesMatchKruskal() {
+        // Arrange
+        Random random = new Random(17);
+        this.graph = new GraphAdjacencyList<>(false);
+        for (int i = 0; i < 40; i++) {
+            this.graph.addVertex("City " + i);
+        }
+        this.forest = DynamicSpanningForest.build(this.graph);
+        List<String[]> present = new ArrayList<>();
+
+        for (int step = 0; step < 600; step++) {
+            // Act
+            int operation = random.nextInt(3);
+            if (operation == 0 || present.isEmpty()) {
+                String u = "City " + random.nextInt(40);
+                String v = "City " + random.nextInt(40);
+                if (u.equals(v)) {
+                    continue;
+                }
+                int weight = random.nextInt(30);
+                if (this.graph.getVertex(u).getAdjacent().get(this.graph.getVertex(v)) == null) {
+                    present.add(new String[]{u, v});
+                } else {
+                    this.graph.removeEdge(u, v);
+                }
+                this.graph.addEdge(u, v, weight);
+                this.forest.insertEdge(u, v, weight);
+            } else if (operation == 1) {
+                String[] edge = present.remove(random.nextInt(present.size()));
+                this.graph.removeEdge(edge[0], edge[1]);
+                this.forest.removeEdge(edge[0], edge[1]);
+            } else {
+                String[] edge = present.get(random.nextInt(present.size()));
+                int weight = random.nextInt(30);
+                this.graph.removeEdge(edge[0], edge[1]);
+                this.graph.addEdge(edge[0], edge[1], weight);
+                this.forest.updateWeight(edge[0], edge[1], weight);
+            }
+
+            // Assert
+            assertEquals(kruskalWeight(), this.forest.getTotalWeight());
+            assertEquals(MinimumSpanningForest.kruskal(this.graph.snapshot()).size(), this.forest.getEdgeCount());
+        }
+    }
+}
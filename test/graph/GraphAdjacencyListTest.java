@@ -3,6 +3,9 @@ package graph;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class GraphAdjacencyListTest {
@@ -139,6 +142,21 @@ class GraphAdjacencyListTest {
         assertThrows(IllegalArgumentException.class, () -> this.graph.removeVertex("Los Angeles"));
     }
 
+    @Test
+    void testGetIndexAfterRemovingAVertex() {
+        // Act
+        this.graph.addVertex("New York City");
+        this.graph.addVertex("Los Angeles");
+        this.graph.addVertex("Chicago");
+        this.graph.removeVertex("New York City");
+
+        // Assert
+        assertEquals(-1, this.graph.getIndex("New York City"));
+        assertEquals(0, this.graph.getIndex("Chicago"));
+        assertEquals(1, this.graph.getIndex("Los Angeles"));
+        assertEquals("Chicago", this.graph.getVertices().get(this.graph.getIndex("Chicago")).getValue());
+    }
+
     @Test
     void testRemoveOneEdge() {
         // Arrange
@@ -305,6 +323,60 @@ class GraphAdjacencyListTest {
         assertEquals(finishingTime, this.graph.getVertices().get(3).getFinishingTime());
     }
 
+    @Test
+    void testQueryBFSDoesNotChangeVertices() {
+        // Act
+        this.graph.addVertex("New York City");
+        this.graph.addVertex("Los Angeles");
+        this.graph.addVertex("Chicago");
+        this.graph.addEdge("New York City", "Los Angeles", 4);
+        this.graph.addEdge("Los Angeles", "Chicago", 1);
+
+        // Assert
+        try (TraversalContext context = this.graph.queryBFS("New York City")) {
+            assertEquals(2, context.getDistance(2));
+            assertEquals(1, context.getParent(2));
+            assertTrue(context.isVisited(2));
+            assertNull(this.graph.getVertices().get(2).getColor());
+            assertEquals(0, this.graph.getVertices().get(2).getDistance());
+        }
+    }
+
+    @Test
+    void testQueryContextsAreIndependent() {
+        // Act
+        this.graph.addVertex("New York City");
+        this.graph.addVertex("Los Angeles");
+        this.graph.addVertex("Chicago");
+        this.graph.addEdge("New York City", "Los Angeles", 4);
+        this.graph.addEdge("Los Angeles", "Chicago", 1);
+
+        // Assert
+        try (TraversalContext fromNewYork = this.graph.queryDijkstra("New York City");
+             TraversalContext fromChicago = this.graph.queryDijkstra("Chicago")) {
+            assertNotSame(fromNewYork, fromChicago);
+            assertEquals(5, fromNewYork.getDistance(2));
+            assertEquals(5, fromChicago.getDistance(0));
+            assertEquals(-1, fromNewYork.getParent(0));
+            assertEquals(1, fromChicago.getParent(0));
+        }
+    }
+
+    @Test
+    void testClosedContextIsReused() {
+        // Act
+        this.graph.addVertex("New York City");
+        TraversalContext first = this.graph.queryDFS("New York City");
+        first.close();
+        TraversalContext second = this.graph.queryPrim("New York City");
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(0, second.getDiscoveryTime(0));
+        assertEquals(0, second.getDistance(0));
+        second.close();
+    }
+
     @Test
     void testDijkstra() {
         // Arrange
@@ -338,6 +410,24 @@ class GraphAdjacencyListTest {
         assertThrows(IllegalArgumentException.class, () -> this.graph.dijkstra("Los Angeles"));
     }
 
+    @Test
+    void testDijkstraWithAnUnreachableVertex() {
+        // Act
+        this.graph.addVertex("New York City");
+        this.graph.addVertex("Los Angeles");
+        this.graph.addVertex("Chicago");
+        this.graph.addVertex("Denver");
+
+        this.graph.addEdge("New York City", "Los Angeles", 4);
+        this.graph.addEdge("Chicago", "Denver", 5);
+
+        this.graph.dijkstra("New York City");
+
+        // Assert
+        assertEquals(4, this.graph.getVertices().get(1).getDistance());
+        assertEquals(Integer.MAX_VALUE, this.graph.getVertices().get(3).getDistance());
+    }
+
     @Test
     void testDijkstraWithACyclicGraph() {
         // Arrange
@@ -363,6 +453,59 @@ class GraphAdjacencyListTest {
         assertEquals(distance, this.graph.getVertices().get(4).getDistance());
     }
 
+    @Test
+    void testAStar() {
+        // Arrange
+        int size = 20;
+        for (int i = 0; i < size * size; i++) {
+            this.graph.addVertex("City " + i);
+        }
+        for (int row = 0; row < size; row++) {
+            for (int column = 0; column < size; column++) {
+                if (column + 1 < size) {
+                    this.graph.addEdge("City " + (row * size + column), "City " + (row * size + column + 1), 1);
+                }
+                if (row + 1 < size) {
+                    this.graph.addEdge("City " + (row * size + column), "City " + ((row + 1) * size + column), 1);
+                }
+            }
+        }
+        Heuristic manhattan = (u, v) -> Math.abs(u / size - v / size) + Math.abs(u % size - v % size);
+
+        // Act
+        int settledAStar = 0;
+        int settledDijkstra = 0;
+        int distance;
+        try (TraversalContext aStar = this.graph.queryAStar("City 0", "City 19", manhattan);
+             TraversalContext dijkstra = this.graph.queryDijkstra("City 0")) {
+            distance = aStar.getDistance(19);
+            for (int i = 0; i < size * size; i++) {
+                settledAStar += aStar.getState(i) == TraversalContext.BLACK ? 1 : 0;
+                settledDijkstra += dijkstra.getState(i) == TraversalContext.BLACK ? 1 : 0;
+            }
+        }
+
+        // Assert
+        assertEquals(19, distance);
+        assertEquals(19, this.graph.shortestPath("City 0", "City 19", manhattan).getWeight());
+        assertTrue(settledAStar * 10 <= settledDijkstra);
+    }
+
+    @Test
+    void testAStarWithAnUnreachableVertex() {
+        // Arrange
+        this.graph.addVertex("New York City");
+        this.graph.addVertex("Los Angeles");
+        this.graph.addVertex("Chicago");
+        this.graph.addEdge("New York City", "Los Angeles", 4);
+
+        // Act
+        Path<String> path = this.graph.shortestPath("New York City", "Chicago", (u, v) -> 0);
+
+        // Assert
+        assertNull(path);
+    }
+
     @Test
     void testFloydWarshall() {
         // Arrange
@@ -481,4 +624,183 @@ class GraphAdjacencyListTest {
         // Assert
         assertEquals(weight, this.graph.getVertices().get(3).getDistance());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testAddEdgeWithTwoWeights() {
+        // Arrange
+        this.graph.addVertex("New York City");
+        this.graph.addVertex("Los Angeles");
+        this.graph.addVertex("Chicago");
+
+        // Act
+        this.graph.addEdge("New York City", "Los Angeles", 320, 400);
+        this.graph.addEdge("New York City", "Chicago", 120, 500);
+        this.graph.addEdge("Chicago", "Los Angeles", 240, 90);
+
+        // Assert
+        assertEquals(320, this.graph.getWeight("New York City", "Los Angeles"));
+        assertEquals(400, this.graph.getWeight("New York City", "Los Angeles", WeightChannel.SECONDARY));
+        assertEquals(320, this.graph.shortestPath("New York City", "Los Angeles").getWeight());
+        assertEquals(400, this.graph.shortestPath("New York City", "Los Angeles", WeightChannel.SECONDARY).getWeight());
+        try (TraversalContext context = this.graph.queryDijkstra("Chicago", WeightChannel.SECONDARY)) {
+            assertEquals(90, context.getDistance(this.graph.getIndex("Los Angeles")));
+            assertEquals(490, context.getDistance(this.graph.getIndex("New York City")));
+        }
+    }
+
+    @Test
+    void testAddEdgeWithOneWeightUsesItForBothChannels() {
+        // Arrange
+        this.graph.addVertex("New York City");
+        this.graph.addVertex("Los Angeles");
+
+        // Act
+        this.graph.addEdge("New York City", "Los Angeles", 7);
+
+        // Assert
+        assertEquals(7, this.graph.getWeight("New York City", "Los Angeles", WeightChannel.PRIMARY));
+        assertEquals(7, this.graph.getWeight("New York City", "Los Angeles", WeightChannel.SECONDARY));
+    }
+
+    @Test
+    void testAddVertices() {
+        // Act
+        this.graph.addVertices(Arrays.asList("New York City", "Los Angeles", "Chicago"));
+
+        // Assert
+        assertEquals(3, this.graph.getVertices().size());
+        assertEquals(2, this.graph.getIndex("Chicago"));
+    }
+
+    @Test
+    void testAddVerticesWithARepeatedVertexChangesNothing() {
+        // Arrange
+        this.graph.addVertex("New York City");
+
+        // Act
+        assertThrows(IllegalArgumentException.class, () -> this.graph.addVertices(Arrays.asList("Los Angeles", "New York City")));
+        assertThrows(IllegalArgumentException.class, () -> this.graph.addVertices(Arrays.asList("Chicago", "Chicago")));
+
+        // Assert
+        assertEquals(1, this.graph.getVertices().size());
+    }
+
+    @Test
+    void testAddEdges() {
+        // Arrange
+        this.graph.addVertices(Arrays.asList("New York City", "Los Angeles", "Chicago"));
+
+        // Act
+        this.graph.addEdges(Arrays.asList(
+                new Edge<>("New York City", "Los Angeles", 320, 400),
+                new Edge<>("Chicago", "Los Angeles", 240, 90)));
+
+        // Assert
+        assertEquals(320, this.graph.getWeight("New York City", "Los Angeles"));
+        assertEquals(90, this.graph.getWeight("Chicago", "Los Angeles", WeightChannel.SECONDARY));
+        if (!this.graph.isDirected()) {
+            assertEquals(240, this.graph.getWeight("Los Angeles", "Chicago"));
+        }
+    }
+
+    @Test
+    void testAddEdgesWithAnExistingEdgeChangesNothing() {
+        // Arrange
+        this.graph.addVertices(Arrays.asList("New York City", "Los Angeles", "Chicago"));
+        this.graph.addEdge("New York City", "Los Angeles", 1);
+        int version = this.graph.getVersion();
+
+        // Act
+        assertThrows(IllegalArgumentException.class, () -> this.graph.addEdges(Arrays.asList(
+                new Edge<>("Chicago", "Los Angeles", 2),
+                new Edge<>("New York City", "Los Angeles", 3))));
+        assertThrows(IllegalArgumentException.class, () -> this.graph.addEdges(Arrays.asList(
+                new Edge<>("Chicago", "Houston", 2))));
+
+        // Assert
+        assertEquals(version, this.graph.getVersion());
+        assertThrows(IllegalArgumentException.class, () -> this.graph.getWeight("Chicago", "Los Angeles"));
+    }
+
+    @Test
+    void testRemoveVertexMovesTheLastVertexWithItsEdges() {
+        // Arrange
+        this.graph.addVertices(Arrays.asList("New York City", "Los Angeles", "Chicago", "Denver", "Miami"));
+        this.graph.addEdge("New York City", "Los Angeles", 4);
+        this.graph.addEdge("Los Angeles", "Miami", 6);
+        this.graph.addEdge("Chicago", "Miami", 3);
+        this.graph.addEdge("Miami", "Denver", 2);
+        this.graph.addEdge("Miami", "Miami", 1);
+
+        // Act
+        this.graph.removeVertex("Los Angeles");
+
+        // Assert
+        assertEquals(4, this.graph.getVertices().size());
+        assertEquals(1, this.graph.getIndex("Miami"));
+        assertEquals(3, this.graph.getWeight("Chicago", "Miami"));
+        assertEquals(2, this.graph.getWeight("Miami", "Denver"));
+        assertEquals(1, this.graph.getWeight("Miami", "Miami"));
+        assertThrows(IllegalArgumentException.class, () -> this.graph.getWeight("New York City", "Miami"));
+        assertEquals(this.graph.isDirected() ? 3 : 5, this.graph.snapshot().getEdgeCount());
+    }
+
+    @Test
+    void testRemoveVertexDropsItsIncomingEdgesInADirectedGraph() {
+        // Arrange
+        this.graph = new GraphAdjacencyList<>(true);
+        this.graph.addVertices(Arrays.asList("New York City", "Los Angeles", "Chicago"));
+        this.graph.addEdge("New York City", "Los Angeles", 4);
+        this.graph.addEdge("Chicago", "Los Angeles", 2);
+        this.graph.addEdge("Los Angeles", "Chicago", 3);
+
+        // Act
+        this.graph.removeVertex("Los Angeles");
+
+        // Assert
+        assertTrue(this.graph.getVertex("New York City").getAdjacent().isEmpty());
+        assertTrue(this.graph.getVertex("Chicago").getAdjacent().isEmpty());
+        assertTrue(this.graph.getVertex("Chicago").getIncoming().isEmpty());
+        assertEquals(0, this.graph.snapshot().getEdgeCount());
+    }
+
+    @Test
+    void testBridgesAndArticulationPoints() {
+        // Arrange
+        this.graph.addVertices(Arrays.asList("New York City", "Los Angeles", "Chicago", "Miami"));
+        this.graph.addEdge("New York City", "Los Angeles", 320);
+        this.graph.addEdge("Los Angeles", "Chicago", 240);
+        this.graph.addEdge("Chicago", "New York City", 120);
+        this.graph.addEdge("Chicago", "Miami", 180);
+
+        // Act
+        List<Edge<String>> bridges = this.graph.bridges();
+        List<String> points = this.graph.articulationPoints();
+        int[] components = this.graph.stronglyConnectedComponents();
+
+        // Assert
+        assertEquals(1, bridges.size());
+        assertEquals(180, bridges.get(0).getWeight());
+        assertEquals(Arrays.asList("Chicago"), points);
+        assertEquals(components[0], components[3]);
+    }
+
+    @Test
+    void testTwoDisjointClustersAreNotConnected() {
+        // Arrange
+        this.graph.addVertices(Arrays.asList("New York City", "Los Angeles", "Chicago", "Miami"));
+        this.graph.addEdge("New York City", "Los Angeles", 320);
+        this.graph.addEdge("Chicago", "Miami", 180);
+
+        // Act
+        boolean connected = this.graph.isConnected();
+        ConnectedComponents components = this.graph.connectedComponents();
+        this.graph.addEdge("Los Angeles", "Chicago", 240);
+
+        // Assert
+        assertFalse(connected);
+        assertEquals(2, components.getCount());
+        assertArrayEquals(new int[]{2, 2}, components.getSizes());
+        assertTrue(this.graph.isConnected());
+    }
+}
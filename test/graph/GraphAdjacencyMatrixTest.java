@@ -3,6 +3,8 @@ package graph;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class GraphAdjacencyMatrixTest {
@@ -140,6 +142,21 @@ class GraphAdjacencyMatrixTest {
         assertThrows(IllegalArgumentException.class, () -> this.graph.removeVertex("Los Angeles"));
     }
 
+    @Test
+    void testGetIndexAfterRemovingAVertex() {
+        // Act
+        this.graph.addVertex("New York City");
+        this.graph.addVertex("Los Angeles");
+        this.graph.addVertex("Chicago");
+        this.graph.removeVertex("New York City");
+
+        // Assert
+        assertEquals(-1, this.graph.getIndex("New York City"));
+        assertEquals(0, this.graph.getIndex("Chicago"));
+        assertEquals(1, this.graph.getIndex("Los Angeles"));
+        assertEquals("Chicago", this.graph.getVertices().get(this.graph.getIndex("Chicago")).getValue());
+    }
+
     @Test
     void testRemoveOneEdge() {
         // Arrange
@@ -376,6 +393,29 @@ class GraphAdjacencyMatrixTest {
         assertEquals(distance, this.graph.getAdjacencyMatrix()[0][4]);
     }
 
+    @Test
+    void testAStar() {
+        // Arrange
+        this.graph.addVertex("New York City");
+        this.graph.addVertex("Los Angeles");
+        this.graph.addVertex("Chicago");
+        this.graph.addVertex("Denver");
+        this.graph.addVertex("Miami");
+
+        this.graph.addEdge("New York City", "Los Angeles", 4);
+        this.graph.addEdge("New York City", "Chicago", 2);
+        this.graph.addEdge("Los Angeles", "Denver", 1);
+        this.graph.addEdge("Chicago", "Denver", 5);
+        this.graph.addEdge("Denver", "Miami", 3);
+
+        // Act
+        Path<String> path = this.graph.shortestPath("New York City", "Miami", (u, v) -> u == v ? 0 : 1);
+
+        // Assert
+        assertEquals(8, path.getWeight());
+        assertEquals("Los Angeles", path.getVertices().get(1));
+    }
+
     @Test
     void testFloydWarshall() {
         // Arrange
@@ -498,4 +538,194 @@ class GraphAdjacencyMatrixTest {
         assertEquals(weight, this.graph.getAdjacencyMatrix()[1][3]);
     }
 
-}
\ No newline at end of file
+    @Test
+    void testAddEdgeWithTwoWeights() {
+        // Arrange
+        this.graph.addVertex("New York City");
+        this.graph.addVertex("Los Angeles");
+        this.graph.addVertex("Chicago");
+
+        // Act
+        this.graph.addEdge("New York City", "Los Angeles", 320, 400);
+        this.graph.addEdge("New York City", "Chicago", 120, 500);
+        this.graph.addEdge("Chicago", "Los Angeles", 240, 90);
+
+        // Assert
+        assertEquals(320, this.graph.getWeight("New York City", "Los Angeles"));
+        assertEquals(400, this.graph.getWeight("New York City", "Los Angeles", WeightChannel.SECONDARY));
+        assertEquals(320, this.graph.shortestPath("New York City", "Los Angeles").getWeight());
+        assertEquals(400, this.graph.shortestPath("New York City", "Los Angeles", WeightChannel.SECONDARY).getWeight());
+        try (TraversalContext context = this.graph.queryDijkstra("Chicago", WeightChannel.SECONDARY)) {
+            assertEquals(90, context.getDistance(this.graph.getIndex("Los Angeles")));
+            assertEquals(490, context.getDistance(this.graph.getIndex("New York City")));
+        }
+    }
+
+    @Test
+    void testAddEdgeWithOneWeightUsesItForBothChannels() {
+        // Arrange
+        this.graph.addVertex("New York City");
+        this.graph.addVertex("Los Angeles");
+
+        // Act
+        this.graph.addEdge("New York City", "Los Angeles", 7);
+
+        // Assert
+        assertEquals(7, this.graph.getWeight("New York City", "Los Angeles", WeightChannel.PRIMARY));
+        assertEquals(7, this.graph.getWeight("New York City", "Los Angeles", WeightChannel.SECONDARY));
+    }
+
+    @Test
+    void testGetAdjacencyMatrixBySecondaryWeight() {
+        // Arrange
+        this.graph.addVertex("New York City");
+        this.graph.addVertex("Los Angeles");
+
+        // Act
+        this.graph.addEdge("New York City", "Los Angeles", 320, 400);
+
+        // Assert
+        assertEquals(320, this.graph.getAdjacencyMatrix()[0][1]);
+        assertEquals(400, this.graph.getAdjacencyMatrix(WeightChannel.SECONDARY)[0][1]);
+    }
+
+    @Test
+    void testAddManyVerticesKeepsTheEdges() {
+        // Arrange
+        for (int i = 0; i < 100; i++) {
+            this.graph.addVertex("City " + i);
+            if (i > 0) {
+                this.graph.addEdge("City " + (i - 1), "City " + i, i);
+            }
+        }
+
+        // Assert
+        assertEquals(100, this.graph.getAdjacencyMatrix().length);
+        for (int i = 1; i < 100; i++) {
+            assertEquals(i, this.graph.getWeight("City " + (i - 1), "City " + i));
+        }
+    }
+
+    @Test
+    void testRemoveVertexKeepsTheOtherEdges() {
+        // Arrange
+        this.graph.addVertex("New York City");
+        this.graph.addVertex("Los Angeles");
+        this.graph.addVertex("Chicago");
+        this.graph.addVertex("Denver");
+        this.graph.addEdge("New York City", "Chicago", 2);
+        this.graph.addEdge("Chicago", "Denver", 5);
+        this.graph.addEdge("Los Angeles", "Denver", 1);
+
+        // Act
+        this.graph.removeVertex("Los Angeles");
+
+        // Assert
+        assertEquals(3, this.graph.getAdjacencyMatrix().length);
+        assertEquals(2, this.graph.getWeight("New York City", "Chicago"));
+        assertEquals(5, this.graph.getWeight("Denver", "Chicago"));
+        assertThrows(IllegalArgumentException.class, () -> this.graph.getWeight("New York City", "Denver"));
+    }
+
+    @Test
+    void testAddVertices() {
+        // Act
+        this.graph.addVertices(Arrays.asList("New York City", "Los Angeles", "Chicago"));
+
+        // Assert
+        assertEquals(3, this.graph.getVertices().size());
+        assertEquals(2, this.graph.getIndex("Chicago"));
+    }
+
+    @Test
+    void testAddVerticesWithARepeatedVertexChangesNothing() {
+        // Arrange
+        this.graph.addVertex("New York City");
+
+        // Act
+        assertThrows(IllegalArgumentException.class, () -> this.graph.addVertices(Arrays.asList("Los Angeles", "New York City")));
+        assertThrows(IllegalArgumentException.class, () -> this.graph.addVertices(Arrays.asList("Chicago", "Chicago")));
+
+        // Assert
+        assertEquals(1, this.graph.getVertices().size());
+    }
+
+    @Test
+    void testAddEdges() {
+        // Arrange
+        this.graph.addVertices(Arrays.asList("New York City", "Los Angeles", "Chicago"));
+
+        // Act
+        this.graph.addEdges(Arrays.asList(
+                new Edge<>("New York City", "Los Angeles", 320, 400),
+                new Edge<>("Chicago", "Los Angeles", 240, 90)));
+
+        // Assert
+        assertEquals(320, this.graph.getWeight("New York City", "Los Angeles"));
+        assertEquals(90, this.graph.getWeight("Chicago", "Los Angeles", WeightChannel.SECONDARY));
+        if (!this.graph.isDirected()) {
+            assertEquals(240, this.graph.getWeight("Los Angeles", "Chicago"));
+        }
+    }
+
+    @Test
+    void testAddEdgesWithAnExistingEdgeChangesNothing() {
+        // Arrange
+        this.graph.addVertices(Arrays.asList("New York City", "Los Angeles", "Chicago"));
+        this.graph.addEdge("New York City", "Los Angeles", 1);
+        int version = this.graph.getVersion();
+
+        // Act
+        assertThrows(IllegalArgumentException.class, () -> this.graph.addEdges(Arrays.asList(
+                new Edge<>("Chicago", "Los Angeles", 2),
+                new Edge<>("New York City", "Los Angeles", 3))));
+        assertThrows(IllegalArgumentException.class, () -> this.graph.addEdges(Arrays.asList(
+                new Edge<>("Chicago", "Houston", 2))));
+
+        // Assert
+        assertEquals(version, this.graph.getVersion());
+        assertThrows(IllegalArgumentException.class, () -> this.graph.getWeight("Chicago", "Los Angeles"));
+    }
+
+    @Test
+    void testRemoveVertexMovesTheLastVertexWithItsEdges() {
+        // Arrange
+        this.graph.addVertices(Arrays.asList("New York City", "Los Angeles", "Chicago", "Denver", "Miami"));
+        this.graph.addEdge("New York City", "Los Angeles", 4);
+        this.graph.addEdge("Los Angeles", "Miami", 6);
+        this.graph.addEdge("Chicago", "Miami", 3);
+        this.graph.addEdge("Miami", "Denver", 2);
+        this.graph.addEdge("Miami", "Miami", 1);
+
+        // Act
+        this.graph.removeVertex("Los Angeles");
+
+        // Assert
+        assertEquals(4, this.graph.getVertices().size());
+        assertEquals(1, this.graph.getIndex("Miami"));
+        assertEquals(3, this.graph.getWeight("Chicago", "Miami"));
+        assertEquals(2, this.graph.getWeight("Miami", "Denver"));
+        assertEquals(1, this.graph.getWeight("Miami", "Miami"));
+        assertThrows(IllegalArgumentException.class, () -> this.graph.getWeight("New York City", "Miami"));
+        assertEquals(this.graph.isDirected() ? 3 : 5, this.graph.snapshot().getEdgeCount());
+    }
+
+    @Test
+    void testTwoDisjointClustersAreNotConnected() {
+        // Arrange
+        this.graph.addVertices(Arrays.asList("New York City", "Los Angeles", "Chicago", "Miami"));
+        this.graph.addEdge("New York City", "Los Angeles", 320);
+        this.graph.addEdge("Chicago", "Miami", 180);
+
+        // Act
+        boolean connected = this.graph.isConnected();
+        ConnectedComponents components = this.graph.connectedComponents();
+        this.graph.addEdge("Los Angeles", "Chicago", 240);
+
+        // Assert
+        assertFalse(connected);
+        assertEquals(2, components.getCount());
+        assertArrayEquals(new int[]{2, 2}, components.getSizes());
+        assertTrue(this.graph.isConnected());
+    }
+}
@@ -0,0 +1,255 @@
+package graph;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GraphCompressedSparseRowTest {
+    private GraphAdjacencyList<String> graphList;
+    private GraphAdjacencyMatrix<String> graphMatrix;
+
+    @BeforeEach
+    void setUp() {
+        this.graphList = new GraphAdjacencyList<>(false);
+        this.graphMatrix = new GraphAdjacencyMatrix<>(false);
+
+        for (String city : new String[]{"New York City", "Los Angeles", "Chicago", "Denver", "Miami"}) {
+            this.graphList.addVertex(city);
+            this.graphMatrix.addVertex(city);
+        }
+
+        addEdge("New York City", "Los Angeles", 4);
+        addEdge("New York City", "Chicago", 2);
+        addEdge("Los Angeles", "Denver", 1);
+        addEdge("Chicago", "Denver", 5);
+        addEdge("Denver", "Miami", 3);
+    }
+
+    private void addEdge(String source, String destination, int weight) {
+        this.graphList.addEdge(source, destination, weight);
+        this.graphMatrix.addEdge(source, destination, weight);
+    }
+
+    @Test
+    void testFromAdjacencyList() {
+        // Act
+        GraphCompressedSparseRow<String> graph = GraphCompressedSparseRow.fromAdjacencyList(this.graphList);
+
+        // Assert
+        assertEquals(5, graph.getVertices().size());
+        assertEquals(10, graph.getEdgeCount());
+        assertEquals(2, graph.getOffsets()[1] - graph.getOffsets()[0]);
+    }
+
+    @Test
+    void testFromAdjacencyMatrix() {
+        // Act
+        GraphCompressedSparseRow<String> graph = GraphCompressedSparseRow.fromAdjacencyMatrix(this.graphMatrix);
+
+        // Assert
+        assertEquals(5, graph.getVertices().size());
+        assertEquals(10, graph.getEdgeCount());
+        assertEquals(1, graph.getTargets()[0]);
+        assertEquals(4, graph.getWeights()[0]);
+    }
+
+    @Test
+    void testFromEdges() {
+        // Act
+        GraphCompressedSparseRow<String> graph = GraphCompressedSparseRow.fromEdges(Arrays.asList("New York City", "Los Angeles", "Chicago"),
+                new int[]{0, 1}, new int[]{1, 2}, new int[]{7, 3}, 2, true);
+
+        // Assert
+        assertEquals(2, graph.getEdgeCount());
+        assertEquals(0, graph.getOffsets()[3] - graph.getOffsets()[2]);
+        assertTrue(graph.isDirected());
+    }
+
+    @Test
+    void testFromEdgesWithAVertexDoesNotExist() {
+        // Assert
+        assertThrows(IllegalArgumentException.class, () -> GraphCompressedSparseRow.fromEdges(Arrays.asList("New York City"),
+                new int[]{0}, new int[]{1}, new int[]{7}, 1, true));
+    }
+
+    @Test
+    void testAddVertexIsNotSupported() {
+        // Act
+        GraphCompressedSparseRow<String> graph = GraphCompressedSparseRow.fromAdjacencyList(this.graphList);
+
+        // Assert
+        assertThrows(UnsupportedOperationException.class, () -> graph.addVertex("Houston"));
+        assertThrows(UnsupportedOperationException.class, () -> graph.removeEdge("New York City", "Chicago"));
+    }
+
+    @Test
+    void testBFS() {
+        // Arrange
+        int distance = 3;
+        GraphCompressedSparseRow<String> graph = GraphCompressedSparseRow.fromAdjacencyList(this.graphList);
+
+        // Act
+        graph.BFS("New York City");
+
+        // Assert
+        assertEquals(distance, graph.getVertex("Miami").getDistance());
+    }
+
+    @Test
+    void testDFS() {
+        // Arrange
+        int discoveryTime = 3;
+        int finishingTime = 8;
+        GraphCompressedSparseRow<String> graph = GraphCompressedSparseRow.fromAdjacencyMatrix(this.graphMatrix);
+
+        // Act
+        graph.DFS("New York City");
+
+        // Assert
+        assertEquals(discoveryTime, graph.getVertex("Denver").getDiscoveryTime());
+        assertEquals(finishingTime, graph.getVertex("Denver").getFinishingTime());
+    }
+
+    @Test
+    void testDijkstra() {
+        // Arrange
+        int distance = 5;
+        GraphCompressedSparseRow<String> graph = GraphCompressedSparseRow.fromAdjacencyList(this.graphList);
+
+        // Act
+        graph.dijkstra("New York City");
+
+        // Assert
+        assertEquals(distance, graph.getVertex("Denver").getDistance());
+        assertEquals("Los Angeles", graph.getVertex("Denver").getParent().getValue());
+    }
+
+    @Test
+    void testDijkstraWithAVertexDoesNotExist() {
+        // Act
+        GraphCompressedSparseRow<String> graph = GraphCompressedSparseRow.fromAdjacencyList(this.graphList);
+
+        // Assert
+        assertThrows(IllegalArgumentException.class, () -> graph.dijkstra("Houston"));
+    }
+
+    @Test
+    void testFloydWarshall() {
+        // Arrange
+        String previous = "Denver";
+        GraphCompressedSparseRow<String> graph = GraphCompressedSparseRow.fromAdjacencyMatrix(this.graphMatrix);
+
+        // Act
+        Vertex_CSR<String>[][] prevMatrix = graph.floydWarshall();
+
+        // Assert
+        assertEquals(previous, prevMatrix[0][4].getValue());
+    }
+
+    @Test
+    void testPrim() {
+        // Arrange
+        GraphCompressedSparseRow<String> graph = GraphCompressedSparseRow.fromAdjacencyList(this.graphList);
+
+        // Act
+        graph.prim("Miami");
+
+        // Assert
+        assertEquals(3, graph.getVertex("Denver").getDistance());
+        assertEquals(1, graph.getVertex("Los Angeles").getDistance());
+        assertEquals(4, graph.getVertex("New York City").getDistance());
+    }
+
+    @Test
+    void testQueryPrimComponentStopsAtTheComponent() {
+        // Arrange
+        this.graphList.addVertex("Houston");
+        this.graphList.addVertex("Seattle");
+        this.graphList.addEdge("Houston", "Seattle", 7);
+        GraphCompressedSparseRow<String> graph = GraphCompressedSparseRow.fromAdjacencyList(this.graphList);
+
+        // Act
+        try (TraversalContext context = graph.queryPrimComponent("Miami")) {
+            // Assert
+            assertEquals(3, context.getDistance(graph.getIndex("Denver")));
+            assertEquals(1, context.getDistance(graph.getIndex("Los Angeles")));
+            assertEquals(4, context.getDistance(graph.getIndex("New York City")));
+            assertEquals(2, context.getDistance(graph.getIndex("Chicago")));
+            assertFalse(context.isVisited(graph.getIndex("Houston")));
+            assertEquals(-1, context.getParent(graph.getIndex("Seattle")));
+        }
+    }
+
+    @Test
+    void testConcurrentQueries() throws Exception {
+        // Arrange
+        GraphCompressedSparseRow<String> graph = GraphCompressedSparseRow.fromAdjacencyList(this.graphList);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<Integer>> results = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 200; i++) {
+            String source = i % 2 == 0 ? "New York City" : "Miami";
+            results.add(executor.submit(() -> {
+                try (TraversalContext context = graph.queryDijkstra(source)) {
+                    return context.getDistance(graph.getIndex(source.equals("Miami") ? "New York City" : "Miami"));
+                }
+            }));
+        }
+
+        // Assert
+        for (Future<Integer> result : results) {
+            assertEquals(8, result.get());
+        }
+        executor.shutdown();
+    }
+
+    @Test
+    void testWithChannelSwapsTheWeights() {
+        // Arrange
+        this.graphList.addEdge("Chicago", "Miami", 6, 9);
+        this.graphMatrix.addEdge("Chicago", "Miami", 6, 9);
+        GraphCompressedSparseRow<String> snapshot = this.graphList.snapshot();
+
+        // Act
+        GraphCompressedSparseRow<String> cost = snapshot.withChannel(WeightChannel.SECONDARY);
+
+        // Assert
+        assertSame(snapshot, snapshot.withChannel(WeightChannel.PRIMARY));
+        assertSame(cost, snapshot.withChannel(WeightChannel.SECONDARY));
+        assertSame(cost, this.graphList.snapshot(WeightChannel.SECONDARY));
+        assertSame(snapshot.getOffsets(), cost.getOffsets());
+        assertEquals(9, cost.getWeight("Chicago", "Miami"));
+        assertEquals(6, cost.getWeight("Chicago", "Miami", WeightChannel.SECONDARY));
+        assertEquals(9, this.graphMatrix.snapshot(WeightChannel.SECONDARY).getWeight("Miami", "Chicago"));
+        assertEquals(4, cost.getWeight("New York City", "Los Angeles"));
+    }
+
+    @Test
+    void testWeightChannelPacking() {
+        // Act
+        long packed = WeightChannel.pack(-5, 400);
+
+        // Assert
+        assertEquals(-5, WeightChannel.PRIMARY.unpack(packed));
+        assertEquals(400, WeightChannel.SECONDARY.unpack(packed));
+        assertEquals(WeightChannel.PRIMARY, WeightChannel.fromOption(0));
+        assertEquals(WeightChannel.SECONDARY, WeightChannel.fromOption(1));
+    }
+
+    @Test
+    void testBatchMutatorsAreNotSupported() {
+        // Arrange
+        GraphCompressedSparseRow<String> snapshot = this.graphList.snapshot();
+
+        // Assert
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.addVertices(Arrays.asList("Houston")));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.addEdges(Arrays.asList(new Edge<>("Chicago", "Miami", 1))));
+    }
+}
@@ -0,0 +1,188 @@
+package graph;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GraphConnectivityTest {
+
+    private static boolean[][] reachability(GraphCompressedSparseRow<?> graph) {
+        int n = graph.getVertices().size();
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        boolean[][] reach = new boolean[n][n];
+        for (int s = 0; s < n; s++) {
+            int[] queue = new int[n];
+            int head = 0;
+            int tail = 0;
+            reach[s][s] = true;
+            queue[tail++] = s;
+            while (head < tail) {
+                int u = queue[head++];
+                for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                    if (!reach[s][targets[e]]) {
+                        reach[s][targets[e]] = true;
+                        queue[tail++] = targets[e];
+                    }
+                }
+            }
+        }
+        return reach;
+    }
+
+    private static int countParts(GraphCompressedSparseRow<?> graph, int removedVertex, int removedU, int removedV) {
+        int n = graph.getVertices().size();
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        UnionFind sets = new UnionFind(n);
+        for (int u = 0; u < n; u++) {
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int v = targets[e];
+                boolean removedEdge = (u == removedU && v == removedV) || (u == removedV && v == removedU);
+                if (u != removedVertex && v != removedVertex && !removedEdge) {
+                    sets.union(u, v);
+                }
+            }
+        }
+        return removedVertex == -1 ? sets.getCount() : sets.getCount() - 1;
+    }
+
+    @Test
+    void testStronglyConnectedComponentsMatchMutualReachability() {
+        // Arrange
+        Random random = new Random(7);
+
+        for (int round = 0; round < 30; round++) {
+            GraphCompressedSparseRow<Integer> graph = RandomGraphs.randomCompressedGraph(random, 25, 40, true, 1, 100);
+            boolean[][] reach = reachability(graph);
+
+            // Act
+            int[] components = GraphConnectivity.stronglyConnectedComponents(graph);
+
+            // Assert
+            for (int u = 0; u < 25; u++) {
+                for (int v = 0; v < 25; v++) {
+                    assertEquals(reach[u][v] && reach[v][u], components[u] == components[v]);
+                }
+                for (int e = graph.getOffsets()[u]; e < graph.getOffsets()[u + 1]; e++) {
+                    assertTrue(components[u] >= components[graph.getTargets()[e]]);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testArticulationPointsAndBridgesMatchRemoval() {
+        // Arrange
+        Random random = new Random(11);
+
+        for (int round = 0; round < 30; round++) {
+            GraphCompressedSparseRow<Integer> graph = RandomGraphs.randomCompressedGraph(random, 20, 24, false, 1, 100);
+            int parts = countParts(graph, -1, -1, -1);
+            List<Integer> expectedPoints = new ArrayList<>();
+            Set<Long> expectedBridges = new HashSet<>();
+            for (int v = 0; v < 20; v++) {
+                if (countParts(graph, v, -1, -1) > parts) {
+                    expectedPoints.add(v);
+                }
+                for (int e = graph.getOffsets()[v]; e < graph.getOffsets()[v + 1]; e++) {
+                    int w = graph.getTargets()[e];
+                    if (v < w && countParts(graph, -1, v, w) > parts) {
+                        expectedBridges.add((long) v * 20 + w);
+                    }
+                }
+            }
+
+            // Act
+            List<Integer> points = GraphConnectivity.articulationPoints(graph);
+            List<Edge<Integer>> bridges = GraphConnectivity.bridges(graph);
+
+            // Assert
+            assertEquals(expectedPoints, points);
+            Set<Long> actualBridges = new HashSet<>();
+            for (Edge<Integer> bridge : bridges) {
+                int u = bridge.getSource();
+                int w = bridge.getDestination();
+                actualBridges.add((long) Math.min(u, w) * 20 + Math.max(u, w));
+            }
+            assertEquals(expectedBridges.size(), bridges.size());
+            assertEquals(expectedBridges, actualBridges);
+        }
+    }
+
+    @Test
+    void testDeepChainDoesNotOverflowTheStack() {
+        // Arrange
+        int n = 200000;
+        List<Integer> values = new ArrayList<>();
+        int[] sources = new int[n - 1];
+        int[] destinations = new int[n - 1];
+        int[] weights = new int[n - 1];
+        for (int v = 0; v < n; v++) {
+            values.add(v);
+        }
+        for (int v = 0; v < n - 1; v++) {
+            sources[v] = v;
+            destinations[v] = v + 1;
+            weights[v] = 1;
+        }
+        GraphCompressedSparseRow<Integer> graph = GraphCompressedSparseRow.fromEdges(values, sources, destinations, weights, n - 1, false);
+
+        // Act
+        List<Integer> points = GraphConnectivity.articulationPoints(graph);
+        List<Edge<Integer>> bridges = GraphConnectivity.bridges(graph);
+        int[] components = GraphConnectivity.stronglyConnectedComponents(graph);
+
+        // Assert
+        assertEquals(n - 2, points.size());
+        assertEquals(n - 1, bridges.size());
+        assertEquals(components[0], components[n - 1]);
+    }
+
+    @Test
+    void testVisitorReceivesEventsInRecursiveOrder() {
+        // Arrange
+        List<Integer> values = new ArrayList<>();
+        for (int v = 0; v < 4; v++) {
+            values.add(v);
+        }
+        GraphCompressedSparseRow<Integer> graph = GraphCompressedSparseRow.fromEdges(values, new int[]{0, 1, 0}, new int[]{1, 2, 2}, new int[]{1, 1, 1}, 3, true);
+        List<String> events = new ArrayList<>();
+
+        // Act
+        new DepthFirstSearch(graph).searchAll(new DepthFirstSearch.Visitor() {
+            @Override
+            public void discover(int vertex, int parent) {
+                events.add("d" + vertex);
+            }
+
+            @Override
+            public void edge(int source, int target, int edge, boolean tree) {
+                events.add((tree ? "t" : "e") + source + target);
+            }
+
+            @Override
+            public void finish(int vertex, int parent) {
+                events.add("f" + vertex);
+            }
+        });
+
+        // Assert
+        assertEquals("[d0, d1, t01, d2, t12, f2, f1, e02, f0, d3, f3]", events.toString());
+    }
+
+    @Test
+    void testArticulationPointsRejectDirectedGraphs() {
+        // Arrange
+        GraphCompressedSparseRow<Integer> graph = RandomGraphs.randomCompressedGraph(new Random(3), 5, 5, true, 1, 100);
+
+        // Act & Assert
+        assertThrows(UnsupportedOperationException.class, () -> GraphConnectivity.articulationPoints(graph));
+    }
+}
@@ -0,0 +1,92 @@
+package graph;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndexedMinHeapTest {
+    private IndexedMinHeap heap;
+
+    @BeforeEach
+    void setUp() {
+        this.heap = new IndexedMinHeap(5);
+    }
+
+    @Test
+    void testPollReturnsIdsInKeyOrder() {
+        // Act
+        this.heap.insert(0, 7);
+        this.heap.insert(1, 3);
+        this.heap.insert(2, 9);
+        this.heap.insert(3, 1);
+
+        // Assert
+        assertEquals(3, this.heap.poll());
+        assertEquals(1, this.heap.poll());
+        assertEquals(0, this.heap.poll());
+        assertEquals(2, this.heap.poll());
+        assertTrue(this.heap.isEmpty());
+    }
+
+    @Test
+    void testDecreaseKey() {
+        // Act
+        this.heap.insert(0, 7);
+        this.heap.insert(1, 3);
+        this.heap.insert(2, 9);
+        this.heap.decreaseKey(2, 2);
+
+        // Assert
+        assertEquals(2, this.heap.getKey(2));
+        assertEquals(2, this.heap.peek());
+    }
+
+    @Test
+    void testDecreaseKeyWithAGreaterKey() {
+        // Act
+        this.heap.insert(0, 7);
+
+        // Assert
+        assertThrows(IllegalArgumentException.class, () -> this.heap.decreaseKey(0, 8));
+    }
+
+    @Test
+    void testContains() {
+        // Act
+        this.heap.insert(4, 7);
+        this.heap.insert(1, 3);
+        this.heap.poll();
+
+        // Assert
+        assertTrue(this.heap.contains(4));
+        assertFalse(this.heap.contains(1));
+        assertFalse(this.heap.contains(0));
+    }
+
+    @Test
+    void testClear() {
+        // Act
+        this.heap.insert(0, 7);
+        this.heap.insert(1, 3);
+        this.heap.clear();
+
+        // Assert
+        assertEquals(0, this.heap.size());
+        assertFalse(this.heap.contains(0));
+        assertThrows(NoSuchElementException.class, () -> this.heap.poll());
+    }
+
+    @Test
+    void testEnsureCapacity() {
+        // Act
+        this.heap.ensureCapacity(10);
+        this.heap.insert(9, 1);
+
+        // Assert
+        assertTrue(this.heap.contains(9));
+        assertEquals(9, this.heap.poll());
+    }
+}
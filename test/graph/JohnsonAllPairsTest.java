@@ -0,0 +1,88 @@
+package graph;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JohnsonAllPairsTest {
+    private GraphAdjacencyList<String> graph;
+
+    @BeforeEach
+    void setUp() {
+        this.graph = new GraphAdjacencyList<>(true);
+    }
+
+    @Test
+    void testDistancesMatchFloydWarshall() {
+        // Arrange
+        this.graph = RandomGraphs.randomAcyclicGraph(60, 200, 11, 1, 100);
+        GraphCompressedSparseRow<String> snapshot = this.graph.snapshot();
+
+        // Act
+        AllPairsShortestPaths<String> johnson = JohnsonAllPairs.compute(snapshot, new ForkJoinPool(4));
+        AllPairsShortestPaths<String> floydWarshall = BlockedFloydWarshall.compute(snapshot);
+
+        // Assert
+        assertArrayEquals(floydWarshall.getDistances(), johnson.getDistances());
+    }
+
+    @Test
+    void testNegativeEdgesAreReweighted() {
+        // Arrange
+        this.graph = RandomGraphs.randomAcyclicGraph(30, 120, 5, -20, 100);
+        GraphCompressedSparseRow<String> snapshot = this.graph.snapshot();
+
+        // Act
+        AllPairsShortestPaths<String> johnson = this.graph.allPairsShortestPaths(AllPairsStrategy.DIJKSTRA);
+        AllPairsShortestPaths<String> floydWarshall = BlockedFloydWarshall.compute(snapshot);
+
+        // Assert
+        assertArrayEquals(floydWarshall.getDistances(), johnson.getDistances());
+    }
+
+    @Test
+    void testNextHops() {
+        // Arrange
+        this.graph.addVertex("New York City");
+        this.graph.addVertex("Los Angeles");
+        this.graph.addVertex("Chicago");
+        this.graph.addVertex("Denver");
+        this.graph.addEdge("New York City", "Los Angeles", 1);
+        this.graph.addEdge("Los Angeles", "Chicago", 1);
+        this.graph.addEdge("Chicago", "Denver", 1);
+        this.graph.addEdge("New York City", "Denver", 5);
+
+        // Act
+        AllPairsShortestPaths<String> paths = this.graph.allPairsShortestPaths(AllPairsStrategy.DIJKSTRA);
+
+        // Assert
+        assertEquals(1, paths.getNextHop(0, 3));
+        assertEquals(3, paths.getDistance("New York City", "Denver"));
+        assertEquals(Arrays.asList("New York City", "Los Angeles", "Chicago", "Denver"), paths.getPath("New York City", "Denver").getVertices());
+        assertEquals(-1, paths.getNextHop(3, 0));
+    }
+
+    @Test
+    void testNegativeCycle() {
+        // Arrange
+        this.graph.addVertex("New York City");
+        this.graph.addVertex("Los Angeles");
+        this.graph.addEdge("New York City", "Los Angeles", 1);
+        this.graph.addEdge("Los Angeles", "New York City", -2);
+
+        // Assert
+        assertThrows(IllegalStateException.class, () -> this.graph.allPairsShortestPaths(AllPairsStrategy.DIJKSTRA));
+    }
+
+    @Test
+    void testChoose() {
+        // Assert
+        assertEquals(AllPairsStrategy.DIJKSTRA, AllPairsStrategy.choose(1000, 8000));
+        assertEquals(AllPairsStrategy.FLOYD_WARSHALL, AllPairsStrategy.choose(1000, 900000));
+        assertEquals(AllPairsStrategy.FLOYD_WARSHALL, AllPairsStrategy.choose(1, 0));
+    }
+}
@@ -0,0 +1,125 @@
+package graph;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KShortestPathsTest {
+
+    private static GraphCompressedSparseRow<Integer> grid(Random random, int side) {
+        List<Integer> values = new ArrayList<>();
+        for (int v = 0; v < side * side; v++) {
+            values.add(v);
+        }
+        int m = 2 * side * (side - 1);
+        int[] sources = new int[m];
+        int[] destinations = new int[m];
+        int[] weights = new int[m];
+        int k = 0;
+        for (int r = 0; r < side; r++) {
+            for (int c = 0; c < side; c++) {
+                int v = r * side + c;
+                if (c + 1 < side) {
+                    sources[k] = v;
+                    destinations[k] = v + 1;
+                    weights[k++] = 1 + random.nextInt(9);
+                }
+                if (r + 1 < side) {
+                    sources[k] = v;
+                    destinations[k] = v + side;
+                    weights[k++] = 1 + random.nextInt(9);
+                }
+            }
+        }
+        return GraphCompressedSparseRow.fromEdges(values, sources, destinations, weights, k, false);
+    }
+
+    private static void assertMatchesBruteForce(GraphCompressedSparseRow<Integer> graph, int s, int t, int k, ForkJoinPool pool) {
+        List<Integer> expected = new ArrayList<>();
+        for (int[] total : RandomGraphs.simplePaths(graph, s, t)) {
+            expected.add(total[0]);
+        }
+        Collections.sort(expected);
+
+        List<Path<Integer>> paths = KShortestPaths.search(graph, s, t, k, pool);
+
+        assertEquals(Math.min(k, expected.size()), paths.size());
+        HashSet<List<Integer>> distinct = new HashSet<>();
+        for (int i = 0; i < paths.size(); i++) {
+            Path<Integer> path = paths.get(i);
+            assertEquals(expected.get(i).intValue(), path.getWeight());
+            assertEquals(path.getVertices().size(), new HashSet<>(path.getVertices()).size());
+            assertEquals(s, path.getSource().intValue());
+            assertEquals(t, path.getDestination().intValue());
+            int weight = 0;
+            for (int j = 1; j < path.getVertices().size(); j++) {
+                weight += graph.getWeight(path.getVertices().get(j - 1), path.getVertices().get(j));
+            }
+            assertEquals(path.getWeight(), weight);
+            assertTrue(distinct.add(path.getVertices()));
+        }
+    }
+
+    @Test
+    void testMatchesBruteForceOnRandomGraphs() {
+        // Arrange
+        Random random = new Random(31);
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            for (int round = 0; round < 40; round++) {
+                GraphCompressedSparseRow<Integer> graph = RandomGraphs.randomCompressedGraph(random, 8, 18, round % 2 == 0, 0, 20);
+
+                // Act & Assert
+                assertMatchesBruteForce(graph, 0, 7, 10, pool);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testLongRoutesRunSpursInParallel() {
+        // Arrange
+        Random random = new Random(37);
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            for (int round = 0; round < 5; round++) {
+                GraphCompressedSparseRow<Integer> graph = grid(random, 4);
+
+                // Act & Assert
+                assertMatchesBruteForce(graph, 0, 15, 25, pool);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testUnreachableDestination() {
+        // Arrange
+        List<Integer> values = new ArrayList<>();
+        for (int v = 0; v < 3; v++) {
+            values.add(v);
+        }
+        GraphCompressedSparseRow<Integer> graph = GraphCompressedSparseRow.fromEdges(values, new int[]{0}, new int[]{1}, new int[]{5}, 1, true);
+
+        // Act
+        List<Path<Integer>> none = KShortestPaths.search(graph, 0, 2, 3);
+        List<Path<Integer>> one = KShortestPaths.search(graph, 0, 1, 3);
+
+        // Assert
+        assertTrue(none.isEmpty());
+        assertEquals(1, one.size());
+        assertEquals(5, one.get(0).getWeight());
+        assertThrows(IllegalArgumentException.class, () -> KShortestPaths.search(graph, 0, 1, 0));
+    }
+}
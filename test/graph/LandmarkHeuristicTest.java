@@ -0,0 +1,97 @@
+package graph;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LandmarkHeuristicTest {
+    private GraphAdjacencyList<String> graph;
+
+    private void assertAdmissibleAndExact(Heuristic heuristic) {
+        int n = this.graph.getVertices().size();
+        for (int s = 0; s < n; s++) {
+            String source = this.graph.getVertices().get(s).getValue();
+            try (TraversalContext context = this.graph.queryDijkstra(source)) {
+                for (int t = 0; t < n; t++) {
+                    Path<String> path = this.graph.shortestPath(source, this.graph.getVertices().get(t).getValue(), heuristic);
+                    if (context.getDistance(t) == Integer.MAX_VALUE) {
+                        assertNull(path);
+                    } else {
+                        assertTrue(heuristic.estimate(s, t) <= context.getDistance(t));
+                        assertEquals(context.getDistance(t), path.getWeight());
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testFarthestUndirected() {
+        // Arrange
+        this.graph = RandomGraphs.randomGraph(false, 50, 120, 6);
+
+        // Act
+        LandmarkHeuristic heuristic = LandmarkHeuristic.build(this.graph, 4, LandmarkSelection.FARTHEST);
+
+        // Assert
+        assertEquals(4, heuristic.getLandmarks().length);
+        assertAdmissibleAndExact(heuristic);
+    }
+
+    @Test
+    void testFarthestDirected() {
+        // Arrange
+        this.graph = RandomGraphs.randomGraph(true, 50, 200, 7);
+
+        // Act
+        LandmarkHeuristic heuristic = LandmarkHeuristic.build(this.graph, 4, LandmarkSelection.FARTHEST);
+
+        // Assert
+        assertAdmissibleAndExact(heuristic);
+    }
+
+    @Test
+    void testDegree() {
+        // Arrange
+        this.graph = new GraphAdjacencyList<>(false);
+        for (String city : new String[]{"New York City", "Los Angeles", "Chicago", "Denver", "Miami"}) {
+            this.graph.addVertex(city);
+        }
+        this.graph.addEdge("Chicago", "New York City", 2);
+        this.graph.addEdge("Chicago", "Los Angeles", 4);
+        this.graph.addEdge("Chicago", "Denver", 1);
+        this.graph.addEdge("Denver", "Miami", 3);
+
+        // Act
+        LandmarkHeuristic heuristic = LandmarkHeuristic.build(this.graph, 1, LandmarkSelection.DEGREE);
+
+        // Assert
+        assertArrayEquals(new int[]{2}, heuristic.getLandmarks());
+        assertEquals(3, heuristic.estimate(3, 1));
+        assertAdmissibleAndExact(heuristic);
+    }
+
+    @Test
+    void testMoreLandmarksThanVertices() {
+        // Arrange
+        this.graph = RandomGraphs.randomGraph(false, 3, 3, 1);
+
+        // Act
+        LandmarkHeuristic heuristic = LandmarkHeuristic.build(this.graph, 10, LandmarkSelection.FARTHEST);
+
+        // Assert
+        assertEquals(3, heuristic.getLandmarks().length);
+        assertEquals(3, new HashSet<>(Arrays.asList(heuristic.getLandmarks()[0], heuristic.getLandmarks()[1], heuristic.getLandmarks()[2])).size());
+    }
+
+    @Test
+    void testWithoutLandmarks() {
+        // Arrange
+        this.graph = RandomGraphs.randomGraph(false, 3, 3, 1);
+
+        // Assert
+        assertThrows(IllegalArgumentException.class, () -> LandmarkHeuristic.build(this.graph, 0, LandmarkSelection.DEGREE));
+    }
+}
@@ -0,0 +1,138 @@
+package graph;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MinimumSpanningForestTest {
+    private GraphAdjacencyList<String> graph;
+
+    private int totalWeight(List<Edge<String>> forest) {
+        int total = 0;
+        for (Edge<String> edge : forest) {
+            total += edge.getWeight();
+        }
+        return total;
+    }
+
+    private int primWeight() {
+        GraphCompressedSparseRow<String> snapshot = this.graph.snapshot();
+        int total = 0;
+        try (TraversalContext context = snapshot.queryPrim("City 0")) {
+            for (int v = 1; v < snapshot.getVertices().size(); v++) {
+                if (context.getDistance(v) != Integer.MAX_VALUE) {
+                    total += context.getDistance(v);
+                }
+            }
+        }
+        return total;
+    }
+
+    private int components() {
+        UnionFind components = new UnionFind(this.graph.getVertices().size());
+        for (Vertex_List<String> vertex : this.graph.getVertices()) {
+            for (Vertex_List<String> adjacent : vertex.getAdjacent().keySet()) {
+                components.union(vertex.getIndex(), adjacent.getIndex());
+            }
+        }
+        return components.getCount();
+    }
+
+    @Test
+    void testKruskalMatchesPrim() {
+        // Arrange
+        this.graph = RandomGraphs.randomGraph(false, 60, 200, 5, -10, 50);
+
+        // Act
+        List<Edge<String>> forest = MinimumSpanningForest.kruskal(this.graph.snapshot());
+
+        // Assert
+        assertEquals(primWeight(), totalWeight(forest));
+        assertEquals(60 - components(), forest.size());
+    }
+
+    @Test
+    void testDisconnectedNetworkGivesAForest() {
+        // Arrange
+        this.graph = RandomGraphs.randomGraph(false, 80, 60, 9, -10, 50);
+
+        // Act
+        List<Edge<String>> forest = this.graph.minimumSpanningForest();
+
+        // Assert
+        assertTrue(components() > 1);
+        assertEquals(80 - components(), forest.size());
+        assertEquals(primWeight(), totalWeight(forest));
+    }
+
+    @Test
+    void testBoruvkaMatchesKruskal() {
+        // Arrange
+        this.graph = RandomGraphs.randomGraph(false, 300, 1500, 2, -10, 50);
+        GraphCompressedSparseRow<String> snapshot = this.graph.snapshot();
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        // Act
+        List<Edge<String>> kruskal = MinimumSpanningForest.kruskal(snapshot);
+        List<Edge<String>> boruvka = MinimumSpanningForest.boruvka(snapshot, pool);
+        pool.shutdown();
+
+        // Assert
+        assertEquals(new HashSet<>(kruskal), new HashSet<>(boruvka));
+        assertEquals(kruskal.size(), boruvka.size());
+    }
+
+    @Test
+    void testBoruvkaWithTies() {
+        // Arrange
+        this.graph = new GraphAdjacencyList<>(false);
+        for (int i = 0; i < 20; i++) {
+            this.graph.addVertex("City " + i);
+        }
+        for (int i = 0; i < 20; i++) {
+            for (int j = i + 1; j < 20; j++) {
+                this.graph.addEdge("City " + i, "City " + j, 1);
+            }
+        }
+
+        // Act
+        List<Edge<String>> forest = MinimumSpanningForest.boruvka(this.graph.snapshot());
+
+        // Assert
+        assertEquals(19, forest.size());
+        assertEquals(new HashSet<>(MinimumSpanningForest.kruskal(this.graph.snapshot())), new HashSet<>(forest));
+    }
+
+    @Test
+    void testMinimumSpanningForestBySecondaryWeight() {
+        // Arrange
+        GraphAdjacencyMatrix<String> matrix = new GraphAdjacencyMatrix<>(false);
+        matrix.addVertex("New York City");
+        matrix.addVertex("Los Angeles");
+        matrix.addVertex("Chicago");
+        matrix.addEdge("New York City", "Los Angeles", 1, 9);
+        matrix.addEdge("New York City", "Chicago", 2, 1);
+        matrix.addEdge("Chicago", "Los Angeles", 3, 1);
+
+        // Act
+        List<Edge<String>> time = matrix.minimumSpanningForest();
+        List<Edge<String>> cost = matrix.minimumSpanningForest(WeightChannel.SECONDARY);
+
+        // Assert
+        assertEquals(3, totalWeight(time));
+        assertEquals(2, totalWeight(cost));
+    }
+
+    @Test
+    void testEmptyGraph() {
+        // Arrange
+        this.graph = new GraphAdjacencyList<>(false);
+
+        // Assert
+        assertTrue(MinimumSpanningForest.kruskal(this.graph.snapshot()).isEmpty());
+        assertTrue(MinimumSpanningForest.boruvka(this.graph.snapshot()).isEmpty());
+    }
+}
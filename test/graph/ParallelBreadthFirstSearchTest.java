@@ -0,0 +1,67 @@
+package graph;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelBreadthFirstSearchTest {
+
+    @Test
+    void testParallelBFSMatchesBFS() {
+        // Arrange
+        Random random = new Random(29);
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            for (boolean directed : new boolean[]{false, true}) {
+                GraphAdjacencyList<Integer> graph = RandomGraphs.randomAdjacencyList(random, 20000, 60000, directed);
+                GraphCompressedSparseRow<Integer> snapshot = graph.snapshot();
+
+                for (int source = 0; source < 20000; source += 6007) {
+                    // Act
+                    try (TraversalContext expected = graph.queryBFS(source);
+                         TraversalContext actual = graph.queryParallelBFS(source, pool)) {
+
+                        // Assert
+                        for (int v = 0; v < 20000; v++) {
+                            assertEquals(expected.isVisited(v), actual.isVisited(v));
+                            assertEquals(expected.getDistance(v), actual.getDistance(v));
+                            int parent = actual.getParent(v);
+                            if (v == source || !actual.isVisited(v)) {
+                                assertEquals(-1, parent);
+                            } else {
+                                assertTrue(snapshot.containsEdge(parent, v));
+                                assertEquals(actual.getDistance(v) - 1, actual.getDistance(parent));
+                            }
+                        }
+                    }
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testUnreachableVerticesStayWhite() {
+        // Arrange
+        GraphAdjacencyList<String> graph = new GraphAdjacencyList<>(false);
+        graph.addVertex("New York City");
+        graph.addVertex("Los Angeles");
+        graph.addVertex("Miami");
+        graph.addEdge("New York City", "Los Angeles", 320);
+
+        // Act
+        try (TraversalContext context = graph.queryParallelBFS("New York City")) {
+
+            // Assert
+            assertEquals(1, context.getDistance(1));
+            assertEquals(0, context.getParent(1));
+            assertFalse(context.isVisited(2));
+            assertEquals(Integer.MAX_VALUE, context.getDistance(2));
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package graph;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParetoSearchTest {
+    private GraphAdjacencyList<String> graph;
+
+    private void setUpTriangle() {
+        this.graph = new GraphAdjacencyList<>(false);
+        this.graph.addVertex("New York City");
+        this.graph.addVertex("Los Angeles");
+        this.graph.addVertex("Chicago");
+        this.graph.addVertex("Denver");
+        this.graph.addEdge("New York City", "Los Angeles", 300, 900);
+        this.graph.addEdge("New York City", "Chicago", 120, 100);
+        this.graph.addEdge("Chicago", "Los Angeles", 240, 500);
+        this.graph.addEdge("Chicago", "Denver", 150, 80);
+        this.graph.addEdge("Denver", "Los Angeles", 150, 90);
+    }
+
+    private void enumerate(GraphCompressedSparseRow<String> snapshot, int u, int t, boolean[] visited, int a, int b, Set<List<Integer>> totals) {
+        if (u == t) {
+            totals.add(Arrays.asList(a, b));
+            return;
+        }
+        visited[u] = true;
+        for (int e = snapshot.getOffsets()[u]; e < snapshot.getOffsets()[u + 1]; e++) {
+            int v = snapshot.getTargets()[e];
+            if (!visited[v]) {
+                enumerate(snapshot, v, t, visited, a + snapshot.getWeights()[e], b + snapshot.getSecondaryWeights()[e], totals);
+            }
+        }
+        visited[u] = false;
+    }
+
+    private List<List<Integer>> bruteForceFront(GraphCompressedSparseRow<String> snapshot, int s, int t) {
+        Set<List<Integer>> totals = new HashSet<>();
+        enumerate(snapshot, s, t, new boolean[snapshot.getVertices().size()], 0, 0, totals);
+        List<List<Integer>> front = new ArrayList<>();
+        for (List<Integer> x : totals) {
+            boolean dominated = false;
+            for (List<Integer> y : totals) {
+                if (y.get(0) <= x.get(0) && y.get(1) <= x.get(1) && !y.equals(x)) {
+                    dominated = true;
+                }
+            }
+            if (!dominated) {
+                front.add(x);
+            }
+        }
+        front.sort(Comparator.comparing((List<Integer> x) -> x.get(0)));
+        return front;
+    }
+
+    private void assertMatchesBruteForce() {
+        GraphCompressedSparseRow<String> snapshot = this.graph.snapshot();
+        int n = snapshot.getVertices().size();
+        for (int s = 0; s < n; s++) {
+            for (int t = 0; t < n; t++) {
+                List<ParetoPath<String>> paths = ParetoSearch.search(snapshot, "City " + s, "City " + t);
+                List<List<Integer>> totals = new ArrayList<>();
+                for (ParetoPath<String> path : paths) {
+                    totals.add(Arrays.asList(path.getWeight(), path.getSecondaryWeight()));
+                    int a = 0;
+                    int b = 0;
+                    List<String> vertices = path.getVertices();
+                    for (int i = 1; i < vertices.size(); i++) {
+                        a += snapshot.getWeight(vertices.get(i - 1), vertices.get(i));
+                        b += snapshot.getWeight(vertices.get(i - 1), vertices.get(i), WeightChannel.SECONDARY);
+                    }
+                    assertEquals(path.getWeight(), a);
+                    assertEquals(path.getSecondaryWeight(), b);
+                }
+                assertEquals(bruteForceFront(snapshot, s, t), totals);
+            }
+        }
+    }
+
+    @Test
+    void testFrontGoesFromTheFastestToTheCheapestRoute() {
+        // Arrange
+        setUpTriangle();
+
+        // Act
+        List<ParetoPath<String>> paths = ParetoSearch.search(this.graph.snapshot(), "New York City", "Los Angeles");
+
+        // Assert
+        assertEquals(3, paths.size());
+        assertEquals(Arrays.asList("New York City", "Los Angeles"), paths.get(0).getVertices());
+        assertEquals(300, paths.get(0).getWeight());
+        assertEquals(Arrays.asList("New York City", "Chicago", "Los Angeles"), paths.get(1).getVertices());
+        assertEquals(600, paths.get(1).getSecondaryWeight());
+        assertEquals(Arrays.asList("New York City", "Chicago", "Denver", "Los Angeles"), paths.get(2).getVertices());
+        assertEquals(420, paths.get(2).getWeight(WeightChannel.PRIMARY));
+        assertEquals(270, paths.get(2).getWeight(WeightChannel.SECONDARY));
+        assertFalse(paths.get(0).dominates(paths.get(2)));
+        assertFalse(paths.get(2).dominates(paths.get(0)));
+    }
+
+    @Test
+    void testUndirectedMatchesBruteForce() {
+        // Arrange
+        this.graph = RandomGraphs.randomTwoWeightGraph(false, 9, 18, 4, 20);
+
+        // Assert
+        assertMatchesBruteForce();
+    }
+
+    @Test
+    void testDirectedMatchesBruteForce() {
+        // Arrange
+        this.graph = RandomGraphs.randomTwoWeightGraph(true, 9, 30, 11, 20);
+
+        // Assert
+        assertMatchesBruteForce();
+    }
+
+    @Test
+    void testUnreachableDestination() {
+        // Arrange
+        setUpTriangle();
+        this.graph.addVertex("Miami");
+
+        // Act
+        List<ParetoPath<String>> paths = ParetoSearch.search(this.graph.snapshot(), "New York City", "Miami");
+
+        // Assert
+        assertTrue(paths.isEmpty());
+    }
+
+    @Test
+    void testLabelLimitExceeded() {
+        // Arrange
+        setUpTriangle();
+
+        // Assert
+        assertThrows(IllegalStateException.class, () -> ParetoSearch.search(this.graph.snapshot(), "New York City", "Los Angeles", 2));
+    }
+
+    @Test
+    void testWithAVertexDoesNotExist() {
+        // Arrange
+        setUpTriangle();
+
+        // Assert
+        assertThrows(IllegalArgumentException.class, () -> ParetoSearch.search(this.graph.snapshot(), "New York City", "Houston"));
+    }
+
+    @Test
+    void testWithNegativeWeight() {
+        // Arrange
+        setUpTriangle();
+        this.graph.addVertex("Miami");
+        this.graph.addEdge("Miami", "Denver", 10, -1);
+
+        // Assert
+        assertThrows(IllegalArgumentException.class, () -> ParetoSearch.search(this.graph.snapshot(), "New York City", "Los Angeles"));
+    }
+}
@@ -0,0 +1,158 @@
+package graph;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Class name: RandomGraphs
+ * General Description: Random networks shared by the tests, and a brute-force enumeration of simple paths to check the searches against. The networks built from a seed name their vertices "City 0" .. "City n-1"; the ones drawn from a given Random use the ids themselves as values. In both, vertex i has id i.
+ */
+final class RandomGraphs {
+
+    private RandomGraphs() {
+    }
+
+    static GraphAdjacencyList<String> randomGraph(boolean directed, int vertices, int edges, long seed) {
+        return randomGraph(directed, vertices, edges, seed, 1, 100);
+    }
+
+    static GraphAdjacencyList<String> randomGraph(boolean directed, int vertices, int edges, long seed, int minWeight, int weights) {
+        GraphAdjacencyList<String> graph = new GraphAdjacencyList<>(directed);
+        addRandomEdges(graph, vertices, edges, seed, minWeight, weights, false, false);
+        return graph;
+    }
+
+    static GraphAdjacencyList<String> randomTwoWeightGraph(boolean directed, int vertices, int edges, long seed, int weights) {
+        GraphAdjacencyList<String> graph = new GraphAdjacencyList<>(directed);
+        addRandomEdges(graph, vertices, edges, seed, 0, weights, false, true);
+        return graph;
+    }
+
+    static GraphAdjacencyList<String> randomAcyclicGraph(int vertices, int edges, long seed, int minWeight, int weights) {
+        GraphAdjacencyList<String> graph = new GraphAdjacencyList<>(true);
+        addRandomEdges(graph, vertices, edges, seed, minWeight, weights, true, false);
+        return graph;
+    }
+
+    private static void addRandomEdges(GraphAdjacencyList<String> graph, int vertices, int edges, long seed, int minWeight, int weights, boolean acyclic, boolean twoWeights) {
+        Random random = new Random(seed);
+        for (int i = 0; i < vertices; i++) {
+            graph.addVertex("City " + i);
+        }
+        for (int e = 0; e < edges; e++) {
+            int u = random.nextInt(vertices);
+            int v = random.nextInt(vertices);
+            if ((acyclic ? u < v : u != v) && graph.getVertex("City " + u).getAdjacent().get(graph.getVertex("City " + v)) == null) {
+                if (twoWeights) {
+                    graph.addEdge("City " + u, "City " + v, minWeight + random.nextInt(weights), minWeight + random.nextInt(weights));
+                } else {
+                    graph.addEdge("City " + u, "City " + v, minWeight + random.nextInt(weights));
+                }
+            }
+        }
+    }
+
+    static GraphCompressedSparseRow<Integer> randomMultigraph(Random random, int n, int m, boolean directed) {
+        int[] sources = new int[m];
+        int[] destinations = new int[m];
+        int[] weights = new int[m];
+        for (int i = 0; i < m; i++) {
+            sources[i] = random.nextInt(n);
+            destinations[i] = random.nextInt(n);
+            weights[i] = 1;
+        }
+        return GraphCompressedSparseRow.fromEdges(ids(n), sources, destinations, weights, m, directed);
+    }
+
+    static GraphCompressedSparseRow<Integer> randomCompressedGraph(Random random, int n, int m, boolean directed, int minWeight, int weights) {
+        return randomSimpleGraph(random, n, m, directed, minWeight, weights, false);
+    }
+
+    static GraphCompressedSparseRow<Integer> randomTradeOffGraph(Random random, int n, int m, boolean directed) {
+        return randomSimpleGraph(random, n, m, directed, 10, 300, true);
+    }
+
+    private static GraphCompressedSparseRow<Integer> randomSimpleGraph(Random random, int n, int m, boolean directed, int minWeight, int weights, boolean tradeOff) {
+        int[] sources = new int[m];
+        int[] destinations = new int[m];
+        int[] primary = new int[m];
+        int[] secondary = new int[m];
+        Set<Long> seen = new HashSet<>();
+        int k = 0;
+        for (int attempt = 0; attempt < m * 10 && k < m; attempt++) {
+            int u = random.nextInt(n);
+            int v = random.nextInt(n);
+            long key = directed ? (long) u * n + v : (long) Math.min(u, v) * n + Math.max(u, v);
+            if (u != v && seen.add(key)) {
+                sources[k] = u;
+                destinations[k] = v;
+                primary[k] = minWeight + random.nextInt(weights);
+                secondary[k] = tradeOff ? Math.max(0, 500 - primary[k] + random.nextInt(200) - 100) : primary[k];
+                k++;
+            }
+        }
+        return GraphCompressedSparseRow.fromEdges(ids(n), sources, destinations, primary, secondary, k, directed);
+    }
+
+    static GraphAdjacencyList<Integer> randomAdjacencyList(Random random, int n, int m, boolean directed) {
+        GraphAdjacencyList<Integer> graph = new GraphAdjacencyList<>(directed);
+        graph.addVertices(ids(n));
+        for (int i = 0; i < m; i++) {
+            int u = random.nextInt(n);
+            int v = random.nextInt(n);
+            try {
+                graph.addEdge(u, v, 1);
+            } catch (IllegalArgumentException e) {
+                // The edge already exists.
+            }
+        }
+        return graph;
+    }
+
+    static GraphAdjacencyMatrix<Integer> randomAdjacencyMatrix(Random random, int n, double density, boolean directed) {
+        GraphAdjacencyMatrix<Integer> graph = new GraphAdjacencyMatrix<>(directed);
+        for (int v = 0; v < n; v++) {
+            graph.addVertex(v);
+        }
+        for (int u = 0; u < n; u++) {
+            for (int v = directed ? 0 : u + 1; v < n; v++) {
+                if (u != v && random.nextDouble() < density) {
+                    graph.addEdge(u, v, 1 + random.nextInt(50));
+                }
+            }
+        }
+        return graph;
+    }
+
+    static List<int[]> simplePaths(GraphCompressedSparseRow<?> graph, int s, int t) {
+        List<int[]> totals = new ArrayList<>();
+        simplePaths(graph, s, t, new boolean[graph.getVertices().size()], 0, 0, totals);
+        return totals;
+    }
+
+    private static void simplePaths(GraphCompressedSparseRow<?> graph, int u, int t, boolean[] onPath, int primary, int secondary, List<int[]> totals) {
+        if (u == t) {
+            totals.add(new int[]{primary, secondary});
+            return;
+        }
+        onPath[u] = true;
+        for (int e = graph.getOffsets()[u]; e < graph.getOffsets()[u + 1]; e++) {
+            int v = graph.getTargets()[e];
+            if (!onPath[v]) {
+                simplePaths(graph, v, t, onPath, primary + graph.getWeights()[e], secondary + graph.getSecondaryWeights()[e], totals);
+            }
+        }
+        onPath[u] = false;
+    }
+
+    private static List<Integer> ids(int n) {
+        List<Integer> values = new ArrayList<>(n);
+        for (int v = 0; v < n; v++) {
+            values.add(v);
+        }
+        return values;
+    }
+}
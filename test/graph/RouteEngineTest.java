@@ -0,0 +1,144 @@
+package graph;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RouteEngineTest {
+    private GraphAdjacencyList<String> graph;
+    private RouteEngine<String> engine;
+
+    @BeforeEach
+    void setUp() {
+        this.graph = new GraphAdjacencyList<>(false);
+        this.graph.addVertex("New York City");
+        this.graph.addVertex("Los Angeles");
+        this.graph.addVertex("Chicago");
+        this.graph.addVertex("Denver");
+        this.graph.addVertex("Miami");
+        this.graph.addVertex("Houston");
+
+        this.graph.addEdge("New York City", "Los Angeles", 4);
+        this.graph.addEdge("New York City", "Chicago", 2);
+        this.graph.addEdge("Los Angeles", "Denver", 1);
+        this.graph.addEdge("Chicago", "Denver", 5);
+        this.graph.addEdge("Denver", "Miami", 3);
+
+        this.engine = new RouteEngine<>(this.graph, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.engine.close();
+    }
+
+    @Test
+    void testShortestPath() throws Exception {
+        // Act
+        Path<String> path = this.engine.shortestPath("New York City", "Miami").get();
+
+        // Assert
+        assertEquals(Arrays.asList("New York City", "Los Angeles", "Denver", "Miami"), path.getVertices());
+        assertEquals(8, path.getWeight());
+    }
+
+    @Test
+    void testShortestPathWithAnUnreachableVertex() throws Exception {
+        // Act
+        Path<String> path = this.engine.shortestPath("New York City", "Houston").get();
+
+        // Assert
+        assertNull(path);
+    }
+
+    @Test
+    void testShortestPaths() throws Exception {
+        // Arrange
+        List<String> sources = new ArrayList<>();
+        List<String> destinations = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            sources.add(i % 2 == 0 ? "Chicago" : "Miami");
+            destinations.add(i % 2 == 0 ? "Miami" : "Chicago");
+        }
+
+        // Act
+        List<Path<String>> paths = this.engine.shortestPaths(sources, destinations).get();
+
+        // Assert
+        assertEquals(500, paths.size());
+        for (Path<String> path : paths) {
+            assertEquals(8, path.getWeight());
+        }
+    }
+
+    @Test
+    void testSnapshotIsFrozen() throws Exception {
+        // Act
+        this.graph.addEdge("New York City", "Miami", 1);
+
+        // Assert
+        assertEquals(8, this.engine.shortestPath("New York City", "Miami").get().getWeight());
+    }
+
+    @Test
+    void testMinimumSpanningTree() throws Exception {
+        // Act
+        List<Edge<String>> edges = this.engine.minimumSpanningTree("Miami").get();
+
+        // Assert
+        assertEquals(4, edges.size());
+        assertTrue(edges.contains(new Edge<>("Denver", "Los Angeles", 1)));
+        assertTrue(edges.contains(new Edge<>("New York City", "Chicago", 2)));
+    }
+
+    @Test
+    void testMinimumSpanningTreeLeavesOutTheOtherComponents() throws Exception {
+        // Arrange
+        this.graph.addVertex("Seattle");
+        this.graph.addEdge("Houston", "Seattle", 7);
+
+        // Act
+        List<Edge<String>> edges;
+        try (RouteEngine<String> engine = new RouteEngine<>(this.graph, 2)) {
+            edges = engine.minimumSpanningTree("Miami").get();
+        }
+
+        // Assert
+        assertEquals(4, edges.size());
+        for (Edge<String> edge : edges) {
+            assertNotEquals("Houston", edge.getSource());
+            assertNotEquals("Seattle", edge.getSource());
+            assertNotEquals("Houston", edge.getDestination());
+            assertNotEquals("Seattle", edge.getDestination());
+        }
+    }
+
+    @Test
+    void testIsReachable() throws Exception {
+        // Assert
+        assertTrue(this.engine.isReachable("Miami", "Chicago").get());
+        assertFalse(this.engine.isReachable("Miami", "Houston").get());
+        assertEquals(Collections.singletonList("Houston"), this.engine.reachableFrom("Houston").get());
+    }
+
+    @Test
+    void testWithAnExternalExecutor() throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newCachedThreadPool();
+
+        // Act
+        try (RouteEngine<String> external = new RouteEngine<>(this.graph, executor)) {
+            assertEquals(5, external.shortestPath("New York City", "Denver").get().getWeight());
+        }
+
+        // Assert
+        assertFalse(executor.isShutdown());
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,122 @@
+package graph;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShortestPathTreeCacheTest {
+    private GraphAdjacencyList<String> graph;
+    private ShortestPathTreeCache<String> cache;
+
+    @BeforeEach
+    void setUp() {
+        this.graph = new GraphAdjacencyList<>(false);
+        for (String city : new String[]{"New York City", "Los Angeles", "Chicago", "Denver", "Miami"}) {
+            this.graph.addVertex(city);
+        }
+        this.graph.addEdge("New York City", "Los Angeles", 4);
+        this.graph.addEdge("New York City", "Chicago", 2);
+        this.graph.addEdge("Los Angeles", "Denver", 1);
+        this.graph.addEdge("Chicago", "Denver", 5);
+        this.graph.addEdge("Denver", "Miami", 3);
+        this.cache = new ShortestPathTreeCache<>(this.graph);
+    }
+
+    @Test
+    void testShortestPath() {
+        // Act
+        Path<String> path = this.cache.shortestPath("New York City", "Miami", WeightChannel.PRIMARY);
+
+        // Assert
+        assertEquals(Arrays.asList("New York City", "Los Angeles", "Denver", "Miami"), path.getVertices());
+        assertEquals(8, path.getWeight());
+    }
+
+    @Test
+    void testRepeatedSourceIsAHit() {
+        // Act
+        this.cache.shortestPath("New York City", "Miami", WeightChannel.PRIMARY);
+        this.cache.shortestPath("New York City", "Chicago", WeightChannel.PRIMARY);
+        this.cache.shortestPath("New York City", "Chicago", WeightChannel.SECONDARY);
+
+        // Assert
+        assertEquals(1, this.cache.getHits());
+        assertEquals(2, this.cache.getMisses());
+        assertEquals(2, this.cache.size());
+    }
+
+    @Test
+    void testFindTreeComputesOnTheSecondMiss() {
+        // Act
+        ShortestPathTree<String> first = this.cache.findTree("New York City", WeightChannel.PRIMARY);
+        ShortestPathTree<String> second = this.cache.findTree("New York City", WeightChannel.PRIMARY);
+        ShortestPathTree<String> third = this.cache.findTree("New York City", WeightChannel.PRIMARY);
+
+        // Assert
+        assertNull(first);
+        assertNotNull(second);
+        assertSame(second, third);
+        assertEquals(8, third.getDistance("Miami"));
+        assertEquals(1, this.cache.getHits());
+        assertEquals(2, this.cache.getMisses());
+    }
+
+    @Test
+    void testAddEdgeInvalidatesTheCache() {
+        // Arrange
+        this.cache.shortestPath("New York City", "Miami", WeightChannel.PRIMARY);
+
+        // Act
+        this.graph.addEdge("New York City", "Miami", 1);
+        Path<String> path = this.cache.shortestPath("New York City", "Miami", WeightChannel.PRIMARY);
+
+        // Assert
+        assertEquals(1, path.getWeight());
+        assertEquals(0, this.cache.getHits());
+    }
+
+    @Test
+    void testRemoveVertexInvalidatesTheCache() {
+        // Arrange
+        this.cache.shortestPath("New York City", "Miami", WeightChannel.PRIMARY);
+
+        // Act
+        this.graph.removeVertex("Los Angeles");
+        Path<String> path = this.cache.shortestPath("New York City", "Miami", WeightChannel.PRIMARY);
+
+        // Assert
+        assertEquals(10, path.getWeight());
+        assertEquals(1, this.cache.size());
+    }
+
+    @Test
+    void testMemoryBound() {
+        // Arrange
+        this.cache = new ShortestPathTreeCache<>(this.graph, 2 * (8 * 5 + 128));
+
+        // Act
+        this.cache.getTree("New York City", WeightChannel.PRIMARY);
+        this.cache.getTree("Chicago", WeightChannel.PRIMARY);
+        this.cache.getTree("New York City", WeightChannel.PRIMARY);
+        this.cache.getTree("Miami", WeightChannel.PRIMARY);
+        this.cache.getTree("New York City", WeightChannel.PRIMARY);
+
+        // Assert
+        assertEquals(2, this.cache.size());
+        assertEquals(2, this.cache.getHits());
+        assertTrue(this.cache.getBytes() <= 2 * (8 * 5 + 128));
+    }
+
+    @Test
+    void testUnreachableDestination() {
+        // Arrange
+        this.graph.addVertex("Houston");
+
+        // Assert
+        assertNull(this.cache.shortestPath("New York City", "Houston", WeightChannel.PRIMARY));
+        assertThrows(IllegalArgumentException.class, () -> this.cache.shortestPath("New York City", "Boston", WeightChannel.PRIMARY));
+    }
+}
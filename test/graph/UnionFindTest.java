@@ -0,0 +1,44 @@
+package graph;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnionFindTest {
+    private UnionFind sets;
+
+    @BeforeEach
+    void setUp() {
+        this.sets = new UnionFind(6);
+    }
+
+    @Test
+    void testUnion() {
+        // Act
+        boolean first = this.sets.union(0, 1);
+        boolean second = this.sets.union(1, 2);
+        boolean repeated = this.sets.union(2, 0);
+
+        // Assert
+        assertTrue(first);
+        assertTrue(second);
+        assertFalse(repeated);
+        assertTrue(this.sets.connected(0, 2));
+        assertFalse(this.sets.connected(0, 3));
+        assertEquals(3, this.sets.getSize(1));
+        assertEquals(4, this.sets.getCount());
+    }
+
+    @Test
+    void testFind() {
+        // Act
+        this.sets.union(3, 4);
+        this.sets.union(4, 5);
+
+        // Assert
+        assertEquals(this.sets.find(3), this.sets.find(5));
+        assertEquals(0, this.sets.find(0));
+        assertEquals(1, this.sets.getSize(0));
+    }
+}
@@ -1,8 +1,22 @@
 package model;
 
+import graph.ContractionHierarchy;
+import graph.DynamicSpanningForest;
+import graph.Edge;
+import graph.GraphAdjacencyList;
+import graph.LandmarkHeuristic;
+import graph.MinimumSpanningForest;
+import graph.ParetoPath;
+import graph.Path;
+import graph.RouteEngine;
+import graph.TraversalContext;
+import graph.WeightChannel;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.HashSet;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class AirlineTest {
@@ -121,4 +135,300 @@ class AirlineTest {
         // Assert
         assertTrue(airline.getCitiesGraphAM().isConnected());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testLoadCompressedGraph() {
+        // Arrange
+        int vertices = 50;
+        int edges = 382;
+
+        // Act
+        airline.loadCompressedGraph(0);
+
+        // Assert
+        assertEquals(vertices, airline.getCitiesGraphCSR().getVertices().size());
+        assertEquals(edges, airline.getCitiesGraphCSR().getEdgeCount());
+    }
+
+    @Test
+    void testCreateRouteEngine() throws Exception {
+        // Act
+        airline.loadCities(1);
+        Path<String> path;
+        try (RouteEngine<String> engine = airline.createRouteEngine(0, 1, 2)) {
+            path = engine.shortestPath("New York City", "Los Angeles").get();
+        }
+
+        // Assert
+        assertEquals("New York City", path.getSource());
+        assertEquals("Los Angeles", path.getDestination());
+        assertTrue(path.getWeight() <= 320);
+    }
+
+    @Test
+    void testLoadCitiesWithCoordinates() {
+        // Act
+        airline.loadCities(1);
+
+        // Assert
+        assertEquals(25.7617, airline.getCoordinates("Miami")[0], 1e-9);
+        assertEquals(-80.1918, airline.getCoordinates("Miami")[1], 1e-9);
+        assertNotNull(airline.getCitiesGraphAL().getVertex("Miami"));
+    }
+
+    @Test
+    void testAStarMatchesDijkstra() {
+        // Arrange
+        airline.loadCities(1);
+        airline.loadConnections(0, 1);
+        GraphAdjacencyList<String> graph = airline.getCitiesGraphAL();
+        GreatCircleHeuristic heuristic = airline.createHeuristic(graph);
+
+        // Act & Assert
+        for (int s = 0; s < graph.getVertices().size(); s++) {
+            String source = graph.getVertices().get(s).getValue();
+            try (TraversalContext dijkstra = graph.queryDijkstra(source)) {
+                for (int t = 0; t < graph.getVertices().size(); t++) {
+                    assertTrue(heuristic.estimate(s, t) <= dijkstra.getDistance(t));
+                    Path<String> path = graph.shortestPath(source, graph.getVertices().get(t).getValue(), heuristic);
+                    assertEquals(dijkstra.getDistance(t), path.getWeight());
+                }
+            }
+        }
+    }
+
+    @Test
+    void testCreateContractionHierarchy() {
+        // Arrange
+        airline.loadCities(2);
+
+        // Act
+        ContractionHierarchy<String> hierarchy = airline.createContractionHierarchy(1, 2);
+        Path<String> path = hierarchy.shortestPath("New York City", "Los Angeles");
+
+        // Assert
+        assertEquals("New York City", path.getSource());
+        assertEquals("Los Angeles", path.getDestination());
+        assertEquals(airline.getCitiesGraphAM().shortestPath("New York City", "Los Angeles", WeightChannel.SECONDARY).getWeight(), path.getWeight());
+    }
+
+    @Test
+    void testCreateLandmarkHeuristic() {
+        // Arrange
+        airline.loadCities(1);
+
+        // Act
+        LandmarkHeuristic heuristic = airline.createLandmarkHeuristic(1, 1, 4);
+        GraphAdjacencyList<String> graph = airline.getCitiesGraphAL();
+        Path<String> path = graph.shortestPath("Miami", "Seattle", heuristic);
+
+        // Assert
+        assertEquals(4, heuristic.getLandmarks().length);
+        assertEquals(graph.shortestPath("Miami", "Seattle").getWeight(), path.getWeight());
+    }
+
+    @Test
+    void testGetShortestPathUsesTheRouteCache() {
+        // Arrange
+        airline.loadCities(1);
+
+        // Act
+        airline.getShortestPath("New York City", "Miami", 0, 1);
+        airline.getShortestPath("New York City", "Seattle", 0, 1);
+        airline.getShortestPath("New York City", "Los Angeles", 0, 1);
+        airline.getShortestPath("New York City", "Seattle", 1, 1);
+
+        // Assert
+        assertEquals(1, airline.getRouteCache(1).getHits());
+        assertEquals(3, airline.getRouteCache(1).getMisses());
+        assertEquals(1, airline.getRouteCache(1).size());
+    }
+
+    @Test
+    void testGetHeuristicIsRebuiltOnlyAfterAChange() {
+        // Arrange
+        airline.loadCities(1);
+        airline.loadConnections(0, 1);
+        GreatCircleHeuristic first = airline.getHeuristic(0, 1);
+
+        // Act
+        airline.getShortestPath("Miami", "Seattle", 0, 1);
+        GreatCircleHeuristic cached = airline.getHeuristic(0, 1);
+        airline.removeRoute("New York City", "Los Angeles", 1);
+        GreatCircleHeuristic rebuilt = airline.getHeuristic(0, 1);
+
+        // Assert
+        assertTrue(first.hasAllCoordinates());
+        assertSame(first, cached);
+        assertNotSame(first, rebuilt);
+        assertNotSame(first, airline.getHeuristic(1, 1));
+    }
+
+    @Test
+    void testSwitchingWeightDoesNotReloadTheConnections() {
+        // Arrange
+        airline.loadCities(1);
+        airline.loadConnections(0, 1);
+        int version = airline.getCitiesGraphAL().getVersion();
+
+        // Act
+        airline.loadConnections(1, 1);
+
+        // Assert
+        assertEquals(version, airline.getCitiesGraphAL().getVersion());
+        assertEquals(320, airline.getCitiesGraphAL().getWeight("New York City", "Los Angeles", WeightChannel.PRIMARY));
+        assertEquals(400, airline.getCitiesGraphAL().getWeight("New York City", "Los Angeles", WeightChannel.SECONDARY));
+    }
+
+    @Test
+    void testGetTradeOffRoutesGoesFromTheFastestToTheCheapestRoute() {
+        // Arrange
+        airline.loadCities(2);
+
+        // Act
+        List<ParetoPath<String>> routes = airline.getTradeOffRoutes("New York City", "Seattle", 2);
+
+        // Assert
+        assertFalse(routes.isEmpty());
+        assertEquals(airline.getCitiesGraphAM().shortestPath("New York City", "Seattle", WeightChannel.PRIMARY).getWeight(), routes.get(0).getWeight());
+        assertEquals(airline.getCitiesGraphAM().shortestPath("New York City", "Seattle", WeightChannel.SECONDARY).getWeight(), routes.get(routes.size() - 1).getSecondaryWeight());
+        for (int i = 1; i < routes.size(); i++) {
+            assertTrue(routes.get(i - 1).getWeight() < routes.get(i).getWeight());
+            assertTrue(routes.get(i - 1).getSecondaryWeight() > routes.get(i).getSecondaryWeight());
+        }
+    }
+
+    @Test
+    void testOptimizeReturnsASpanningTree() {
+        // Arrange
+        airline.loadCities(1);
+        airline.loadConnections(1, 1);
+
+        // Act
+        List<Edge<String>> tree = airline.optimize(1, 1);
+
+        // Assert
+        assertEquals(airline.getCitiesGraphAL().getVertices().size() - 1, tree.size());
+        int total = 0;
+        for (Edge<String> edge : tree) {
+            total += edge.getWeight();
+            assertEquals(edge.getWeight(), airline.getCitiesGraphAL().getWeight(edge.getSource(), edge.getDestination(), WeightChannel.SECONDARY));
+        }
+        int prim = 0;
+        try (TraversalContext context = airline.getCitiesGraphAL().queryPrim("New York City", WeightChannel.SECONDARY)) {
+            for (int v = 0; v < tree.size() + 1; v++) {
+                prim += context.getDistance(v);
+            }
+        }
+        assertEquals(prim, total);
+    }
+
+    @Test
+    void testAddAndRemoveRouteUpdateTheBackbone() {
+        // Arrange
+        airline.loadCities(2);
+        airline.loadConnections(0, 2);
+        airline.optimize(0, 2);
+
+        // Act
+        airline.addRoute("New York City", "Seattle", 5, 5000, 2);
+        airline.removeRoute("New York City", "Los Angeles", 2);
+        airline.changeRoute("Sacramento", "New York City", 1, 1, 2);
+        List<Edge<String>> time = airline.optimize(0, 2);
+        List<Edge<String>> cost = airline.optimize(1, 2);
+
+        // Assert
+        assertEquals(weight(MinimumSpanningForest.kruskal(airline.getCitiesGraphAM().snapshot())), weight(time));
+        assertEquals(weight(MinimumSpanningForest.kruskal(airline.getCitiesGraphAM().snapshot(WeightChannel.SECONDARY))), weight(cost));
+        assertTrue(airline.getBackbone(0, 2).contains("New York City", "Seattle"));
+        assertTrue(airline.getBackbone(1, 2).contains("New York City", "Sacramento"));
+        assertSame(airline.getBackbone(0, 2), airline.getBackbone(0, 2));
+    }
+
+    @Test
+    void testRemovedRouteStaysRemovedAcrossQueries() {
+        // Arrange
+        airline.loadCities(1);
+        airline.loadConnections(0, 1);
+        DynamicSpanningForest<String> backbone = airline.getBackbone(0, 1);
+
+        // Act
+        airline.removeRoute("New York City", "Los Angeles", 1);
+        airline.getShortestPath("New York City", "Los Angeles", 0, 1);
+        airline.getCriticalRoutes(1);
+        List<Edge<String>> forest = airline.optimize(0, 1);
+
+        // Assert
+        assertFalse(airline.getCitiesGraphAL().snapshot().containsEdge("New York City", "Los Angeles"));
+        assertSame(backbone, airline.getBackbone(0, 1));
+        assertFalse(backbone.contains("New York City", "Los Angeles"));
+        assertEquals(weight(MinimumSpanningForest.kruskal(airline.getCitiesGraphAL().snapshot())), weight(forest));
+    }
+
+    @Test
+    void testCriticalRoutesSplitTheNetwork() {
+        // Arrange
+        airline.loadCities(1);
+        airline.loadCities(2);
+        int parts = airline.getCitiesGraphAL().getVertices().size() - airline.optimize(0, 1).size();
+
+        // Act
+        List<String> listAirports = airline.getCriticalAirports(1);
+        List<String> matrixAirports = airline.getCriticalAirports(2);
+        List<Edge<String>> routes = airline.getCriticalRoutes(1);
+
+        // Assert
+        assertEquals(new HashSet<>(listAirports), new HashSet<>(matrixAirports));
+        assertEquals(routes.size(), airline.getCriticalRoutes(2).size());
+        for (Edge<String> route : routes) {
+            airline.removeRoute(route.getSource(), route.getDestination(), 1);
+            assertEquals(parts + 1, airline.getCitiesGraphAL().getVertices().size() - airline.optimize(0, 1).size());
+            airline.addRoute(route.getSource(), route.getDestination(), route.getWeight(), route.getSecondaryWeight(), 1);
+        }
+    }
+
+    @Test
+    void testGetAlternativeRoutesStartWithTheShortestPath() {
+        // Arrange
+        airline.loadCities(1);
+
+        // Act
+        List<Path<String>> time = airline.getAlternativeRoutes("New York City", "Los Angeles", 5, 0, 1);
+        List<Path<String>> cost = airline.getAlternativeRoutes("New York City", "Los Angeles", 5, 1, 1);
+
+        // Assert
+        assertEquals(5, time.size());
+        assertEquals(airline.getCitiesGraphAL().shortestPath("New York City", "Los Angeles").getWeight(), time.get(0).getWeight());
+        assertEquals(airline.getCitiesGraphAL().shortestPath("New York City", "Los Angeles", WeightChannel.SECONDARY).getWeight(), cost.get(0).getWeight());
+        for (int i = 1; i < time.size(); i++) {
+            assertTrue(time.get(i - 1).getWeight() <= time.get(i).getWeight());
+            assertNotEquals(time.get(i - 1).getVertices(), time.get(i).getVertices());
+        }
+    }
+
+    @Test
+    void testGetRouteWithinBudgetRespectsTheBudget() {
+        // Arrange
+        airline.loadCities(2);
+        ParetoPath<String> fastest = airline.getTradeOffRoutes("New York City", "Los Angeles", 2).get(0);
+
+        // Act
+        ParetoPath<String> unlimited = airline.getRouteWithinBudget("New York City", "Los Angeles", 1, Integer.MAX_VALUE, 2);
+        ParetoPath<String> withinFastest = airline.getRouteWithinBudget("New York City", "Los Angeles", 1, fastest.getWeight(), 2);
+        ParetoPath<String> tooShort = airline.getRouteWithinBudget("New York City", "Los Angeles", 1, fastest.getWeight() - 1, 2);
+
+        // Assert
+        assertEquals(airline.getCitiesGraphAM().shortestPath("New York City", "Los Angeles", WeightChannel.SECONDARY).getWeight(), unlimited.getSecondaryWeight());
+        assertEquals(fastest.getSecondaryWeight(), withinFastest.getSecondaryWeight());
+        assertTrue(withinFastest.getWeight() <= fastest.getWeight());
+        assertNull(tooShort);
+    }
+
+    private int weight(List<Edge<String>> edges) {
+        int total = 0;
+        for (Edge<String> edge : edges) {
+            total += edge.getWeight();
+        }
+        return total;
+    }
+}
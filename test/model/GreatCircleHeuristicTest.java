@@ -0,0 +1,95 @@
+package model;
+
+import graph.GraphAdjacencyList;
+import graph.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GreatCircleHeuristicTest {
+    private GraphAdjacencyList<String> graph;
+    private double[] latitudes;
+    private double[] longitudes;
+
+    @BeforeEach
+    void setUp() {
+        this.graph = new GraphAdjacencyList<>(false);
+        this.graph.addVertex("New York City");
+        this.graph.addVertex("Los Angeles");
+        this.graph.addVertex("Chicago");
+        this.latitudes = new double[]{40.7128, 34.0522, Double.NaN};
+        this.longitudes = new double[]{-74.0060, -118.2437, Double.NaN};
+    }
+
+    @Test
+    void testDistance() {
+        // Act
+        GreatCircleHeuristic heuristic = new GreatCircleHeuristic(this.latitudes, this.longitudes, 1);
+
+        // Assert
+        assertEquals(3936, heuristic.distance(0, 1), 5);
+        assertEquals(0, heuristic.distance(1, 1), 1e-9);
+    }
+
+    @Test
+    void testForCruiseSpeed() {
+        // Act
+        GreatCircleHeuristic heuristic = GreatCircleHeuristic.forCruiseSpeed(this.latitudes, this.longitudes, 15);
+
+        // Assert
+        assertEquals(262, heuristic.estimate(0, 1));
+        assertEquals(0, heuristic.estimate(0, 2));
+    }
+
+    @Test
+    void testForCruiseSpeedWithoutSpeed() {
+        // Assert
+        assertThrows(IllegalArgumentException.class, () -> GreatCircleHeuristic.forCruiseSpeed(this.latitudes, this.longitudes, 0));
+    }
+
+    @Test
+    void testFromGraph() {
+        // Arrange
+        this.latitudes[2] = 41.8781;
+        this.longitudes[2] = -87.6298;
+        this.graph.addEdge("New York City", "Los Angeles", 320);
+        this.graph.addEdge("New York City", "Chicago", 100);
+
+        // Act
+        GreatCircleHeuristic heuristic = GreatCircleHeuristic.fromGraph(this.graph, this.latitudes, this.longitudes);
+
+        // Assert
+        assertTrue(heuristic.estimate(0, 1) <= 320);
+        assertTrue(heuristic.estimate(0, 1) >= 319);
+    }
+
+    @Test
+    void testFromGraphWithPartialCoordinates() {
+        // Arrange
+        GraphAdjacencyList<String> network = new GraphAdjacencyList<>(false);
+        for (String city : new String[]{"S", "P", "X", "D", "Q", "R"}) {
+            network.addVertex(city);
+        }
+        network.addEdge("S", "P", 1);
+        network.addEdge("P", "X", 1);
+        network.addEdge("X", "D", 1);
+        network.addEdge("S", "D", 100);
+        network.addEdge("Q", "R", 111);
+        double nan = Double.NaN;
+        double[] lat = {nan, 0, nan, 0, 0, 0};
+        double[] lon = {nan, 40, nan, 0, 1, 2};
+
+        // Act
+        GreatCircleHeuristic heuristic = GreatCircleHeuristic.fromGraph(network, lat, lon);
+        Path<String> path = network.snapshot().shortestPath("S", "D", heuristic);
+
+        // Assert
+        assertFalse(heuristic.hasAllCoordinates());
+        assertEquals(0, heuristic.getWeightPerKm());
+        assertEquals(3, path.getWeight());
+        assertEquals(Arrays.asList("S", "P", "X", "D"), path.getVertices());
+    }
+}